@@ -0,0 +1,87 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline.benchmarks;
+
+import io.opentimeline.OTIOFactory;
+import io.opentimeline.opentime.RationalTime;
+import io.opentimeline.opentime.TimeRange;
+import io.opentimeline.opentimelineio.Clip;
+import io.opentimeline.opentimelineio.Composable;
+import io.opentimeline.opentimelineio.Item;
+import io.opentimeline.opentimelineio.Track;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Traversals dominated by cheap native getters, where the cost of crossing
+ * into JNI and looking up classes, fields and methods matters most.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GetterTraversalBenchmark {
+
+    @Param({"1000"})
+    public int clipCount;
+
+    private Track track;
+    private List<Composable> children;
+
+    @Setup
+    public void setUp() throws Exception {
+        OTIOFactory factory = OTIOFactory.getInstance();
+        track = factory.createTrack(new Track.TrackBuilder().setName("track"));
+        for (int i = 0; i < clipCount; i++) {
+            Clip clip = factory.createClip(new Clip.ClipBuilder()
+                    .setName("clip" + i)
+                    .setSourceRange(new TimeRange(new RationalTime(i, 24), new RationalTime(24, 24))));
+            track.appendChild(clip);
+        }
+        children = track.getChildren();
+    }
+
+    @Benchmark
+    public void getChildren(Blackhole blackhole) {
+        blackhole.consume(track.getChildren());
+    }
+
+    @Benchmark
+    public void getSourceRange(Blackhole blackhole) {
+        for (Composable child : children) {
+            blackhole.consume(((Item) child).getSourceRange());
+        }
+    }
+
+    @Benchmark
+    public void getName(Blackhole blackhole) {
+        for (Composable child : children) {
+            blackhole.consume(child.getName());
+        }
+    }
+
+    @Benchmark
+    public void getRangeOfChildAtIndex(Blackhole blackhole) throws Exception {
+        for (int i = 0; i < clipCount; i++) {
+            blackhole.consume(track.getRangeOfChildAtIndex(i));
+        }
+    }
+
+    @Benchmark
+    public void getDuration(Blackhole blackhole) throws Exception {
+        for (Composable child : children) {
+            blackhole.consume(((Item) child).getDuration());
+        }
+    }
+
+    @Benchmark
+    public void eachClip(Blackhole blackhole) throws Exception {
+        track.eachClip(null).forEach(blackhole::consume);
+    }
+}
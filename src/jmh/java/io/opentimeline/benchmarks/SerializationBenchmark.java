@@ -0,0 +1,80 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline.benchmarks;
+
+import io.opentimeline.opentime.RationalTime;
+import io.opentimeline.opentime.TimeRange;
+import io.opentimeline.opentimelineio.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Saving and loading a timeline as JSON compared to the binary format.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"10000"})
+    public int clipCount;
+
+    private Timeline timeline;
+    private String json;
+    private byte[] binary;
+
+    @Setup
+    public void setUp() throws Exception {
+        Track track = new Track.TrackBuilder().setName("track").build();
+        for (int i = 0; i < clipCount; i++) {
+            AnyDictionary metadata = new AnyDictionary();
+            metadata.put("shot", new Any("shot_" + (i / 10)));
+            metadata.put("take", new Any(i % 10));
+            track.appendChild(new Clip.ClipBuilder()
+                    .setName("clip" + i)
+                    .setMediaReference(new ExternalReference.ExternalReferenceBuilder()
+                            .setTargetURL("file:///media/clip" + i + ".mov")
+                            .setAvailableRange(new TimeRange(new RationalTime(0, 24), new RationalTime(500, 24)))
+                            .build())
+                    .setSourceRange(new TimeRange(new RationalTime(i, 24), new RationalTime(24, 24)))
+                    .setMetadata(metadata)
+                    .build());
+        }
+        Stack stack = new Stack.StackBuilder().build();
+        stack.appendChild(track);
+        timeline = new Timeline.TimelineBuilder().setName("benchmark").build();
+        timeline.setTracks(stack);
+        json = timeline.toJSONString();
+        binary = timeline.toBinary();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        timeline.close();
+    }
+
+    @Benchmark
+    public String saveJSON() throws Exception {
+        return timeline.toJSONString();
+    }
+
+    @Benchmark
+    public byte[] saveBinary() throws Exception {
+        return timeline.toBinary();
+    }
+
+    @Benchmark
+    public void loadJSON() throws Exception {
+        SerializableObject.fromJSONString(json).close();
+    }
+
+    @Benchmark
+    public void loadBinary() throws Exception {
+        SerializableObject.fromBinary(binary).close();
+    }
+}
@@ -0,0 +1,90 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline.benchmarks;
+
+import io.opentimeline.opentime.IsDropFrameRate;
+import io.opentimeline.opentime.RationalTime;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timecode conversion of a whole run of frames, one time at a time
+ * compared to the batch conversions that cross into JNI once.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TimecodeBenchmark {
+
+    @Param({"100000"})
+    public int frameCount;
+
+    @Param({"24", "29.97"})
+    public double rate;
+
+    private double[] values;
+    private String[] timecodes;
+    private char[] chars;
+    private ByteBuffer directBuffer;
+    private double[] parsed;
+
+    @Setup
+    public void setUp() throws Exception {
+        values = new double[frameCount];
+        timecodes = new String[frameCount];
+        for (int i = 0; i < frameCount; i++) {
+            values[i] = i;
+            timecodes[i] = new RationalTime(i, rate).toTimecode(rate, IsDropFrameRate.InferFromRate);
+        }
+        chars = new char[frameCount * RationalTime.TIMECODE_LENGTH];
+        RationalTime.toTimecodes(values, rate, IsDropFrameRate.InferFromRate, chars, 0);
+        directBuffer = ByteBuffer.allocateDirect(frameCount * RationalTime.TIMECODE_LENGTH);
+        parsed = new double[frameCount];
+    }
+
+    @Benchmark
+    public void toTimecodeEach(Blackhole blackhole) throws Exception {
+        for (double value : values) {
+            blackhole.consume(new RationalTime(value, rate).toTimecode(rate, IsDropFrameRate.InferFromRate));
+        }
+    }
+
+    @Benchmark
+    public char[] toTimecodesChars() throws Exception {
+        RationalTime.toTimecodes(values, rate, IsDropFrameRate.InferFromRate, chars, 0);
+        return chars;
+    }
+
+    @Benchmark
+    public ByteBuffer toTimecodesDirectBuffer() throws Exception {
+        directBuffer.clear();
+        RationalTime.toTimecodes(values, rate, IsDropFrameRate.InferFromRate, directBuffer);
+        return directBuffer;
+    }
+
+    @Benchmark
+    public void fromTimecodeEach(Blackhole blackhole) throws Exception {
+        for (String timecode : timecodes) {
+            blackhole.consume(RationalTime.fromTimecode(timecode, rate).getValue());
+        }
+    }
+
+    @Benchmark
+    public double[] fromTimecodesStrings() throws Exception {
+        RationalTime.fromTimecodes(timecodes, rate, parsed);
+        return parsed;
+    }
+
+    @Benchmark
+    public double[] fromTimecodesChars() throws Exception {
+        RationalTime.fromTimecodes(chars, 0, frameCount, rate, parsed);
+        return parsed;
+    }
+}
@@ -0,0 +1,520 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+#include <binary_serialization.h>
+#include <object_fields.h>
+#include <opentime/rationalTime.h>
+#include <opentime/timeRange.h>
+#include <opentime/timeTransform.h>
+#include <opentimelineio/anyDictionary.h>
+#include <opentimelineio/anyVector.h>
+#include <opentimelineio/deserialization.h>
+#include <opentimelineio/safely_typed_any.h>
+#include <opentimelineio/typeRegistry.h>
+
+#include <cstdint>
+#include <cstdlib>
+#include <cstring>
+#include <fstream>
+#include <limits>
+#include <unordered_map>
+#include <vector>
+
+using namespace opentimelineio::OPENTIMELINEIO_VERSION;
+
+namespace {
+
+    const char binaryMagic[7] = {'O', 'T', 'I', 'O', 'B', 'I', 'N'};
+
+    const char formatVersion = 2;
+
+    enum BinaryTag : unsigned char {
+        TAG_NULL = 0,
+        TAG_FALSE,
+        TAG_TRUE,
+        TAG_INT,
+        TAG_INT64,
+        TAG_DOUBLE,
+        TAG_STRING,
+        TAG_RATIONAL_TIME,
+        TAG_TIME_RANGE,
+        TAG_TIME_TRANSFORM,
+        TAG_DICTIONARY,
+        TAG_VECTOR,
+        TAG_OBJECT,
+        TAG_JSON
+    };
+
+    /*
+     * Encodes values to the binary format, walking objects through their fields as writeFields()
+     * reads them, under the keys the TypeRegistry rebuilds them from. Objects of schemas
+     * writeFields() does not know, like UnknownSchema, are stored as their JSON.
+     */
+    class BinaryEncoder : public FieldWriter {
+    public:
+        BinaryEncoder(std::string &out, ErrorStatus &errorStatus) : _out(out), _errorStatus(errorStatus) {}
+
+        bool encode(any const &value) {
+            _out.append(binaryMagic, sizeof(binaryMagic));
+            _out.push_back(formatVersion);
+            writeAny(value);
+            return _errorStatus.outcome == ErrorStatus::OK;
+        }
+
+        void writeNull(const char *key) override {
+            writeKey(key);
+            writeTag(TAG_NULL);
+        }
+
+        void write(const char *key, int value) override {
+            writeKey(key);
+            writeInt(value);
+        }
+
+        void write(const char *key, double value) override {
+            writeKey(key);
+            writeTag(TAG_DOUBLE);
+            writeDouble(value);
+        }
+
+        void write(const char *key, std::string const &value) override {
+            writeKey(key);
+            writeTag(TAG_STRING);
+            writeStringReference(value);
+        }
+
+        void write(const char *key, RationalTime value) override {
+            writeKey(key);
+            writeTag(TAG_RATIONAL_TIME);
+            writeRationalTime(value);
+        }
+
+        void write(const char *key, TimeRange value) override {
+            writeKey(key);
+            writeTimeRange(value);
+        }
+
+        void write(const char *key, AnyDictionary const &value) override {
+            writeKey(key);
+            writeDictionary(value);
+        }
+
+        void write(const char *key, any const &value) override {
+            writeKey(key);
+            writeAny(value);
+        }
+
+        void write(const char *key, SerializableObject *value) override {
+            writeKey(key);
+            writeObject(value);
+        }
+
+        void write(const char *key, std::vector<SerializableObject *> const &values) override {
+            writeKey(key);
+            writeTag(TAG_VECTOR);
+            writeUInt((uint64_t) values.size(), 4);
+            for (auto value: values)
+                writeObject(value);
+        }
+
+    private:
+        std::string &_out;
+        ErrorStatus &_errorStatus;
+        std::unordered_map<std::string, uint32_t> _strings;
+        // fields written to the innermost object being encoded
+        uint32_t _fieldCount = 0;
+
+        void writeTag(BinaryTag tag) { _out.push_back((char) tag); }
+
+        void writeUInt(uint64_t value, int bytes) {
+            for (int i = 0; i < bytes; i++) _out.push_back((char) ((value >> (8 * i)) & 0xff));
+        }
+
+        void writeDouble(double value) {
+            uint64_t bits;
+            std::memcpy(&bits, &value, sizeof(bits));
+            writeUInt(bits, 8);
+        }
+
+        void writeVarint(uint64_t value) {
+            while (value >= 0x80) {
+                _out.push_back((char) ((value & 0x7f) | 0x80));
+                value >>= 7;
+            }
+            _out.push_back((char) value);
+        }
+
+        void writeStringReference(std::string const &value) {
+            auto found = _strings.find(value);
+            if (found != _strings.end()) {
+                writeVarint((uint64_t) found->second + 1);
+                return;
+            }
+            writeVarint(0);
+            writeVarint(value.size());
+            _out.append(value);
+            _strings.emplace(value, (uint32_t) _strings.size());
+        }
+
+        void writeKey(const char *key) {
+            writeStringReference(key);
+            _fieldCount++;
+        }
+
+        /* as int when it fits, like the JSON reader reads integers back */
+        void writeInt(int64_t value) {
+            if (value >= std::numeric_limits<int>::min() && value <= std::numeric_limits<int>::max()) {
+                writeTag(TAG_INT);
+                writeUInt((uint32_t) (int32_t) value, 4);
+            } else {
+                writeTag(TAG_INT64);
+                writeUInt((uint64_t) value, 8);
+            }
+        }
+
+        void writeRationalTime(RationalTime const &value) {
+            writeDouble(value.value());
+            writeDouble(value.rate());
+        }
+
+        void writeTimeRange(TimeRange const &value) {
+            writeTag(TAG_TIME_RANGE);
+            writeRationalTime(value.start_time());
+            writeRationalTime(value.duration());
+        }
+
+        void writeDictionary(AnyDictionary const &value) {
+            writeTag(TAG_DICTIONARY);
+            writeUInt((uint64_t) value.size(), 4);
+            for (auto &entry: value) {
+                writeStringReference(entry.first);
+                writeAny(entry.second);
+            }
+        }
+
+        void writeObject(SerializableObject *value) {
+            if (value == nullptr) {
+                writeTag(TAG_NULL);
+                return;
+            }
+            std::string schema = value->schema_name() + "." + std::to_string(value->schema_version());
+            size_t position = _out.size();
+            bool newSchema = _strings.find(schema) == _strings.end();
+            writeTag(TAG_OBJECT);
+            writeStringReference(schema);
+            size_t countPosition = _out.size();
+            writeUInt(0, 4);
+
+            uint32_t outerFieldCount = _fieldCount;
+            _fieldCount = 0;
+            bool known = writeFields(value, *this);
+            uint32_t fieldCount = _fieldCount;
+            _fieldCount = outerFieldCount;
+            if (known) {
+                for (int i = 0; i < 4; i++)
+                    _out[countPosition + i] = (char) ((fieldCount >> (8 * i)) & 0xff);
+                return;
+            }
+
+            // writeFields() wrote nothing, take the header back
+            _out.resize(position);
+            if (newSchema) _strings.erase(schema);
+            auto json = value->to_json_string(&_errorStatus, 0);
+            writeTag(TAG_JSON);
+            writeStringReference(json);
+        }
+
+        void writeAny(any const &value) {
+            auto &type = value.type();
+            if (type == typeid(void)) {
+                writeTag(TAG_NULL);
+            } else if (type == typeid(bool)) {
+                writeTag(any_cast<bool>(value) ? TAG_TRUE : TAG_FALSE);
+            } else if (type == typeid(int)) {
+                writeInt(any_cast<int>(value));
+            } else if (type == typeid(int64_t)) {
+                writeInt(any_cast<int64_t>(value));
+            } else if (type == typeid(double)) {
+                writeTag(TAG_DOUBLE);
+                writeDouble(any_cast<double>(value));
+            } else if (type == typeid(std::string)) {
+                writeTag(TAG_STRING);
+                writeStringReference(any_cast<std::string const &>(value));
+            } else if (type == typeid(RationalTime)) {
+                writeTag(TAG_RATIONAL_TIME);
+                writeRationalTime(any_cast<RationalTime>(value));
+            } else if (type == typeid(TimeRange)) {
+                writeTimeRange(any_cast<TimeRange>(value));
+            } else if (type == typeid(TimeTransform)) {
+                auto timeTransform = any_cast<TimeTransform>(value);
+                writeTag(TAG_TIME_TRANSFORM);
+                writeRationalTime(timeTransform.offset());
+                writeDouble(timeTransform.scale());
+                writeDouble(timeTransform.rate());
+            } else if (type == typeid(AnyDictionary)) {
+                writeDictionary(any_cast<AnyDictionary const &>(value));
+            } else if (type == typeid(AnyVector)) {
+                auto &vector = any_cast<AnyVector const &>(value);
+                writeTag(TAG_VECTOR);
+                writeUInt((uint64_t) vector.size(), 4);
+                for (auto &element: vector)
+                    writeAny(element);
+            } else if (type == typeid(SerializableObject::Retainer<>)) {
+                writeObject(any_cast<SerializableObject::Retainer<> const &>(value).value);
+            } else {
+                writeTag(TAG_NULL);
+                if (_errorStatus.outcome == ErrorStatus::OK)
+                    _errorStatus = ErrorStatus(ErrorStatus::TYPE_MISMATCH,
+                                               std::string("cannot encode a value of type ") + type.name());
+            }
+        }
+    };
+
+    class BinaryDecoder {
+    public:
+        BinaryDecoder(const char *data, size_t length, ErrorStatus &errorStatus)
+                : _p(reinterpret_cast<const unsigned char *>(data)),
+                  _end(reinterpret_cast<const unsigned char *>(data) + length),
+                  _errorStatus(errorStatus) {}
+
+        bool decode(any &result) {
+            // version 1 documents are version 2 ones without JSON objects
+            if ((size_t) (_end - _p) <= sizeof(binaryMagic) || std::memcmp(_p, binaryMagic, sizeof(binaryMagic)) != 0
+                || _p[sizeof(binaryMagic)] < 1 || _p[sizeof(binaryMagic)] > formatVersion)
+                return fail("not a binary OTIO document of a supported version");
+            _p += sizeof(binaryMagic) + 1;
+            if (!value(result)) return false;
+            return _p == _end || fail("unexpected data after the document");
+        }
+
+    private:
+        const unsigned char *_p;
+        const unsigned char *_end;
+        ErrorStatus &_errorStatus;
+        std::vector<std::string> _strings;
+
+        bool fail(const char *message) {
+            if (_errorStatus.outcome == ErrorStatus::OK)
+                _errorStatus = ErrorStatus(ErrorStatus::INTERNAL_ERROR,
+                                           std::string("binary OTIO: ") + message);
+            return false;
+        }
+
+        bool readUInt(uint64_t &result, int bytes) {
+            if (_end - _p < bytes) return fail("truncated document");
+            result = 0;
+            for (int i = 0; i < bytes; i++) result |= (uint64_t) _p[i] << (8 * i);
+            _p += bytes;
+            return true;
+        }
+
+        bool readDouble(double &result) {
+            uint64_t bits;
+            if (!readUInt(bits, 8)) return false;
+            std::memcpy(&result, &bits, sizeof(result));
+            return true;
+        }
+
+        bool readRationalTime(RationalTime &result) {
+            double value, rate;
+            if (!readDouble(value) || !readDouble(rate)) return false;
+            result = RationalTime(value, rate);
+            return true;
+        }
+
+        bool readVarint(uint64_t &result) {
+            result = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                if (_p >= _end) return fail("truncated document");
+                unsigned char byte = *_p++;
+                result |= (uint64_t) (byte & 0x7f) << shift;
+                if ((byte & 0x80) == 0) return true;
+            }
+            return fail("invalid varint");
+        }
+
+        bool readStringReference(std::string const *&result) {
+            uint64_t reference;
+            if (!readVarint(reference)) return false;
+            if (reference > 0) {
+                if (reference > _strings.size()) return fail("invalid string reference");
+                result = &_strings[reference - 1];
+                return true;
+            }
+            uint64_t length;
+            if (!readVarint(length)) return false;
+            if ((uint64_t) (_end - _p) < length) return fail("truncated document");
+            _strings.emplace_back(reinterpret_cast<const char *>(_p), (size_t) length);
+            _p += length;
+            result = &_strings.back();
+            return true;
+        }
+
+        bool readFields(AnyDictionary &dictionary) {
+            uint64_t count;
+            if (!readUInt(count, 4)) return false;
+            for (uint64_t i = 0; i < count; i++) {
+                std::string const *key;
+                if (!readStringReference(key)) return false;
+                // copy the key, _strings may grow while the value is read
+                std::string keyCopy = *key;
+                any fieldValue;
+                if (!value(fieldValue)) return false;
+                dictionary.emplace(std::move(keyCopy), std::move(fieldValue));
+            }
+            return true;
+        }
+
+        bool object(any &result) {
+            std::string const *schemaReference;
+            if (!readStringReference(schemaReference)) return false;
+            std::string schema = *schemaReference;
+            AnyDictionary dictionary;
+            if (!readFields(dictionary)) return false;
+
+            size_t separator = schema.rfind('.');
+            if (separator == std::string::npos || separator == 0 || separator + 1 == schema.size()) {
+                _errorStatus = ErrorStatus(ErrorStatus::MALFORMED_SCHEMA, "badly formed schema " + schema);
+                return false;
+            }
+            int schemaVersion = std::atoi(schema.c_str() + separator + 1);
+            SerializableObject *serializableObject = TypeRegistry::instance().instance_from_schema(
+                    schema.substr(0, separator), schemaVersion, dictionary, &_errorStatus);
+            if (serializableObject == nullptr || _errorStatus.outcome != ErrorStatus::OK)
+                return fail("cannot create object");
+            result = create_safely_typed_any(serializableObject);
+            return true;
+        }
+
+        bool value(any &result) {
+            if (_p >= _end) return fail("truncated document");
+            unsigned char tag = *_p++;
+            switch (tag) {
+                case TAG_NULL:
+                    result = any();
+                    return true;
+                case TAG_FALSE:
+                case TAG_TRUE:
+                    result = any(tag == TAG_TRUE);
+                    return true;
+                case TAG_INT: {
+                    uint64_t bits;
+                    if (!readUInt(bits, 4)) return false;
+                    result = any((int) (int32_t) (uint32_t) bits);
+                    return true;
+                }
+                case TAG_INT64: {
+                    uint64_t bits;
+                    if (!readUInt(bits, 8)) return false;
+                    result = any((int64_t) bits);
+                    return true;
+                }
+                case TAG_DOUBLE: {
+                    double number;
+                    if (!readDouble(number)) return false;
+                    result = any(number);
+                    return true;
+                }
+                case TAG_STRING: {
+                    std::string const *text;
+                    if (!readStringReference(text)) return false;
+                    result = any(*text);
+                    return true;
+                }
+                case TAG_RATIONAL_TIME: {
+                    RationalTime time;
+                    if (!readRationalTime(time)) return false;
+                    result = any(time);
+                    return true;
+                }
+                case TAG_TIME_RANGE: {
+                    RationalTime startTime, duration;
+                    if (!readRationalTime(startTime) || !readRationalTime(duration)) return false;
+                    result = any(TimeRange(startTime, duration));
+                    return true;
+                }
+                case TAG_TIME_TRANSFORM: {
+                    RationalTime offset;
+                    double scale, rate;
+                    if (!readRationalTime(offset) || !readDouble(scale) || !readDouble(rate)) return false;
+                    result = any(TimeTransform(offset, scale, rate));
+                    return true;
+                }
+                case TAG_DICTIONARY: {
+                    AnyDictionary dictionary;
+                    if (!readFields(dictionary)) return false;
+                    result = any(std::move(dictionary));
+                    return true;
+                }
+                case TAG_VECTOR: {
+                    uint64_t count;
+                    if (!readUInt(count, 4)) return false;
+                    // every value takes at least a byte, do not trust the count any further
+                    if (count > (uint64_t) (_end - _p)) return fail("truncated document");
+                    AnyVector vector;
+                    vector.reserve((size_t) count);
+                    for (uint64_t i = 0; i < count; i++) {
+                        vector.emplace_back();
+                        if (!value(vector.back())) return false;
+                    }
+                    result = any(std::move(vector));
+                    return true;
+                }
+                case TAG_OBJECT:
+                    return object(result);
+                case TAG_JSON: {
+                    std::string const *json;
+                    if (!readStringReference(json)) return false;
+                    return deserialize_json_from_string(*json, &result, &_errorStatus) || fail("cannot create object");
+                }
+                default:
+                    return fail("unknown value tag");
+            }
+        }
+    };
+}
+
+bool anyToBinary(any const &value, std::string &binary, ErrorStatus &errorStatus) {
+    binary.clear();
+    BinaryEncoder encoder(binary, errorStatus);
+    return encoder.encode(value);
+}
+
+bool binaryToAny(const char *data, size_t length, any *destination, ErrorStatus &errorStatus) {
+    BinaryDecoder decoder(data, length, errorStatus);
+    any result;
+    if (!decoder.decode(result)) return false;
+    *destination = std::move(result);
+    return true;
+}
+
+bool writeBinaryFile(std::string const &fileName, std::string const &binary, ErrorStatus &errorStatus) {
+    std::ofstream file(fileName, std::ios::out | std::ios::binary | std::ios::trunc);
+    if (!file.is_open()) {
+        errorStatus = ErrorStatus(ErrorStatus::FILE_OPEN_FAILED, fileName);
+        return false;
+    }
+    file.write(binary.data(), (std::streamsize) binary.size());
+    file.close();
+    if (file.fail()) {
+        errorStatus = ErrorStatus(ErrorStatus::FILE_WRITE_FAILED, fileName);
+        return false;
+    }
+    return true;
+}
+
+bool readBinaryFile(std::string const &fileName, std::string &binary, ErrorStatus &errorStatus) {
+    std::ifstream file(fileName, std::ios::in | std::ios::binary | std::ios::ate);
+    if (!file.is_open()) {
+        errorStatus = ErrorStatus(ErrorStatus::FILE_OPEN_FAILED, fileName);
+        return false;
+    }
+    std::streamsize size = file.tellg();
+    file.seekg(0, std::ios::beg);
+    binary.resize((size_t) size);
+    if (size > 0 && !file.read(&binary[0], size)) {
+        errorStatus = ErrorStatus(ErrorStatus::FILE_OPEN_FAILED, fileName);
+        return false;
+    }
+    return true;
+}
@@ -2,6 +2,7 @@
 // Copyright Contributors to the OpenTimelineIO Project.
 
 #include <class_codes.h>
+#include <content_hash.h>
 #include <exceptions.h>
 #include <opentimelineio/version.h>
 #include <opentime/errorStatus.h>
@@ -88,7 +89,7 @@ std::map<ClassCode, std::string> classCodeToString = {
         {ClassCode::_Any,                   "io.opentimeline.opentimelineio.Any"},
         {ClassCode::_AnyDictionary,         "io.opentimeline.opentimelineio.AnyDictionary"},
         {ClassCode::_AnyDictionaryIterator, "io.opentimeline.opentimelineio.AnyDictionary.Iterator"},
-        {ClassCode::_AnyVector,             "io.opentimeline.opentimelineio.Anyvector"},
+        {ClassCode::_AnyVector,             "io.opentimeline.opentimelineio.AnyVector"},
         {ClassCode::_AnyVectorIterator,     "io.opentimeline.opentimelineio.AnyVector.Iterator"},
         {ClassCode::_OpenTimeErrorStatus,   "io.opentimeline.opentime.ErrorStatus"},
         {ClassCode::_OTIOErrorStatus,
@@ -177,19 +178,23 @@ ClassCode getClassCodeFromString(std::string str) {
         (*stringToClassCode)["io.opentimeline.opentimelineio.Track"] = ClassCode::_Track;
         (*stringToClassCode)["io.opentimeline.opentimelineio.Timeline"] = ClassCode::_Timeline;
     });
-    return (*stringToClassCode)[str];
+    auto it = stringToClassCode->find(str);
+    // unknown class names fall through to the default case of the dispatch switches
+    return it == stringToClassCode->end() ? ClassCode::_Unknown : it->second;
 }
 
-void disposeObject(JNIEnv *env, jlong nativeHandle, jstring nativeClassName) {
-    std::string className = env->GetStringUTFChars(nativeClassName, 0);
-    switch (getClassCodeFromString(className)) {
+void disposeObject(JNIEnv *env, jlong nativeHandle, jint classCode) {
+    // memoized content hashes are dropped before their objects are freed
+    switch (classCode) {
         case _Any: {
             auto obj = reinterpret_cast<any *>(nativeHandle);
+            contentReleased(*obj);
             delete obj;
             break;
         }
         case _AnyDictionary: {
             auto obj = reinterpret_cast<AnyDictionary *>(nativeHandle);
+            contentReleased(*obj);
             delete obj;
             break;
         }
@@ -200,6 +205,7 @@ void disposeObject(JNIEnv *env, jlong nativeHandle, jstring nativeClassName) {
         }
         case _AnyVector: {
             auto obj = reinterpret_cast<AnyVector *>(nativeHandle);
+            contentReleased(*obj);
             delete obj;
             break;
         }
@@ -222,6 +228,7 @@ void disposeObject(JNIEnv *env, jlong nativeHandle, jstring nativeClassName) {
             auto obj =
                     reinterpret_cast<SerializableObject::Retainer<SerializableObject> *>(
                             nativeHandle);
+            contentReleased(obj->value);
             delete obj;
             break;
         }
@@ -229,6 +236,7 @@ void disposeObject(JNIEnv *env, jlong nativeHandle, jstring nativeClassName) {
             auto obj =
                     reinterpret_cast<SerializableObject::Retainer<SerializableObjectWithMetadata> *>(
                             nativeHandle);
+            contentReleased(obj->value);
             delete obj;
             break;
         }
@@ -236,6 +244,7 @@ void disposeObject(JNIEnv *env, jlong nativeHandle, jstring nativeClassName) {
             auto obj =
                     reinterpret_cast<SerializableObject::Retainer<SerializableCollection> *>(
                             nativeHandle);
+            contentReleased(obj->value);
             delete obj;
             break;
         }
@@ -243,6 +252,7 @@ void disposeObject(JNIEnv *env, jlong nativeHandle, jstring nativeClassName) {
             auto obj =
                     reinterpret_cast<SerializableObject::Retainer<Composable> *>(
                             nativeHandle);
+            contentReleased(obj->value);
             delete obj;
             break;
         }
@@ -250,6 +260,7 @@ void disposeObject(JNIEnv *env, jlong nativeHandle, jstring nativeClassName) {
             auto obj =
                     reinterpret_cast<SerializableObject::Retainer<Marker> *>(
                             nativeHandle);
+            contentReleased(obj->value);
             delete obj;
             break;
         }
@@ -257,6 +268,7 @@ void disposeObject(JNIEnv *env, jlong nativeHandle, jstring nativeClassName) {
             auto obj =
                     reinterpret_cast<SerializableObject::Retainer<MediaReference> *>(
                             nativeHandle);
+            contentReleased(obj->value);
             delete obj;
             break;
         }
@@ -264,6 +276,7 @@ void disposeObject(JNIEnv *env, jlong nativeHandle, jstring nativeClassName) {
             auto obj =
                     reinterpret_cast<SerializableObject::Retainer<MissingReference> *>(
                             nativeHandle);
+            contentReleased(obj->value);
             delete obj;
             break;
         }
@@ -271,6 +284,7 @@ void disposeObject(JNIEnv *env, jlong nativeHandle, jstring nativeClassName) {
             auto obj =
                     reinterpret_cast<SerializableObject::Retainer<ExternalReference> *>(
                             nativeHandle);
+            contentReleased(obj->value);
             delete obj;
             break;
         }
@@ -278,6 +292,7 @@ void disposeObject(JNIEnv *env, jlong nativeHandle, jstring nativeClassName) {
             auto obj =
                     reinterpret_cast<SerializableObject::Retainer<GeneratorReference> *>(
                             nativeHandle);
+            contentReleased(obj->value);
             delete obj;
             break;
         }
@@ -285,6 +300,7 @@ void disposeObject(JNIEnv *env, jlong nativeHandle, jstring nativeClassName) {
             auto obj =
                     reinterpret_cast<SerializableObject::Retainer<Effect> *>(
                             nativeHandle);
+            contentReleased(obj->value);
             delete obj;
             break;
         }
@@ -292,6 +308,7 @@ void disposeObject(JNIEnv *env, jlong nativeHandle, jstring nativeClassName) {
             auto obj =
                     reinterpret_cast<SerializableObject::Retainer<TimeEffect> *>(
                             nativeHandle);
+            contentReleased(obj->value);
             delete obj;
             break;
         }
@@ -299,6 +316,7 @@ void disposeObject(JNIEnv *env, jlong nativeHandle, jstring nativeClassName) {
             auto obj =
                     reinterpret_cast<SerializableObject::Retainer<LinearTimeWarp> *>(
                             nativeHandle);
+            contentReleased(obj->value);
             delete obj;
             break;
         }
@@ -306,6 +324,7 @@ void disposeObject(JNIEnv *env, jlong nativeHandle, jstring nativeClassName) {
             auto obj =
                     reinterpret_cast<SerializableObject::Retainer<FreezeFrame> *>(
                             nativeHandle);
+            contentReleased(obj->value);
             delete obj;
             break;
         }
@@ -313,6 +332,7 @@ void disposeObject(JNIEnv *env, jlong nativeHandle, jstring nativeClassName) {
             auto obj =
                     reinterpret_cast<SerializableObject::Retainer<ImageSequenceReference> *>(
                             nativeHandle);
+            contentReleased(obj->value);
             delete obj;
             break;
         }
@@ -320,6 +340,7 @@ void disposeObject(JNIEnv *env, jlong nativeHandle, jstring nativeClassName) {
             auto obj =
                     reinterpret_cast<SerializableObject::Retainer<Item> *>(
                             nativeHandle);
+            contentReleased(obj->value);
             delete obj;
             break;
         }
@@ -327,6 +348,7 @@ void disposeObject(JNIEnv *env, jlong nativeHandle, jstring nativeClassName) {
             auto obj =
                     reinterpret_cast<SerializableObject::Retainer<Composition> *>(
                             nativeHandle);
+            contentReleased(obj->value);
             delete obj;
             break;
         }
@@ -334,6 +356,7 @@ void disposeObject(JNIEnv *env, jlong nativeHandle, jstring nativeClassName) {
             auto obj =
                     reinterpret_cast<SerializableObject::Retainer<Gap> *>(
                             nativeHandle);
+            contentReleased(obj->value);
             delete obj;
             break;
         }
@@ -341,6 +364,7 @@ void disposeObject(JNIEnv *env, jlong nativeHandle, jstring nativeClassName) {
             auto obj =
                     reinterpret_cast<SerializableObject::Retainer<UnknownSchema> *>(
                             nativeHandle);
+            contentReleased(obj->value);
             delete obj;
             break;
         }
@@ -348,6 +372,7 @@ void disposeObject(JNIEnv *env, jlong nativeHandle, jstring nativeClassName) {
             auto obj =
                     reinterpret_cast<SerializableObject::Retainer<Transition> *>(
                             nativeHandle);
+            contentReleased(obj->value);
             delete obj;
             break;
         }
@@ -355,6 +380,7 @@ void disposeObject(JNIEnv *env, jlong nativeHandle, jstring nativeClassName) {
             auto obj =
                     reinterpret_cast<SerializableObject::Retainer<Clip> *>(
                             nativeHandle);
+            contentReleased(obj->value);
             delete obj;
             break;
         }
@@ -362,6 +388,7 @@ void disposeObject(JNIEnv *env, jlong nativeHandle, jstring nativeClassName) {
             auto obj =
                     reinterpret_cast<SerializableObject::Retainer<Stack> *>(
                             nativeHandle);
+            contentReleased(obj->value);
             delete obj;
             break;
         }
@@ -369,6 +396,7 @@ void disposeObject(JNIEnv *env, jlong nativeHandle, jstring nativeClassName) {
             auto obj =
                     reinterpret_cast<SerializableObject::Retainer<Track> *>(
                             nativeHandle);
+            contentReleased(obj->value);
             delete obj;
             break;
         }
@@ -376,6 +404,7 @@ void disposeObject(JNIEnv *env, jlong nativeHandle, jstring nativeClassName) {
             auto obj =
                     reinterpret_cast<SerializableObject::Retainer<Timeline> *>(
                             nativeHandle);
+            contentReleased(obj->value);
             delete obj;
             break;
         }
@@ -383,15 +412,3 @@ void disposeObject(JNIEnv *env, jlong nativeHandle, jstring nativeClassName) {
             throwRuntimeException(env, "Could not find class.");
     }
 }
-
-void disposeObject(JNIEnv *env, jobject thisObj) {
-    jclass thisClass = env->GetObjectClass(thisObj);
-    jfieldID nativeHandleID = env->GetFieldID(thisClass, "nativeHandle", "J");
-    jfieldID classNameID =
-            env->GetFieldID(thisClass, "className", "Ljava/lang/String;");
-
-    jlong nativeHandle = env->GetLongField(thisObj, nativeHandleID);
-    auto className = (jstring) env->GetObjectField(thisObj, classNameID);
-
-    disposeObject(env, nativeHandle, className);
-}
\ No newline at end of file
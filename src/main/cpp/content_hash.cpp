@@ -0,0 +1,514 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+#include <content_hash.h>
+#include <object_fields.h>
+#include <opentime/timeTransform.h>
+#include <opentimelineio/anyVector.h>
+
+#include <algorithm>
+#include <cstring>
+#include <mutex>
+#include <unordered_map>
+
+using namespace opentimelineio::OPENTIMELINEIO_VERSION;
+
+namespace {
+
+    const std::uint64_t prime1 = 0x9E3779B185EBCA87ULL;
+    const std::uint64_t prime2 = 0xC2B2AE3D27D4EB4FULL;
+    const std::uint64_t prime3 = 0x165667B19E3779F9ULL;
+    const std::uint64_t prime4 = 0x85EBCA77C2B2AE63ULL;
+    const std::uint64_t prime5 = 0x27D4EB2F165667C5ULL;
+
+    inline std::uint64_t rotateLeft(std::uint64_t value, int bits) {
+        return (value << bits) | (value >> (64 - bits));
+    }
+
+    /* little endian reads, the hash must not depend on the platform */
+    inline std::uint64_t read64(const unsigned char *p) {
+        std::uint64_t value = 0;
+        for (int i = 7; i >= 0; i--)
+            value = (value << 8) | p[i];
+        return value;
+    }
+
+    inline std::uint64_t read32(const unsigned char *p) {
+        return (std::uint64_t) p[0] | ((std::uint64_t) p[1] << 8)
+               | ((std::uint64_t) p[2] << 16) | ((std::uint64_t) p[3] << 24);
+    }
+
+    inline std::uint64_t round(std::uint64_t accumulator, std::uint64_t input) {
+        accumulator += input * prime2;
+        accumulator = rotateLeft(accumulator, 31);
+        return accumulator * prime1;
+    }
+
+    inline std::uint64_t mergeRound(std::uint64_t accumulator, std::uint64_t value) {
+        accumulator ^= round(0, value);
+        return accumulator * prime1 + prime4;
+    }
+}
+
+std::uint64_t xxHash64(const void *data, std::size_t length, std::uint64_t seed) {
+    const unsigned char *p = static_cast<const unsigned char *>(data);
+    const unsigned char *end = p + length;
+    std::uint64_t hash;
+
+    if (length >= 32) {
+        const unsigned char *limit = end - 32;
+        std::uint64_t v1 = seed + prime1 + prime2;
+        std::uint64_t v2 = seed + prime2;
+        std::uint64_t v3 = seed;
+        std::uint64_t v4 = seed - prime1;
+        do {
+            v1 = round(v1, read64(p));
+            v2 = round(v2, read64(p + 8));
+            v3 = round(v3, read64(p + 16));
+            v4 = round(v4, read64(p + 24));
+            p += 32;
+        } while (p <= limit);
+        hash = rotateLeft(v1, 1) + rotateLeft(v2, 7) + rotateLeft(v3, 12) + rotateLeft(v4, 18);
+        hash = mergeRound(hash, v1);
+        hash = mergeRound(hash, v2);
+        hash = mergeRound(hash, v3);
+        hash = mergeRound(hash, v4);
+    } else {
+        hash = seed + prime5;
+    }
+
+    hash += (std::uint64_t) length;
+
+    while (p + 8 <= end) {
+        hash ^= round(0, read64(p));
+        hash = rotateLeft(hash, 27) * prime1 + prime4;
+        p += 8;
+    }
+    if (p + 4 <= end) {
+        hash ^= read32(p) * prime1;
+        hash = rotateLeft(hash, 23) * prime2 + prime3;
+        p += 4;
+    }
+    while (p < end) {
+        hash ^= (*p) * prime5;
+        hash = rotateLeft(hash, 11) * prime1;
+        p++;
+    }
+
+    hash ^= hash >> 33;
+    hash *= prime2;
+    hash ^= hash >> 29;
+    hash *= prime3;
+    hash ^= hash >> 32;
+    return hash;
+}
+
+namespace {
+
+    enum HashTag : unsigned char {
+        TAG_NULL = 0,
+        TAG_FALSE,
+        TAG_TRUE,
+        TAG_INTEGER,
+        TAG_DOUBLE,
+        TAG_STRING,
+        TAG_RATIONAL_TIME,
+        TAG_TIME_RANGE,
+        TAG_TIME_TRANSFORM,
+        TAG_DICTIONARY,
+        TAG_VECTOR,
+        TAG_OBJECT,
+        TAG_OBJECT_CYCLE
+    };
+
+    struct Memo {
+        std::uint64_t hash = 0;
+        bool valid = false;
+        // objects that were hashed with the hash of this one
+        std::vector<SerializableObject *> owners;
+    };
+
+    std::mutex memoMutex;
+    std::unordered_map<SerializableObject *, Memo> memos;
+
+    /* hashes objects with the memos, with memoMutex held */
+    class ContentHashing {
+    public:
+        explicit ContentHashing(ErrorStatus &errorStatus) : _errorStatus(errorStatus) {}
+
+        /* hash of object, memoizable is cleared if the caller must not memoize its hash either */
+        std::uint64_t hash(SerializableObject *object, bool &memoizable);
+
+    private:
+        ErrorStatus &_errorStatus;
+        // the objects being hashed, as metadata may hold an object holding it
+        std::vector<SerializableObject *> _path;
+    };
+
+    /* canonical bytes of the fields of one object, with the hashes of the objects it holds */
+    class ObjectHasher : public FieldWriter {
+    public:
+        /* object is null for a dictionary, the fields named in excluded are skipped */
+        ObjectHasher(ContentHashing &hashing, SerializableObject *object,
+                     std::vector<std::string> const *excluded = nullptr)
+                : _hashing(hashing), _object(object), _excluded(excluded) {
+            if (object == nullptr) return;
+            writeString(object->schema_name());
+            writeUInt((std::uint64_t) object->schema_version(), 4);
+        }
+
+        std::string bytes;
+        bool memoizable = true;
+
+        void writeNull(const char *key) override {
+            if (!writeKey(key)) return;
+            bytes.push_back(TAG_NULL);
+        }
+
+        void write(const char *key, int value) override {
+            if (!writeKey(key)) return;
+            writeInteger(value);
+        }
+
+        void write(const char *key, double value) override {
+            if (!writeKey(key)) return;
+            bytes.push_back(TAG_DOUBLE);
+            writeDouble(value);
+        }
+
+        void write(const char *key, std::string const &value) override {
+            if (!writeKey(key)) return;
+            bytes.push_back(TAG_STRING);
+            writeString(value);
+        }
+
+        void write(const char *key, RationalTime value) override {
+            if (!writeKey(key)) return;
+            bytes.push_back(TAG_RATIONAL_TIME);
+            writeRationalTime(value);
+        }
+
+        void write(const char *key, TimeRange value) override {
+            if (!writeKey(key)) return;
+            bytes.push_back(TAG_TIME_RANGE);
+            writeRationalTime(value.start_time());
+            writeRationalTime(value.duration());
+        }
+
+        void write(const char *key, AnyDictionary const &value) override {
+            if (!writeKey(key)) return;
+            writeDictionary(value);
+        }
+
+        void write(const char *key, any const &value) override {
+            if (!writeKey(key)) return;
+            writeAny(value);
+        }
+
+        void write(const char *key, SerializableObject *value) override {
+            if (!writeKey(key)) return;
+            writeObject(value);
+        }
+
+        void write(const char *key, std::vector<SerializableObject *> const &values) override {
+            if (!writeKey(key)) return;
+            bytes.push_back(TAG_VECTOR);
+            writeUInt((std::uint64_t) values.size(), 4);
+            for (auto value: values)
+                writeObject(value);
+        }
+
+    private:
+        ContentHashing &_hashing;
+        SerializableObject *_object;
+        std::vector<std::string> const *_excluded;
+
+        void writeUInt(std::uint64_t value, int length) {
+            for (int i = 0; i < length; i++)
+                bytes.push_back((char) (value >> (8 * i)));
+        }
+
+        void writeDouble(double value) {
+            std::uint64_t bits;
+            std::memcpy(&bits, &value, sizeof(bits));
+            writeUInt(bits, 8);
+        }
+
+        void writeString(std::string const &value) {
+            writeUInt((std::uint64_t) value.size(), 4);
+            bytes.append(value);
+        }
+
+        /* false if the field is excluded */
+        bool writeKey(const char *key) {
+            if (_excluded != nullptr && std::find(_excluded->begin(), _excluded->end(), key) != _excluded->end())
+                return false;
+            auto length = std::strlen(key);
+            writeUInt((std::uint64_t) length, 4);
+            bytes.append(key, length);
+            return true;
+        }
+
+        /* int and int64_t alike, JSON reads small int64_t values back as int */
+        void writeInteger(std::int64_t value) {
+            bytes.push_back(TAG_INTEGER);
+            writeUInt((std::uint64_t) value, 8);
+        }
+
+        void writeRationalTime(RationalTime const &value) {
+            writeDouble(value.value());
+            writeDouble(value.rate());
+        }
+
+        void writeDictionary(AnyDictionary const &value) {
+            bytes.push_back(TAG_DICTIONARY);
+            writeUInt((std::uint64_t) value.size(), 4);
+            for (auto &entry: value) {
+                writeString(entry.first);
+                writeAny(entry.second);
+            }
+        }
+
+        void writeObject(SerializableObject *value) {
+            if (value == nullptr) {
+                bytes.push_back(TAG_NULL);
+                return;
+            }
+            bool childMemoizable = true;
+            std::uint64_t hash = _hashing.hash(value, childMemoizable);
+            bytes.push_back(TAG_OBJECT);
+            writeUInt(hash, 8);
+            if (!childMemoizable) {
+                memoizable = false;
+                return;
+            }
+            if (_object == nullptr)
+                return;
+            auto &owners = memos[value].owners;
+            if (std::find(owners.begin(), owners.end(), _object) == owners.end())
+                owners.push_back(_object);
+        }
+
+        void writeAny(any const &value) {
+            auto &type = value.type();
+            if (type == typeid(bool)) {
+                bytes.push_back(any_cast<bool>(value) ? TAG_TRUE : TAG_FALSE);
+            } else if (type == typeid(int)) {
+                writeInteger(any_cast<int>(value));
+            } else if (type == typeid(int64_t)) {
+                writeInteger(any_cast<int64_t>(value));
+            } else if (type == typeid(double)) {
+                bytes.push_back(TAG_DOUBLE);
+                writeDouble(any_cast<double>(value));
+            } else if (type == typeid(std::string)) {
+                bytes.push_back(TAG_STRING);
+                writeString(any_cast<std::string const &>(value));
+            } else if (type == typeid(RationalTime)) {
+                bytes.push_back(TAG_RATIONAL_TIME);
+                writeRationalTime(any_cast<RationalTime>(value));
+            } else if (type == typeid(TimeRange)) {
+                auto timeRange = any_cast<TimeRange>(value);
+                bytes.push_back(TAG_TIME_RANGE);
+                writeRationalTime(timeRange.start_time());
+                writeRationalTime(timeRange.duration());
+            } else if (type == typeid(TimeTransform)) {
+                auto timeTransform = any_cast<TimeTransform>(value);
+                bytes.push_back(TAG_TIME_TRANSFORM);
+                writeRationalTime(timeTransform.offset());
+                writeDouble(timeTransform.scale());
+                writeDouble(timeTransform.rate());
+            } else if (type == typeid(AnyDictionary)) {
+                writeDictionary(any_cast<AnyDictionary const &>(value));
+            } else if (type == typeid(AnyVector)) {
+                auto &vector = any_cast<AnyVector const &>(value);
+                bytes.push_back(TAG_VECTOR);
+                writeUInt((std::uint64_t) vector.size(), 4);
+                for (auto &element: vector)
+                    writeAny(element);
+            } else if (type == typeid(SerializableObject::Retainer<>)) {
+                writeObject(any_cast<SerializableObject::Retainer<> const &>(value).value);
+            } else {
+                // nothing else can be serialized, like in AnyTransfer
+                bytes.push_back(TAG_NULL);
+            }
+        }
+    };
+
+    std::uint64_t ContentHashing::hash(SerializableObject *object, bool &memoizable) {
+        auto found = memos.find(object);
+        if (found != memos.end() && found->second.valid)
+            return found->second.hash;
+
+        auto onPath = std::find(_path.begin(), _path.end(), object);
+        if (onPath != _path.end()) {
+            // the hash of a cycle depends on where it is entered, so it is not memoized
+            memoizable = false;
+            return (std::uint64_t) TAG_OBJECT_CYCLE << 56 | (std::uint64_t) (_path.end() - onPath);
+        }
+
+        _path.push_back(object);
+        ObjectHasher hasher(*this, object);
+        bool known = writeFields(object, hasher);
+        _path.pop_back();
+        if (!known) {
+            memoizable = false;
+            auto json = object->to_json_string(&_errorStatus, 0);
+            return xxHash64(json.data(), json.size(), 0);
+        }
+        std::uint64_t hash = xxHash64(hasher.bytes.data(), hasher.bytes.size(), 0);
+        if (!hasher.memoizable) {
+            memoizable = false;
+            return hash;
+        }
+        Memo &memo = memos[object];
+        memo.hash = hash;
+        memo.valid = true;
+        return hash;
+    }
+
+    /*
+     * Drops the memos of the objects freed when references to them are dropped, with memoMutex
+     * held. An object is freed when every reference it has is dropped, either by the caller or by
+     * the objects freed before it.
+     */
+    class ReleasedObjects : public FieldWriter {
+    public:
+        void drop(SerializableObject *object) {
+            if (object == nullptr || ++_dropped[object] != object->current_ref_count())
+                return;
+            memos.erase(object);
+            // objects of schemas writeFields() does not know are not memoized, nor what they hold
+            writeFields(object, *this);
+        }
+
+        void drop(any const &value) {
+            auto &type = value.type();
+            if (type == typeid(AnyDictionary)) {
+                drop(any_cast<AnyDictionary const &>(value));
+            } else if (type == typeid(AnyVector)) {
+                drop(any_cast<AnyVector const &>(value));
+            } else if (type == typeid(SerializableObject::Retainer<>)) {
+                drop(any_cast<SerializableObject::Retainer<> const &>(value).value);
+            }
+        }
+
+        void drop(AnyDictionary const &dictionary) {
+            for (auto &entry: dictionary)
+                drop(entry.second);
+        }
+
+        void drop(AnyVector const &vector) {
+            for (auto &element: vector)
+                drop(element);
+        }
+
+        void writeNull(const char *key) override {}
+
+        void write(const char *key, int value) override {}
+
+        void write(const char *key, double value) override {}
+
+        void write(const char *key, std::string const &value) override {}
+
+        void write(const char *key, RationalTime value) override {}
+
+        void write(const char *key, TimeRange value) override {}
+
+        void write(const char *key, AnyDictionary const &value) override {
+            drop(value);
+        }
+
+        void write(const char *key, any const &value) override {
+            drop(value);
+        }
+
+        void write(const char *key, SerializableObject *value) override {
+            drop(value);
+        }
+
+        void write(const char *key, std::vector<SerializableObject *> const &values) override {
+            for (auto value: values)
+                drop(value);
+        }
+
+    private:
+        // references dropped so far, per object
+        std::unordered_map<SerializableObject *, int> _dropped;
+    };
+
+    template<typename T>
+    void dropReferences(T const &value) {
+        std::lock_guard<std::mutex> lock(memoMutex);
+        if (memos.empty())
+            return;
+        ReleasedObjects released;
+        released.drop(value);
+    }
+}
+
+void contentChanged(SerializableObject *object) {
+    std::lock_guard<std::mutex> lock(memoMutex);
+    std::vector<SerializableObject *> pending{object};
+    while (!pending.empty()) {
+        auto found = memos.find(pending.back());
+        pending.pop_back();
+        // an object without a valid hash has owners without one either
+        if (found == memos.end() || !found->second.valid)
+            continue;
+        found->second.valid = false;
+        pending.insert(pending.end(), found->second.owners.begin(), found->second.owners.end());
+    }
+}
+
+void contentReleased(SerializableObject *object) {
+    dropReferences(object);
+}
+
+void contentReleased(std::vector<SerializableObject *> const &objects) {
+    std::lock_guard<std::mutex> lock(memoMutex);
+    if (memos.empty())
+        return;
+    // one pass, an object held by several of them is freed with the last one
+    ReleasedObjects released;
+    for (auto object: objects)
+        released.drop(object);
+}
+
+void contentReleased(any const &value) {
+    dropReferences(value);
+}
+
+void contentReleased(AnyDictionary const &dictionary) {
+    dropReferences(dictionary);
+}
+
+void contentReleased(AnyVector const &vector) {
+    dropReferences(vector);
+}
+
+std::uint64_t contentHash(SerializableObject *object, ErrorStatus &errorStatus) {
+    std::lock_guard<std::mutex> lock(memoMutex);
+    ContentHashing hashing(errorStatus);
+    bool memoizable = true;
+    return hashing.hash(object, memoizable);
+}
+
+std::uint64_t fieldsHash(SerializableObject *object, std::vector<std::string> const &excluded,
+                         ErrorStatus &errorStatus) {
+    std::lock_guard<std::mutex> lock(memoMutex);
+    ContentHashing hashing(errorStatus);
+    ObjectHasher hasher(hashing, object, &excluded);
+    if (!writeFields(object, hasher)) {
+        auto json = object->to_json_string(&errorStatus, 0);
+        return xxHash64(json.data(), json.size(), 0);
+    }
+    return xxHash64(hasher.bytes.data(), hasher.bytes.size(), 0);
+}
+
+std::uint64_t dictionaryHash(AnyDictionary const &dictionary, ErrorStatus &errorStatus) {
+    std::lock_guard<std::mutex> lock(memoMutex);
+    ContentHashing hashing(errorStatus);
+    ObjectHasher hasher(hashing, nullptr);
+    hasher.write("", dictionary);
+    return xxHash64(hasher.bytes.data(), hasher.bytes.size(), 0);
+}
@@ -4,6 +4,7 @@
 #include <handle.h>
 #include <io_opentimeline_OTIONative.h>
 #include <class_codes.h>
+#include <jni_cache.h>
 #include <opentimelineio/version.h>
 #include <opentime/errorStatus.h>
 #include <opentimelineio/any.h>
@@ -31,6 +32,7 @@
 #include <opentimelineio/timeline.h>
 #include <otio_manager.h>
 #include <exceptions.h>
+#include <vector>
 
 using namespace opentimelineio::OPENTIMELINEIO_VERSION;
 
@@ -41,13 +43,13 @@ using namespace opentimelineio::OPENTIMELINEIO_VERSION;
  */
 JNIEXPORT jlong JNICALL Java_io_opentimeline_OTIONative_getOTIOObjectNativeHandle
         (JNIEnv *env, jobject thisObj) {
-    jclass thisClass = env->GetObjectClass(thisObj);
-    jfieldID nativeHandleID = env->GetFieldID(thisClass, "nativeHandle", "J");
-    jfieldID classNameID =
-            env->GetFieldID(thisClass, "className", "Ljava/lang/String;");
-    jlong nativeHandle = env->GetLongField(thisObj, nativeHandleID);
-    jstring nativeClassName = (jstring) env->GetObjectField(thisObj, classNameID);
-    std::string className = env->GetStringUTFChars(nativeClassName, 0);
+    const JNICache &jniCache = getJNICache(env);
+    jlong nativeHandle = env->GetLongField(thisObj, jniCache.otioNativeNativeHandle);
+    auto nativeClassName = (jstring) env->GetObjectField(thisObj, jniCache.otioNativeClassName);
+    const char *classNameChars = env->GetStringUTFChars(nativeClassName, nullptr);
+    std::string className = classNameChars;
+    env->ReleaseStringUTFChars(nativeClassName, classNameChars);
+    env->DeleteLocalRef(nativeClassName);
     switch (getClassCodeFromString(className)) {
         case _Any: {
             auto obj = reinterpret_cast<OTIO_NS::any *>(nativeHandle);
@@ -234,10 +236,39 @@ JNIEXPORT jlong JNICALL Java_io_opentimeline_OTIONative_getOTIOObjectNativeHandl
 
 /*
  * Class:     io_opentimeline_OTIONative
- * Method:    close
- * Signature: ()V
+ * Method:    disposeNativeObject
+ * Signature: (JI)V
  */
 JNIEXPORT void JNICALL
-Java_io_opentimeline_OTIONative_close(JNIEnv *env, jobject thisObj) {
-    disposeObject(env, thisObj);
-}
\ No newline at end of file
+Java_io_opentimeline_OTIONative_disposeNativeObject(
+        JNIEnv *env, jclass thisClass, jlong nativeHandle, jint classCode) {
+    disposeObject(env, nativeHandle, classCode);
+}
+/*
+ * Class:     io_opentimeline_OTIONative
+ * Method:    disposeNativeObjects
+ * Signature: ([J[II)V
+ */
+JNIEXPORT void JNICALL
+Java_io_opentimeline_OTIONative_disposeNativeObjects(
+        JNIEnv *env,
+        jclass thisClass,
+        jlongArray nativeHandles,
+        jintArray classCodes,
+        jint count) {
+    if (nativeHandles == nullptr || classCodes == nullptr) {
+        throwNullPointerException(env, "");
+        return;
+    }
+    if (count <= 0) return;
+    std::vector<jlong> handles(count);
+    std::vector<jint> codes(count);
+    env->GetLongArrayRegion(nativeHandles, 0, count, handles.data());
+    env->GetIntArrayRegion(classCodes, 0, count, codes.data());
+    if (env->ExceptionCheck()) return;
+    for (jint i = 0; i < count; i++) {
+        if (handles[i] == 0) continue;
+        disposeObject(env, handles[i], codes[i]);
+        if (env->ExceptionCheck()) return;
+    }
+}
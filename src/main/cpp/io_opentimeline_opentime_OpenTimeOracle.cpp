@@ -0,0 +1,536 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+#include <io_opentimeline_opentime_OpenTimeOracle.h>
+#include <utilities.h>
+#include <opentime/rationalTime.h>
+#include <opentime/timeRange.h>
+
+using namespace opentimelineio::OPENTIMELINEIO_VERSION;
+
+/*
+ * Class:     io_opentimeline_opentime_OpenTimeOracle
+ * Method:    isInvalidTime
+ * Signature: (Lio/opentimeline/opentime/RationalTime;)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentime_OpenTimeOracle_isInvalidTime
+        (JNIEnv *env, jclass thisClass, jobject rtObj) {
+    if (rtObj == nullptr) {
+        throwNullPointerException(env, "");
+        return false;
+    }
+    return rationalTimeFromJObject(env, rtObj).is_invalid_time();
+}
+
+/*
+ * Class:     io_opentimeline_opentime_OpenTimeOracle
+ * Method:    add
+ * Signature: (Lio/opentimeline/opentime/RationalTime;Lio/opentimeline/opentime/RationalTime;)Lio/opentimeline/opentime/RationalTime;
+ */
+JNIEXPORT jobject JNICALL Java_io_opentimeline_opentime_OpenTimeOracle_add
+        (JNIEnv *env, jclass thisClass, jobject lhsObj, jobject rhsObj) {
+    if (lhsObj == nullptr || rhsObj == nullptr) {
+        throwNullPointerException(env, "");
+        return nullptr;
+    }
+    auto lhs = rationalTimeFromJObject(env, lhsObj);
+    auto rhs = rationalTimeFromJObject(env, rhsObj);
+    return rationalTimeToJObject(env, lhs + rhs);
+}
+
+/*
+ * Class:     io_opentimeline_opentime_OpenTimeOracle
+ * Method:    subtract
+ * Signature: (Lio/opentimeline/opentime/RationalTime;Lio/opentimeline/opentime/RationalTime;)Lio/opentimeline/opentime/RationalTime;
+ */
+JNIEXPORT jobject JNICALL Java_io_opentimeline_opentime_OpenTimeOracle_subtract
+        (JNIEnv *env, jclass thisClass, jobject lhsObj, jobject rhsObj) {
+    if (lhsObj == nullptr || rhsObj == nullptr) {
+        throwNullPointerException(env, "");
+        return nullptr;
+    }
+    auto lhs = rationalTimeFromJObject(env, lhsObj);
+    auto rhs = rationalTimeFromJObject(env, rhsObj);
+    return rationalTimeToJObject(env, lhs - rhs);
+}
+
+/*
+ * Class:     io_opentimeline_opentime_OpenTimeOracle
+ * Method:    rescaledTo
+ * Signature: (Lio/opentimeline/opentime/RationalTime;D)Lio/opentimeline/opentime/RationalTime;
+ */
+JNIEXPORT jobject JNICALL
+Java_io_opentimeline_opentime_OpenTimeOracle_rescaledTo__Lio_opentimeline_opentime_RationalTime_2D
+        (JNIEnv *env, jclass thisClass, jobject rtObj, jdouble newRate) {
+    if (rtObj == nullptr) {
+        throwNullPointerException(env, "");
+        return nullptr;
+    }
+    auto rt = rationalTimeFromJObject(env, rtObj);
+    return rationalTimeToJObject(env, rt.rescaled_to(newRate));
+}
+
+/*
+ * Class:     io_opentimeline_opentime_OpenTimeOracle
+ * Method:    rescaledTo
+ * Signature: (Lio/opentimeline/opentime/RationalTime;Lio/opentimeline/opentime/RationalTime;)Lio/opentimeline/opentime/RationalTime;
+ */
+JNIEXPORT jobject JNICALL
+Java_io_opentimeline_opentime_OpenTimeOracle_rescaledTo__Lio_opentimeline_opentime_RationalTime_2Lio_opentimeline_opentime_RationalTime_2
+        (JNIEnv *env, jclass thisClass, jobject rtObj, jobject otherObj) {
+    if (rtObj == nullptr || otherObj == nullptr) {
+        throwNullPointerException(env, "");
+        return nullptr;
+    }
+    auto rt = rationalTimeFromJObject(env, rtObj);
+    auto other = rationalTimeFromJObject(env, otherObj);
+    return rationalTimeToJObject(env, rt.rescaled_to(other));
+}
+
+/*
+ * Class:     io_opentimeline_opentime_OpenTimeOracle
+ * Method:    valueRescaledTo
+ * Signature: (Lio/opentimeline/opentime/RationalTime;D)D
+ */
+JNIEXPORT jdouble JNICALL
+Java_io_opentimeline_opentime_OpenTimeOracle_valueRescaledTo__Lio_opentimeline_opentime_RationalTime_2D
+        (JNIEnv *env, jclass thisClass, jobject rtObj, jdouble newRate) {
+    if (rtObj == nullptr) {
+        throwNullPointerException(env, "");
+        return 0;
+    }
+    return rationalTimeFromJObject(env, rtObj).value_rescaled_to(newRate);
+}
+
+/*
+ * Class:     io_opentimeline_opentime_OpenTimeOracle
+ * Method:    valueRescaledTo
+ * Signature: (Lio/opentimeline/opentime/RationalTime;Lio/opentimeline/opentime/RationalTime;)D
+ */
+JNIEXPORT jdouble JNICALL
+Java_io_opentimeline_opentime_OpenTimeOracle_valueRescaledTo__Lio_opentimeline_opentime_RationalTime_2Lio_opentimeline_opentime_RationalTime_2
+        (JNIEnv *env, jclass thisClass, jobject rtObj, jobject otherObj) {
+    if (rtObj == nullptr || otherObj == nullptr) {
+        throwNullPointerException(env, "");
+        return 0;
+    }
+    auto rt = rationalTimeFromJObject(env, rtObj);
+    auto other = rationalTimeFromJObject(env, otherObj);
+    return rt.value_rescaled_to(other);
+}
+
+/*
+ * Class:     io_opentimeline_opentime_OpenTimeOracle
+ * Method:    almostEqual
+ * Signature: (Lio/opentimeline/opentime/RationalTime;Lio/opentimeline/opentime/RationalTime;D)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentime_OpenTimeOracle_almostEqual
+        (JNIEnv *env, jclass thisClass, jobject lhsObj, jobject rhsObj, jdouble delta) {
+    if (lhsObj == nullptr || rhsObj == nullptr) {
+        throwNullPointerException(env, "");
+        return false;
+    }
+    auto lhs = rationalTimeFromJObject(env, lhsObj);
+    auto rhs = rationalTimeFromJObject(env, rhsObj);
+    return lhs.almost_equal(rhs, delta);
+}
+
+/*
+ * Class:     io_opentimeline_opentime_OpenTimeOracle
+ * Method:    durationFromStartEndTime
+ * Signature: (Lio/opentimeline/opentime/RationalTime;Lio/opentimeline/opentime/RationalTime;)Lio/opentimeline/opentime/RationalTime;
+ */
+JNIEXPORT jobject JNICALL Java_io_opentimeline_opentime_OpenTimeOracle_durationFromStartEndTime
+        (JNIEnv *env, jclass thisClass, jobject startTimeObj, jobject endTimeObj) {
+    if (startTimeObj == nullptr || endTimeObj == nullptr) {
+        throwNullPointerException(env, "");
+        return nullptr;
+    }
+    auto startTime = rationalTimeFromJObject(env, startTimeObj);
+    auto endTime = rationalTimeFromJObject(env, endTimeObj);
+    auto result = RationalTime::duration_from_start_end_time(startTime, endTime);
+    return rationalTimeToJObject(env, result);
+}
+
+/*
+ * Class:     io_opentimeline_opentime_OpenTimeOracle
+ * Method:    equals
+ * Signature: (Lio/opentimeline/opentime/RationalTime;Lio/opentimeline/opentime/RationalTime;)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentime_OpenTimeOracle_equals
+        (JNIEnv *env, jclass thisClass, jobject lhsObj, jobject rhsObj) {
+    if (lhsObj == nullptr || rhsObj == nullptr) {
+        throwNullPointerException(env, "");
+        return false;
+    }
+    auto lhs = rationalTimeFromJObject(env, lhsObj);
+    auto rhs = rationalTimeFromJObject(env, rhsObj);
+    return lhs == rhs;
+}
+
+/*
+ * Class:     io_opentimeline_opentime_OpenTimeOracle
+ * Method:    compare
+ * Signature: (Lio/opentimeline/opentime/RationalTime;Lio/opentimeline/opentime/RationalTime;)I
+ */
+JNIEXPORT jint JNICALL Java_io_opentimeline_opentime_OpenTimeOracle_compare
+        (JNIEnv *env, jclass thisClass, jobject lhsObj, jobject rhsObj) {
+    if (lhsObj == nullptr || rhsObj == nullptr) {
+        throwNullPointerException(env, "");
+        return 0;
+    }
+    auto lhs = rationalTimeFromJObject(env, lhsObj);
+    auto rhs = rationalTimeFromJObject(env, rhsObj);
+    if (lhs < rhs) {
+        return -1;
+    } else if (lhs > rhs) {
+        return 1;
+    } else if (lhs == rhs) {
+        return 0;
+    }
+    return -99;
+}
+
+/*
+ * Class:     io_opentimeline_opentime_OpenTimeOracle
+ * Method:    defaultEpsilon
+ * Signature: ()D
+ */
+JNIEXPORT jdouble JNICALL Java_io_opentimeline_opentime_OpenTimeOracle_defaultEpsilon
+        (JNIEnv *env, jclass thisClass) {
+    return opentime::DEFAULT_EPSILON_s;
+}
+
+/*
+ * Class:     io_opentimeline_opentime_OpenTimeOracle
+ * Method:    endTimeInclusive
+ * Signature: (Lio/opentimeline/opentime/TimeRange;)Lio/opentimeline/opentime/RationalTime;
+ */
+JNIEXPORT jobject JNICALL Java_io_opentimeline_opentime_OpenTimeOracle_endTimeInclusive
+        (JNIEnv *env, jclass thisClass, jobject trObj) {
+    if (trObj == nullptr) {
+        throwNullPointerException(env, "");
+        return nullptr;
+    }
+    auto tr = timeRangeFromJObject(env, trObj);
+    return rationalTimeToJObject(env, tr.end_time_inclusive());
+}
+
+/*
+ * Class:     io_opentimeline_opentime_OpenTimeOracle
+ * Method:    endTimeExclusive
+ * Signature: (Lio/opentimeline/opentime/TimeRange;)Lio/opentimeline/opentime/RationalTime;
+ */
+JNIEXPORT jobject JNICALL Java_io_opentimeline_opentime_OpenTimeOracle_endTimeExclusive
+        (JNIEnv *env, jclass thisClass, jobject trObj) {
+    if (trObj == nullptr) {
+        throwNullPointerException(env, "");
+        return nullptr;
+    }
+    auto tr = timeRangeFromJObject(env, trObj);
+    return rationalTimeToJObject(env, tr.end_time_exclusive());
+}
+
+/*
+ * Class:     io_opentimeline_opentime_OpenTimeOracle
+ * Method:    durationExtendedBy
+ * Signature: (Lio/opentimeline/opentime/TimeRange;Lio/opentimeline/opentime/RationalTime;)Lio/opentimeline/opentime/TimeRange;
+ */
+JNIEXPORT jobject JNICALL Java_io_opentimeline_opentime_OpenTimeOracle_durationExtendedBy
+        (JNIEnv *env, jclass thisClass, jobject trObj, jobject otherObj) {
+    if (trObj == nullptr || otherObj == nullptr) {
+        throwNullPointerException(env, "");
+        return nullptr;
+    }
+    auto tr = timeRangeFromJObject(env, trObj);
+    auto other = rationalTimeFromJObject(env, otherObj);
+    return timeRangeToJObject(env, tr.duration_extended_by(other));
+}
+
+/*
+ * Class:     io_opentimeline_opentime_OpenTimeOracle
+ * Method:    extendedBy
+ * Signature: (Lio/opentimeline/opentime/TimeRange;Lio/opentimeline/opentime/TimeRange;)Lio/opentimeline/opentime/TimeRange;
+ */
+JNIEXPORT jobject JNICALL Java_io_opentimeline_opentime_OpenTimeOracle_extendedBy
+        (JNIEnv *env, jclass thisClass, jobject trObj, jobject otherObj) {
+    if (trObj == nullptr || otherObj == nullptr) {
+        throwNullPointerException(env, "");
+        return nullptr;
+    }
+    auto tr = timeRangeFromJObject(env, trObj);
+    auto other = timeRangeFromJObject(env, otherObj);
+    return timeRangeToJObject(env, tr.extended_by(other));
+}
+
+/*
+ * Class:     io_opentimeline_opentime_OpenTimeOracle
+ * Method:    clampedTime
+ * Signature: (Lio/opentimeline/opentime/TimeRange;Lio/opentimeline/opentime/RationalTime;)Lio/opentimeline/opentime/RationalTime;
+ */
+JNIEXPORT jobject JNICALL Java_io_opentimeline_opentime_OpenTimeOracle_clampedTime
+        (JNIEnv *env, jclass thisClass, jobject trObj, jobject otherObj) {
+    if (trObj == nullptr || otherObj == nullptr) {
+        throwNullPointerException(env, "");
+        return nullptr;
+    }
+    auto tr = timeRangeFromJObject(env, trObj);
+    auto other = rationalTimeFromJObject(env, otherObj);
+    return rationalTimeToJObject(env, tr.clamped(other));
+}
+
+/*
+ * Class:     io_opentimeline_opentime_OpenTimeOracle
+ * Method:    clampedRange
+ * Signature: (Lio/opentimeline/opentime/TimeRange;Lio/opentimeline/opentime/TimeRange;)Lio/opentimeline/opentime/TimeRange;
+ */
+JNIEXPORT jobject JNICALL Java_io_opentimeline_opentime_OpenTimeOracle_clampedRange
+        (JNIEnv *env, jclass thisClass, jobject trObj, jobject otherObj) {
+    if (trObj == nullptr || otherObj == nullptr) {
+        throwNullPointerException(env, "");
+        return nullptr;
+    }
+    auto tr = timeRangeFromJObject(env, trObj);
+    auto other = timeRangeFromJObject(env, otherObj);
+    return timeRangeToJObject(env, tr.clamped(other));
+}
+
+/*
+ * Class:     io_opentimeline_opentime_OpenTimeOracle
+ * Method:    containsTime
+ * Signature: (Lio/opentimeline/opentime/TimeRange;Lio/opentimeline/opentime/RationalTime;)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentime_OpenTimeOracle_containsTime
+        (JNIEnv *env, jclass thisClass, jobject trObj, jobject otherObj) {
+    if (trObj == nullptr || otherObj == nullptr) {
+        throwNullPointerException(env, "");
+        return false;
+    }
+    auto tr = timeRangeFromJObject(env, trObj);
+    auto other = rationalTimeFromJObject(env, otherObj);
+    return tr.contains(other);
+}
+
+/*
+ * Class:     io_opentimeline_opentime_OpenTimeOracle
+ * Method:    containsRange
+ * Signature: (Lio/opentimeline/opentime/TimeRange;Lio/opentimeline/opentime/TimeRange;D)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentime_OpenTimeOracle_containsRange
+        (JNIEnv *env, jclass thisClass, jobject trObj, jobject otherObj, jdouble epsilon) {
+    if (trObj == nullptr || otherObj == nullptr) {
+        throwNullPointerException(env, "");
+        return false;
+    }
+    auto tr = timeRangeFromJObject(env, trObj);
+    auto other = timeRangeFromJObject(env, otherObj);
+    return tr.contains(other, epsilon);
+}
+
+/*
+ * Class:     io_opentimeline_opentime_OpenTimeOracle
+ * Method:    overlapsTime
+ * Signature: (Lio/opentimeline/opentime/TimeRange;Lio/opentimeline/opentime/RationalTime;)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentime_OpenTimeOracle_overlapsTime
+        (JNIEnv *env, jclass thisClass, jobject trObj, jobject otherObj) {
+    if (trObj == nullptr || otherObj == nullptr) {
+        throwNullPointerException(env, "");
+        return false;
+    }
+    auto tr = timeRangeFromJObject(env, trObj);
+    auto other = rationalTimeFromJObject(env, otherObj);
+    return tr.overlaps(other);
+}
+
+/*
+ * Class:     io_opentimeline_opentime_OpenTimeOracle
+ * Method:    overlapsRange
+ * Signature: (Lio/opentimeline/opentime/TimeRange;Lio/opentimeline/opentime/TimeRange;D)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentime_OpenTimeOracle_overlapsRange
+        (JNIEnv *env, jclass thisClass, jobject trObj, jobject otherObj, jdouble epsilon) {
+    if (trObj == nullptr || otherObj == nullptr) {
+        throwNullPointerException(env, "");
+        return false;
+    }
+    auto tr = timeRangeFromJObject(env, trObj);
+    auto other = timeRangeFromJObject(env, otherObj);
+    return tr.overlaps(other, epsilon);
+}
+
+/*
+ * Class:     io_opentimeline_opentime_OpenTimeOracle
+ * Method:    beforeTime
+ * Signature: (Lio/opentimeline/opentime/TimeRange;Lio/opentimeline/opentime/RationalTime;D)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentime_OpenTimeOracle_beforeTime
+        (JNIEnv *env, jclass thisClass, jobject trObj, jobject otherObj, jdouble epsilon) {
+    if (trObj == nullptr || otherObj == nullptr) {
+        throwNullPointerException(env, "");
+        return false;
+    }
+    auto tr = timeRangeFromJObject(env, trObj);
+    auto other = rationalTimeFromJObject(env, otherObj);
+    return tr.before(other, epsilon);
+}
+
+/*
+ * Class:     io_opentimeline_opentime_OpenTimeOracle
+ * Method:    beforeRange
+ * Signature: (Lio/opentimeline/opentime/TimeRange;Lio/opentimeline/opentime/TimeRange;D)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentime_OpenTimeOracle_beforeRange
+        (JNIEnv *env, jclass thisClass, jobject trObj, jobject otherObj, jdouble epsilon) {
+    if (trObj == nullptr || otherObj == nullptr) {
+        throwNullPointerException(env, "");
+        return false;
+    }
+    auto tr = timeRangeFromJObject(env, trObj);
+    auto other = timeRangeFromJObject(env, otherObj);
+    return tr.before(other, epsilon);
+}
+
+/*
+ * Class:     io_opentimeline_opentime_OpenTimeOracle
+ * Method:    meets
+ * Signature: (Lio/opentimeline/opentime/TimeRange;Lio/opentimeline/opentime/TimeRange;D)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentime_OpenTimeOracle_meets
+        (JNIEnv *env, jclass thisClass, jobject trObj, jobject otherObj, jdouble epsilon) {
+    if (trObj == nullptr || otherObj == nullptr) {
+        throwNullPointerException(env, "");
+        return false;
+    }
+    auto tr = timeRangeFromJObject(env, trObj);
+    auto other = timeRangeFromJObject(env, otherObj);
+    return tr.meets(other, epsilon);
+}
+
+/*
+ * Class:     io_opentimeline_opentime_OpenTimeOracle
+ * Method:    beginsTime
+ * Signature: (Lio/opentimeline/opentime/TimeRange;Lio/opentimeline/opentime/RationalTime;D)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentime_OpenTimeOracle_beginsTime
+        (JNIEnv *env, jclass thisClass, jobject trObj, jobject otherObj, jdouble epsilon) {
+    if (trObj == nullptr || otherObj == nullptr) {
+        throwNullPointerException(env, "");
+        return false;
+    }
+    auto tr = timeRangeFromJObject(env, trObj);
+    auto other = rationalTimeFromJObject(env, otherObj);
+    return tr.begins(other, epsilon);
+}
+
+/*
+ * Class:     io_opentimeline_opentime_OpenTimeOracle
+ * Method:    beginsRange
+ * Signature: (Lio/opentimeline/opentime/TimeRange;Lio/opentimeline/opentime/TimeRange;D)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentime_OpenTimeOracle_beginsRange
+        (JNIEnv *env, jclass thisClass, jobject trObj, jobject otherObj, jdouble epsilon) {
+    if (trObj == nullptr || otherObj == nullptr) {
+        throwNullPointerException(env, "");
+        return false;
+    }
+    auto tr = timeRangeFromJObject(env, trObj);
+    auto other = timeRangeFromJObject(env, otherObj);
+    return tr.begins(other, epsilon);
+}
+
+/*
+ * Class:     io_opentimeline_opentime_OpenTimeOracle
+ * Method:    finishesTime
+ * Signature: (Lio/opentimeline/opentime/TimeRange;Lio/opentimeline/opentime/RationalTime;D)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentime_OpenTimeOracle_finishesTime
+        (JNIEnv *env, jclass thisClass, jobject trObj, jobject otherObj, jdouble epsilon) {
+    if (trObj == nullptr || otherObj == nullptr) {
+        throwNullPointerException(env, "");
+        return false;
+    }
+    auto tr = timeRangeFromJObject(env, trObj);
+    auto other = rationalTimeFromJObject(env, otherObj);
+    return tr.finishes(other, epsilon);
+}
+
+/*
+ * Class:     io_opentimeline_opentime_OpenTimeOracle
+ * Method:    finishesRange
+ * Signature: (Lio/opentimeline/opentime/TimeRange;Lio/opentimeline/opentime/TimeRange;D)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentime_OpenTimeOracle_finishesRange
+        (JNIEnv *env, jclass thisClass, jobject trObj, jobject otherObj, jdouble epsilon) {
+    if (trObj == nullptr || otherObj == nullptr) {
+        throwNullPointerException(env, "");
+        return false;
+    }
+    auto tr = timeRangeFromJObject(env, trObj);
+    auto other = timeRangeFromJObject(env, otherObj);
+    return tr.finishes(other, epsilon);
+}
+
+/*
+ * Class:     io_opentimeline_opentime_OpenTimeOracle
+ * Method:    intersects
+ * Signature: (Lio/opentimeline/opentime/TimeRange;Lio/opentimeline/opentime/TimeRange;D)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentime_OpenTimeOracle_intersects
+        (JNIEnv *env, jclass thisClass, jobject trObj, jobject otherObj, jdouble epsilon) {
+    if (trObj == nullptr || otherObj == nullptr) {
+        throwNullPointerException(env, "");
+        return false;
+    }
+    auto tr = timeRangeFromJObject(env, trObj);
+    auto other = timeRangeFromJObject(env, otherObj);
+    return tr.intersects(other, epsilon);
+}
+
+/*
+ * Class:     io_opentimeline_opentime_OpenTimeOracle
+ * Method:    rangeEquals
+ * Signature: (Lio/opentimeline/opentime/TimeRange;Lio/opentimeline/opentime/TimeRange;)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentime_OpenTimeOracle_rangeEquals
+        (JNIEnv *env, jclass thisClass, jobject trObj, jobject otherObj) {
+    if (trObj == nullptr || otherObj == nullptr) {
+        throwNullPointerException(env, "");
+        return false;
+    }
+    auto tr = timeRangeFromJObject(env, trObj);
+    auto other = timeRangeFromJObject(env, otherObj);
+    return tr == other;
+}
+
+/*
+ * Class:     io_opentimeline_opentime_OpenTimeOracle
+ * Method:    rangeNotEquals
+ * Signature: (Lio/opentimeline/opentime/TimeRange;Lio/opentimeline/opentime/TimeRange;)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentime_OpenTimeOracle_rangeNotEquals
+        (JNIEnv *env, jclass thisClass, jobject trObj, jobject otherObj) {
+    if (trObj == nullptr || otherObj == nullptr) {
+        throwNullPointerException(env, "");
+        return false;
+    }
+    auto tr = timeRangeFromJObject(env, trObj);
+    auto other = timeRangeFromJObject(env, otherObj);
+    return tr != other;
+}
+
+/*
+ * Class:     io_opentimeline_opentime_OpenTimeOracle
+ * Method:    rangeFromStartEndTime
+ * Signature: (Lio/opentimeline/opentime/RationalTime;Lio/opentimeline/opentime/RationalTime;)Lio/opentimeline/opentime/TimeRange;
+ */
+JNIEXPORT jobject JNICALL Java_io_opentimeline_opentime_OpenTimeOracle_rangeFromStartEndTime
+        (JNIEnv *env, jclass thisClass, jobject startTimeObj, jobject endTimeObj) {
+    if (startTimeObj == nullptr || endTimeObj == nullptr) {
+        throwNullPointerException(env, "");
+        return nullptr;
+    }
+    auto startTime = rationalTimeFromJObject(env, startTimeObj);
+    auto endTime = rationalTimeFromJObject(env, endTimeObj);
+    return timeRangeToJObject(env, opentime::TimeRange::range_from_start_end_time(startTime, endTime));
+}
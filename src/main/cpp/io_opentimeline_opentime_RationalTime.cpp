@@ -6,161 +6,34 @@
 #include <utilities.h>
 #include <opentime/rationalTime.h>
 
-using namespace opentimelineio::OPENTIMELINEIO_VERSION;
-
-/*
- * Class:     io_opentimeline_opentime_RationalTime
- * Method:    isInvalidTimeNative
- * Signature: (DD)Z
- */
-JNIEXPORT jboolean JNICALL
-Java_io_opentimeline_opentime_RationalTime_isInvalidTimeNative(
-        JNIEnv *env, jclass thisClass, jdouble value, jdouble rate) {
-    RationalTime rationalTime(value, rate);
-    return rationalTime.is_invalid_time();
-}
+#include <algorithm>
+#include <vector>
 
-/*
- * Class:     io_opentimeline_opentime_RationalTime
- * Method:    add
- * Signature: (Lio/opentimeline/opentime/RationalTime;)Lio/opentimeline/opentime/RationalTime;
- */
-JNIEXPORT jobject JNICALL Java_io_opentimeline_opentime_RationalTime_add
-        (JNIEnv *env, jobject thisObj, jobject otherObj) {
-    if (otherObj == nullptr) {
-        throwNullPointerException(env, "");
-        return nullptr;
-    }
-    auto thisRT = rationalTimeFromJObject(env, thisObj);
-    auto otherRT = rationalTimeFromJObject(env, otherObj);
-    auto result = thisRT + otherRT;
-    return rationalTimeToJObject(env, result);
-}
-
-/*
- * Class:     io_opentimeline_opentime_RationalTime
- * Method:    subtract
- * Signature: (Lio/opentimeline/opentime/RationalTime;)Lio/opentimeline/opentime/RationalTime;
- */
-JNIEXPORT jobject JNICALL Java_io_opentimeline_opentime_RationalTime_subtract
-        (JNIEnv *env, jobject thisObj, jobject otherObj) {
-    if (otherObj == nullptr) {
-        throwNullPointerException(env, "");
-        return nullptr;
-    }
-    auto thisRT = rationalTimeFromJObject(env, thisObj);
-    auto otherRT = rationalTimeFromJObject(env, otherObj);
-    auto result = thisRT - otherRT;
-    return rationalTimeToJObject(env, result);
-}
-
-/*
- * Class:     io_opentimeline_opentime_RationalTime
- * Method:    rescaledTo
- * Signature: (D)Lio/opentimeline/opentime/RationalTime;
- */
-JNIEXPORT jobject JNICALL Java_io_opentimeline_opentime_RationalTime_rescaledTo__D
-        (JNIEnv *env, jobject thisObj, jdouble newRate) {
-    auto rt = rationalTimeFromJObject(env, thisObj);
-    auto result = rt.rescaled_to(newRate);
-    return rationalTimeToJObject(env, result);
-}
-
-/*
- * Class:     io_opentimeline_opentime_RationalTime
- * Method:    rescaledTo
- * Signature: (Lio/opentimeline/opentime/RationalTime;)Lio/opentimeline/opentime/RationalTime;
- */
-JNIEXPORT jobject JNICALL
-Java_io_opentimeline_opentime_RationalTime_rescaledTo__Lio_opentimeline_opentime_RationalTime_2
-        (JNIEnv *env, jobject thisObj, jobject otherObj) {
-    if (otherObj == nullptr) {
-        throwNullPointerException(env, "");
-        return nullptr;
-    }
-    auto thisRT = rationalTimeFromJObject(env, thisObj);
-    auto otherRT = rationalTimeFromJObject(env, otherObj);
-    auto result = thisRT.rescaled_to(otherRT);
-    return rationalTimeToJObject(env, result);
-}
-
-/*
- * Class:     io_opentimeline_opentime_RationalTime
- * Method:    valueRescaledTo
- * Signature: (D)D
- */
-JNIEXPORT jdouble JNICALL Java_io_opentimeline_opentime_RationalTime_valueRescaledTo__D
-        (JNIEnv *env, jobject thisObj, jdouble newRate) {
-    auto thisRT = rationalTimeFromJObject(env, thisObj);
-    return thisRT.value_rescaled_to(newRate);
-}
-
-/*
- * Class:     io_opentimeline_opentime_RationalTime
- * Method:    valueRescaledTo
- * Signature: (Lio/opentimeline/opentime/RationalTime;)D
- */
-JNIEXPORT jdouble JNICALL
-Java_io_opentimeline_opentime_RationalTime_valueRescaledTo__Lio_opentimeline_opentime_RationalTime_2
-        (JNIEnv *env, jobject thisObj, jobject otherObj) {
-    if (otherObj == nullptr) {
-        throwNullPointerException(env, "");
-        return 0;
-    }
-    auto thisRT = rationalTimeFromJObject(env, thisObj);
-    auto otherRT = rationalTimeFromJObject(env, otherObj);
-    return thisRT.value_rescaled_to(otherRT);
-}
-
-/*
- * Class:     io_opentimeline_opentime_RationalTime
- * Method:    almostEqual
- * Signature: (Lio/opentimeline/opentime/RationalTime;)Z
- */
-JNIEXPORT jboolean JNICALL
-Java_io_opentimeline_opentime_RationalTime_almostEqual__Lio_opentimeline_opentime_RationalTime_2
-        (JNIEnv *env, jobject thisObj, jobject otherObj) {
-    if (otherObj == nullptr) {
-        throwNullPointerException(env, "");
-        return false;
-    }
-    auto thisRT = rationalTimeFromJObject(env, thisObj);
-    auto otherRT = rationalTimeFromJObject(env, otherObj);
-    return thisRT.almost_equal(otherRT);
-}
-
-/*
- * Class:     io_opentimeline_opentime_RationalTime
- * Method:    almostEqual
- * Signature: (Lio/opentimeline/opentime/RationalTime;D)Z
- */
-JNIEXPORT jboolean JNICALL
-Java_io_opentimeline_opentime_RationalTime_almostEqual__Lio_opentimeline_opentime_RationalTime_2D
-        (JNIEnv *env, jobject thisObj, jobject otherObj, jdouble delta) {
-    if (otherObj == nullptr) {
-        throwNullPointerException(env, "");
-        return false;
-    }
-    auto thisRT = rationalTimeFromJObject(env, thisObj);
-    auto otherRT = rationalTimeFromJObject(env, otherObj);
-    return thisRT.almost_equal(otherRT, delta);
-}
+using namespace opentimelineio::OPENTIMELINEIO_VERSION;
 
-/*
- * Class:     io_opentimeline_opentime_RationalTime
- * Method:    durationFromStartEndTime
- * Signature: (Lio/opentimeline/opentime/RationalTime;Lio/opentimeline/opentime/RationalTime;)Lio/opentimeline/opentime/RationalTime;
- */
-JNIEXPORT jobject JNICALL Java_io_opentimeline_opentime_RationalTime_durationFromStartEndTime
-        (JNIEnv *env, jclass thisClass, jobject startTimeObj, jobject endTimeObj) {
-    if (startTimeObj == nullptr || endTimeObj == nullptr) {
-        throwNullPointerException(env, "");
-        return nullptr;
+static const size_t timecodeLength = io_opentimeline_opentime_RationalTime_TIMECODE_LENGTH;
+
+/*
+ * Writes the timecode of every value to out, timecodeLength characters each.
+ * Stops at the first value opentime cannot convert and returns the number of timecodes written.
+ */
+template<typename CharT>
+static jint formatTimecodes(
+        JNIEnv *env, jdoubleArray valuesArray, jdouble rate, jint dropFrameIndex, CharT *out) {
+    jsize count = env->GetArrayLength(valuesArray);
+    std::vector<double> values(count);
+    env->GetDoubleArrayRegion(valuesArray, 0, count, values.data());
+    auto dropFrame = IsDropFrameRate(dropFrameIndex);
+    jint written = 0;
+    for (; written < count; written++) {
+        auto errorStatus = opentime::ErrorStatus();
+        std::string tc = RationalTime(values[written], rate).to_timecode(rate, dropFrame, &errorStatus);
+        if (errorStatus.outcome != opentime::ErrorStatus::Outcome::OK || tc.size() != timecodeLength) {
+            break;
+        }
+        std::copy(tc.begin(), tc.end(), out + written * timecodeLength);
     }
-    auto startTime = rationalTimeFromJObject(env, startTimeObj);
-    auto endTime = rationalTimeFromJObject(env, endTimeObj);
-    auto result = RationalTime::duration_from_start_end_time(startTime, endTime);
-    return rationalTimeToJObject(env, result);
+    return written;
 }
 
 /*
@@ -186,7 +59,9 @@ JNIEXPORT jobject JNICALL Java_io_opentimeline_opentime_RationalTime_fromTimecod
         return nullptr;
     }
     auto errorStatus = opentime::ErrorStatus();
-    std::string tc = env->GetStringUTFChars(timecode, 0);
+    const char *timecodeChars = env->GetStringUTFChars(timecode, nullptr);
+    std::string tc = timecodeChars;
+    env->ReleaseStringUTFChars(timecode, timecodeChars);
     auto result =
             RationalTime::from_timecode(tc, rate, &errorStatus);
     processOpenTimeErrorStatus(env, errorStatus);
@@ -205,7 +80,9 @@ JNIEXPORT jobject JNICALL Java_io_opentimeline_opentime_RationalTime_fromTimeStr
         return nullptr;
     }
     auto errorStatus = opentime::ErrorStatus();
-    std::string ts = env->GetStringUTFChars(timestring, 0);
+    const char *timestringChars = env->GetStringUTFChars(timestring, nullptr);
+    std::string ts = timestringChars;
+    env->ReleaseStringUTFChars(timestring, timestringChars);
     auto result =
             RationalTime::from_time_string(ts, rate, &errorStatus);
     processOpenTimeErrorStatus(env, errorStatus);
@@ -233,51 +110,98 @@ JNIEXPORT jstring JNICALL Java_io_opentimeline_opentime_RationalTime_toTimecodeN
 
 /*
  * Class:     io_opentimeline_opentime_RationalTime
- * Method:    toTimeString
- * Signature: ()Ljava/lang/String;
+ * Method:    toTimecodesNative
+ * Signature: ([DDI[CI)I
  */
-JNIEXPORT jstring JNICALL Java_io_opentimeline_opentime_RationalTime_toTimeString
-        (JNIEnv *env, jobject thisObj) {
-    auto rt = rationalTimeFromJObject(env, thisObj);
-    std::string ts = rt.to_time_string();
-    return env->NewStringUTF(ts.c_str());
+JNIEXPORT jint JNICALL Java_io_opentimeline_opentime_RationalTime_toTimecodesNative
+        (JNIEnv *env, jclass thisClass, jdoubleArray values, jdouble rate, jint dropFrameIndex,
+         jcharArray out, jint outOffset) {
+    std::vector<jchar> chars(env->GetArrayLength(values) * timecodeLength);
+    jint written = formatTimecodes(env, values, rate, dropFrameIndex, chars.data());
+    env->SetCharArrayRegion(out, outOffset, (jsize) (written * timecodeLength), chars.data());
+    return written;
 }
 
 /*
  * Class:     io_opentimeline_opentime_RationalTime
- * Method:    equals
- * Signature: (Lio/opentimeline/opentime/RationalTime;)Z
+ * Method:    toTimecodesBytesNative
+ * Signature: ([DDI[BI)I
  */
-JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentime_RationalTime_equals
-        (JNIEnv *env, jobject thisObj, jobject otherObj) {
-    if (otherObj == nullptr) {
-        throwNullPointerException(env, "");
-        return false;
+JNIEXPORT jint JNICALL Java_io_opentimeline_opentime_RationalTime_toTimecodesBytesNative
+        (JNIEnv *env, jclass thisClass, jdoubleArray values, jdouble rate, jint dropFrameIndex,
+         jbyteArray out, jint outOffset) {
+    std::vector<jbyte> bytes(env->GetArrayLength(values) * timecodeLength);
+    jint written = formatTimecodes(env, values, rate, dropFrameIndex, bytes.data());
+    env->SetByteArrayRegion(out, outOffset, (jsize) (written * timecodeLength), bytes.data());
+    return written;
+}
+
+/*
+ * Class:     io_opentimeline_opentime_RationalTime
+ * Method:    toTimecodesDirectNative
+ * Signature: ([DDILjava/nio/ByteBuffer;I)I
+ */
+JNIEXPORT jint JNICALL Java_io_opentimeline_opentime_RationalTime_toTimecodesDirectNative
+        (JNIEnv *env, jclass thisClass, jdoubleArray values, jdouble rate, jint dropFrameIndex,
+         jobject out, jint outPosition) {
+    auto address = static_cast<char *>(env->GetDirectBufferAddress(out));
+    if (address == nullptr) {
+        throwRuntimeException(env, "Cannot access the memory of the direct buffer");
+        return 0;
     }
-    auto thisRT = rationalTimeFromJObject(env, thisObj);
-    auto otherRT = rationalTimeFromJObject(env, otherObj);
-    return thisRT == otherRT;
+    return formatTimecodes(env, values, rate, dropFrameIndex, address + outPosition);
 }
 
 /*
  * Class:     io_opentimeline_opentime_RationalTime
- * Method:    compareTo
- * Signature: (Lio/opentimeline/opentime/RationalTime;)I
+ * Method:    fromTimecodesNative
+ * Signature: ([CI[IID[D)I
  */
-JNIEXPORT jint JNICALL Java_io_opentimeline_opentime_RationalTime_compareTo
-        (JNIEnv *env, jobject thisObj, jobject otherObj) {
-    if (otherObj == nullptr) {
-        throwNullPointerException(env, "");
-        return false;
+JNIEXPORT jint JNICALL Java_io_opentimeline_opentime_RationalTime_fromTimecodesNative
+        (JNIEnv *env, jclass thisClass, jcharArray charsArray, jint offset, jintArray endsArray,
+         jint count, jdouble rate, jdoubleArray out) {
+    std::vector<jint> ends;
+    size_t charCount = count * timecodeLength;
+    if (endsArray != nullptr) {
+        ends.resize(count);
+        env->GetIntArrayRegion(endsArray, 0, count, ends.data());
+        charCount = count > 0 ? ends[count - 1] : 0;
     }
-    auto thisRT = rationalTimeFromJObject(env, thisObj);
-    auto otherRT = rationalTimeFromJObject(env, otherObj);
-    if (thisRT < otherRT) { return -1; }
-    else if (thisRT > otherRT) {
-        return 1;
-    } else if (thisRT == otherRT) {
-        return 0;
+    std::vector<jchar> chars(charCount);
+    env->GetCharArrayRegion(charsArray, offset, (jsize) charCount, chars.data());
+
+    std::vector<double> values(count);
+    // one string reused for all the timecodes, so nothing is allocated per timecode
+    std::string tc;
+    jint converted = 0;
+    size_t start = 0;
+    for (; converted < count; converted++) {
+        size_t end = endsArray != nullptr ? ends[converted] : start + timecodeLength;
+        tc.clear();
+        for (size_t i = start; i < end; i++) {
+            // timecodes are ASCII, anything else cannot be a digit or a separator
+            tc.push_back(chars[i] < 0x80 ? static_cast<char>(chars[i]) : '?');
+        }
+        auto errorStatus = opentime::ErrorStatus();
+        auto result = RationalTime::from_timecode(tc, rate, &errorStatus);
+        if (errorStatus.outcome != opentime::ErrorStatus::Outcome::OK) {
+            break;
+        }
+        values[converted] = result.value();
+        start = end;
     }
-    // this should never be possible
-    return -99;
-}
\ No newline at end of file
+    env->SetDoubleArrayRegion(out, 0, converted, values.data());
+    return converted;
+}
+
+/*
+ * Class:     io_opentimeline_opentime_RationalTime
+ * Method:    toTimeString
+ * Signature: ()Ljava/lang/String;
+ */
+JNIEXPORT jstring JNICALL Java_io_opentimeline_opentime_RationalTime_toTimeString
+        (JNIEnv *env, jobject thisObj) {
+    auto rt = rationalTimeFromJObject(env, thisObj);
+    std::string ts = rt.to_time_string();
+    return env->NewStringUTF(ts.c_str());
+}
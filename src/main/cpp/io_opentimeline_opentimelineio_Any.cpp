@@ -3,6 +3,7 @@
 
 #include <handle.h>
 #include <io_opentimeline_opentimelineio_Any.h>
+#include <string_pool.h>
 #include <utilities.h>
 
 #include <opentime/rationalTime.h>
@@ -233,8 +234,7 @@ JNIEXPORT jstring JNICALL
 Java_io_opentimeline_opentimelineio_Any_safelyCastString(
         JNIEnv *env, jobject thisObj) {
     auto thisHandle = getHandle<any>(env, thisObj);
-    return env->NewStringUTF(
-            safely_cast_string_any(*thisHandle).c_str());
+    return pooledString(env, safely_cast_string_any(*thisHandle));
 }
 
 /*
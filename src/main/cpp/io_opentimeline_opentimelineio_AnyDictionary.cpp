@@ -1,16 +1,71 @@
 // SPDX-License-Identifier: Apache-2.0
 // Copyright Contributors to the OpenTimelineIO Project.
 
+#include <content_hash.h>
 #include <exceptions.h>
 #include <handle.h>
 #include <io_opentimeline_opentimelineio_AnyDictionary.h>
+#include <string_pool.h>
 #include <utilities.h>
 
 #include <opentimelineio/anyDictionary.h>
+#include <opentimelineio/safely_typed_any.h>
 #include <opentimelineio/version.h>
 
 using namespace opentimelineio::OPENTIMELINEIO_VERSION;
 
+namespace {
+
+    std::string stringFromJString(JNIEnv *env, jstring str) {
+        const char *chars = env->GetStringUTFChars(str, nullptr);
+        std::string result(chars);
+        env->ReleaseStringUTFChars(str, chars);
+        return result;
+    }
+
+    /* value of the key, nullptr if it is absent, nullptr with a pending exception for a null key */
+    const any *valueOf(JNIEnv *env, jobject thisObj, jstring keyStr) {
+        if (keyStr == nullptr) {
+            throwNullPointerException(env, "");
+            return nullptr;
+        }
+        auto thisHandle = getHandle<AnyDictionary>(env, thisObj);
+        auto found = thisHandle->find(stringFromJString(env, keyStr));
+        return found == thisHandle->end() ? nullptr : &found->second;
+    }
+
+    /* value of the key if it has type T, nullptr otherwise */
+    template<typename T>
+    const T *typedValueOf(JNIEnv *env, jobject thisObj, jstring keyStr) {
+        const any *value = valueOf(env, thisObj, keyStr);
+        if (value == nullptr || value->type() != typeid(T)) return nullptr;
+        return &any_cast<T const &>(*value);
+    }
+
+    template<typename T>
+    T numberOf(JNIEnv *env, jobject thisObj, jstring keyStr, T defaultValue) {
+        const any *value = valueOf(env, thisObj, keyStr);
+        T result;
+        if (value == nullptr || !numberFromAny(*value, result)) return defaultValue;
+        return result;
+    }
+
+    template<typename T>
+    void putValue(JNIEnv *env, jobject thisObj, jstring keyStr, T &&value) {
+            if (keyStr == nullptr) {
+            throwNullPointerException(env, "");
+            return;
+        }
+        auto thisHandle = getHandle<AnyDictionary>(env, thisObj);
+        std::string key = stringFromJString(env, keyStr);
+        poolString(env, key, keyStr);
+        auto found = thisHandle->find(key);
+        if (found != thisHandle->end())
+            contentReleased(found->second);
+        (*thisHandle)[key] = create_safely_typed_any(std::move(value));
+    }
+}
+
 /*
  * Class:     io_opentimeline_opentimelineio_AnyDictionary
  * Method:    initialize
@@ -85,9 +140,10 @@ Java_io_opentimeline_opentimelineio_AnyDictionary_put(
     }
     auto thisHandle = getHandle<AnyDictionary>(env, thisObj);
     auto valueAnyHandle = getHandle<any>(env, valueAnyObj);
+    std::string key = stringFromJString(env, keyStr);
+    poolString(env, key, keyStr);
     std::pair<AnyDictionary::iterator, bool> resultPair =
-            thisHandle->insert(std::pair<std::string, any>(
-                    env->GetStringUTFChars(keyStr, 0), *valueAnyHandle));
+            thisHandle->insert(std::pair<std::string, any>(key, *valueAnyHandle));
     if (resultPair.second) { return nullptr; }
     else {
         return anyFromNative(
@@ -129,6 +185,7 @@ JNIEXPORT void JNICALL
 Java_io_opentimeline_opentimelineio_AnyDictionary_clear(
         JNIEnv *env, jobject thisObj) {
     auto thisHandle = getHandle<AnyDictionary>(env, thisObj);
+    contentReleased(*thisHandle);
     thisHandle->clear();
 }
 
@@ -141,6 +198,183 @@ JNIEXPORT jint JNICALL
 Java_io_opentimeline_opentimelineio_AnyDictionary_remove(
         JNIEnv *env, jobject thisObj, jstring keyStr) {
     auto thisHandle = getHandle<AnyDictionary>(env, thisObj);
-    return (jint)thisHandle->erase(env->GetStringUTFChars(keyStr, 0));
+    auto found = thisHandle->find(env->GetStringUTFChars(keyStr, 0));
+    if (found == thisHandle->end())
+        return 0;
+    contentReleased(found->second);
+    thisHandle->erase(found);
+    return 1;
+}
+
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyDictionary
+ * Method:    getBoolean
+ * Signature: (Ljava/lang/String;Z)Z
+ */
+JNIEXPORT jboolean JNICALL
+Java_io_opentimeline_opentimelineio_AnyDictionary_getBoolean(
+        JNIEnv *env, jobject thisObj, jstring keyStr, jboolean defaultValue) {
+    auto value = typedValueOf<bool>(env, thisObj, keyStr);
+    return value == nullptr ? defaultValue : (jboolean) *value;
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyDictionary
+ * Method:    getInt
+ * Signature: (Ljava/lang/String;I)I
+ */
+JNIEXPORT jint JNICALL
+Java_io_opentimeline_opentimelineio_AnyDictionary_getInt(
+        JNIEnv *env, jobject thisObj, jstring keyStr, jint defaultValue) {
+    return numberOf(env, thisObj, keyStr, defaultValue);
 }
 
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyDictionary
+ * Method:    getLong
+ * Signature: (Ljava/lang/String;J)J
+ */
+JNIEXPORT jlong JNICALL
+Java_io_opentimeline_opentimelineio_AnyDictionary_getLong(
+        JNIEnv *env, jobject thisObj, jstring keyStr, jlong defaultValue) {
+    return numberOf(env, thisObj, keyStr, defaultValue);
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyDictionary
+ * Method:    getDouble
+ * Signature: (Ljava/lang/String;D)D
+ */
+JNIEXPORT jdouble JNICALL
+Java_io_opentimeline_opentimelineio_AnyDictionary_getDouble(
+        JNIEnv *env, jobject thisObj, jstring keyStr, jdouble defaultValue) {
+    return numberOf<double>(env, thisObj, keyStr, defaultValue);
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyDictionary
+ * Method:    getString
+ * Signature: (Ljava/lang/String;Ljava/lang/String;)Ljava/lang/String;
+ */
+JNIEXPORT jstring JNICALL
+Java_io_opentimeline_opentimelineio_AnyDictionary_getString(
+        JNIEnv *env, jobject thisObj, jstring keyStr, jstring defaultValue) {
+    auto value = typedValueOf<std::string>(env, thisObj, keyStr);
+    return value == nullptr ? defaultValue : pooledString(env, *value);
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyDictionary
+ * Method:    getRationalTime
+ * Signature: (Ljava/lang/String;Lio/opentimeline/opentime/RationalTime;)Lio/opentimeline/opentime/RationalTime;
+ */
+JNIEXPORT jobject JNICALL
+Java_io_opentimeline_opentimelineio_AnyDictionary_getRationalTime(
+        JNIEnv *env, jobject thisObj, jstring keyStr, jobject defaultValue) {
+    auto value = typedValueOf<RationalTime>(env, thisObj, keyStr);
+    return value == nullptr ? defaultValue : rationalTimeToJObject(env, *value);
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyDictionary
+ * Method:    getTimeRange
+ * Signature: (Ljava/lang/String;Lio/opentimeline/opentime/TimeRange;)Lio/opentimeline/opentime/TimeRange;
+ */
+JNIEXPORT jobject JNICALL
+Java_io_opentimeline_opentimelineio_AnyDictionary_getTimeRange(
+        JNIEnv *env, jobject thisObj, jstring keyStr, jobject defaultValue) {
+    auto value = typedValueOf<TimeRange>(env, thisObj, keyStr);
+    return value == nullptr ? defaultValue : timeRangeToJObject(env, *value);
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyDictionary
+ * Method:    putBoolean
+ * Signature: (Ljava/lang/String;Z)V
+ */
+JNIEXPORT void JNICALL
+Java_io_opentimeline_opentimelineio_AnyDictionary_putBoolean(
+        JNIEnv *env, jobject thisObj, jstring keyStr, jboolean value) {
+    putValue(env, thisObj, keyStr, (bool) value);
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyDictionary
+ * Method:    putInt
+ * Signature: (Ljava/lang/String;I)V
+ */
+JNIEXPORT void JNICALL
+Java_io_opentimeline_opentimelineio_AnyDictionary_putInt(
+        JNIEnv *env, jobject thisObj, jstring keyStr, jint value) {
+    putValue(env, thisObj, keyStr, (int) value);
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyDictionary
+ * Method:    putLong
+ * Signature: (Ljava/lang/String;J)V
+ */
+JNIEXPORT void JNICALL
+Java_io_opentimeline_opentimelineio_AnyDictionary_putLong(
+        JNIEnv *env, jobject thisObj, jstring keyStr, jlong value) {
+    putValue(env, thisObj, keyStr, (int64_t) value);
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyDictionary
+ * Method:    putDouble
+ * Signature: (Ljava/lang/String;D)V
+ */
+JNIEXPORT void JNICALL
+Java_io_opentimeline_opentimelineio_AnyDictionary_putDouble(
+        JNIEnv *env, jobject thisObj, jstring keyStr, jdouble value) {
+    putValue(env, thisObj, keyStr, (double) value);
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyDictionary
+ * Method:    putString
+ * Signature: (Ljava/lang/String;Ljava/lang/String;)V
+ */
+JNIEXPORT void JNICALL
+Java_io_opentimeline_opentimelineio_AnyDictionary_putString(
+        JNIEnv *env, jobject thisObj, jstring keyStr, jstring value) {
+    if (value == nullptr) {
+        throwNullPointerException(env, "");
+        return;
+    }
+    std::string str = stringFromJString(env, value);
+    poolString(env, str, value);
+    putValue(env, thisObj, keyStr, std::move(str));
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyDictionary
+ * Method:    putRationalTime
+ * Signature: (Ljava/lang/String;Lio/opentimeline/opentime/RationalTime;)V
+ */
+JNIEXPORT void JNICALL
+Java_io_opentimeline_opentimelineio_AnyDictionary_putRationalTime(
+        JNIEnv *env, jobject thisObj, jstring keyStr, jobject value) {
+    if (value == nullptr) {
+        throwNullPointerException(env, "");
+        return;
+    }
+    putValue(env, thisObj, keyStr, rationalTimeFromJObject(env, value));
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyDictionary
+ * Method:    putTimeRange
+ * Signature: (Ljava/lang/String;Lio/opentimeline/opentime/TimeRange;)V
+ */
+JNIEXPORT void JNICALL
+Java_io_opentimeline_opentimelineio_AnyDictionary_putTimeRange(
+        JNIEnv *env, jobject thisObj, jstring keyStr, jobject value) {
+    if (value == nullptr) {
+        throwNullPointerException(env, "");
+        return;
+    }
+    putValue(env, thisObj, keyStr, timeRangeFromJObject(env, value));
+}
@@ -3,6 +3,7 @@
 
 #include <handle.h>
 #include <io_opentimeline_opentimelineio_AnyDictionary_Iterator.h>
+#include <string_pool.h>
 #include <utilities.h>
 
 #include <opentimelineio/anyDictionary.h>
@@ -100,7 +101,7 @@ JNIEXPORT jstring JNICALL
 Java_io_opentimeline_opentimelineio_AnyDictionary_00024Iterator_getKey(
         JNIEnv *env, jobject thisObj) {
     auto thisHandle = getHandle<AnyDictionary::iterator>(env, thisObj);
-    return env->NewStringUTF((*thisHandle)->first.c_str());
+    return pooledString(env, (*thisHandle)->first);
 }
 
 /*
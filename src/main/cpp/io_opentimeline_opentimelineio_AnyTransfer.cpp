@@ -0,0 +1,345 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+#include <exceptions.h>
+#include <handle.h>
+#include <io_opentimeline_opentimelineio_AnyTransfer.h>
+#include <utilities.h>
+
+#include <opentimelineio/anyDictionary.h>
+#include <opentimelineio/anyVector.h>
+#include <opentimelineio/safely_typed_any.h>
+#include <opentimelineio/version.h>
+
+#include <cstring>
+#include <vector>
+
+using namespace opentimelineio::OPENTIMELINEIO_VERSION;
+
+namespace {
+
+    const unsigned char tagNull = io_opentimeline_opentimelineio_AnyTransfer_NULL;
+    const unsigned char tagFalse = io_opentimeline_opentimelineio_AnyTransfer_FALSE;
+    const unsigned char tagTrue = io_opentimeline_opentimelineio_AnyTransfer_TRUE;
+    const unsigned char tagInt = io_opentimeline_opentimelineio_AnyTransfer_INT;
+    const unsigned char tagInt64 = io_opentimeline_opentimelineio_AnyTransfer_INT64;
+    const unsigned char tagDouble = io_opentimeline_opentimelineio_AnyTransfer_DOUBLE;
+    const unsigned char tagString = io_opentimeline_opentimelineio_AnyTransfer_STRING;
+    const unsigned char tagRationalTime = io_opentimeline_opentimelineio_AnyTransfer_RATIONAL_TIME;
+    const unsigned char tagTimeRange = io_opentimeline_opentimelineio_AnyTransfer_TIME_RANGE;
+    const unsigned char tagTimeTransform = io_opentimeline_opentimelineio_AnyTransfer_TIME_TRANSFORM;
+    const unsigned char tagDictionary = io_opentimeline_opentimelineio_AnyTransfer_DICTIONARY;
+    const unsigned char tagVector = io_opentimeline_opentimelineio_AnyTransfer_VECTOR;
+    const unsigned char tagObject = io_opentimeline_opentimelineio_AnyTransfer_OBJECT;
+    const unsigned char tagAny = io_opentimeline_opentimelineio_AnyTransfer_ANY;
+
+    /* writes the little endian layout documented in AnyTransfer.java */
+    class Encoder {
+    public:
+        std::vector<unsigned char> bytes;
+        std::vector<SerializableObject *> objects;
+
+        void dictionary(AnyDictionary const &value) {
+            bytes.push_back(tagDictionary);
+            writeUInt((std::uint64_t) value.size(), 4);
+            for (auto &entry: value) {
+                writeString(entry.first);
+                encode(entry.second);
+            }
+        }
+
+    private:
+        void writeUInt(std::uint64_t value, int length) {
+            for (int i = 0; i < length; i++)
+                bytes.push_back((unsigned char) (value >> (8 * i)));
+        }
+
+        void writeDouble(double value) {
+            std::uint64_t bits;
+            std::memcpy(&bits, &value, sizeof(bits));
+            writeUInt(bits, 8);
+        }
+
+        void writeString(std::string const &value) {
+            writeUInt((std::uint64_t) value.size(), 4);
+            bytes.insert(bytes.end(), value.begin(), value.end());
+        }
+
+        void writeRationalTime(RationalTime const &value) {
+            writeDouble(value.value());
+            writeDouble(value.rate());
+        }
+
+        void encode(any const &value) {
+            auto &type = value.type();
+            if (type == typeid(bool)) {
+                bytes.push_back(any_cast<bool>(value) ? tagTrue : tagFalse);
+            } else if (type == typeid(int)) {
+                bytes.push_back(tagInt);
+                writeUInt((std::uint32_t) any_cast<int>(value), 4);
+            } else if (type == typeid(int64_t)) {
+                bytes.push_back(tagInt64);
+                writeUInt((std::uint64_t) any_cast<int64_t>(value), 8);
+            } else if (type == typeid(double)) {
+                bytes.push_back(tagDouble);
+                writeDouble(any_cast<double>(value));
+            } else if (type == typeid(std::string)) {
+                bytes.push_back(tagString);
+                writeString(any_cast<std::string const &>(value));
+            } else if (type == typeid(RationalTime)) {
+                bytes.push_back(tagRationalTime);
+                writeRationalTime(any_cast<RationalTime>(value));
+            } else if (type == typeid(TimeRange)) {
+                auto timeRange = any_cast<TimeRange>(value);
+                bytes.push_back(tagTimeRange);
+                writeRationalTime(timeRange.start_time());
+                writeRationalTime(timeRange.duration());
+            } else if (type == typeid(TimeTransform)) {
+                auto timeTransform = any_cast<TimeTransform>(value);
+                bytes.push_back(tagTimeTransform);
+                writeRationalTime(timeTransform.offset());
+                writeDouble(timeTransform.scale());
+                writeDouble(timeTransform.rate());
+            } else if (type == typeid(AnyDictionary)) {
+                dictionary(any_cast<AnyDictionary const &>(value));
+            } else if (type == typeid(AnyVector)) {
+                auto &vector = any_cast<AnyVector const &>(value);
+                bytes.push_back(tagVector);
+                writeUInt((std::uint64_t) vector.size(), 4);
+                for (auto &element: vector)
+                    encode(element);
+            } else if (type == typeid(SerializableObject::Retainer<>)) {
+                auto object = any_cast<SerializableObject::Retainer<> const &>(value).value;
+                if (object == nullptr) {
+                    bytes.push_back(tagNull);
+                    return;
+                }
+                bytes.push_back(tagObject);
+                writeUInt((std::uint64_t) objects.size(), 4);
+                objects.push_back(object);
+            } else {
+                // nothing else is representable in Java, like Any.getAnyType()
+                bytes.push_back(tagNull);
+            }
+        }
+    };
+
+    /* reads the layout written by AnyTransfer.java */
+    class Decoder {
+    public:
+        Decoder(JNIEnv *env, const unsigned char *data, size_t length, jobjectArray references)
+                : _env(env), _p(data), _end(data + length), _references(references) {}
+
+        bool dictionary(AnyDictionary &result) {
+            std::uint64_t count;
+            if (!readUInt(count, 4)) return false;
+            for (std::uint64_t i = 0; i < count; i++) {
+                std::string key;
+                any value;
+                if (!readString(key) || !decode(value)) return false;
+                result[key] = value;
+            }
+            return true;
+        }
+
+        bool expect(unsigned char tag) {
+            return _p < _end && *_p++ == tag;
+        }
+
+    private:
+        JNIEnv *_env;
+        const unsigned char *_p;
+        const unsigned char *_end;
+        jobjectArray _references;
+
+        bool readUInt(std::uint64_t &result, int length) {
+            if (_end - _p < length) return false;
+            result = 0;
+            for (int i = 0; i < length; i++) result |= (std::uint64_t) _p[i] << (8 * i);
+            _p += length;
+            return true;
+        }
+
+        bool readDouble(double &result) {
+            std::uint64_t bits;
+            if (!readUInt(bits, 8)) return false;
+            std::memcpy(&result, &bits, sizeof(result));
+            return true;
+        }
+
+        bool readString(std::string &result) {
+            std::uint64_t length;
+            if (!readUInt(length, 4) || (std::uint64_t) (_end - _p) < length) return false;
+            result.assign(reinterpret_cast<const char *>(_p), (size_t) length);
+            _p += length;
+            return true;
+        }
+
+        bool readRationalTime(RationalTime &result) {
+            double value, rate;
+            if (!readDouble(value) || !readDouble(rate)) return false;
+            result = RationalTime(value, rate);
+            return true;
+        }
+
+        jobject reference() {
+            std::uint64_t index;
+            if (!readUInt(index, 4) || (jsize) index >= _env->GetArrayLength(_references)) return nullptr;
+            return _env->GetObjectArrayElement(_references, (jsize) index);
+        }
+
+        bool decode(any &result) {
+            if (_p >= _end) return false;
+            unsigned char tag = *_p++;
+            switch (tag) {
+                case tagNull:
+                    result = any();
+                    return true;
+                case tagFalse:
+                case tagTrue:
+                    result = create_safely_typed_any(tag == tagTrue);
+                    return true;
+                case tagInt: {
+                    std::uint64_t value;
+                    if (!readUInt(value, 4)) return false;
+                    result = create_safely_typed_any((int) (std::int32_t) (std::uint32_t) value);
+                    return true;
+                }
+                case tagInt64: {
+                    std::uint64_t value;
+                    if (!readUInt(value, 8)) return false;
+                    result = create_safely_typed_any((int64_t) value);
+                    return true;
+                }
+                case tagDouble: {
+                    double value;
+                    if (!readDouble(value)) return false;
+                    result = create_safely_typed_any(std::move(value));
+                    return true;
+                }
+                case tagString: {
+                    std::string value;
+                    if (!readString(value)) return false;
+                    result = create_safely_typed_any(std::move(value));
+                    return true;
+                }
+                case tagRationalTime: {
+                    RationalTime value;
+                    if (!readRationalTime(value)) return false;
+                    result = create_safely_typed_any(std::move(value));
+                    return true;
+                }
+                case tagTimeRange: {
+                    RationalTime startTime, duration;
+                    if (!readRationalTime(startTime) || !readRationalTime(duration)) return false;
+                    result = create_safely_typed_any(TimeRange(startTime, duration));
+                    return true;
+                }
+                case tagTimeTransform: {
+                    RationalTime offset;
+                    double scale, rate;
+                    if (!readRationalTime(offset) || !readDouble(scale) || !readDouble(rate)) return false;
+                    result = create_safely_typed_any(TimeTransform(offset, scale, rate));
+                    return true;
+                }
+                case tagDictionary: {
+                    AnyDictionary value;
+                    if (!dictionary(value)) return false;
+                    result = create_safely_typed_any(std::move(value));
+                    return true;
+                }
+                case tagVector: {
+                    std::uint64_t count;
+                    if (!readUInt(count, 4)) return false;
+                    AnyVector value;
+                    for (std::uint64_t i = 0; i < count; i++) {
+                        any element;
+                        if (!decode(element)) return false;
+                        value.push_back(element);
+                    }
+                    result = create_safely_typed_any(std::move(value));
+                    return true;
+                }
+                case tagObject: {
+                    jobject object = reference();
+                    if (object == nullptr) return false;
+                    auto objectHandle =
+                            getHandle<SerializableObject::Retainer<SerializableObject>>(_env, object);
+                    result = create_safely_typed_any(objectHandle->value);
+                    _env->DeleteLocalRef(object);
+                    return true;
+                }
+                case tagAny: {
+                    jobject object = reference();
+                    if (object == nullptr) return false;
+                    result = *getHandle<any>(_env, object);
+                    _env->DeleteLocalRef(object);
+                    return true;
+                }
+                default:
+                    return false;
+            }
+        }
+    };
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyTransfer
+ * Method:    encodeDictionary
+ * Signature: (Lio/opentimeline/opentimelineio/AnyDictionary;)[Ljava/lang/Object;
+ */
+JNIEXPORT jobjectArray JNICALL Java_io_opentimeline_opentimelineio_AnyTransfer_encodeDictionary(
+        JNIEnv *env, jclass thisClass, jobject dictionaryObj) {
+    if (dictionaryObj == nullptr) {
+        throwNullPointerException(env, "");
+        return nullptr;
+    }
+    auto dictionaryHandle = getHandle<AnyDictionary>(env, dictionaryObj);
+    Encoder encoder;
+    encoder.dictionary(*dictionaryHandle);
+
+    jclass objectClass = env->FindClass("java/lang/Object");
+    if (objectClass == nullptr) return nullptr;
+    jbyteArray bytes = env->NewByteArray((jsize) encoder.bytes.size());
+    if (bytes == nullptr) return nullptr;
+    env->SetByteArrayRegion(bytes, 0, (jsize) encoder.bytes.size(),
+                            reinterpret_cast<const jbyte *>(encoder.bytes.data()));
+    jobjectArray objects = env->NewObjectArray((jsize) encoder.objects.size(), objectClass, nullptr);
+    if (objects == nullptr) return nullptr;
+    for (size_t i = 0; i < encoder.objects.size(); i++) {
+        jobject object = serializableObjectFromNative(env, encoder.objects[i]);
+        env->SetObjectArrayElement(objects, (jsize) i, object);
+        env->DeleteLocalRef(object);
+    }
+    jobjectArray result = env->NewObjectArray(2, objectClass, nullptr);
+    if (result == nullptr) return nullptr;
+    env->SetObjectArrayElement(result, 0, bytes);
+    env->SetObjectArrayElement(result, 1, objects);
+    return result;
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyTransfer
+ * Method:    putAllEncoded
+ * Signature: (Lio/opentimeline/opentimelineio/AnyDictionary;[B[Ljava/lang/Object;)V
+ */
+JNIEXPORT void JNICALL Java_io_opentimeline_opentimelineio_AnyTransfer_putAllEncoded(
+        JNIEnv *env, jclass thisClass, jobject dictionaryObj, jbyteArray encoded, jobjectArray references) {
+    if (dictionaryObj == nullptr || encoded == nullptr || references == nullptr) {
+        throwNullPointerException(env, "");
+        return;
+    }
+    auto dictionaryHandle = getHandle<AnyDictionary>(env, dictionaryObj);
+    std::vector<unsigned char> bytes((size_t) env->GetArrayLength(encoded));
+    env->GetByteArrayRegion(encoded, 0, (jsize) bytes.size(), reinterpret_cast<jbyte *>(bytes.data()));
+
+    // decode everything before touching the dictionary, a malformed buffer leaves it unchanged
+    Decoder decoder(env, bytes.data(), bytes.size(), references);
+    AnyDictionary values;
+    if (!decoder.expect(tagDictionary) || !decoder.dictionary(values)) {
+        throwRuntimeException(env, "malformed encoded AnyDictionary");
+        return;
+    }
+    for (auto &entry: values)
+        (*dictionaryHandle)[entry.first] = entry.second;
+}
@@ -1,14 +1,20 @@
 // SPDX-License-Identifier: Apache-2.0
 // Copyright Contributors to the OpenTimelineIO Project.
 
+#include <content_hash.h>
 #include <exceptions.h>
 #include <handle.h>
 #include <io_opentimeline_opentimelineio_AnyVector.h>
+#include <string_pool.h>
 #include <utilities.h>
 
 #include <opentimelineio/anyVector.h>
+#include <opentimelineio/safely_typed_any.h>
 #include <opentimelineio/version.h>
 
+#include <algorithm>
+#include <vector>
+
 using namespace opentimelineio::OPENTIMELINEIO_VERSION;
 
 /*
@@ -31,8 +37,7 @@ Java_io_opentimeline_opentimelineio_AnyVector_initialize(
 JNIEXPORT jobjectArray JNICALL Java_io_opentimeline_opentimelineio_AnyVector_getArray
         (JNIEnv *env, jobject thisObj) {
     auto thisHandle = getHandle<AnyVector>(env, thisObj);
-    jclass anyClass = env->FindClass(
-            "io/opentimeline/opentimelineio/Any");
+    jclass anyClass = getJNICache(env).any.cls;
     jobjectArray result =
             env->NewObjectArray((jsize)thisHandle->size(), anyClass, nullptr);
     for (int i = 0; i < thisHandle->size(); i++) {
@@ -104,6 +109,7 @@ JNIEXPORT void JNICALL
 Java_io_opentimeline_opentimelineio_AnyVector_clear(
         JNIEnv *env, jobject thisObj) {
     auto thisHandle = getHandle<AnyVector>(env, thisObj);
+    contentReleased(*thisHandle);
     thisHandle->clear();
 }
 
@@ -141,6 +147,7 @@ Java_io_opentimeline_opentimelineio_AnyVector_remove(
     auto thisHandle = getHandle<AnyVector>(env, thisObj);
     if (index >= thisHandle->size()) { throwIndexOutOfBoundsException(env, ""); }
     else {
+        contentReleased(thisHandle->at(index));
         thisHandle->erase(thisHandle->begin() + index);
     }
 }
@@ -156,3 +163,264 @@ Java_io_opentimeline_opentimelineio_AnyVector_trimToSize(
     auto thisHandle = getHandle<AnyVector>(env, thisObj);
     thisHandle->shrink_to_fit();
 }
+
+namespace {
+
+    /* element at index, nullptr with a pending exception if the index is out of range */
+    any *elementAt(JNIEnv *env, jobject thisObj, jint index) {
+        auto thisHandle = getHandle<AnyVector>(env, thisObj);
+        if (index < 0 || (size_t) index >= thisHandle->size()) {
+            throwIndexOutOfBoundsException(env, "");
+            return nullptr;
+        }
+        return &thisHandle->at(index);
+    }
+
+    /* element of type T at index, nullptr with a pending exception otherwise */
+    template<typename T>
+    const T *typedElementAt(JNIEnv *env, jobject thisObj, jint index) {
+        any *element = elementAt(env, thisObj, index);
+        if (element == nullptr) return nullptr;
+        if (element->type() != typeid(T)) {
+            throwClassCastException(env, getAnyType(element->type()).c_str());
+            return nullptr;
+        }
+        return &any_cast<T const &>(*element);
+    }
+
+    template<typename T>
+    T numberAt(JNIEnv *env, jobject thisObj, jint index) {
+        T result = 0;
+        any *element = elementAt(env, thisObj, index);
+        if (element != nullptr && !numberFromAny(*element, result))
+            throwClassCastException(env, getAnyType(element->type()).c_str());
+        return result;
+    }
+
+    /* converts the whole range before writing it, a mismatch leaves dst unchanged */
+    template<typename T>
+    jint copyNumbers(JNIEnv *env, AnyVector &vector, jint from, jsize capacity, std::vector<T> &numbers) {
+        if (from < 0 || (size_t) from > vector.size()) {
+            throwIndexOutOfBoundsException(env, "");
+            return -1;
+        }
+        size_t count = std::min((size_t) capacity, vector.size() - from);
+        numbers.resize(count);
+        for (size_t i = 0; i < count; i++) {
+            if (!numberFromAny(vector[from + i], numbers[i])) {
+                throwClassCastException(env, getAnyType(vector[from + i].type()).c_str());
+                return -1;
+            }
+        }
+        return (jint) count;
+    }
+
+    template<typename T>
+    void replaceNumbers(AnyVector &vector, const T *numbers, jsize length) {
+        contentReleased(vector);
+        vector.clear();
+        vector.reserve(length);
+        for (jsize i = 0; i < length; i++) {
+            T number = numbers[i];
+            vector.push_back(create_safely_typed_any(std::move(number)));
+        }
+    }
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyVector
+ * Method:    getDoubles
+ * Signature: ([DI)I
+ */
+JNIEXPORT jint JNICALL
+Java_io_opentimeline_opentimelineio_AnyVector_getDoubles(
+        JNIEnv *env, jobject thisObj, jdoubleArray dst, jint from) {
+    if (dst == nullptr) {
+        throwNullPointerException(env, "");
+        return 0;
+    }
+    auto thisHandle = getHandle<AnyVector>(env, thisObj);
+    std::vector<double> numbers;
+    jint count = copyNumbers(env, *thisHandle, from, env->GetArrayLength(dst), numbers);
+    if (count < 0) return 0;
+    env->SetDoubleArrayRegion(dst, 0, count, numbers.data());
+    return count;
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyVector
+ * Method:    getInts
+ * Signature: ([II)I
+ */
+JNIEXPORT jint JNICALL
+Java_io_opentimeline_opentimelineio_AnyVector_getInts(
+        JNIEnv *env, jobject thisObj, jintArray dst, jint from) {
+    if (dst == nullptr) {
+        throwNullPointerException(env, "");
+        return 0;
+    }
+    auto thisHandle = getHandle<AnyVector>(env, thisObj);
+    std::vector<jint> numbers;
+    jint count = copyNumbers(env, *thisHandle, from, env->GetArrayLength(dst), numbers);
+    if (count < 0) return 0;
+    env->SetIntArrayRegion(dst, 0, count, numbers.data());
+    return count;
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyVector
+ * Method:    getLongs
+ * Signature: ([JI)I
+ */
+JNIEXPORT jint JNICALL
+Java_io_opentimeline_opentimelineio_AnyVector_getLongs(
+        JNIEnv *env, jobject thisObj, jlongArray dst, jint from) {
+    if (dst == nullptr) {
+        throwNullPointerException(env, "");
+        return 0;
+    }
+    auto thisHandle = getHandle<AnyVector>(env, thisObj);
+    std::vector<jlong> numbers;
+    jint count = copyNumbers(env, *thisHandle, from, env->GetArrayLength(dst), numbers);
+    if (count < 0) return 0;
+    env->SetLongArrayRegion(dst, 0, count, numbers.data());
+    return count;
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyVector
+ * Method:    setDoubles
+ * Signature: ([D)V
+ */
+JNIEXPORT void JNICALL
+Java_io_opentimeline_opentimelineio_AnyVector_setDoubles(
+        JNIEnv *env, jobject thisObj, jdoubleArray src) {
+    if (src == nullptr) {
+        throwNullPointerException(env, "");
+        return;
+    }
+    auto thisHandle = getHandle<AnyVector>(env, thisObj);
+    jsize length = env->GetArrayLength(src);
+    std::vector<double> numbers((size_t) length);
+    env->GetDoubleArrayRegion(src, 0, length, numbers.data());
+    replaceNumbers(*thisHandle, numbers.data(), length);
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyVector
+ * Method:    setInts
+ * Signature: ([I)V
+ */
+JNIEXPORT void JNICALL
+Java_io_opentimeline_opentimelineio_AnyVector_setInts(
+        JNIEnv *env, jobject thisObj, jintArray src) {
+    if (src == nullptr) {
+        throwNullPointerException(env, "");
+        return;
+    }
+    auto thisHandle = getHandle<AnyVector>(env, thisObj);
+    jsize length = env->GetArrayLength(src);
+    std::vector<int> numbers((size_t) length);
+    env->GetIntArrayRegion(src, 0, length, reinterpret_cast<jint *>(numbers.data()));
+    replaceNumbers(*thisHandle, numbers.data(), length);
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyVector
+ * Method:    setLongs
+ * Signature: ([J)V
+ */
+JNIEXPORT void JNICALL
+Java_io_opentimeline_opentimelineio_AnyVector_setLongs(
+        JNIEnv *env, jobject thisObj, jlongArray src) {
+    if (src == nullptr) {
+        throwNullPointerException(env, "");
+        return;
+    }
+    auto thisHandle = getHandle<AnyVector>(env, thisObj);
+    jsize length = env->GetArrayLength(src);
+    std::vector<int64_t> numbers((size_t) length);
+    env->GetLongArrayRegion(src, 0, length, reinterpret_cast<jlong *>(numbers.data()));
+    replaceNumbers(*thisHandle, numbers.data(), length);
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyVector
+ * Method:    getBoolean
+ * Signature: (I)Z
+ */
+JNIEXPORT jboolean JNICALL
+Java_io_opentimeline_opentimelineio_AnyVector_getBoolean(
+        JNIEnv *env, jobject thisObj, jint index) {
+    auto value = typedElementAt<bool>(env, thisObj, index);
+    return value != nullptr && *value;
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyVector
+ * Method:    getInt
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL
+Java_io_opentimeline_opentimelineio_AnyVector_getInt(
+        JNIEnv *env, jobject thisObj, jint index) {
+    return numberAt<jint>(env, thisObj, index);
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyVector
+ * Method:    getLong
+ * Signature: (I)J
+ */
+JNIEXPORT jlong JNICALL
+Java_io_opentimeline_opentimelineio_AnyVector_getLong(
+        JNIEnv *env, jobject thisObj, jint index) {
+    return numberAt<jlong>(env, thisObj, index);
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyVector
+ * Method:    getDouble
+ * Signature: (I)D
+ */
+JNIEXPORT jdouble JNICALL
+Java_io_opentimeline_opentimelineio_AnyVector_getDouble(
+        JNIEnv *env, jobject thisObj, jint index) {
+    return numberAt<double>(env, thisObj, index);
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyVector
+ * Method:    getString
+ * Signature: (I)Ljava/lang/String;
+ */
+JNIEXPORT jstring JNICALL
+Java_io_opentimeline_opentimelineio_AnyVector_getString(
+        JNIEnv *env, jobject thisObj, jint index) {
+    auto value = typedElementAt<std::string>(env, thisObj, index);
+    return value == nullptr ? nullptr : pooledString(env, *value);
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyVector
+ * Method:    getRationalTime
+ * Signature: (I)Lio/opentimeline/opentime/RationalTime;
+ */
+JNIEXPORT jobject JNICALL
+Java_io_opentimeline_opentimelineio_AnyVector_getRationalTime(
+        JNIEnv *env, jobject thisObj, jint index) {
+    auto value = typedElementAt<RationalTime>(env, thisObj, index);
+    return value == nullptr ? nullptr : rationalTimeToJObject(env, *value);
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyVector
+ * Method:    getTimeRange
+ * Signature: (I)Lio/opentimeline/opentime/TimeRange;
+ */
+JNIEXPORT jobject JNICALL
+Java_io_opentimeline_opentimelineio_AnyVector_getTimeRange(
+        JNIEnv *env, jobject thisObj, jint index) {
+    auto value = typedElementAt<TimeRange>(env, thisObj, index);
+    return value == nullptr ? nullptr : timeRangeToJObject(env, *value);
+}
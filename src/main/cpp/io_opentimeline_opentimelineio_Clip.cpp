@@ -1,6 +1,7 @@
 // SPDX-License-Identifier: Apache-2.0
 // Copyright Contributors to the OpenTimelineIO Project.
 
+#include <content_hash.h>
 #include <exceptions.h>
 #include <handle.h>
 #include <io_opentimeline_opentimelineio_Clip.h>
@@ -46,15 +47,17 @@ Java_io_opentimeline_opentimelineio_Clip_initialize(
 
 /*
  * Class:     io_opentimeline_opentimelineio_Clip
- * Method:    setMediaReference
+ * Method:    setMediaReferenceNative
  * Signature: (Lio/opentimeline/opentimelineio/MediaReference;)V
  */
 JNIEXPORT void JNICALL
-Java_io_opentimeline_opentimelineio_Clip_setMediaReference(
+Java_io_opentimeline_opentimelineio_Clip_setMediaReferenceNative(
         JNIEnv *env, jobject thisObj, jobject mediaReferenceObj) {
     auto thisHandle =
             getHandle<SerializableObject::Retainer<Clip>>(env, thisObj);
     auto clip = thisHandle->value;
+    contentChanged(clip);
+    contentReleased(clip->media_reference());
     MediaReference *mediaReference = nullptr;
     if (mediaReferenceObj != nullptr) {
         auto mediaReferenceHandle =
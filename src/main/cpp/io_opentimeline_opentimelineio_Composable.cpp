@@ -75,6 +75,22 @@ Java_io_opentimeline_opentimelineio_Composable_parent(
     return compositionFromNative(env, result);
 }
 
+/*
+ * Class:     io_opentimeline_opentimelineio_Composable
+ * Method:    rootNativeHandle
+ * Signature: ()J
+ */
+JNIEXPORT jlong JNICALL
+Java_io_opentimeline_opentimelineio_Composable_rootNativeHandle(
+        JNIEnv *env, jobject thisObj) {
+    auto thisHandle =
+            getHandle<SerializableObject::Retainer<Composable>>(env, thisObj);
+    Composable *root = thisHandle->value;
+    while (root->parent() != nullptr)
+        root = root->parent();
+    return reinterpret_cast<jlong>(root);
+}
+
 /*
  * Class:     io_opentimeline_opentimelineio_Composable
  * Method:    getDuration
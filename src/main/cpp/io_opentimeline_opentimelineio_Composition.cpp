@@ -1,15 +1,91 @@
 // SPDX-License-Identifier: Apache-2.0
 // Copyright Contributors to the OpenTimelineIO Project.
 
+#include <content_hash.h>
 #include <exceptions.h>
 #include <handle.h>
 #include <io_opentimeline_opentimelineio_Composition.h>
 #include <opentimelineio/composition.h>
+#include <opentimelineio/safely_typed_any.h>
 #include <opentimelineio/version.h>
 #include <utilities.h>
 
+#include <vector>
+
 using namespace opentimelineio::OPENTIMELINEIO_VERSION;
 
+/*
+ * Appends to result the descendants of composition, in the order Composition.eachChild() streams them,
+ * that overlap searchRange and whose Java class is descendedFrom or a subclass of it.
+ * Children are only checked against descendedFrom, no Java object is created for them.
+ * Returns false if OTIO reported an error, which has been thrown as a Java exception.
+ */
+static bool eachChild(
+        JNIEnv *env,
+        OTIO_NS::Composition *composition,
+        optional<opentime::TimeRange> const &searchRange,
+        jclass descendedFrom,
+        bool shallowSearch,
+        std::vector<OTIO_NS::Composable *> &result) {
+    auto errorStatus = OTIO_NS::ErrorStatus();
+    auto &children = composition->children();
+    size_t firstInsideRange = 0;
+    size_t lastInRange = children.size();
+    if (searchRange) {
+        auto rangeOfAllChildren = composition->range_of_all_children(&errorStatus);
+        processOTIOErrorStatus(env, errorStatus);
+        if (env->ExceptionCheck()) return false;
+        std::vector<opentime::TimeRange> ranges;
+        ranges.reserve(children.size());
+        for (auto &child: children) {
+            auto it = rangeOfAllChildren.find(child.value);
+            ranges.push_back(it != rangeOfAllChildren.end() ? it->second : opentime::TimeRange());
+        }
+        // find the first item whose endTimeInclusive is after the
+        // startTime of the searchRange
+        auto searchStartTime = searchRange->start_time();
+        size_t upperSearchBound = ranges.size();
+        while (firstInsideRange < upperSearchBound) {
+            size_t midPointIndex = (firstInsideRange + upperSearchBound) / 2;
+            if (ranges[midPointIndex].end_time_inclusive() < searchStartTime)
+                firstInsideRange = midPointIndex + 1;
+            else
+                upperSearchBound = midPointIndex;
+        }
+        // find the last item whose startTime is before the
+        // endTimeInclusive of the searchRange
+        auto searchEndTime = searchRange->end_time_inclusive();
+        size_t lowerSearchBound = firstInsideRange;
+        while (lowerSearchBound < lastInRange) {
+            size_t midPointIndex = (lowerSearchBound + lastInRange) / 2;
+            if (searchEndTime < ranges[midPointIndex].start_time())
+                lastInRange = midPointIndex;
+            else
+                lowerSearchBound = midPointIndex + 1;
+        }
+    }
+
+    for (size_t i = firstInsideRange; i < lastInRange; i++) {
+        OTIO_NS::Composable *child = children[i].value;
+        const JavaClass *javaClass = getSchemaJavaClass(env, child->schema_name());
+        if (javaClass != nullptr && env->IsAssignableFrom(javaClass->cls, descendedFrom))
+            result.push_back(child);
+        auto childComposition = dynamic_cast<OTIO_NS::Composition *>(child);
+        if (shallowSearch || childComposition == nullptr)
+            continue;
+        optional<opentime::TimeRange> childSearchRange = nullopt;
+        if (searchRange) {
+            childSearchRange = composition->transformed_time_range(
+                    *searchRange, childComposition, &errorStatus);
+            processOTIOErrorStatus(env, errorStatus);
+            if (env->ExceptionCheck()) return false;
+        }
+        if (!eachChild(env, childComposition, childSearchRange, descendedFrom, shallowSearch, result))
+            return false;
+    }
+    return true;
+}
+
 /*
  * Class:     io_opentimeline_opentimelineio_Composition
  * Method:    initialize
@@ -78,15 +154,17 @@ Java_io_opentimeline_opentimelineio_Composition_getChildrenNative(
 
 /*
  * Class:     io_opentimeline_opentimelineio_Composition
- * Method:    clearChildren
+ * Method:    clearChildrenNative
  * Signature: ()V
  */
 JNIEXPORT void JNICALL
-Java_io_opentimeline_opentimelineio_Composition_clearChildren(
+Java_io_opentimeline_opentimelineio_Composition_clearChildrenNative(
         JNIEnv *env, jobject thisObj) {
     auto thisHandle =
             getHandle<SerializableObject::Retainer<Composition>>(env, thisObj);
     auto composition = thisHandle->value;
+    contentChanged(composition);
+    contentReleased(composition->children());
     composition->clear_children();
 }
 
@@ -102,6 +180,8 @@ JNIEXPORT void JNICALL Java_io_opentimeline_opentimelineio_Composition_setChildr
     auto thisHandle =
             getHandle<SerializableObject::Retainer<Composition>>(env, thisObj);
     auto composition = thisHandle->value;
+    contentChanged(composition);
+    contentReleased(composition->children());
     auto errorStatus = OTIO_NS::ErrorStatus();
     auto children = composableVectorFromArray(env, composableArray);
     composition->set_children(children, &errorStatus);
@@ -110,10 +190,10 @@ JNIEXPORT void JNICALL Java_io_opentimeline_opentimelineio_Composition_setChildr
 
 /*
  * Class:     io_opentimeline_opentimelineio_Composition
- * Method:    insertChild
+ * Method:    insertChildNative
  * Signature: (ILio/opentimeline/opentimelineio/Composable;)Z
  */
-JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Composition_insertChild(
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Composition_insertChildNative(
         JNIEnv *env,
         jobject thisObj,
         jint index,
@@ -125,6 +205,7 @@ JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Composition_inser
     auto thisHandle =
             getHandle<SerializableObject::Retainer<Composition>>(env, thisObj);
     auto composition = thisHandle->value;
+    contentChanged(composition);
     auto errorStatus = OTIO_NS::ErrorStatus();
     auto childHandle = getHandle<SerializableObject::Retainer<Composable>>(env, composableChild);
     auto child = childHandle->value;
@@ -135,10 +216,10 @@ JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Composition_inser
 
 /*
  * Class:     io_opentimeline_opentimelineio_Composition
- * Method:    setChild
+ * Method:    setChildNative
  * Signature: (ILio/opentimeline/opentimelineio/Composable;)Z
  */
-JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Composition_setChild(
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Composition_setChildNative(
         JNIEnv *env,
         jobject thisObj,
         jint index,
@@ -150,6 +231,9 @@ JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Composition_setCh
     auto thisHandle =
             getHandle<SerializableObject::Retainer<Composition>>(env, thisObj);
     auto composition = thisHandle->value;
+    contentChanged(composition);
+    if (index >= 0 && (size_t) index < composition->children().size())
+        contentReleased(composition->children()[index].value);
     auto errorStatus = OTIO_NS::ErrorStatus();
     auto childHandle = getHandle<SerializableObject::Retainer<Composable>>(env, composableChild);
     auto child = childHandle->value;
@@ -160,14 +244,17 @@ JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Composition_setCh
 
 /*
  * Class:     io_opentimeline_opentimelineio_Composition
- * Method:    removeChild
+ * Method:    removeChildNative
  * Signature: (I)Z
  */
-JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Composition_removeChild(
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Composition_removeChildNative(
         JNIEnv *env, jobject thisObj, jint index) {
     auto thisHandle =
             getHandle<SerializableObject::Retainer<OTIO_NS::Composition>>(env, thisObj);
     auto composition = thisHandle->value;
+    contentChanged(composition);
+    if (index >= 0 && (size_t) index < composition->children().size())
+        contentReleased(composition->children()[index].value);
     auto errorStatus = OTIO_NS::ErrorStatus();
     bool result = composition->remove_child(index, &errorStatus);
     processOTIOErrorStatus(env, errorStatus);
@@ -176,10 +263,10 @@ JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Composition_remov
 
 /*
  * Class:     io_opentimeline_opentimelineio_Composition
- * Method:    appendChild
+ * Method:    appendChildNative
  * Signature: (Lio/opentimeline/opentimelineio/Composable;)Z
  */
-JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Composition_appendChild(
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Composition_appendChildNative(
         JNIEnv *env,
         jobject thisObj,
         jobject composableChild) {
@@ -190,6 +277,7 @@ JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Composition_appen
     auto thisHandle =
             getHandle<SerializableObject::Retainer<OTIO_NS::Composition>>(env, thisObj);
     auto composition = thisHandle->value;
+    contentChanged(composition);
     auto errorStatus = OTIO_NS::ErrorStatus();
     auto childHandle = getHandle<SerializableObject::Retainer<OTIO_NS::Composable>>
             (env, composableChild);
@@ -251,10 +339,8 @@ JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_Composition_getHan
                      ? rationalTimeToJObject(env, result.second.value())
                      : nullptr;
 
-    jclass pairClass = env->FindClass("io/opentimeline/util/Pair");
-    jmethodID pairInit = env->GetMethodID(
-            pairClass, "<init>", "(Ljava/lang/Object;Ljava/lang/Object;)V");
-    jobject pairObject = env->NewObject(pairClass, pairInit, first, second);
+    jobject pairObject = env->NewObject(
+            getJNICache(env).pairClass, getJNICache(env).pairInit, first, second);
     return pairObject;
 }
 
@@ -294,10 +380,10 @@ JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_Composition_getTri
 
 /*
  * Class:     io_opentimeline_opentimelineio_Composition
- * Method:    getRangeOfChild
+ * Method:    getRangeOfChildNative
  * Signature: (Lio/opentimeline/opentimelineio/Composable;)Lio/opentimeline/opentime/TimeRange;
  */
-JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_Composition_getRangeOfChild(
+JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_Composition_getRangeOfChildNative(
         JNIEnv *env,
         jobject thisObj,
         jobject composableChild) {
@@ -412,31 +498,89 @@ JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_Composition_getRan
     auto result = composition->range_of_all_children(&errorStatus);
     processOTIOErrorStatus(env,errorStatus);
 
-    jclass hashMapClass = env->FindClass("java/util/HashMap");
-    jmethodID hashMapInit = env->GetMethodID(hashMapClass, "<init>", "(I)V");
-    jobject hashMapObj =
-            env->NewObject(hashMapClass, hashMapInit, result.size());
-    jmethodID hashMapPut = env->GetMethodID(
-            hashMapClass,
-            "put",
-            "(Ljava/lang/Object;Ljava/lang/Object;)Ljava/lang/Object;");
-
-    jclass composableClass =
-            env->FindClass("io/opentimeline/opentimelineio/Composable");
-    jmethodID composableInit =
-            env->GetMethodID(composableClass, "<init>", "()V");
+    jobject hashMapObj = env->NewObject(
+            getJNICache(env).hashMapClass, getJNICache(env).hashMapInit, (jint) result.size());
 
     for (auto it: result) {
         auto first = it.first;
         auto second = it.second;
 
         jobject composableObject =
-                env->NewObject(composableClass, composableInit);
+                env->NewObject(getJNICache(env).composableClass, getJNICache(env).composableDefaultInit);
         setHandle(env, composableObject, first);
 
         jobject tr = timeRangeToJObject(env, second);
 
-        env->CallObjectMethod(hashMapObj, hashMapPut, composableObject, tr);
+        env->CallObjectMethod(hashMapObj, getJNICache(env).hashMapPut, composableObject, tr);
     }
     return hashMapObj;
 }
+
+/*
+ * Class:     io_opentimeline_opentimelineio_Composition
+ * Method:    eachChildNative
+ * Signature: (Lio/opentimeline/opentime/TimeRange;Ljava/lang/Class;Z)Lio/opentimeline/opentimelineio/AnyVector;
+ */
+JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_Composition_eachChildNative(
+        JNIEnv *env, jobject thisObj, jobject searchRangeObj, jclass descendedFrom, jboolean shallowSearch) {
+    if (descendedFrom == nullptr) {
+        throwNullPointerException(env, "");
+        return nullptr;
+    }
+    auto thisHandle =
+            getHandle<SerializableObject::Retainer<OTIO_NS::Composition>>
+                    (env, thisObj);
+    auto composition = thisHandle->value;
+    optional<opentime::TimeRange> searchRange = nullopt;
+    if (searchRangeObj != nullptr)
+        searchRange = timeRangeFromJObject(env, searchRangeObj);
+
+    std::vector<OTIO_NS::Composable *> result;
+    if (!eachChild(env, composition, searchRange, descendedFrom, shallowSearch, result))
+        return nullptr;
+
+    // the vector retains the children until the stream is done with them
+    auto children = new AnyVector();
+    children->reserve(result.size());
+    for (auto child: result)
+        children->push_back(create_safely_typed_any(static_cast<SerializableObject *>(child)));
+    return newObjectFromNative(env, getJNICache(env).anyVector, children, _AnyVector);
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_Composition
+ * Method:    childFromNative
+ * Signature: (Lio/opentimeline/opentimelineio/AnyVector;I)Lio/opentimeline/opentimelineio/Composable;
+ */
+JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_Composition_childFromNative(
+        JNIEnv *env, jclass thisClass, jobject childrenObj, jint index) {
+    auto children = getHandle<AnyVector>(env, childrenObj);
+    auto child = safely_cast_retainer_any((*children)[index]);
+    return composableFromNative(env, dynamic_cast<OTIO_NS::Composable *>(child));
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_Composition
+ * Method:    getRangesOfChildrenNative
+ * Signature: ()Lio/opentimeline/opentime/TimeRangeArray;
+ */
+JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_Composition_getRangesOfChildrenNative(
+        JNIEnv *env, jobject thisObj) {
+    auto thisHandle =
+            getHandle<SerializableObject::Retainer<OTIO_NS::Composition>>
+                    (env, thisObj);
+    auto composition = thisHandle->value;
+    auto errorStatus = OTIO_NS::ErrorStatus();
+    auto rangeOfAllChildren = composition->range_of_all_children(&errorStatus);
+    processOTIOErrorStatus(env, errorStatus);
+    if (env->ExceptionCheck()) return nullptr;
+
+    auto &children = composition->children();
+    std::vector<opentime::TimeRange> ranges;
+    ranges.reserve(children.size());
+    for (auto &child: children) {
+        auto it = rangeOfAllChildren.find(child.value);
+        ranges.push_back(it != rangeOfAllChildren.end() ? it->second : opentime::TimeRange());
+    }
+    return timeRangeArrayToJObject(env, ranges);
+}
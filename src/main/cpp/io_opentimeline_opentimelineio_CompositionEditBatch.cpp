@@ -0,0 +1,177 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+#include <content_hash.h>
+#include <exceptions.h>
+#include <handle.h>
+#include <io_opentimeline_opentimelineio_CompositionEditBatch.h>
+#include <opentimelineio/composable.h>
+#include <opentimelineio/composition.h>
+#include <opentimelineio/version.h>
+#include <utilities.h>
+
+#include <set>
+#include <vector>
+
+using namespace opentimelineio::OPENTIMELINEIO_VERSION;
+
+namespace {
+
+    const int operationSize = io_opentimeline_opentimelineio_CompositionEditBatch_OPERATION_SIZE;
+    const int opAppend = io_opentimeline_opentimelineio_CompositionEditBatch_OP_APPEND;
+    const int opInsert = io_opentimeline_opentimelineio_CompositionEditBatch_OP_INSERT;
+    const int opRemove = io_opentimeline_opentimelineio_CompositionEditBatch_OP_REMOVE;
+    const int opReplace = io_opentimeline_opentimelineio_CompositionEditBatch_OP_REPLACE;
+    const int opMove = io_opentimeline_opentimelineio_CompositionEditBatch_OP_MOVE;
+    const int nullChild = io_opentimeline_opentimelineio_CompositionEditBatch_FAILURE_NULL_CHILD;
+    const int indexOutOfBounds = io_opentimeline_opentimelineio_CompositionEditBatch_FAILURE_INDEX_OUT_OF_BOUNDS;
+    const int childAlreadyParented = io_opentimeline_opentimelineio_CompositionEditBatch_FAILURE_CHILD_ALREADY_PARENTED;
+    const int noFailure = -1;
+
+    /* the children as they are after the operations validated so far */
+    class EditState {
+    public:
+        explicit EditState(Composition *composition) : _composition(composition) {
+            for (auto &child: composition->children()) {
+                _children.push_back(child.value);
+                _childSet.insert(child.value);
+            }
+        }
+
+        std::vector<Composable *> const &children() const {
+            return _children;
+        }
+
+        /* noFailure if the operation is valid and was applied, the reason code of the failure otherwise */
+        int apply(jint code, jint first, jint second, std::vector<Composable *> const &references) {
+            Composable *child = second >= 0 && (size_t) second < references.size() ? references[second] : nullptr;
+            switch (code) {
+                case opAppend:
+                    return insert((jint) _children.size(), child);
+                case opInsert:
+                    return insert(first, child);
+                case opRemove: {
+                    if (!validIndex(first))
+                        return indexOutOfBounds;
+                    _childSet.erase(_children[first]);
+                    _children.erase(_children.begin() + first);
+                    return noFailure;
+                }
+                case opReplace: {
+                    if (!validIndex(first))
+                        return indexOutOfBounds;
+                    if (child == _children[first])
+                        return noFailure;
+                    int failure = insertable(child);
+                    if (failure != noFailure) return failure;
+                    _childSet.erase(_children[first]);
+                    _children[first] = child;
+                    _childSet.insert(child);
+                    return noFailure;
+                }
+                case opMove: {
+                    if (!validIndex(first) || !validIndex(second))
+                        return indexOutOfBounds;
+                    Composable *moved = _children[first];
+                    _children.erase(_children.begin() + first);
+                    _children.insert(_children.begin() + second, moved);
+                    return noFailure;
+                }
+                default:
+                    return indexOutOfBounds;
+            }
+        }
+
+    private:
+        Composition *_composition;
+        std::vector<Composable *> _children;
+        std::set<Composable *> _childSet;
+
+        bool validIndex(jint index) const {
+            return index >= 0 && (size_t) index < _children.size();
+        }
+
+        /* children of the composition removed by the batch can be inserted again */
+        int insertable(Composable *child) const {
+            if (child == nullptr)
+                return nullChild;
+            if (_childSet.count(child) != 0 || (child->parent() != nullptr && child->parent() != _composition))
+                return childAlreadyParented;
+            return noFailure;
+        }
+
+        int insert(jint index, Composable *child) {
+            if (index < 0 || (size_t) index > _children.size())
+                return indexOutOfBounds;
+            int failure = insertable(child);
+            if (failure != noFailure) return failure;
+            _children.insert(_children.begin() + index, child);
+            _childSet.insert(child);
+            return noFailure;
+        }
+    };
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_CompositionEditBatch
+ * Method:    applyNative
+ * Signature: (Lio/opentimeline/opentimelineio/Composition;[I[Lio/opentimeline/opentimelineio/Composable;)[I
+ */
+JNIEXPORT jintArray JNICALL Java_io_opentimeline_opentimelineio_CompositionEditBatch_applyNative(
+        JNIEnv *env, jclass thisClass, jobject compositionObj, jintArray operationsArray, jobjectArray childrenArray) {
+    if (compositionObj == nullptr || operationsArray == nullptr || childrenArray == nullptr) {
+        throwNullPointerException(env, "");
+        return nullptr;
+    }
+    auto compositionHandle =
+            getHandle<SerializableObject::Retainer<Composition>>(env, compositionObj);
+    auto composition = compositionHandle->value;
+
+    std::vector<jint> operations((size_t) env->GetArrayLength(operationsArray));
+    env->GetIntArrayRegion(operationsArray, 0, (jsize) operations.size(), operations.data());
+    jsize childCount = env->GetArrayLength(childrenArray);
+    std::vector<Composable *> references((size_t) childCount, nullptr);
+    for (jsize i = 0; i < childCount; i++) {
+        jobject child = env->GetObjectArrayElement(childrenArray, i);
+        if (child != nullptr) {
+            references[i] = getHandle<SerializableObject::Retainer<Composable>>(env, child)->value;
+            env->DeleteLocalRef(child);
+        }
+    }
+
+    // a single validation pass over a copy of the children
+    EditState state(composition);
+    std::vector<jint> failures;
+    for (size_t i = 0; i + operationSize <= operations.size(); i += operationSize) {
+        int result = state.apply(operations[i], operations[i + 1], operations[i + 2], references);
+        if (result != noFailure) {
+            failures.push_back((jint) (i / operationSize));
+            failures.push_back(result);
+        }
+    }
+
+    if (failures.empty()) {
+        contentChanged(composition);
+        contentReleased(composition->children());
+        // the retainers keep the children alive while the composition releases them
+        std::vector<SerializableObject::Retainer<Composable>> original(
+                composition->children().begin(), composition->children().end());
+        composition->clear_children();
+        auto errorStatus = OTIO_NS::ErrorStatus();
+        if (!composition->set_children(state.children(), &errorStatus)) {
+            std::vector<Composable *> restored;
+            for (auto &child: original)
+                restored.push_back(child.value);
+            auto restoreStatus = OTIO_NS::ErrorStatus();
+            composition->clear_children();
+            composition->set_children(restored, &restoreStatus);
+            throwRuntimeException(env, errorStatus.full_description.c_str());
+            return nullptr;
+        }
+    }
+
+    jintArray result = env->NewIntArray((jsize) failures.size());
+    if (result == nullptr) return nullptr;
+    env->SetIntArrayRegion(result, 0, (jsize) failures.size(), failures.data());
+    return result;
+}
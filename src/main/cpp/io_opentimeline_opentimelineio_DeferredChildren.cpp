@@ -0,0 +1,143 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+#include <exceptions.h>
+#include <handle.h>
+#include <io_opentimeline_opentimelineio_DeferredChildren.h>
+#include <object_fields.h>
+#include <opentimelineio/anyDictionary.h>
+#include <opentimelineio/anyVector.h>
+#include <opentimelineio/serializableObject.h>
+#include <opentimelineio/version.h>
+
+#include <unordered_set>
+#include <vector>
+
+using namespace opentimelineio::OPENTIMELINEIO_VERSION;
+
+namespace {
+
+    /*
+     * Walks values through the fields of the objects they hold and collects the objects among
+     * the wanted ones. Objects of schemas writeFields() does not know are not walked into, only
+     * tracks of a lazily loaded timeline are wanted.
+     */
+    class HeldObjects : public FieldWriter {
+    public:
+        explicit HeldObjects(std::unordered_set<SerializableObject *> wanted) : _wanted(std::move(wanted)) {}
+
+        std::vector<SerializableObject *> found;
+
+        void visit(any const &value) {
+            auto &type = value.type();
+            if (type == typeid(AnyDictionary)) {
+                visit(any_cast<AnyDictionary const &>(value));
+            } else if (type == typeid(AnyVector)) {
+                for (auto &element: any_cast<AnyVector const &>(value))
+                    visit(element);
+            } else if (type == typeid(SerializableObject::Retainer<>)) {
+                visit(any_cast<SerializableObject::Retainer<> const &>(value).value);
+            }
+        }
+
+        void visit(SerializableObject *object) {
+            if (object == nullptr || found.size() == _wanted.size() || !_visited.insert(object).second)
+                return;
+            if (_wanted.count(object) != 0)
+                found.push_back(object);
+            writeFields(object, *this);
+        }
+
+        void writeNull(const char *key) override {}
+
+        void write(const char *key, int value) override {}
+
+        void write(const char *key, double value) override {}
+
+        void write(const char *key, std::string const &value) override {}
+
+        void write(const char *key, RationalTime value) override {}
+
+        void write(const char *key, TimeRange value) override {}
+
+        void write(const char *key, AnyDictionary const &value) override {
+            visit(value);
+        }
+
+        void write(const char *key, any const &value) override {
+            visit(value);
+        }
+
+        void write(const char *key, SerializableObject *value) override {
+            visit(value);
+        }
+
+        void write(const char *key, std::vector<SerializableObject *> const &values) override {
+            for (auto value: values)
+                visit(value);
+        }
+
+    private:
+        std::unordered_set<SerializableObject *> _wanted;
+        std::unordered_set<SerializableObject *> _visited;
+
+        void visit(AnyDictionary const &dictionary) {
+            for (auto &entry: dictionary)
+                visit(entry.second);
+        }
+    };
+
+    HeldObjects heldObjects(JNIEnv *env, jlongArray keys) {
+        std::unordered_set<SerializableObject *> wanted;
+        jsize length = env->GetArrayLength(keys);
+        std::vector<jlong> elements((size_t) length);
+        env->GetLongArrayRegion(keys, 0, length, elements.data());
+        for (auto key: elements)
+            wanted.insert(reinterpret_cast<SerializableObject *>(key));
+        return HeldObjects(std::move(wanted));
+    }
+
+    jlongArray keysOf(JNIEnv *env, std::vector<SerializableObject *> const &objects) {
+        std::vector<jlong> keys;
+        keys.reserve(objects.size());
+        for (auto object: objects)
+            keys.push_back(reinterpret_cast<jlong>(object));
+        jlongArray result = env->NewLongArray((jsize) keys.size());
+        if (result == nullptr) return nullptr;
+        env->SetLongArrayRegion(result, 0, (jsize) keys.size(), keys.data());
+        return result;
+    }
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_DeferredChildren
+ * Method:    heldNative
+ * Signature: (Lio/opentimeline/opentimelineio/SerializableObject;[J)[J
+ */
+JNIEXPORT jlongArray JNICALL Java_io_opentimeline_opentimelineio_DeferredChildren_heldNative(
+        JNIEnv *env, jclass thisClass, jobject object, jlongArray keys) {
+    if (object == nullptr || keys == nullptr) {
+        throwNullPointerException(env, "");
+        return nullptr;
+    }
+    auto handle = getHandle<SerializableObject::Retainer<SerializableObject>>(env, object);
+    HeldObjects held = heldObjects(env, keys);
+    held.visit(handle->value);
+    return keysOf(env, held.found);
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_DeferredChildren
+ * Method:    heldByAnyNative
+ * Signature: (Lio/opentimeline/opentimelineio/Any;[J)[J
+ */
+JNIEXPORT jlongArray JNICALL Java_io_opentimeline_opentimelineio_DeferredChildren_heldByAnyNative(
+        JNIEnv *env, jclass thisClass, jobject value, jlongArray keys) {
+    if (value == nullptr || keys == nullptr) {
+        throwNullPointerException(env, "");
+        return nullptr;
+    }
+    HeldObjects held = heldObjects(env, keys);
+    held.visit(*getHandle<any>(env, value));
+    return keysOf(env, held.found);
+}
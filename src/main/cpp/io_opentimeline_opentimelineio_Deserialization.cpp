@@ -1,6 +1,7 @@
 // SPDX-License-Identifier: Apache-2.0
 // Copyright Contributors to the OpenTimelineIO Project.
 
+#include <binary_serialization.h>
 #include <exceptions.h>
 #include <handle.h>
 #include <io_opentimeline_opentimelineio_Deserialization.h>
@@ -20,7 +21,9 @@ JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Deserialization_d
         throwNullPointerException(env, "");
         return false;
     }
-    std::string inputStr = env->GetStringUTFChars(input, nullptr);
+    const char *inputChars = env->GetStringUTFChars(input, nullptr);
+    std::string inputStr = inputChars;
+    env->ReleaseStringUTFChars(input, inputChars);
     auto anyDestinationHandle =
             getHandle<any>(env, anyDestination);
     auto errorStatus = OTIO_NS::ErrorStatus();
@@ -41,12 +44,128 @@ JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Deserialization_d
         throwNullPointerException(env, "");
         return false;
     }
-    std::string fileNameStr = env->GetStringUTFChars(fileName, nullptr);
+    const char *fileNameChars = env->GetStringUTFChars(fileName, nullptr);
+    std::string fileNameStr = fileNameChars;
+    env->ReleaseStringUTFChars(fileName, fileNameChars);
     auto anyDestinationHandle =
             getHandle<any>(env, anyDestination);
     auto errorStatus = OTIO_NS::ErrorStatus();
-    bool result = deserialize_json_from_string(
+    bool result = deserialize_json_from_file(
             fileNameStr, anyDestinationHandle, &errorStatus);
     processOTIOErrorStatus(env, errorStatus);
     return result;
 }
+
+/*
+ * Class:     io_opentimeline_opentimelineio_Deserialization
+ * Method:    deserializeJSONFromDirectBufferNative
+ * Signature: (Ljava/nio/ByteBuffer;IILio/opentimeline/opentimelineio/Any;)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Deserialization_deserializeJSONFromDirectBufferNative
+        (JNIEnv *env, jobject thisObj, jobject input, jint position, jint limit, jobject anyDestination) {
+    if (anyDestination == nullptr) {
+        throwNullPointerException(env, "");
+        return false;
+    }
+    auto address = static_cast<const char *>(env->GetDirectBufferAddress(input));
+    if (address == nullptr) {
+        throwRuntimeException(env, "Cannot access the memory of the direct buffer");
+        return false;
+    }
+    // deserialize_json_from_string() only takes a std::string, this is the one copy of the input
+    std::string inputStr(address + position, limit - position);
+    auto anyDestinationHandle =
+            getHandle<any>(env, anyDestination);
+    auto errorStatus = OTIO_NS::ErrorStatus();
+    bool result = deserialize_json_from_string(
+            inputStr, anyDestinationHandle, &errorStatus);
+    processOTIOErrorStatus(env, errorStatus);
+    return result;
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_Deserialization
+ * Method:    deserializeJSONFromBytesNative
+ * Signature: ([BIILio/opentimeline/opentimelineio/Any;)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Deserialization_deserializeJSONFromBytesNative
+        (JNIEnv *env, jobject thisObj, jbyteArray input, jint offset, jint length, jobject anyDestination) {
+    if (anyDestination == nullptr) {
+        throwNullPointerException(env, "");
+        return false;
+    }
+    std::string inputStr(length, '\0');
+    env->GetByteArrayRegion(input, offset, length, reinterpret_cast<jbyte *>(&inputStr[0]));
+    auto anyDestinationHandle =
+            getHandle<any>(env, anyDestination);
+    auto errorStatus = OTIO_NS::ErrorStatus();
+    bool result = deserialize_json_from_string(
+            inputStr, anyDestinationHandle, &errorStatus);
+    processOTIOErrorStatus(env, errorStatus);
+    return result;
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_Deserialization
+ * Method:    deserializeBinaryFromFile
+ * Signature: (Ljava/lang/String;Lio/opentimeline/opentimelineio/Any;)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Deserialization_deserializeBinaryFromFile
+        (JNIEnv *env, jobject thisObj, jstring fileName, jobject anyDestination) {
+    if (fileName == nullptr || anyDestination == nullptr) {
+        throwNullPointerException(env, "");
+        return false;
+    }
+    const char *fileNameChars = env->GetStringUTFChars(fileName, nullptr);
+    std::string fileNameStr = fileNameChars;
+    env->ReleaseStringUTFChars(fileName, fileNameChars);
+    auto errorStatus = OTIO_NS::ErrorStatus();
+    std::string binary;
+    bool result = readBinaryFile(fileNameStr, binary, errorStatus)
+                  && binaryToAny(binary.data(), binary.size(), getHandle<any>(env, anyDestination), errorStatus);
+    processOTIOErrorStatus(env, errorStatus);
+    return result;
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_Deserialization
+ * Method:    deserializeBinaryFromDirectBufferNative
+ * Signature: (Ljava/nio/ByteBuffer;IILio/opentimeline/opentimelineio/Any;)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Deserialization_deserializeBinaryFromDirectBufferNative
+        (JNIEnv *env, jobject thisObj, jobject input, jint position, jint limit, jobject anyDestination) {
+    if (anyDestination == nullptr) {
+        throwNullPointerException(env, "");
+        return false;
+    }
+    auto address = static_cast<const char *>(env->GetDirectBufferAddress(input));
+    if (address == nullptr) {
+        throwRuntimeException(env, "Cannot access the memory of the direct buffer");
+        return false;
+    }
+    auto errorStatus = OTIO_NS::ErrorStatus();
+    bool result = binaryToAny(
+            address + position, limit - position, getHandle<any>(env, anyDestination), errorStatus);
+    processOTIOErrorStatus(env, errorStatus);
+    return result;
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_Deserialization
+ * Method:    deserializeBinaryFromBytesNative
+ * Signature: ([BIILio/opentimeline/opentimelineio/Any;)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Deserialization_deserializeBinaryFromBytesNative
+        (JNIEnv *env, jobject thisObj, jbyteArray input, jint offset, jint length, jobject anyDestination) {
+    if (anyDestination == nullptr) {
+        throwNullPointerException(env, "");
+        return false;
+    }
+    std::string binary(length, '\0');
+    env->GetByteArrayRegion(input, offset, length, reinterpret_cast<jbyte *>(&binary[0]));
+    if (env->ExceptionCheck()) return false;
+    auto errorStatus = OTIO_NS::ErrorStatus();
+    bool result = binaryToAny(binary.data(), binary.size(), getHandle<any>(env, anyDestination), errorStatus);
+    processOTIOErrorStatus(env, errorStatus);
+    return result;
+}
@@ -1,6 +1,7 @@
 // SPDX-License-Identifier: Apache-2.0
 // Copyright Contributors to the OpenTimelineIO Project.
 
+#include <content_hash.h>
 #include <exceptions.h>
 #include <handle.h>
 #include <io_opentimeline_opentimelineio_Effect.h>
@@ -65,5 +66,6 @@ Java_io_opentimeline_opentimelineio_Effect_setEffectName(
     auto thisHandle =
             getHandle<SerializableObject::Retainer<Effect>>(env, thisObj);
     auto effect = thisHandle->value;
+    contentChanged(effect);
     effect->set_effect_name(env->GetStringUTFChars(effectName, 0));
 }
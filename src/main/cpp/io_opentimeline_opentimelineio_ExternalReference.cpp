@@ -1,6 +1,7 @@
 // SPDX-License-Identifier: Apache-2.0
 // Copyright Contributors to the OpenTimelineIO Project.
 
+#include <content_hash.h>
 #include <exceptions.h>
 #include <handle.h>
 #include <io_opentimeline_opentimelineio_ExternalReference.h>
@@ -68,6 +69,7 @@ Java_io_opentimeline_opentimelineio_ExternalReference_setTargetURL(
     auto thisHandle =
             getHandle<SerializableObject::Retainer<ExternalReference>>(env, thisObj);
     auto mr = thisHandle->value;
+    contentChanged(mr);
     std::string targetURLStr = env->GetStringUTFChars(targetURL, 0);
     mr->set_target_url(targetURLStr);
 }
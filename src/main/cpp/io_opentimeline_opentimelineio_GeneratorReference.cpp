@@ -1,6 +1,7 @@
 // SPDX-License-Identifier: Apache-2.0
 // Copyright Contributors to the OpenTimelineIO Project.
 
+#include <content_hash.h>
 #include <exceptions.h>
 #include <handle.h>
 #include <io_opentimeline_opentimelineio_GeneratorReference.h>
@@ -77,6 +78,7 @@ Java_io_opentimeline_opentimelineio_GeneratorReference_setGeneratorKind(
     auto thisHandle =
             getHandle<SerializableObject::Retainer<GeneratorReference>>(env, thisObj);
     auto mr = thisHandle->value;
+    contentChanged(mr);
     std::string generatorKindStr = env->GetStringUTFChars(generatorKind, 0);
     mr->set_generator_kind(generatorKindStr);
 }
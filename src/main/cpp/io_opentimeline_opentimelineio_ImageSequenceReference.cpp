@@ -1,6 +1,7 @@
 // SPDX-License-Identifier: Apache-2.0
 // Copyright Contributors to the OpenTimelineIO Project.
 
+#include <content_hash.h>
 #include <exceptions.h>
 #include <handle.h>
 #include <io_opentimeline_opentimelineio_ImageSequenceReference.h>
@@ -89,6 +90,7 @@ Java_io_opentimeline_opentimelineio_ImageSequenceReference_setTargetURLBase(
     auto thisHandle =
             getHandle<SerializableObject::Retainer<ImageSequenceReference>>(env, thisObj);
     auto imageSequenceReference = thisHandle->value;
+    contentChanged(imageSequenceReference);
     std::string targetURLBaseStr = env->GetStringUTFChars(targetURLBase, 0);
     imageSequenceReference->set_target_url_base(targetURLBaseStr);
 }
@@ -122,6 +124,7 @@ Java_io_opentimeline_opentimelineio_ImageSequenceReference_setNamePrefix(
     auto thisHandle =
             getHandle<SerializableObject::Retainer<ImageSequenceReference>>(env, thisObj);
     auto imageSequenceReference = thisHandle->value;
+    contentChanged(imageSequenceReference);
     std::string namePrefixStr = env->GetStringUTFChars(namePrefix, 0);
     imageSequenceReference->set_name_prefix(namePrefixStr);
 }
@@ -155,6 +158,7 @@ Java_io_opentimeline_opentimelineio_ImageSequenceReference_setNameSuffix(
     auto thisHandle =
             getHandle<SerializableObject::Retainer<ImageSequenceReference>>(env, thisObj);
     auto imageSequenceReference = thisHandle->value;
+    contentChanged(imageSequenceReference);
     std::string nameSuffixStr = env->GetStringUTFChars(nameSuffix, 0);
     imageSequenceReference->set_name_prefix(nameSuffixStr);
 }
@@ -184,6 +188,7 @@ Java_io_opentimeline_opentimelineio_ImageSequenceReference_setStartFrame(
     auto thisHandle =
             getHandle<SerializableObject::Retainer<ImageSequenceReference>>(env, thisObj);
     auto imageSequenceReference = thisHandle->value;
+    contentChanged(imageSequenceReference);
     imageSequenceReference->set_start_frame(startFrame);
 }
 
@@ -212,6 +217,7 @@ Java_io_opentimeline_opentimelineio_ImageSequenceReference_setFrameStep(
     auto thisHandle =
             getHandle<SerializableObject::Retainer<ImageSequenceReference>>(env, thisObj);
     auto imageSequenceReference = thisHandle->value;
+    contentChanged(imageSequenceReference);
     imageSequenceReference->set_frame_step(frameStep);
 }
 
@@ -240,6 +246,7 @@ Java_io_opentimeline_opentimelineio_ImageSequenceReference_setRate(
     auto thisHandle =
             getHandle<SerializableObject::Retainer<ImageSequenceReference>>(env, thisObj);
     auto imageSequenceReference = thisHandle->value;
+    contentChanged(imageSequenceReference);
     imageSequenceReference->set_rate(rate);
 }
 
@@ -268,6 +275,7 @@ Java_io_opentimeline_opentimelineio_ImageSequenceReference_setFrameZeroPadding(
     auto thisHandle =
             getHandle<SerializableObject::Retainer<ImageSequenceReference>>(env, thisObj);
     auto imageSequenceReference = thisHandle->value;
+    contentChanged(imageSequenceReference);
     imageSequenceReference->set_frame_zero_padding(frameZeroPadding);
 }
 
@@ -296,6 +304,7 @@ Java_io_opentimeline_opentimelineio_ImageSequenceReference_setMissingFramePolicy
     auto thisHandle =
             getHandle<SerializableObject::Retainer<ImageSequenceReference>>(env, thisObj);
     auto imageSequenceReference = thisHandle->value;
+    contentChanged(imageSequenceReference);
     imageSequenceReference->set_missing_frame_policy(
             ImageSequenceReference::MissingFramePolicy(
                     missingFramePolicyIndex));
@@ -1,6 +1,7 @@
 // SPDX-License-Identifier: Apache-2.0
 // Copyright Contributors to the OpenTimelineIO Project.
 
+#include <content_hash.h>
 #include <exceptions.h>
 #include <handle.h>
 #include <io_opentimeline_opentimelineio_Item.h>
@@ -90,15 +91,16 @@ Java_io_opentimeline_opentimelineio_Item_getSourceRange(
 
 /*
  * Class:     io_opentimeline_opentimelineio_Item
- * Method:    setSourceRange
+ * Method:    setSourceRangeNative
  * Signature: (Lio/opentimeline/opentime/TimeRange;)V
  */
 JNIEXPORT void JNICALL
-Java_io_opentimeline_opentimelineio_Item_setSourceRange(
+Java_io_opentimeline_opentimelineio_Item_setSourceRangeNative(
         JNIEnv *env, jobject thisObj, jobject sourceRangeObj) {
     auto thisHandle =
             getHandle<SerializableObject::Retainer<Item>>(env, thisObj);
     auto item = thisHandle->value;
+    contentChanged(item);
     optional<TimeRange> sourceRange = nullopt;
     if (sourceRangeObj != nullptr)
         sourceRange = timeRangeFromJObject(env, sourceRangeObj);
@@ -1,6 +1,7 @@
 // SPDX-License-Identifier: Apache-2.0
 // Copyright Contributors to the OpenTimelineIO Project.
 
+#include <content_hash.h>
 #include <exceptions.h>
 #include <handle.h>
 #include <io_opentimeline_opentimelineio_LinearTimeWarp.h>
@@ -62,5 +63,6 @@ Java_io_opentimeline_opentimelineio_LinearTimeWarp_setTimeScalar(
     auto thisHandle =
             getHandle<SerializableObject::Retainer<LinearTimeWarp>>(env, thisObj);
     auto linearTimeWarp = thisHandle->value;
+    contentChanged(linearTimeWarp);
     linearTimeWarp->set_time_scalar(timeScalar);
 }
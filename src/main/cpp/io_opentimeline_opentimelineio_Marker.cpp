@@ -1,6 +1,7 @@
 // SPDX-License-Identifier: Apache-2.0
 // Copyright Contributors to the OpenTimelineIO Project.
 
+#include <content_hash.h>
 #include <exceptions.h>
 #include <handle.h>
 #include <io_opentimeline_opentimelineio_Marker.h>
@@ -70,6 +71,7 @@ Java_io_opentimeline_opentimelineio_Marker_setColor(
     auto thisHandle =
             getHandle<SerializableObject::Retainer<Marker>>(env, thisObj);
     auto marker = thisHandle->value;
+    contentChanged(marker);
     marker->set_color(env->GetStringUTFChars(color, 0));
 }
 
@@ -103,6 +105,7 @@ Java_io_opentimeline_opentimelineio_Marker_setMarkedRange(
     auto thisHandle =
             getHandle<SerializableObject::Retainer<Marker>>(env, thisObj);
     auto marker = thisHandle->value;
+    contentChanged(marker);
     auto mr = timeRangeFromJObject(env, markedRangeObj);
     marker->set_marked_range(mr);
 }
@@ -1,6 +1,7 @@
 // SPDX-License-Identifier: Apache-2.0
 // Copyright Contributors to the OpenTimelineIO Project.
 
+#include <content_hash.h>
 #include <exceptions.h>
 #include <handle.h>
 #include <io_opentimeline_opentimelineio_MediaReference.h>
@@ -59,15 +60,16 @@ Java_io_opentimeline_opentimelineio_MediaReference_getAvailableRange(
 
 /*
  * Class:     io_opentimeline_opentimelineio_MediaReference
- * Method:    setAvailableRange
+ * Method:    setAvailableRangeNative
  * Signature: (Lio/opentimeline/opentime/TimeRange;)V
  */
 JNIEXPORT void JNICALL
-Java_io_opentimeline_opentimelineio_MediaReference_setAvailableRange(
+Java_io_opentimeline_opentimelineio_MediaReference_setAvailableRangeNative(
         JNIEnv *env, jobject thisObj, jobject availableRangeObj) {
     auto thisHandle =
             getHandle<SerializableObject::Retainer<MediaReference>>(env, thisObj);
     auto mr = thisHandle->value;
+    contentChanged(mr);
     optional<TimeRange> availableRange = nullopt;
     if (availableRangeObj != nullptr)
         availableRange = timeRangeFromJObject(env, availableRangeObj);
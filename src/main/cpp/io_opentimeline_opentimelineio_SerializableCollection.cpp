@@ -1,6 +1,7 @@
 // SPDX-License-Identifier: Apache-2.0
 // Copyright Contributors to the OpenTimelineIO Project.
 
+#include <content_hash.h>
 #include <exceptions.h>
 #include <handle.h>
 #include <io_opentimeline_opentimelineio_SerializableCollection.h>
@@ -72,6 +73,8 @@ Java_io_opentimeline_opentimelineio_SerializableCollection_setChildrenNative(
     auto thisHandle =
             getHandle<SerializableObject::Retainer<SerializableCollection>>(env, thisObj);
     auto serializableCollection = thisHandle->value;
+    contentChanged(serializableCollection);
+    contentReleased(serializableCollection->children());
     auto children = serializableObjectVectorFromArray(env, childrenArray);
     serializableCollection->set_children(children);
 }
@@ -87,6 +90,8 @@ Java_io_opentimeline_opentimelineio_SerializableCollection_clearChildren(
     auto thisHandle =
             getHandle<SerializableObject::Retainer<SerializableCollection>>(env, thisObj);
     auto serializableCollection = thisHandle->value;
+    contentChanged(serializableCollection);
+    contentReleased(serializableCollection->children());
     serializableCollection->clear_children();
 }
 
@@ -107,6 +112,9 @@ JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_SerializableColle
     auto thisHandle =
             getHandle<SerializableObject::Retainer<SerializableCollection>>(env, thisObj);
     auto serializableCollection = thisHandle->value;
+    contentChanged(serializableCollection);
+    if (index >= 0 && (size_t) index < serializableCollection->children().size())
+        contentReleased(serializableCollection->children()[index].value);
     auto errorStatus = OTIO_NS::ErrorStatus();
     auto childHandle =
             getHandle<SerializableObject::Retainer<SerializableObject>>(env, thisObj);
@@ -130,6 +138,7 @@ JNIEXPORT void JNICALL Java_io_opentimeline_opentimelineio_SerializableCollectio
     auto thisHandle =
             getHandle<SerializableObject::Retainer<SerializableCollection>>(env, thisObj);
     auto serializableCollection = thisHandle->value;
+    contentChanged(serializableCollection);
     auto childHandle =
             getHandle<SerializableObject::Retainer<SerializableObject>>(env, thisObj);
     auto child = childHandle->value;
@@ -146,6 +155,9 @@ JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_SerializableColle
     auto thisHandle =
             getHandle<SerializableObject::Retainer<SerializableCollection>>(env, thisObj);
     auto serializableCollection = thisHandle->value;
+    contentChanged(serializableCollection);
+    if (index >= 0 && (size_t) index < serializableCollection->children().size())
+        contentReleased(serializableCollection->children()[index].value);
     auto errorStatus = OTIO_NS::ErrorStatus();
     auto result = serializableCollection->remove_child(index, &errorStatus);
     processOTIOErrorStatus(env, errorStatus);
@@ -1,6 +1,8 @@
 // SPDX-License-Identifier: Apache-2.0
 // Copyright Contributors to the OpenTimelineIO Project.
 
+#include <binary_serialization.h>
+#include <content_hash.h>
 #include <exceptions.h>
 #include <handle.h>
 #include <io_opentimeline_opentimelineio_SerializableObject.h>
@@ -26,31 +28,10 @@ Java_io_opentimeline_opentimelineio_SerializableObject_initialize(
 
 /*
  * Class:     io_opentimeline_opentimelineio_SerializableObject
- * Method:    toJSONFile
- * Signature: (Ljava/lang/String;)Z
- */
-JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_SerializableObject_toJSONFile__Ljava_lang_String_2(
-        JNIEnv *env, jobject thisObj, jstring fileNameStr) {
-    if (fileNameStr == nullptr) {
-        throwNullPointerException(env, "");
-        return false;
-    }
-    auto thisHandle =
-            getHandle<SerializableObject::Retainer<SerializableObject>>(env, thisObj);
-    auto serializableObject = thisHandle->value;
-    auto errorStatus = OTIO_NS::ErrorStatus();
-    auto result = serializableObject->to_json_file(
-            env->GetStringUTFChars(fileNameStr, 0), &errorStatus);
-    processOTIOErrorStatus(env, errorStatus);
-    return result;
-}
-
-/*
- * Class:     io_opentimeline_opentimelineio_SerializableObject
- * Method:    toJSONFile
+ * Method:    toJSONFileNative
  * Signature: (Ljava/lang/String;I)Z
  */
-JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_SerializableObject_toJSONFile__Ljava_lang_String_2I(
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_SerializableObject_toJSONFileNative(
         JNIEnv *env,
         jobject thisObj,
         jstring fileNameStr,
@@ -71,27 +52,10 @@ JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_SerializableObjec
 
 /*
  * Class:     io_opentimeline_opentimelineio_SerializableObject
- * Method:    toJSONString
- * Signature: ()Ljava/lang/String;
- */
-JNIEXPORT jstring JNICALL Java_io_opentimeline_opentimelineio_SerializableObject_toJSONString__(
-        JNIEnv *env, jobject thisObj) {
-    auto thisHandle =
-            getHandle<SerializableObject::Retainer<SerializableObject>>(env, thisObj);
-    auto serializableObject = thisHandle->value;
-    auto errorStatus = OTIO_NS::ErrorStatus();
-    auto result = env->NewStringUTF(
-            serializableObject->to_json_string(&errorStatus).c_str());
-    processOTIOErrorStatus(env, errorStatus);
-    return result;
-}
-
-/*
- * Class:     io_opentimeline_opentimelineio_SerializableObject
- * Method:    toJSONString
+ * Method:    toJSONStringNative
  * Signature: (I)Ljava/lang/String;
  */
-JNIEXPORT jstring JNICALL Java_io_opentimeline_opentimelineio_SerializableObject_toJSONString__I(
+JNIEXPORT jstring JNICALL Java_io_opentimeline_opentimelineio_SerializableObject_toJSONStringNative(
         JNIEnv *env, jobject thisObj, jint indent) {
     auto thisHandle =
             getHandle<SerializableObject::Retainer<SerializableObject>>(env, thisObj);
@@ -142,11 +106,137 @@ JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_SerializableObject
 
 /*
  * Class:     io_opentimeline_opentimelineio_SerializableObject
- * Method:    isEquivalentTo
+ * Method:    fromJSONBufferNative
+ * Signature: (Ljava/nio/ByteBuffer;II)Lio/opentimeline/opentimelineio/SerializableObject;
+ */
+JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_SerializableObject_fromJSONBufferNative(
+        JNIEnv *env, jclass thisClass, jobject input, jint position, jint limit) {
+    auto address = static_cast<const char *>(env->GetDirectBufferAddress(input));
+    if (address == nullptr) {
+        throwRuntimeException(env, "Cannot access the memory of the direct buffer");
+        return nullptr;
+    }
+    auto errorStatus = OTIO_NS::ErrorStatus();
+    auto result = SerializableObject::from_json_string(
+            std::string(address + position, limit - position), &errorStatus);
+    processOTIOErrorStatus(env, errorStatus);
+    return serializableObjectFromNative(env, result);
+}
+
+/* Encodes so to the binary format, throws and returns false on failure */
+static bool
+serializableObjectToBinary(JNIEnv *env, SerializableObject *serializableObject, std::string &binary) {
+    auto errorStatus = OTIO_NS::ErrorStatus();
+    anyToBinary(any(SerializableObject::Retainer<>(serializableObject)), binary, errorStatus);
+    processOTIOErrorStatus(env, errorStatus);
+    return !env->ExceptionCheck();
+}
+
+static jobject
+serializableObjectFromBinary(JNIEnv *env, const char *data, size_t length) {
+    auto errorStatus = OTIO_NS::ErrorStatus();
+    any result;
+    if (!binaryToAny(data, length, &result, errorStatus)) {
+        processOTIOErrorStatus(env, errorStatus);
+        return nullptr;
+    }
+    if (result.type() != typeid(SerializableObject::Retainer<>)) {
+        errorStatus = OTIO_NS::ErrorStatus(OTIO_NS::ErrorStatus::TYPE_MISMATCH,
+                                           "binary OTIO document does not hold a SerializableObject");
+        processOTIOErrorStatus(env, errorStatus);
+        return nullptr;
+    }
+    return serializableObjectFromNative(env, any_cast<SerializableObject::Retainer<> &>(result).value);
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_SerializableObject
+ * Method:    toBinaryNative
+ * Signature: ()[B
+ */
+JNIEXPORT jbyteArray JNICALL Java_io_opentimeline_opentimelineio_SerializableObject_toBinaryNative(
+        JNIEnv *env, jobject thisObj) {
+    auto thisHandle =
+            getHandle<SerializableObject::Retainer<SerializableObject>>(env, thisObj);
+    std::string binary;
+    if (!serializableObjectToBinary(env, thisHandle->value, binary)) return nullptr;
+    jbyteArray result = env->NewByteArray((jsize) binary.size());
+    if (result == nullptr) return nullptr;
+    env->SetByteArrayRegion(result, 0, (jsize) binary.size(), reinterpret_cast<const jbyte *>(binary.data()));
+    return result;
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_SerializableObject
+ * Method:    toBinaryFileNative
+ * Signature: (Ljava/lang/String;)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_SerializableObject_toBinaryFileNative(
+        JNIEnv *env, jobject thisObj, jstring fileNameStr) {
+    if (fileNameStr == nullptr) {
+        throwNullPointerException(env, "");
+        return false;
+    }
+    auto thisHandle =
+            getHandle<SerializableObject::Retainer<SerializableObject>>(env, thisObj);
+    std::string binary;
+    if (!serializableObjectToBinary(env, thisHandle->value, binary)) return false;
+    const char *fileNameChars = env->GetStringUTFChars(fileNameStr, nullptr);
+    std::string fileName = fileNameChars;
+    env->ReleaseStringUTFChars(fileNameStr, fileNameChars);
+    auto errorStatus = OTIO_NS::ErrorStatus();
+    auto result = writeBinaryFile(fileName, binary, errorStatus);
+    processOTIOErrorStatus(env, errorStatus);
+    return result;
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_SerializableObject
+ * Method:    fromBinary
+ * Signature: ([B)Lio/opentimeline/opentimelineio/SerializableObject;
+ */
+JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_SerializableObject_fromBinary(
+        JNIEnv *env, jclass thisClass, jbyteArray input) {
+    if (input == nullptr) {
+        throwNullPointerException(env, "");
+        return nullptr;
+    }
+    jsize length = env->GetArrayLength(input);
+    std::string binary(length, '\0');
+    env->GetByteArrayRegion(input, 0, length, reinterpret_cast<jbyte *>(&binary[0]));
+    return serializableObjectFromBinary(env, binary.data(), binary.size());
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_SerializableObject
+ * Method:    fromBinaryFile
+ * Signature: (Ljava/lang/String;)Lio/opentimeline/opentimelineio/SerializableObject;
+ */
+JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_SerializableObject_fromBinaryFile(
+        JNIEnv *env, jclass thisClass, jstring fileNameStr) {
+    if (fileNameStr == nullptr) {
+        throwNullPointerException(env, "");
+        return nullptr;
+    }
+    const char *fileNameChars = env->GetStringUTFChars(fileNameStr, nullptr);
+    std::string fileName = fileNameChars;
+    env->ReleaseStringUTFChars(fileNameStr, fileNameChars);
+    auto errorStatus = OTIO_NS::ErrorStatus();
+    std::string binary;
+    if (!readBinaryFile(fileName, binary, errorStatus)) {
+        processOTIOErrorStatus(env, errorStatus);
+        return nullptr;
+    }
+    return serializableObjectFromBinary(env, binary.data(), binary.size());
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_SerializableObject
+ * Method:    isEquivalentToNative
  * Signature: (Lio/opentimeline/opentimelineio/SerializableObject;)Z
  */
 JNIEXPORT jboolean JNICALL
-Java_io_opentimeline_opentimelineio_SerializableObject_isEquivalentTo(
+Java_io_opentimeline_opentimelineio_SerializableObject_isEquivalentToNative(
         JNIEnv *env, jobject thisObj, jobject otherObj) {
     if (otherObj == nullptr) {
         throwNullPointerException(env, "");
@@ -164,10 +254,10 @@ Java_io_opentimeline_opentimelineio_SerializableObject_isEquivalentTo(
 
 /*
  * Class:     io_opentimeline_opentimelineio_SerializableObject
- * Method:    deepCopy
+ * Method:    deepCopyNative
  * Signature: ()Lio/opentimeline/opentimelineio/SerializableObject;
  */
-JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_SerializableObject_deepCopy(
+JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_SerializableObject_deepCopyNative(
         JNIEnv *env, jobject thisObj) {
     auto thisHandle =
             getHandle<SerializableObject::Retainer<SerializableObject>>(env, thisObj);
@@ -178,6 +268,21 @@ JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_SerializableObject
     return serializableObjectFromNative(env, clonedHandle);
 }
 
+/*
+ * Class:     io_opentimeline_opentimelineio_SerializableObject
+ * Method:    contentHashNative
+ * Signature: ()J
+ */
+JNIEXPORT jlong JNICALL Java_io_opentimeline_opentimelineio_SerializableObject_contentHashNative(
+        JNIEnv *env, jobject thisObj) {
+    auto thisHandle =
+            getHandle<SerializableObject::Retainer<SerializableObject>>(env, thisObj);
+    auto errorStatus = OTIO_NS::ErrorStatus();
+    auto hash = contentHash(thisHandle->value, errorStatus);
+    processOTIOErrorStatus(env, errorStatus);
+    return (jlong) hash;
+}
+
 /*
  * Class:     io_opentimeline_opentimelineio_SerializableObject
  * Method:    dynamicFields
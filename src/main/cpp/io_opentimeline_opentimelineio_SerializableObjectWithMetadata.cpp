@@ -1,6 +1,7 @@
 // SPDX-License-Identifier: Apache-2.0
 // Copyright Contributors to the OpenTimelineIO Project.
 
+#include <content_hash.h>
 #include <exceptions.h>
 #include <handle.h>
 #include <io_opentimeline_opentimelineio_SerializableObjectWithMetadata.h>
@@ -61,6 +62,7 @@ Java_io_opentimeline_opentimelineio_SerializableObjectWithMetadata_setName(
         auto thisHandle =
                 getHandle<SerializableObject::Retainer<SerializableObjectWithMetadata>>(env, thisObj);
         auto serializableObjectWithMetadata = thisHandle->value;
+        contentChanged(serializableObjectWithMetadata);
         serializableObjectWithMetadata->set_name(env->GetStringUTFChars(name, 0));
     }
 }
@@ -90,6 +92,8 @@ Java_io_opentimeline_opentimelineio_SerializableObjectWithMetadata_setMetadata(
     auto thisHandle =
             getHandle<SerializableObject::Retainer<SerializableObjectWithMetadata>>(env, thisObj);
     auto serializableObjectWithMetadata = thisHandle->value;
+    contentChanged(serializableObjectWithMetadata);
+    contentReleased(serializableObjectWithMetadata->metadata());
     auto metadataHandle = getHandle<AnyDictionary>(env, metadataObj);
     serializableObjectWithMetadata->metadata() = *metadataHandle;
 }
@@ -1,6 +1,7 @@
 // SPDX-License-Identifier: Apache-2.0
 // Copyright Contributors to the OpenTimelineIO Project.
 
+#include <binary_serialization.h>
 #include <exceptions.h>
 #include <handle.h>
 #include <io_opentimeline_opentimelineio_Serialization.h>
@@ -8,6 +9,9 @@
 #include <opentimelineio/version.h>
 #include <utilities.h>
 
+#include <algorithm>
+#include <cstring>
+
 using namespace opentimelineio::OPENTIMELINEIO_VERSION;
 
 /*
@@ -48,4 +52,108 @@ JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Serialization_ser
             *anyValueHandle, fileNameStr, &errorStatus, indent);
     processOTIOErrorStatus(env, errorStatus);
     return result;
-}
\ No newline at end of file
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_Serialization
+ * Method:    serializeJSONToBufferNative
+ * Signature: (Lio/opentimeline/opentimelineio/Any;I)J
+ */
+JNIEXPORT jlong JNICALL Java_io_opentimeline_opentimelineio_Serialization_serializeJSONToBufferNative
+        (JNIEnv *env, jobject thisObj, jobject anyValueObj, jint indent) {
+    if (anyValueObj == nullptr) {
+        throwNullPointerException(env, "");
+        return 0;
+    }
+    auto anyValueHandle = getHandle<any>(env, anyValueObj);
+    auto errorStatus = OTIO_NS::ErrorStatus();
+    auto document = new std::string(serialize_json_to_string(
+            *anyValueHandle, &errorStatus, indent));
+    processOTIOErrorStatus(env, errorStatus);
+    if (env->ExceptionCheck()) {
+        delete document;
+        return 0;
+    }
+    return reinterpret_cast<jlong>(document);
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_Serialization
+ * Method:    readJSONChunkNative
+ * Signature: (JJLjava/nio/ByteBuffer;)I
+ */
+JNIEXPORT jint JNICALL Java_io_opentimeline_opentimelineio_Serialization_readJSONChunkNative
+        (JNIEnv *env, jclass thisClass, jlong documentHandle, jlong offset, jobject buffer) {
+    auto document = reinterpret_cast<std::string *>(documentHandle);
+    auto address = static_cast<char *>(env->GetDirectBufferAddress(buffer));
+    if (address == nullptr) {
+        throwRuntimeException(env, "Cannot access the memory of the direct buffer");
+        return 0;
+    }
+    if (offset >= (jlong) document->size()) return 0;
+    size_t length = std::min(
+            document->size() - (size_t) offset, (size_t) env->GetDirectBufferCapacity(buffer));
+    std::memcpy(address, document->data() + offset, length);
+    return (jint) length;
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_Serialization
+ * Method:    disposeJSONNative
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_io_opentimeline_opentimelineio_Serialization_disposeJSONNative
+        (JNIEnv *env, jclass thisClass, jlong documentHandle) {
+    delete reinterpret_cast<std::string *>(documentHandle);
+}
+
+/* Encodes the value of anyValueObj to the binary format, throws and returns false on failure */
+static bool
+anyValueToBinary(JNIEnv *env, jobject anyValueObj, std::string &binary) {
+    auto anyValueHandle = getHandle<any>(env, anyValueObj);
+    auto errorStatus = OTIO_NS::ErrorStatus();
+    anyToBinary(*anyValueHandle, binary, errorStatus);
+    processOTIOErrorStatus(env, errorStatus);
+    return !env->ExceptionCheck();
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_Serialization
+ * Method:    serializeBinaryNative
+ * Signature: (Lio/opentimeline/opentimelineio/Any;)[B
+ */
+JNIEXPORT jbyteArray JNICALL Java_io_opentimeline_opentimelineio_Serialization_serializeBinaryNative
+        (JNIEnv *env, jobject thisObj, jobject anyValueObj) {
+    if (anyValueObj == nullptr) {
+        throwNullPointerException(env, "");
+        return nullptr;
+    }
+    std::string binary;
+    if (!anyValueToBinary(env, anyValueObj, binary)) return nullptr;
+    jbyteArray result = env->NewByteArray((jsize) binary.size());
+    if (result == nullptr) return nullptr;
+    env->SetByteArrayRegion(result, 0, (jsize) binary.size(), reinterpret_cast<const jbyte *>(binary.data()));
+    return result;
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_Serialization
+ * Method:    serializeBinaryToFileNative
+ * Signature: (Lio/opentimeline/opentimelineio/Any;Ljava/lang/String;)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Serialization_serializeBinaryToFileNative
+        (JNIEnv *env, jobject thisObj, jobject anyValueObj, jstring fileName) {
+    if (anyValueObj == nullptr || fileName == nullptr) {
+        throwNullPointerException(env, "");
+        return false;
+    }
+    std::string binary;
+    if (!anyValueToBinary(env, anyValueObj, binary)) return false;
+    const char *fileNameChars = env->GetStringUTFChars(fileName, nullptr);
+    std::string fileNameStr = fileNameChars;
+    env->ReleaseStringUTFChars(fileName, fileNameChars);
+    auto errorStatus = OTIO_NS::ErrorStatus();
+    auto result = writeBinaryFile(fileNameStr, binary, errorStatus);
+    processOTIOErrorStatus(env, errorStatus);
+    return result;
+}
@@ -106,33 +106,22 @@ JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_Stack_getRangeOfAl
     auto result = stack->range_of_all_children(&errorStatus);
     processOTIOErrorStatus(env, errorStatus);
 
-    jclass hashMapClass = env->FindClass("java/util/HashMap");
-    jmethodID hashMapInit = env->GetMethodID(hashMapClass, "<init>", "(I)V");
-    jobject hashMapObj =
-            env->NewObject(hashMapClass, hashMapInit, result.size());
-    jmethodID hashMapPut = env->GetMethodID(
-            hashMapClass,
-            "put",
-            "(Ljava/lang/Object;Ljava/lang/Object;)Ljava/lang/Object;");
-
-    jclass composableClass =
-            env->FindClass("io/opentimeline/opentimelineio/Composable");
-    jmethodID composableInit =
-            env->GetMethodID(composableClass, "<init>", "()V");
+    jobject hashMapObj = env->NewObject(
+            getJNICache(env).hashMapClass, getJNICache(env).hashMapInit, (jint) result.size());
 
     for (auto it: result) {
         auto first = it.first;
         auto second = it.second;
 
         jobject composableObject =
-                env->NewObject(composableClass, composableInit);
+                env->NewObject(getJNICache(env).composableClass, getJNICache(env).composableDefaultInit);
         auto firstManager =
                 new SerializableObject::Retainer<Composable>(first);
         setHandle(env, composableObject, firstManager);
         registerObjectToOTIOFactory(env, composableObject);
         jobject tr = timeRangeToJObject(env, second);
 
-        env->CallObjectMethod(hashMapObj, hashMapPut, composableObject, tr);
+        env->CallObjectMethod(hashMapObj, getJNICache(env).hashMapPut, composableObject, tr);
     }
 
     return hashMapObj;
@@ -0,0 +1,166 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+#include <io_opentimeline_opentimelineio_StringInterning.h>
+#include <jni_cache.h>
+#include <string_pool.h>
+
+#include <algorithm>
+#include <atomic>
+#include <cstdint>
+#include <functional>
+#include <mutex>
+#include <unordered_map>
+
+namespace {
+
+    const std::size_t shardCount = 16;
+    const std::size_t minimumSweepSize = 1024;
+
+    /* strings are spread over shards with their own lock, so that threads rarely wait */
+    struct Shard {
+        std::mutex mutex;
+        std::unordered_map<std::string, jweak> strings;
+        std::size_t sweepSize = minimumSweepSize;
+    };
+
+    Shard shards[shardCount];
+    std::atomic<bool> enabled(false);
+    std::atomic<std::uint64_t> hitCount(0);
+    std::atomic<std::uint64_t> savedBytes(0);
+
+    Shard &shardOf(const std::string &value) {
+        return shards[std::hash<std::string>()(value) % shardCount];
+    }
+
+    /* same estimate as StringInterning.estimateSize() */
+    std::uint64_t estimateSize(jsize length) {
+        return (40 + 2 * (std::uint64_t) length + 7) & ~(std::uint64_t) 7;
+    }
+
+    /* drop the entries of Strings that were garbage collected, with the lock of the shard held */
+    void sweep(JNIEnv *env, Shard &shard) {
+        for (auto it = shard.strings.begin(); it != shard.strings.end();) {
+            if (env->IsSameObject(it->second, nullptr)) {
+                env->DeleteWeakGlobalRef(it->second);
+                it = shard.strings.erase(it);
+            } else {
+                ++it;
+            }
+        }
+        shard.sweepSize = std::max(minimumSweepSize, 2 * shard.strings.size());
+    }
+
+    /* shared instance of value in the native pool, or nullptr, with the lock of the shard held */
+    jstring lookup(JNIEnv *env, Shard &shard, const std::string &value) {
+        auto found = shard.strings.find(value);
+        if (found == shard.strings.end()) return nullptr;
+        return (jstring) env->NewLocalRef(found->second);
+    }
+
+    /*
+     * Make the instance of the Java pool for str the shared instance of value in the native pool.
+     * Java's intern() is called without the lock held, as it may wait for the Java pool.
+     */
+    jstring add(JNIEnv *env, Shard &shard, const std::string &value, jstring str) {
+        const JNICache &jniCache = getJNICache(env);
+        auto shared = (jstring) env->CallStaticObjectMethod(
+                jniCache.stringInterningClass, jniCache.stringInterningIntern, str);
+        if (env->ExceptionCheck()) return nullptr;
+        std::lock_guard<std::mutex> lock(shard.mutex);
+        // interning was disabled meanwhile, the pool has been cleared
+        if (!enabled.load()) return shared;
+        jweak &entry = shard.strings[value];
+        if (entry != nullptr) env->DeleteWeakGlobalRef(entry);
+        entry = env->NewWeakGlobalRef(shared);
+        if (shard.strings.size() >= shard.sweepSize) sweep(env, shard);
+        return shared;
+    }
+}
+
+jstring pooledString(JNIEnv *env, const std::string &value) {
+    if (!enabled.load(std::memory_order_relaxed))
+        return env->NewStringUTF(value.c_str());
+    Shard &shard = shardOf(value);
+    {
+        std::lock_guard<std::mutex> lock(shard.mutex);
+        jstring shared = lookup(env, shard, value);
+        if (shared != nullptr) {
+            hitCount.fetch_add(1, std::memory_order_relaxed);
+            savedBytes.fetch_add(estimateSize(env->GetStringLength(shared)), std::memory_order_relaxed);
+            return shared;
+        }
+    }
+    jstring str = env->NewStringUTF(value.c_str());
+    if (str == nullptr) return nullptr;
+    jstring shared = add(env, shard, value, str);
+    if (shared != str) env->DeleteLocalRef(str);
+    return shared;
+}
+
+void poolString(JNIEnv *env, const std::string &value, jstring str) {
+    if (!enabled.load(std::memory_order_relaxed) || str == nullptr)
+        return;
+    Shard &shard = shardOf(value);
+    {
+        std::lock_guard<std::mutex> lock(shard.mutex);
+        jstring shared = lookup(env, shard, value);
+        if (shared != nullptr) {
+            env->DeleteLocalRef(shared);
+            return;
+        }
+    }
+    jstring shared = add(env, shard, value, str);
+    if (shared != nullptr && shared != str) env->DeleteLocalRef(shared);
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_StringInterning
+ * Method:    setPoolEnabled
+ * Signature: (Z)V
+ */
+JNIEXPORT void JNICALL Java_io_opentimeline_opentimelineio_StringInterning_setPoolEnabled
+        (JNIEnv *env, jclass thisClass, jboolean value) {
+    enabled.store(value);
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_StringInterning
+ * Method:    clearPool
+ * Signature: ()V
+ */
+JNIEXPORT void JNICALL Java_io_opentimeline_opentimelineio_StringInterning_clearPool
+        (JNIEnv *env, jclass thisClass) {
+    for (auto &shard: shards) {
+        std::lock_guard<std::mutex> lock(shard.mutex);
+        for (auto &it: shard.strings)
+            env->DeleteWeakGlobalRef(it.second);
+        shard.strings.clear();
+        shard.sweepSize = minimumSweepSize;
+    }
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_StringInterning
+ * Method:    getPoolStatistics
+ * Signature: ()[J
+ */
+JNIEXPORT jlongArray JNICALL Java_io_opentimeline_opentimelineio_StringInterning_getPoolStatistics
+        (JNIEnv *env, jclass thisClass) {
+    jlong statistics[] = {(jlong) hitCount.load(), (jlong) savedBytes.load()};
+    jlongArray result = env->NewLongArray(2);
+    if (result == nullptr) return nullptr;
+    env->SetLongArrayRegion(result, 0, 2, statistics);
+    return result;
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_StringInterning
+ * Method:    resetPoolStatistics
+ * Signature: ()V
+ */
+JNIEXPORT void JNICALL Java_io_opentimeline_opentimelineio_StringInterning_resetPoolStatistics
+        (JNIEnv *env, jclass thisClass) {
+    hitCount.store(0);
+    savedBytes.store(0);
+}
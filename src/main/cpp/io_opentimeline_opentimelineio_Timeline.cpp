@@ -1,6 +1,7 @@
 // SPDX-License-Identifier: Apache-2.0
 // Copyright Contributors to the OpenTimelineIO Project.
 
+#include <content_hash.h>
 #include <exceptions.h>
 #include <handle.h>
 #include <io_opentimeline_opentimelineio_Timeline.h>
@@ -71,6 +72,8 @@ Java_io_opentimeline_opentimelineio_Timeline_setTracks(
     auto thisHandle =
             getHandle<SerializableObject::Retainer<Timeline>>(env, thisObj);
     auto timeline = thisHandle->value;
+    contentChanged(timeline);
+    contentReleased(timeline->tracks());
     auto stackHandle =
             getHandle<SerializableObject::Retainer<Stack>>(env, stackObj);
     auto stack = stackHandle->value;
@@ -110,6 +113,7 @@ Java_io_opentimeline_opentimelineio_Timeline_setGlobalStartTime(
     auto thisHandle =
             getHandle<SerializableObject::Retainer<Timeline>>(env, thisObj);
     auto timeline = thisHandle->value;
+    contentChanged(timeline);
     optional<RationalTime> globalStartTime = nullopt;
     if (globalStartTimeRationalTime != nullptr)
         globalStartTime =
@@ -0,0 +1,312 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+#include <content_hash.h>
+#include <exceptions.h>
+#include <handle.h>
+#include <io_opentimeline_opentimelineio_TimelineDiff.h>
+#include <opentimelineio/clip.h>
+#include <opentimelineio/composition.h>
+#include <opentimelineio/externalReference.h>
+#include <opentimelineio/generatorReference.h>
+#include <opentimelineio/imageSequenceReference.h>
+#include <opentimelineio/item.h>
+#include <opentimelineio/stack.h>
+#include <opentimelineio/timeline.h>
+#include <opentimelineio/transition.h>
+#include <opentimelineio/version.h>
+#include <utilities.h>
+
+#include <deque>
+#include <unordered_map>
+#include <vector>
+
+using namespace opentimelineio::OPENTIMELINEIO_VERSION;
+
+namespace {
+
+    const jint insertRecord = io_opentimeline_opentimelineio_TimelineDiff_INSERT;
+    const jint deleteRecord = io_opentimeline_opentimelineio_TimelineDiff_DELETE;
+    const jint moveRecord = io_opentimeline_opentimelineio_TimelineDiff_MOVE;
+    const jint trimRecord = io_opentimeline_opentimelineio_TimelineDiff_TRIM;
+    const jint retimeRecord = io_opentimeline_opentimelineio_TimelineDiff_RETIME;
+    const jint metadataChangeRecord = io_opentimeline_opentimelineio_TimelineDiff_METADATA_CHANGE;
+    const jint modifyRecord = io_opentimeline_opentimelineio_TimelineDiff_MODIFY;
+    const jint nestedRecord = io_opentimeline_opentimelineio_TimelineDiff_NESTED;
+    const jint stackPair = io_opentimeline_opentimelineio_TimelineDiff_STACK_PAIR;
+    const jint rootPair = io_opentimeline_opentimelineio_TimelineDiff_ROOT_PAIR;
+    const jint timelineIndex = -1;
+    const jint stackIndex = 0;
+
+    // the fields reported by the other parts of a fingerprint, the name is part of the identity
+    const std::vector<std::string> reportedFields = {
+            "name", "metadata", "source_range", "in_offset", "out_offset", "effects", "children"};
+    const std::vector<std::string> timelineReportedFields = {"metadata", "tracks"};
+
+    struct Fingerprint {
+        std::uint64_t identity = 0;
+        std::uint64_t content = 0;
+        std::uint64_t range = 0;
+        std::uint64_t effects = 0;
+        std::uint64_t metadata = 0;
+        // the fields reported as MODIFY
+        std::uint64_t other = 0;
+        // the content hashes of the children of a composition
+        std::uint64_t children = 0;
+        bool composition = false;
+    };
+
+    std::uint64_t hashString(std::string const &value) {
+        return xxHash64(value.data(), value.size(), 0);
+    }
+
+    std::uint64_t hashValues(std::vector<double> const &values) {
+        return xxHash64(values.data(), values.size() * sizeof(double), 0);
+    }
+
+    std::uint64_t hashHashes(std::vector<std::uint64_t> const &hashes) {
+        return xxHash64(hashes.data(), hashes.size() * sizeof(std::uint64_t), 0);
+    }
+
+    std::string mediaURL(Composable *composable) {
+        auto clip = dynamic_cast<Clip *>(composable);
+        if (clip == nullptr || clip->media_reference() == nullptr)
+            return std::string();
+        auto mediaReference = clip->media_reference();
+        if (auto external = dynamic_cast<ExternalReference *>(mediaReference))
+            return external->target_url();
+        if (auto sequence = dynamic_cast<ImageSequenceReference *>(mediaReference))
+            return sequence->target_url_base() + sequence->name_prefix();
+        if (auto generator = dynamic_cast<GeneratorReference *>(mediaReference))
+            return generator->generator_kind();
+        return std::string();
+    }
+
+    /* source range of items, offsets of transitions */
+    std::uint64_t rangeHash(Composable *composable) {
+        if (auto transition = dynamic_cast<Transition *>(composable)) {
+            return hashValues({transition->in_offset().value(), transition->in_offset().rate(),
+                               transition->out_offset().value(), transition->out_offset().rate()});
+        }
+        auto item = dynamic_cast<Item *>(composable);
+        if (item == nullptr || !item->source_range())
+            return 0;
+        auto range = *item->source_range();
+        return hashValues({range.start_time().value(), range.start_time().rate(),
+                           range.duration().value(), range.duration().rate()});
+    }
+
+    /*
+     * Patience sorting of the matched indexes, O(n log n).
+     * match holds the index in b matched by each index in a, or -1. Returns whether each index
+     * in a belongs to a longest increasing run of matched indexes.
+     */
+    std::vector<bool> longestIncreasingMatches(std::vector<int> const &match) {
+        size_t n = match.size();
+        // tails[k]: index in a ending the smallest tail of the runs of length k + 1
+        std::vector<int> tails(n);
+        std::vector<int> previous(n);
+        size_t length = 0;
+        for (size_t i = 0; i < n; i++) {
+            if (match[i] < 0)
+                continue;
+            size_t low = 0;
+            size_t high = length;
+            while (low < high) {
+                size_t middle = (low + high) / 2;
+                if (match[tails[middle]] < match[i])
+                    low = middle + 1;
+                else
+                    high = middle;
+            }
+            previous[i] = low > 0 ? tails[low - 1] : -1;
+            tails[low] = (int) i;
+            if (low == length)
+                length++;
+        }
+        std::vector<bool> inRun(n, false);
+        if (length == 0)
+            return inRun;
+        for (int i = tails[length - 1]; i >= 0; i = previous[i])
+            inRun[i] = true;
+        return inRun;
+    }
+
+    /* writes the records documented in TimelineDiff.java */
+    class Differ {
+    public:
+        std::vector<jint> records;
+        ErrorStatus errorStatus;
+
+        void diffTimelines(Timeline *a, Timeline *b) {
+            if (hash(a) == hash(b) || failed())
+                return;
+            if (dictionaryHash(a->metadata(), errorStatus) != dictionaryHash(b->metadata(), errorStatus))
+                add(metadataChangeRecord, rootPair, timelineIndex, timelineIndex);
+            if (fieldsHash(a, timelineReportedFields, errorStatus)
+                != fieldsHash(b, timelineReportedFields, errorStatus))
+                add(modifyRecord, rootPair, timelineIndex, timelineIndex);
+            Stack *stackA = a->tracks();
+            Stack *stackB = b->tracks();
+            if (stackA == nullptr || stackB == nullptr) {
+                if (stackA != stackB)
+                    add(modifyRecord, rootPair, timelineIndex, timelineIndex);
+                return;
+            }
+            Fingerprint fingerprintA = fingerprint(stackA);
+            Fingerprint fingerprintB = fingerprint(stackB);
+            if (fingerprintA.content == fingerprintB.content || failed())
+                return;
+            // stacks cannot be inserted or deleted, a different name is one more change
+            bool renamed = fingerprintA.identity != fingerprintB.identity;
+            bool nested = changes(fingerprintA, fingerprintB, rootPair, stackIndex, stackIndex, renamed);
+            if (nested)
+                diff(stackA, stackB, stackPair);
+        }
+
+        bool failed() const {
+            return errorStatus.outcome != ErrorStatus::OK;
+        }
+
+    private:
+        jint nextPair = stackPair + 1;
+
+        void add(jint type, jint pair, jint indexA, jint indexB) {
+            records.insert(records.end(), {type, pair, indexA, indexB});
+        }
+
+        std::uint64_t hash(SerializableObject *object) {
+            return contentHash(object, errorStatus);
+        }
+
+        Fingerprint fingerprint(Composable *child) {
+            Fingerprint fingerprint;
+            std::string identity = child->schema_name();
+            identity += '\0';
+            identity += child->name();
+            identity += '\0';
+            identity += mediaURL(child);
+            fingerprint.identity = hashString(identity);
+            fingerprint.content = hash(child);
+            fingerprint.range = rangeHash(child);
+            if (auto item = dynamic_cast<Item *>(child)) {
+                std::vector<std::uint64_t> effects;
+                for (auto &effect: item->effects())
+                    effects.push_back(hash(effect.value));
+                fingerprint.effects = hashHashes(effects);
+            }
+            fingerprint.metadata = dictionaryHash(child->metadata(), errorStatus);
+            fingerprint.other = fieldsHash(child, reportedFields, errorStatus);
+            if (auto composition = dynamic_cast<Composition *>(child)) {
+                std::vector<std::uint64_t> children;
+                for (auto &grandchild: composition->children())
+                    children.push_back(hash(grandchild.value));
+                fingerprint.children = hashHashes(children);
+                fingerprint.composition = true;
+            }
+            return fingerprint;
+        }
+
+        /*
+         * Adds the records of the changes between two matched children, or stacks.
+         * Returns whether they are compositions with different children.
+         */
+        bool changes(Fingerprint const &a, Fingerprint const &b, jint pair, jint indexA, jint indexB,
+                     bool modified) {
+            if (a.range != b.range)
+                add(trimRecord, pair, indexA, indexB);
+            if (a.effects != b.effects)
+                add(retimeRecord, pair, indexA, indexB);
+            if (a.metadata != b.metadata)
+                add(metadataChangeRecord, pair, indexA, indexB);
+            if (modified || a.other != b.other)
+                add(modifyRecord, pair, indexA, indexB);
+            return a.composition && b.composition && a.children != b.children;
+        }
+
+        void diff(Composition *parentA, Composition *parentB, jint pair) {
+            auto &childrenA = parentA->children();
+            auto &childrenB = parentB->children();
+            std::vector<Fingerprint> fingerprintsA;
+            std::vector<Fingerprint> fingerprintsB;
+            fingerprintsA.reserve(childrenA.size());
+            fingerprintsB.reserve(childrenB.size());
+            for (auto &child: childrenA)
+                fingerprintsA.push_back(fingerprint(child.value));
+            for (auto &child: childrenB)
+                fingerprintsB.push_back(fingerprint(child.value));
+            if (failed())
+                return;
+            int countA = (int) fingerprintsA.size();
+            int countB = (int) fingerprintsB.size();
+
+            // children of b by identity, in order
+            std::unordered_map<std::uint64_t, std::deque<int>> identitiesB;
+            for (int j = 0; j < countB; j++)
+                identitiesB[fingerprintsB[j].identity].push_back(j);
+            std::vector<int> matchA(countA, -1);
+            std::vector<bool> matchedB(countB, false);
+            for (int i = 0; i < countA; i++) {
+                auto candidates = identitiesB.find(fingerprintsA[i].identity);
+                if (candidates == identitiesB.end() || candidates->second.empty())
+                    continue;
+                matchA[i] = candidates->second.front();
+                candidates->second.pop_front();
+                matchedB[matchA[i]] = true;
+            }
+            std::vector<bool> inPlace = longestIncreasingMatches(matchA);
+
+            for (int i = 0; i < countA; i++) {
+                if (matchA[i] < 0)
+                    add(deleteRecord, pair, i, -1);
+            }
+            for (int j = 0; j < countB; j++) {
+                if (!matchedB[j])
+                    add(insertRecord, pair, -1, j);
+            }
+            for (int i = 0; i < countA; i++) {
+                if (matchA[i] >= 0 && !inPlace[i])
+                    add(moveRecord, pair, i, matchA[i]);
+            }
+            std::vector<std::pair<int, int>> nested;
+            for (int i = 0; i < countA; i++) {
+                int j = matchA[i];
+                if (j < 0 || fingerprintsA[i].content == fingerprintsB[j].content)
+                    continue;
+                if (changes(fingerprintsA[i], fingerprintsB[j], pair, i, j, false))
+                    nested.emplace_back(i, j);
+            }
+            for (auto &children: nested) {
+                jint childPair = nextPair++;
+                add(nestedRecord, pair, children.first, children.second);
+                diff(dynamic_cast<Composition *>(childrenA[children.first].value),
+                     dynamic_cast<Composition *>(childrenB[children.second].value), childPair);
+            }
+        }
+    };
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_TimelineDiff
+ * Method:    diffNative
+ * Signature: (Lio/opentimeline/opentimelineio/Timeline;Lio/opentimeline/opentimelineio/Timeline;)[I
+ */
+JNIEXPORT jintArray JNICALL Java_io_opentimeline_opentimelineio_TimelineDiff_diffNative(
+        JNIEnv *env, jclass thisClass, jobject timelineA, jobject timelineB) {
+    if (timelineA == nullptr || timelineB == nullptr) {
+        throwNullPointerException(env, "");
+        return nullptr;
+    }
+    auto handleA = getHandle<SerializableObject::Retainer<Timeline>>(env, timelineA);
+    auto handleB = getHandle<SerializableObject::Retainer<Timeline>>(env, timelineB);
+    Differ differ;
+    differ.diffTimelines(handleA->value, handleB->value);
+    if (differ.failed()) {
+        processOTIOErrorStatus(env, differ.errorStatus);
+        return nullptr;
+    }
+    jintArray result = env->NewIntArray((jsize) differ.records.size());
+    if (result == nullptr) return nullptr;
+    env->SetIntArrayRegion(result, 0, (jsize) differ.records.size(), differ.records.data());
+    return result;
+}
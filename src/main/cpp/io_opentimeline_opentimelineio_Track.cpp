@@ -1,6 +1,7 @@
 // SPDX-License-Identifier: Apache-2.0
 // Copyright Contributors to the OpenTimelineIO Project.
 
+#include <content_hash.h>
 #include <exceptions.h>
 #include <handle.h>
 #include <io_opentimeline_opentimelineio_Track.h>
@@ -69,6 +70,7 @@ Java_io_opentimeline_opentimelineio_Track_setKind(
     auto thisHandle =
             getHandle<SerializableObject::Retainer<Track>>(env, thisObj);
     auto track = thisHandle->value;
+    contentChanged(track);
     std::string kindStr = env->GetStringUTFChars(kind, nullptr);
     track->set_kind(kindStr);
 }
@@ -152,10 +154,8 @@ JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_Track_getHandlesOf
                      ? rationalTimeToJObject(env, result.second.value())
                      : nullptr;
 
-    jclass pairClass = env->FindClass("io/opentimeline/util/Pair");
-    jmethodID pairInit = env->GetMethodID(
-            pairClass, "<init>", "(Ljava/lang/Object;Ljava/lang/Object;)V");
-    jobject pairObject = env->NewObject(pairClass, pairInit, first, second);
+    jobject pairObject = env->NewObject(
+            getJNICache(env).pairClass, getJNICache(env).pairInit, first, second);
     return pairObject;
 }
 
@@ -192,10 +192,8 @@ JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_Track_getNeighbors
     jobject first = composableFromNative(env, result.first);
     jobject second = composableFromNative(env, result.second);
 
-    jclass pairClass = env->FindClass("io/opentimeline/util/Pair");
-    jmethodID pairInit = env->GetMethodID(
-            pairClass, "<init>", "(Ljava/lang/Object;Ljava/lang/Object;)V");
-    jobject pairObject = env->NewObject(pairClass, pairInit, first, second);
+    jobject pairObject = env->NewObject(
+            getJNICache(env).pairClass, getJNICache(env).pairInit, first, second);
     return pairObject;
 }
 
@@ -213,14 +211,8 @@ JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_Track_getRangeOfAl
     auto result = track->range_of_all_children(&errorStatus);
     processOTIOErrorStatus(env, errorStatus);
 
-    jclass hashMapClass = env->FindClass("java/util/HashMap");
-    jmethodID hashMapInit = env->GetMethodID(hashMapClass, "<init>", "(I)V");
-    jobject hashMapObj =
-            env->NewObject(hashMapClass, hashMapInit, result.size());
-    jmethodID hashMapPut = env->GetMethodID(
-            hashMapClass,
-            "put",
-            "(Ljava/lang/Object;Ljava/lang/Object;)Ljava/lang/Object;");
+    jobject hashMapObj = env->NewObject(
+            getJNICache(env).hashMapClass, getJNICache(env).hashMapInit, (jint) result.size());
 
     for (auto it: result) {
         auto first = it.first;
@@ -228,7 +220,7 @@ JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_Track_getRangeOfAl
         jobject composableObject = composableFromNative(env, first);
         jobject tr = timeRangeToJObject(env, second);
 
-        env->CallObjectMethod(hashMapObj, hashMapPut, composableObject, tr);
+        env->CallObjectMethod(hashMapObj, getJNICache(env).hashMapPut, composableObject, tr);
     }
 
     return hashMapObj;
@@ -1,6 +1,7 @@
 // SPDX-License-Identifier: Apache-2.0
 // Copyright Contributors to the OpenTimelineIO Project.
 
+#include <content_hash.h>
 #include <exceptions.h>
 #include <handle.h>
 #include <io_opentimeline_opentimelineio_Transition.h>
@@ -89,6 +90,7 @@ Java_io_opentimeline_opentimelineio_Transition_setTransitionType(
     auto thisHandle =
             getHandle<SerializableObject::Retainer<Transition>>(env, thisObj);
     auto transition = thisHandle->value;
+    contentChanged(transition);
     transition->set_transition_type(transitionTypeStr);
 }
 
@@ -109,11 +111,11 @@ Java_io_opentimeline_opentimelineio_Transition_getInOffset(
 
 /*
  * Class:     io_opentimeline_opentimelineio_Transition
- * Method:    setInOffset
+ * Method:    setInOffsetNative
  * Signature: (Lio/opentimeline/opentime/RationalTime;)V
  */
 JNIEXPORT void JNICALL
-Java_io_opentimeline_opentimelineio_Transition_setInOffset(
+Java_io_opentimeline_opentimelineio_Transition_setInOffsetNative(
         JNIEnv *env, jobject thisObj, jobject inOffsetRationalTime) {
     if (inOffsetRationalTime == nullptr) {
         throwNullPointerException(env, "");
@@ -122,6 +124,7 @@ Java_io_opentimeline_opentimelineio_Transition_setInOffset(
     auto thisHandle =
             getHandle<SerializableObject::Retainer<Transition>>(env, thisObj);
     auto transition = thisHandle->value;
+    contentChanged(transition);
     auto inOffset = rationalTimeFromJObject(env, inOffsetRationalTime);
     transition->set_in_offset(inOffset);
 }
@@ -143,11 +146,11 @@ Java_io_opentimeline_opentimelineio_Transition_getOutOffset(
 
 /*
  * Class:     io_opentimeline_opentimelineio_Transition
- * Method:    setOutOffset
+ * Method:    setOutOffsetNative
  * Signature: (Lio/opentimeline/opentime/RationalTime;)V
  */
 JNIEXPORT void JNICALL
-Java_io_opentimeline_opentimelineio_Transition_setOutOffset(
+Java_io_opentimeline_opentimelineio_Transition_setOutOffsetNative(
         JNIEnv *env, jobject thisObj, jobject outOffsetRationalTime) {
     if (outOffsetRationalTime == nullptr) {
         throwNullPointerException(env, "");
@@ -156,6 +159,7 @@ Java_io_opentimeline_opentimelineio_Transition_setOutOffset(
     auto thisHandle =
             getHandle<SerializableObject::Retainer<Transition>>(env, thisObj);
     auto transition = thisHandle->value;
+    contentChanged(transition);
     auto outOffset = rationalTimeFromJObject(env, outOffsetRationalTime);
     transition->set_out_offset(outOffset);
 }
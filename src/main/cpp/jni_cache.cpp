@@ -0,0 +1,221 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+#include <jni_cache.h>
+#include <mutex>
+#include <unordered_map>
+
+static JNICache jniCache;
+
+/* only written while loading the library and on the first native call, read-only afterwards */
+static std::unordered_map<std::string, JavaClass> schemaJavaClasses;
+
+static const char *schemaNames[] = {
+        "Clip",
+        "Composable",
+        "Composition",
+        "Effect",
+        "ExternalReference",
+        "FreezeFrame",
+        "Gap",
+        "GeneratorReference",
+        "ImageSequenceReference",
+        "Item",
+        "LinearTimeWarp",
+        "Marker",
+        "MediaReference",
+        "MissingReference",
+        "SerializableCollection",
+        "SerializableObject",
+        "SerializableObjectWithMetadata",
+        "Stack",
+        "TimeEffect",
+        "Timeline",
+        "Track",
+        "Transition",
+        "UnknownSchema",
+};
+
+static jclass findClass(JNIEnv *env, const char *name) {
+    jclass localRef = env->FindClass(name);
+    if (localRef == nullptr) return nullptr;
+    auto globalRef = (jclass) env->NewGlobalRef(localRef);
+    env->DeleteLocalRef(localRef);
+    return globalRef;
+}
+
+/*
+ * Runs in JNI_OnLoad. FindClass loads classes without initializing them, which matters
+ * because the library is loaded from the static initializers of the bound classes.
+ */
+static bool findClasses(JNIEnv *env) {
+    JNICache &c = jniCache;
+
+    if (!(c.otioObjectClass = findClass(env, "io/opentimeline/OTIOObject"))) return false;
+    if (!(c.otioNativeClass = findClass(env, "io/opentimeline/OTIONative"))) return false;
+    if (!(c.otioFactoryClass = findClass(env, "io/opentimeline/OTIOFactory"))) return false;
+    if (!(c.rationalTimeClass = findClass(env, "io/opentimeline/opentime/RationalTime"))) return false;
+    if (!(c.timeRangeClass = findClass(env, "io/opentimeline/opentime/TimeRange"))) return false;
+    if (!(c.rationalTimeArrayClass = findClass(env, "io/opentimeline/opentime/RationalTimeArray")))
+        return false;
+    if (!(c.timeRangeArrayClass = findClass(env, "io/opentimeline/opentime/TimeRangeArray"))) return false;
+    if (!(c.timeTransformClass = findClass(env, "io/opentimeline/opentime/TimeTransform"))) return false;
+    if (!(c.any.cls = findClass(env, "io/opentimeline/opentimelineio/Any"))) return false;
+    if (!(c.anyDictionary.cls = findClass(env, "io/opentimeline/opentimelineio/AnyDictionary"))) return false;
+    if (!(c.anyDictionaryIterator.cls =
+                  findClass(env, "io/opentimeline/opentimelineio/AnyDictionary$Iterator")))
+        return false;
+    if (!(c.anyVector.cls = findClass(env, "io/opentimeline/opentimelineio/AnyVector"))) return false;
+    if (!(c.anyVectorIterator.cls =
+                  findClass(env, "io/opentimeline/opentimelineio/AnyVector$Iterator")))
+        return false;
+    if (!(c.composableClass = findClass(env, "io/opentimeline/opentimelineio/Composable"))) return false;
+    if (!(c.pairClass = findClass(env, "io/opentimeline/util/Pair"))) return false;
+    if (!(c.hashMapClass = findClass(env, "java/util/HashMap"))) return false;
+    if (!(c.stringInterningClass = findClass(env, "io/opentimeline/opentimelineio/StringInterning")))
+        return false;
+
+    for (auto schemaName: schemaNames) {
+        std::string javaClassName = std::string("io/opentimeline/opentimelineio/") + schemaName;
+        JavaClass javaClass;
+        if (!(javaClass.cls = findClass(env, javaClassName.c_str()))) return false;
+        schemaJavaClasses[schemaName] = javaClass;
+    }
+
+    for (auto &it: classCodeToString) {
+        jstring localRef = env->NewStringUTF(it.second.c_str());
+        if (localRef == nullptr) return false;
+        c.classNames[it.first] = (jstring) env->NewGlobalRef(localRef);
+        env->DeleteLocalRef(localRef);
+    }
+    return true;
+}
+
+static jmethodID getOTIONativeConstructor(JNIEnv *env, jclass cls) {
+    return env->GetMethodID(cls, "<init>", "(Lio/opentimeline/OTIONative;)V");
+}
+
+/*
+ * Looking up a field or method initializes its class. This is deferred to the first
+ * native call, when the library is loaded and no static initializer waits for it.
+ */
+static void findMembers(JNIEnv *env) {
+    JNICache &c = jniCache;
+
+    c.otioObjectNativeManager = env->GetFieldID(
+            c.otioObjectClass, "nativeManager", "Lio/opentimeline/OTIONative;");
+
+    c.otioNativeInit = env->GetMethodID(c.otioNativeClass, "<init>", "(J)V");
+    c.otioNativeNativeHandle = env->GetFieldID(c.otioNativeClass, "nativeHandle", "J");
+    c.otioNativeClassName = env->GetFieldID(
+            c.otioNativeClass, "className", "Ljava/lang/String;");
+
+    c.otioFactoryGetInstance = env->GetStaticMethodID(
+            c.otioFactoryClass, "getInstance", "()Lio/opentimeline/OTIOFactory;");
+    c.otioFactoryRegisterObject = env->GetMethodID(
+            c.otioFactoryClass, "registerObject", "(Lio/opentimeline/OTIOObject;)V");
+
+    c.rationalTimeInit = env->GetMethodID(c.rationalTimeClass, "<init>", "(DD)V");
+    c.rationalTimeValue = env->GetFieldID(c.rationalTimeClass, "value", "D");
+    c.rationalTimeRate = env->GetFieldID(c.rationalTimeClass, "rate", "D");
+
+    c.timeRangeInit = env->GetMethodID(
+            c.timeRangeClass,
+            "<init>",
+            "(Lio/opentimeline/opentime/RationalTime;Lio/opentimeline/opentime/RationalTime;)V");
+    c.timeRangeStartTime = env->GetFieldID(
+            c.timeRangeClass, "startTime", "Lio/opentimeline/opentime/RationalTime;");
+    c.timeRangeDuration = env->GetFieldID(
+            c.timeRangeClass, "duration", "Lio/opentimeline/opentime/RationalTime;");
+
+    c.rationalTimeArrayInit = env->GetMethodID(c.rationalTimeArrayClass, "<init>", "(I)V");
+    c.rationalTimeArrayValues = env->GetFieldID(c.rationalTimeArrayClass, "values", "[D");
+    c.rationalTimeArrayRates = env->GetFieldID(c.rationalTimeArrayClass, "rates", "[D");
+
+    c.timeRangeArrayInit = env->GetMethodID(c.timeRangeArrayClass, "<init>", "(I)V");
+    c.timeRangeArrayStartValues = env->GetFieldID(c.timeRangeArrayClass, "startValues", "[D");
+    c.timeRangeArrayStartRates = env->GetFieldID(c.timeRangeArrayClass, "startRates", "[D");
+    c.timeRangeArrayDurationValues = env->GetFieldID(c.timeRangeArrayClass, "durationValues", "[D");
+    c.timeRangeArrayDurationRates = env->GetFieldID(c.timeRangeArrayClass, "durationRates", "[D");
+
+    c.timeTransformInit = env->GetMethodID(
+            c.timeTransformClass, "<init>", "(Lio/opentimeline/opentime/RationalTime;DD)V");
+    c.timeTransformOffset = env->GetFieldID(
+            c.timeTransformClass, "offset", "Lio/opentimeline/opentime/RationalTime;");
+    c.timeTransformScale = env->GetFieldID(c.timeTransformClass, "scale", "D");
+    c.timeTransformRate = env->GetFieldID(c.timeTransformClass, "rate", "D");
+
+    c.any.init = getOTIONativeConstructor(env, c.any.cls);
+    c.anyTypeClass = env->GetFieldID(c.any.cls, "anyTypeClass", "Ljava/lang/String;");
+    c.anyDictionary.init = getOTIONativeConstructor(env, c.anyDictionary.cls);
+    c.anyDictionaryIterator.init = getOTIONativeConstructor(env, c.anyDictionaryIterator.cls);
+    c.anyVector.init = getOTIONativeConstructor(env, c.anyVector.cls);
+    c.anyVectorIterator.init = getOTIONativeConstructor(env, c.anyVectorIterator.cls);
+
+    c.composableDefaultInit = env->GetMethodID(c.composableClass, "<init>", "()V");
+
+    c.pairInit = env->GetMethodID(
+            c.pairClass, "<init>", "(Ljava/lang/Object;Ljava/lang/Object;)V");
+
+    c.hashMapInit = env->GetMethodID(c.hashMapClass, "<init>", "(I)V");
+    c.hashMapPut = env->GetMethodID(
+            c.hashMapClass, "put",
+            "(Ljava/lang/Object;Ljava/lang/Object;)Ljava/lang/Object;");
+
+    c.stringInterningIntern = env->GetStaticMethodID(
+            c.stringInterningClass, "intern", "(Ljava/lang/String;)Ljava/lang/String;");
+
+    for (auto &it: schemaJavaClasses) {
+        it.second.init = getOTIONativeConstructor(env, it.second.cls);
+    }
+}
+
+static std::once_flag membersFlag;
+
+const JNICache &getJNICache(JNIEnv *env) {
+    std::call_once(membersFlag, findMembers, env);
+    return jniCache;
+}
+
+const JavaClass *getSchemaJavaClass(JNIEnv *env, const std::string &schemaName) {
+    getJNICache(env);
+    auto it = schemaJavaClasses.find(schemaName);
+    return it == schemaJavaClasses.end() ? nullptr : &it->second;
+}
+
+JNIEXPORT jint JNICALL JNI_OnLoad(JavaVM *vm, void *reserved) {
+    JNIEnv *env;
+    if (vm->GetEnv(reinterpret_cast<void **>(&env), JNI_VERSION_1_6) != JNI_OK) {
+        return JNI_ERR;
+    }
+    if (!findClasses(env)) {
+        return JNI_ERR;
+    }
+    return JNI_VERSION_1_6;
+}
+
+JNIEXPORT void JNICALL JNI_OnUnload(JavaVM *vm, void *reserved) {
+    JNIEnv *env;
+    if (vm->GetEnv(reinterpret_cast<void **>(&env), JNI_VERSION_1_6) != JNI_OK) {
+        return;
+    }
+    JNICache &c = jniCache;
+    jclass classes[] = {
+            c.otioObjectClass, c.otioNativeClass, c.otioFactoryClass,
+            c.rationalTimeClass, c.timeRangeClass, c.timeTransformClass,
+            c.rationalTimeArrayClass, c.timeRangeArrayClass,
+            c.any.cls, c.anyDictionary.cls, c.anyDictionaryIterator.cls,
+            c.anyVector.cls, c.anyVectorIterator.cls,
+            c.composableClass, c.pairClass, c.hashMapClass, c.stringInterningClass};
+    for (auto cls: classes) {
+        if (cls != nullptr) env->DeleteGlobalRef(cls);
+    }
+    for (auto &it: schemaJavaClasses) {
+        env->DeleteGlobalRef(it.second.cls);
+    }
+    schemaJavaClasses.clear();
+    for (auto &className: c.classNames) {
+        if (className != nullptr) env->DeleteGlobalRef(className);
+    }
+    jniCache = JNICache();
+}
@@ -0,0 +1,180 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+#include <object_fields.h>
+#include <opentimelineio/clip.h>
+#include <opentimelineio/effect.h>
+#include <opentimelineio/externalReference.h>
+#include <opentimelineio/freezeFrame.h>
+#include <opentimelineio/gap.h>
+#include <opentimelineio/generatorReference.h>
+#include <opentimelineio/imageSequenceReference.h>
+#include <opentimelineio/linearTimeWarp.h>
+#include <opentimelineio/marker.h>
+#include <opentimelineio/missingReference.h>
+#include <opentimelineio/serializableCollection.h>
+#include <opentimelineio/stack.h>
+#include <opentimelineio/timeEffect.h>
+#include <opentimelineio/timeline.h>
+#include <opentimelineio/track.h>
+#include <opentimelineio/transition.h>
+
+using namespace opentimelineio::OPENTIMELINEIO_VERSION;
+
+namespace {
+
+    template<typename T>
+    std::vector<SerializableObject *> objects(std::vector<SerializableObject::Retainer<T>> const &retainers) {
+        std::vector<SerializableObject *> result;
+        result.reserve(retainers.size());
+        for (auto &retainer: retainers)
+            result.push_back(retainer.value);
+        return result;
+    }
+
+    void writeOptional(FieldWriter &writer, const char *key, optional<TimeRange> const &value) {
+        if (value) writer.write(key, *value);
+        else writer.writeNull(key);
+    }
+
+    void writeMetadata(SerializableObjectWithMetadata *object, FieldWriter &writer) {
+        writer.write("name", object->name());
+        writer.write("metadata", object->metadata());
+    }
+
+    void writeItem(Item *item, FieldWriter &writer) {
+        writeMetadata(item, writer);
+        writeOptional(writer, "source_range", item->source_range());
+        writer.write("effects", objects(item->effects()));
+        writer.write("markers", objects(item->markers()));
+    }
+
+    void writeComposition(Composition *composition, FieldWriter &writer) {
+        writeItem(composition, writer);
+        writer.write("children", objects(composition->children()));
+    }
+
+    void writeMediaReference(MediaReference *mediaReference, FieldWriter &writer) {
+        writeMetadata(mediaReference, writer);
+        writeOptional(writer, "available_range", mediaReference->available_range());
+    }
+
+    const char *missingFramePolicyName(ImageSequenceReference::MissingFramePolicy policy) {
+        switch (policy) {
+            case ImageSequenceReference::MissingFramePolicy::hold:
+                return "hold";
+            case ImageSequenceReference::MissingFramePolicy::black:
+                return "black";
+            default:
+                return "error";
+        }
+    }
+
+    void writeImageSequenceReference(ImageSequenceReference *reference, FieldWriter &writer) {
+        writeMediaReference(reference, writer);
+        writer.write("target_url_base", reference->target_url_base());
+        writer.write("name_prefix", reference->name_prefix());
+        writer.write("name_suffix", reference->name_suffix());
+        writer.write("start_frame", reference->start_frame());
+        writer.write("frame_step", reference->frame_step());
+        writer.write("rate", reference->rate());
+        writer.write("frame_zero_padding", reference->frame_zero_padding());
+        writer.write("missing_frame_policy",
+                     std::string(missingFramePolicyName(reference->missing_frame_policy())));
+    }
+
+    /* writes the schema fields of object, false if its schema is not a built-in one */
+    bool writeSchemaFields(SerializableObject *object, FieldWriter &writer) {
+        std::string const &schema = object->schema_name();
+        if (schema == "Clip") {
+            auto clip = dynamic_cast<Clip *>(object);
+            if (clip == nullptr) return false;
+            writeItem(clip, writer);
+            writer.write("media_reference", clip->media_reference());
+        } else if (schema == "Gap" || schema == "Item") {
+            auto item = dynamic_cast<Item *>(object);
+            if (item == nullptr) return false;
+            writeItem(item, writer);
+        } else if (schema == "Track") {
+            auto track = dynamic_cast<Track *>(object);
+            if (track == nullptr) return false;
+            writeComposition(track, writer);
+            writer.write("kind", track->kind());
+        } else if (schema == "Stack" || schema == "Composition") {
+            auto composition = dynamic_cast<Composition *>(object);
+            if (composition == nullptr) return false;
+            writeComposition(composition, writer);
+        } else if (schema == "Transition") {
+            auto transition = dynamic_cast<Transition *>(object);
+            if (transition == nullptr) return false;
+            writeMetadata(transition, writer);
+            writer.write("in_offset", transition->in_offset());
+            writer.write("out_offset", transition->out_offset());
+            writer.write("transition_type", transition->transition_type());
+        } else if (schema == "Timeline") {
+            auto timeline = dynamic_cast<Timeline *>(object);
+            if (timeline == nullptr) return false;
+            writeMetadata(timeline, writer);
+            auto globalStartTime = timeline->global_start_time();
+            if (globalStartTime) writer.write("global_start_time", *globalStartTime);
+            else writer.writeNull("global_start_time");
+            writer.write("tracks", timeline->tracks());
+        } else if (schema == "SerializableCollection") {
+            auto collection = dynamic_cast<SerializableCollection *>(object);
+            if (collection == nullptr) return false;
+            writeMetadata(collection, writer);
+            writer.write("children", objects(collection->children()));
+        } else if (schema == "Marker") {
+            auto marker = dynamic_cast<Marker *>(object);
+            if (marker == nullptr) return false;
+            writeMetadata(marker, writer);
+            writer.write("color", marker->color());
+            writer.write("marked_range", marker->marked_range());
+        } else if (schema == "LinearTimeWarp" || schema == "FreezeFrame") {
+            auto timeWarp = dynamic_cast<LinearTimeWarp *>(object);
+            if (timeWarp == nullptr) return false;
+            writeMetadata(timeWarp, writer);
+            writer.write("effect_name", timeWarp->effect_name());
+            writer.write("time_scalar", timeWarp->time_scalar());
+        } else if (schema == "Effect" || schema == "TimeEffect") {
+            auto effect = dynamic_cast<Effect *>(object);
+            if (effect == nullptr) return false;
+            writeMetadata(effect, writer);
+            writer.write("effect_name", effect->effect_name());
+        } else if (schema == "ExternalReference") {
+            auto reference = dynamic_cast<ExternalReference *>(object);
+            if (reference == nullptr) return false;
+            writeMediaReference(reference, writer);
+            writer.write("target_url", reference->target_url());
+        } else if (schema == "GeneratorReference") {
+            auto reference = dynamic_cast<GeneratorReference *>(object);
+            if (reference == nullptr) return false;
+            writeMediaReference(reference, writer);
+            writer.write("generator_kind", reference->generator_kind());
+            writer.write("parameters", reference->parameters());
+        } else if (schema == "ImageSequenceReference") {
+            auto reference = dynamic_cast<ImageSequenceReference *>(object);
+            if (reference == nullptr) return false;
+            writeImageSequenceReference(reference, writer);
+        } else if (schema == "MissingReference" || schema == "MediaReference") {
+            auto reference = dynamic_cast<MediaReference *>(object);
+            if (reference == nullptr) return false;
+            writeMediaReference(reference, writer);
+        } else if (schema == "Composable" || schema == "SerializableObjectWithMetadata") {
+            auto objectWithMetadata = dynamic_cast<SerializableObjectWithMetadata *>(object);
+            if (objectWithMetadata == nullptr) return false;
+            writeMetadata(objectWithMetadata, writer);
+        } else if (schema != "SerializableObject") {
+            return false;
+        }
+        return true;
+    }
+}
+
+bool writeFields(SerializableObject *object, FieldWriter &writer) {
+    if (object->is_unknown_schema() || !writeSchemaFields(object, writer))
+        return false;
+    for (auto &field: object->dynamic_fields())
+        writer.write(field.first.c_str(), field.second);
+    return true;
+}
@@ -0,0 +1,52 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+#include <opentimelineio/any.h>
+#include <opentimelineio/errorStatus.h>
+#include <opentimelineio/version.h>
+
+#include <string>
+
+#ifndef _BINARY_SERIALIZATION_H_INCLUDED_
+#define _BINARY_SERIALIZATION_H_INCLUDED_
+
+/*
+ * Compact binary OTIO format.
+ *
+ * The document starts with the 7 bytes "OTIOBIN" and a format version byte, 2, followed by a
+ * single value. Every value starts with a one byte tag:
+ *
+ *   null, false, true
+ *   int          4 byte little endian integer
+ *   int64        8 byte little endian integer
+ *   double       8 byte little endian IEEE 754 double
+ *   string       string reference
+ *   RationalTime value, rate as doubles
+ *   TimeRange    start time value, start time rate, duration value, duration rate as doubles
+ *   TimeTransform offset value, offset rate, scale, rate as doubles
+ *   dictionary   4 byte count, then count string reference keys each followed by a value
+ *   vector       4 byte count, then count values
+ *   object       string reference to the schema ("Clip.1"), then the fields as for a dictionary
+ *   JSON object  string reference to the JSON of an object whose schema is not a built-in one
+ *
+ * A string reference is a varint. 0 introduces a new string, stored as a varint byte length and
+ * its UTF-8 bytes, which gets the next index of the string table. n > 0 refers to the string
+ * with index n - 1, so repeated schema names, keys and values are only stored once.
+ *
+ * Version 1 documents are the same without JSON objects, and are read as well.
+ */
+
+/*
+ * Encodes value to the binary format, reading objects through writeFields() rather than writing
+ * and parsing their JSON.
+ */
+bool anyToBinary(OTIO_NS::any const &value, std::string &binary, OTIO_NS::ErrorStatus &errorStatus);
+
+/* Decodes a binary document into destination, creating the objects through the TypeRegistry. */
+bool binaryToAny(const char *data, size_t length, OTIO_NS::any *destination, OTIO_NS::ErrorStatus &errorStatus);
+
+bool writeBinaryFile(std::string const &fileName, std::string const &binary, OTIO_NS::ErrorStatus &errorStatus);
+
+bool readBinaryFile(std::string const &fileName, std::string &binary, OTIO_NS::ErrorStatus &errorStatus);
+
+#endif
@@ -8,7 +8,10 @@
 #ifndef _CLASS_CODES_H_INCLUDED_
 #define _CLASS_CODES_H_INCLUDED_
 
+// The order of this enum is mirrored in io.opentimeline.OTIOClassCodes
 enum ClassCode {
+    // class names without a code, OTIOClassCodes.UNKNOWN
+    _Unknown = -1,
     _OpenTimeErrorStatus,
     _Any,
     _AnyDictionary,
@@ -47,8 +50,6 @@ extern std::map<ClassCode, std::string> classCodeToString;
 
 ClassCode getClassCodeFromString(std::string str);
 
-void disposeObject(JNIEnv *env, jlong nativeHandle, jstring nativeClassName);
-
-void disposeObject(JNIEnv *env, jobject object);
+void disposeObject(JNIEnv *env, jlong nativeHandle, jint classCode);
 
 #endif
\ No newline at end of file
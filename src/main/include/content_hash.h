@@ -0,0 +1,79 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+#include <opentimelineio/anyDictionary.h>
+#include <opentimelineio/anyVector.h>
+#include <opentimelineio/errorStatus.h>
+#include <opentimelineio/serializableObject.h>
+#include <opentimelineio/version.h>
+
+#include <cstddef>
+#include <cstdint>
+#include <string>
+#include <vector>
+
+#ifndef _CONTENT_HASH_H_INCLUDED_
+#define _CONTENT_HASH_H_INCLUDED_
+
+/*
+ * Structural content hashes of SerializableObjects.
+ *
+ * The hash of an object is XXH64 over its schema, its fields as writeFields() reads them, with
+ * dictionaries in key order, and the hashes of the objects it holds. Objects that are equivalent
+ * have the same hash.
+ *
+ * Hashes are memoized per native object. Hashing an object records it as an owner of the objects
+ * it holds, and contentChanged(object), which every JNI function that mutates an object calls,
+ * drops the hash of the object and of its owners up to the root. Hashing again only recomputes
+ * the objects on that path and reuses the memoized hashes of everything else.
+ *
+ * The memo does not retain the objects, it is keyed by their addresses. Before a reference to
+ * objects is dropped, by disposeObject() or by a JNI function replacing or removing values,
+ * contentReleased() drops the memoized hashes of the objects that are freed with it, so that a
+ * reused address never finds the hash of a freed object. Objects of schemas writeFields() does not
+ * know, like UnknownSchema, are hashed over their JSON and are not memoized, neither are the
+ * objects holding them.
+ */
+
+/* drop the memoized hashes of object and of the objects holding it */
+void contentChanged(OTIO_NS::SerializableObject *object);
+
+/*
+ * Drop the memoized hashes of the objects freed when the caller drops one reference to object,
+ * or to each object a value holds. It reads the objects, so it is called before the reference is
+ * dropped.
+ */
+void contentReleased(OTIO_NS::SerializableObject *object);
+
+void contentReleased(std::vector<OTIO_NS::SerializableObject *> const &objects);
+
+void contentReleased(OTIO_NS::any const &value);
+
+void contentReleased(OTIO_NS::AnyDictionary const &dictionary);
+
+void contentReleased(OTIO_NS::AnyVector const &vector);
+
+template<typename T>
+void contentReleased(std::vector<OTIO_NS::SerializableObject::Retainer<T>> const &retainers) {
+    std::vector<OTIO_NS::SerializableObject *> objects;
+    objects.reserve(retainers.size());
+    for (auto &retainer: retainers)
+        objects.push_back(retainer.value);
+    contentReleased(objects);
+}
+
+std::uint64_t contentHash(OTIO_NS::SerializableObject *object, OTIO_NS::ErrorStatus &errorStatus);
+
+/*
+ * Hash of the fields of object except the excluded ones, with the memoized hashes of the objects
+ * they hold, or of its JSON if its schema is not a built-in one. It is not memoized.
+ */
+std::uint64_t fieldsHash(OTIO_NS::SerializableObject *object, std::vector<std::string> const &excluded,
+                         OTIO_NS::ErrorStatus &errorStatus);
+
+/* hash of a dictionary, like the metadata of an object */
+std::uint64_t dictionaryHash(OTIO_NS::AnyDictionary const &dictionary, OTIO_NS::ErrorStatus &errorStatus);
+
+std::uint64_t xxHash64(const void *data, std::size_t length, std::uint64_t seed);
+
+#endif
@@ -2,6 +2,7 @@
 // Copyright Contributors to the OpenTimelineIO Project.
 
 #include <jni.h>
+#include <jni_cache.h>
 
 #ifndef _HANDLE_H_INCLUDED_
 #define _HANDLE_H_INCLUDED_
@@ -9,15 +10,9 @@
 template<typename T>
 T *
 getHandle(JNIEnv *env, jobject obj) {
-    jclass otioObjClass = env->FindClass("io/opentimeline/OTIOObject");
-    jmethodID getNativeManager = env->GetMethodID(
-            otioObjClass, "getNativeManager", "()Lio/opentimeline/OTIONative;");
-    jobject nativeManager = env->CallObjectMethod(obj, getNativeManager);
-
-    jclass otioNativeClass = env->GetObjectClass(nativeManager);
-    jfieldID nativeHandleFieldID =
-            env->GetFieldID(otioNativeClass, "nativeHandle", "J");
-    jlong nativeHandle = env->GetLongField(nativeManager, nativeHandleFieldID);
+    jobject nativeManager = env->GetObjectField(obj, getJNICache(env).otioObjectNativeManager);
+    jlong nativeHandle = env->GetLongField(nativeManager, getJNICache(env).otioNativeNativeHandle);
+    env->DeleteLocalRef(nativeManager);
     return reinterpret_cast<T *>(nativeHandle);
 }
 
@@ -26,15 +21,11 @@ void
 setHandle(JNIEnv *env, jobject obj, T *t) {
 
     jlong handle = reinterpret_cast<jlong>(t);
-    jclass otioNativeClass = env->FindClass("io/opentimeline/OTIONative");
-    jmethodID init = env->GetMethodID(otioNativeClass, "<init>", "(J)V");
-    jobject otioNative = env->NewObject(otioNativeClass, init, handle);
-
-    jclass objClass = env->GetObjectClass(obj);
-    jfieldID nativeManagerField = env->GetFieldID(
-            objClass, "nativeManager", "Lio/opentimeline/OTIONative;");
+    jobject otioNative = env->NewObject(
+            getJNICache(env).otioNativeClass, getJNICache(env).otioNativeInit, handle);
 
-    env->SetObjectField(obj, nativeManagerField, otioNative);
+    env->SetObjectField(obj, getJNICache(env).otioObjectNativeManager, otioNative);
+    env->DeleteLocalRef(otioNative);
 }
 
-#endif
\ No newline at end of file
+#endif
@@ -17,11 +17,19 @@ JNIEXPORT jlong JNICALL Java_io_opentimeline_OTIONative_getOTIOObjectNativeHandl
 
 /*
  * Class:     io_opentimeline_OTIONative
- * Method:    close
- * Signature: ()V
+ * Method:    disposeNativeObject
+ * Signature: (JI)V
  */
-JNIEXPORT void JNICALL Java_io_opentimeline_OTIONative_close
-  (JNIEnv *, jobject);
+JNIEXPORT void JNICALL Java_io_opentimeline_OTIONative_disposeNativeObject
+  (JNIEnv *, jclass, jlong, jint);
+
+/*
+ * Class:     io_opentimeline_OTIONative
+ * Method:    disposeNativeObjects
+ * Signature: ([J[II)V
+ */
+JNIEXPORT void JNICALL Java_io_opentimeline_OTIONative_disposeNativeObjects
+  (JNIEnv *, jclass, jlongArray, jintArray, jint);
 
 #ifdef __cplusplus
 }
@@ -0,0 +1,277 @@
+/* DO NOT EDIT THIS FILE - it is machine generated */
+#include <jni.h>
+/* Header for class io_opentimeline_opentime_OpenTimeOracle */
+
+#ifndef _Included_io_opentimeline_opentime_OpenTimeOracle
+#define _Included_io_opentimeline_opentime_OpenTimeOracle
+#ifdef __cplusplus
+extern "C" {
+#endif
+/*
+ * Class:     io_opentimeline_opentime_OpenTimeOracle
+ * Method:    isInvalidTime
+ * Signature: (Lio/opentimeline/opentime/RationalTime;)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentime_OpenTimeOracle_isInvalidTime
+  (JNIEnv *, jclass, jobject);
+
+/*
+ * Class:     io_opentimeline_opentime_OpenTimeOracle
+ * Method:    add
+ * Signature: (Lio/opentimeline/opentime/RationalTime;Lio/opentimeline/opentime/RationalTime;)Lio/opentimeline/opentime/RationalTime;
+ */
+JNIEXPORT jobject JNICALL Java_io_opentimeline_opentime_OpenTimeOracle_add
+  (JNIEnv *, jclass, jobject, jobject);
+
+/*
+ * Class:     io_opentimeline_opentime_OpenTimeOracle
+ * Method:    subtract
+ * Signature: (Lio/opentimeline/opentime/RationalTime;Lio/opentimeline/opentime/RationalTime;)Lio/opentimeline/opentime/RationalTime;
+ */
+JNIEXPORT jobject JNICALL Java_io_opentimeline_opentime_OpenTimeOracle_subtract
+  (JNIEnv *, jclass, jobject, jobject);
+
+/*
+ * Class:     io_opentimeline_opentime_OpenTimeOracle
+ * Method:    rescaledTo
+ * Signature: (Lio/opentimeline/opentime/RationalTime;D)Lio/opentimeline/opentime/RationalTime;
+ */
+JNIEXPORT jobject JNICALL Java_io_opentimeline_opentime_OpenTimeOracle_rescaledTo__Lio_opentimeline_opentime_RationalTime_2D
+  (JNIEnv *, jclass, jobject, jdouble);
+
+/*
+ * Class:     io_opentimeline_opentime_OpenTimeOracle
+ * Method:    rescaledTo
+ * Signature: (Lio/opentimeline/opentime/RationalTime;Lio/opentimeline/opentime/RationalTime;)Lio/opentimeline/opentime/RationalTime;
+ */
+JNIEXPORT jobject JNICALL Java_io_opentimeline_opentime_OpenTimeOracle_rescaledTo__Lio_opentimeline_opentime_RationalTime_2Lio_opentimeline_opentime_RationalTime_2
+  (JNIEnv *, jclass, jobject, jobject);
+
+/*
+ * Class:     io_opentimeline_opentime_OpenTimeOracle
+ * Method:    valueRescaledTo
+ * Signature: (Lio/opentimeline/opentime/RationalTime;D)D
+ */
+JNIEXPORT jdouble JNICALL Java_io_opentimeline_opentime_OpenTimeOracle_valueRescaledTo__Lio_opentimeline_opentime_RationalTime_2D
+  (JNIEnv *, jclass, jobject, jdouble);
+
+/*
+ * Class:     io_opentimeline_opentime_OpenTimeOracle
+ * Method:    valueRescaledTo
+ * Signature: (Lio/opentimeline/opentime/RationalTime;Lio/opentimeline/opentime/RationalTime;)D
+ */
+JNIEXPORT jdouble JNICALL Java_io_opentimeline_opentime_OpenTimeOracle_valueRescaledTo__Lio_opentimeline_opentime_RationalTime_2Lio_opentimeline_opentime_RationalTime_2
+  (JNIEnv *, jclass, jobject, jobject);
+
+/*
+ * Class:     io_opentimeline_opentime_OpenTimeOracle
+ * Method:    almostEqual
+ * Signature: (Lio/opentimeline/opentime/RationalTime;Lio/opentimeline/opentime/RationalTime;D)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentime_OpenTimeOracle_almostEqual
+  (JNIEnv *, jclass, jobject, jobject, jdouble);
+
+/*
+ * Class:     io_opentimeline_opentime_OpenTimeOracle
+ * Method:    durationFromStartEndTime
+ * Signature: (Lio/opentimeline/opentime/RationalTime;Lio/opentimeline/opentime/RationalTime;)Lio/opentimeline/opentime/RationalTime;
+ */
+JNIEXPORT jobject JNICALL Java_io_opentimeline_opentime_OpenTimeOracle_durationFromStartEndTime
+  (JNIEnv *, jclass, jobject, jobject);
+
+/*
+ * Class:     io_opentimeline_opentime_OpenTimeOracle
+ * Method:    equals
+ * Signature: (Lio/opentimeline/opentime/RationalTime;Lio/opentimeline/opentime/RationalTime;)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentime_OpenTimeOracle_equals
+  (JNIEnv *, jclass, jobject, jobject);
+
+/*
+ * Class:     io_opentimeline_opentime_OpenTimeOracle
+ * Method:    compare
+ * Signature: (Lio/opentimeline/opentime/RationalTime;Lio/opentimeline/opentime/RationalTime;)I
+ */
+JNIEXPORT jint JNICALL Java_io_opentimeline_opentime_OpenTimeOracle_compare
+  (JNIEnv *, jclass, jobject, jobject);
+
+/*
+ * Class:     io_opentimeline_opentime_OpenTimeOracle
+ * Method:    defaultEpsilon
+ * Signature: ()D
+ */
+JNIEXPORT jdouble JNICALL Java_io_opentimeline_opentime_OpenTimeOracle_defaultEpsilon
+  (JNIEnv *, jclass);
+
+/*
+ * Class:     io_opentimeline_opentime_OpenTimeOracle
+ * Method:    endTimeInclusive
+ * Signature: (Lio/opentimeline/opentime/TimeRange;)Lio/opentimeline/opentime/RationalTime;
+ */
+JNIEXPORT jobject JNICALL Java_io_opentimeline_opentime_OpenTimeOracle_endTimeInclusive
+  (JNIEnv *, jclass, jobject);
+
+/*
+ * Class:     io_opentimeline_opentime_OpenTimeOracle
+ * Method:    endTimeExclusive
+ * Signature: (Lio/opentimeline/opentime/TimeRange;)Lio/opentimeline/opentime/RationalTime;
+ */
+JNIEXPORT jobject JNICALL Java_io_opentimeline_opentime_OpenTimeOracle_endTimeExclusive
+  (JNIEnv *, jclass, jobject);
+
+/*
+ * Class:     io_opentimeline_opentime_OpenTimeOracle
+ * Method:    durationExtendedBy
+ * Signature: (Lio/opentimeline/opentime/TimeRange;Lio/opentimeline/opentime/RationalTime;)Lio/opentimeline/opentime/TimeRange;
+ */
+JNIEXPORT jobject JNICALL Java_io_opentimeline_opentime_OpenTimeOracle_durationExtendedBy
+  (JNIEnv *, jclass, jobject, jobject);
+
+/*
+ * Class:     io_opentimeline_opentime_OpenTimeOracle
+ * Method:    extendedBy
+ * Signature: (Lio/opentimeline/opentime/TimeRange;Lio/opentimeline/opentime/TimeRange;)Lio/opentimeline/opentime/TimeRange;
+ */
+JNIEXPORT jobject JNICALL Java_io_opentimeline_opentime_OpenTimeOracle_extendedBy
+  (JNIEnv *, jclass, jobject, jobject);
+
+/*
+ * Class:     io_opentimeline_opentime_OpenTimeOracle
+ * Method:    clampedTime
+ * Signature: (Lio/opentimeline/opentime/TimeRange;Lio/opentimeline/opentime/RationalTime;)Lio/opentimeline/opentime/RationalTime;
+ */
+JNIEXPORT jobject JNICALL Java_io_opentimeline_opentime_OpenTimeOracle_clampedTime
+  (JNIEnv *, jclass, jobject, jobject);
+
+/*
+ * Class:     io_opentimeline_opentime_OpenTimeOracle
+ * Method:    clampedRange
+ * Signature: (Lio/opentimeline/opentime/TimeRange;Lio/opentimeline/opentime/TimeRange;)Lio/opentimeline/opentime/TimeRange;
+ */
+JNIEXPORT jobject JNICALL Java_io_opentimeline_opentime_OpenTimeOracle_clampedRange
+  (JNIEnv *, jclass, jobject, jobject);
+
+/*
+ * Class:     io_opentimeline_opentime_OpenTimeOracle
+ * Method:    containsTime
+ * Signature: (Lio/opentimeline/opentime/TimeRange;Lio/opentimeline/opentime/RationalTime;)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentime_OpenTimeOracle_containsTime
+  (JNIEnv *, jclass, jobject, jobject);
+
+/*
+ * Class:     io_opentimeline_opentime_OpenTimeOracle
+ * Method:    containsRange
+ * Signature: (Lio/opentimeline/opentime/TimeRange;Lio/opentimeline/opentime/TimeRange;D)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentime_OpenTimeOracle_containsRange
+  (JNIEnv *, jclass, jobject, jobject, jdouble);
+
+/*
+ * Class:     io_opentimeline_opentime_OpenTimeOracle
+ * Method:    overlapsTime
+ * Signature: (Lio/opentimeline/opentime/TimeRange;Lio/opentimeline/opentime/RationalTime;)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentime_OpenTimeOracle_overlapsTime
+  (JNIEnv *, jclass, jobject, jobject);
+
+/*
+ * Class:     io_opentimeline_opentime_OpenTimeOracle
+ * Method:    overlapsRange
+ * Signature: (Lio/opentimeline/opentime/TimeRange;Lio/opentimeline/opentime/TimeRange;D)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentime_OpenTimeOracle_overlapsRange
+  (JNIEnv *, jclass, jobject, jobject, jdouble);
+
+/*
+ * Class:     io_opentimeline_opentime_OpenTimeOracle
+ * Method:    beforeTime
+ * Signature: (Lio/opentimeline/opentime/TimeRange;Lio/opentimeline/opentime/RationalTime;D)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentime_OpenTimeOracle_beforeTime
+  (JNIEnv *, jclass, jobject, jobject, jdouble);
+
+/*
+ * Class:     io_opentimeline_opentime_OpenTimeOracle
+ * Method:    beforeRange
+ * Signature: (Lio/opentimeline/opentime/TimeRange;Lio/opentimeline/opentime/TimeRange;D)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentime_OpenTimeOracle_beforeRange
+  (JNIEnv *, jclass, jobject, jobject, jdouble);
+
+/*
+ * Class:     io_opentimeline_opentime_OpenTimeOracle
+ * Method:    meets
+ * Signature: (Lio/opentimeline/opentime/TimeRange;Lio/opentimeline/opentime/TimeRange;D)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentime_OpenTimeOracle_meets
+  (JNIEnv *, jclass, jobject, jobject, jdouble);
+
+/*
+ * Class:     io_opentimeline_opentime_OpenTimeOracle
+ * Method:    beginsTime
+ * Signature: (Lio/opentimeline/opentime/TimeRange;Lio/opentimeline/opentime/RationalTime;D)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentime_OpenTimeOracle_beginsTime
+  (JNIEnv *, jclass, jobject, jobject, jdouble);
+
+/*
+ * Class:     io_opentimeline_opentime_OpenTimeOracle
+ * Method:    beginsRange
+ * Signature: (Lio/opentimeline/opentime/TimeRange;Lio/opentimeline/opentime/TimeRange;D)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentime_OpenTimeOracle_beginsRange
+  (JNIEnv *, jclass, jobject, jobject, jdouble);
+
+/*
+ * Class:     io_opentimeline_opentime_OpenTimeOracle
+ * Method:    finishesTime
+ * Signature: (Lio/opentimeline/opentime/TimeRange;Lio/opentimeline/opentime/RationalTime;D)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentime_OpenTimeOracle_finishesTime
+  (JNIEnv *, jclass, jobject, jobject, jdouble);
+
+/*
+ * Class:     io_opentimeline_opentime_OpenTimeOracle
+ * Method:    finishesRange
+ * Signature: (Lio/opentimeline/opentime/TimeRange;Lio/opentimeline/opentime/TimeRange;D)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentime_OpenTimeOracle_finishesRange
+  (JNIEnv *, jclass, jobject, jobject, jdouble);
+
+/*
+ * Class:     io_opentimeline_opentime_OpenTimeOracle
+ * Method:    intersects
+ * Signature: (Lio/opentimeline/opentime/TimeRange;Lio/opentimeline/opentime/TimeRange;D)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentime_OpenTimeOracle_intersects
+  (JNIEnv *, jclass, jobject, jobject, jdouble);
+
+/*
+ * Class:     io_opentimeline_opentime_OpenTimeOracle
+ * Method:    rangeEquals
+ * Signature: (Lio/opentimeline/opentime/TimeRange;Lio/opentimeline/opentime/TimeRange;)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentime_OpenTimeOracle_rangeEquals
+  (JNIEnv *, jclass, jobject, jobject);
+
+/*
+ * Class:     io_opentimeline_opentime_OpenTimeOracle
+ * Method:    rangeNotEquals
+ * Signature: (Lio/opentimeline/opentime/TimeRange;Lio/opentimeline/opentime/TimeRange;)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentime_OpenTimeOracle_rangeNotEquals
+  (JNIEnv *, jclass, jobject, jobject);
+
+/*
+ * Class:     io_opentimeline_opentime_OpenTimeOracle
+ * Method:    rangeFromStartEndTime
+ * Signature: (Lio/opentimeline/opentime/RationalTime;Lio/opentimeline/opentime/RationalTime;)Lio/opentimeline/opentime/TimeRange;
+ */
+JNIEXPORT jobject JNICALL Java_io_opentimeline_opentime_OpenTimeOracle_rangeFromStartEndTime
+  (JNIEnv *, jclass, jobject, jobject);
+
+#ifdef __cplusplus
+}
+#endif
+#endif
@@ -7,86 +7,8 @@
 #ifdef __cplusplus
 extern "C" {
 #endif
-/*
- * Class:     io_opentimeline_opentime_RationalTime
- * Method:    isInvalidTimeNative
- * Signature: (DD)Z
- */
-JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentime_RationalTime_isInvalidTimeNative
-  (JNIEnv *, jclass, jdouble, jdouble);
-
-/*
- * Class:     io_opentimeline_opentime_RationalTime
- * Method:    add
- * Signature: (Lio/opentimeline/opentime/RationalTime;)Lio/opentimeline/opentime/RationalTime;
- */
-JNIEXPORT jobject JNICALL Java_io_opentimeline_opentime_RationalTime_add
-  (JNIEnv *, jobject, jobject);
-
-/*
- * Class:     io_opentimeline_opentime_RationalTime
- * Method:    subtract
- * Signature: (Lio/opentimeline/opentime/RationalTime;)Lio/opentimeline/opentime/RationalTime;
- */
-JNIEXPORT jobject JNICALL Java_io_opentimeline_opentime_RationalTime_subtract
-  (JNIEnv *, jobject, jobject);
-
-/*
- * Class:     io_opentimeline_opentime_RationalTime
- * Method:    rescaledTo
- * Signature: (D)Lio/opentimeline/opentime/RationalTime;
- */
-JNIEXPORT jobject JNICALL Java_io_opentimeline_opentime_RationalTime_rescaledTo__D
-  (JNIEnv *, jobject, jdouble);
-
-/*
- * Class:     io_opentimeline_opentime_RationalTime
- * Method:    rescaledTo
- * Signature: (Lio/opentimeline/opentime/RationalTime;)Lio/opentimeline/opentime/RationalTime;
- */
-JNIEXPORT jobject JNICALL Java_io_opentimeline_opentime_RationalTime_rescaledTo__Lio_opentimeline_opentime_RationalTime_2
-  (JNIEnv *, jobject, jobject);
-
-/*
- * Class:     io_opentimeline_opentime_RationalTime
- * Method:    valueRescaledTo
- * Signature: (D)D
- */
-JNIEXPORT jdouble JNICALL Java_io_opentimeline_opentime_RationalTime_valueRescaledTo__D
-  (JNIEnv *, jobject, jdouble);
-
-/*
- * Class:     io_opentimeline_opentime_RationalTime
- * Method:    valueRescaledTo
- * Signature: (Lio/opentimeline/opentime/RationalTime;)D
- */
-JNIEXPORT jdouble JNICALL Java_io_opentimeline_opentime_RationalTime_valueRescaledTo__Lio_opentimeline_opentime_RationalTime_2
-  (JNIEnv *, jobject, jobject);
-
-/*
- * Class:     io_opentimeline_opentime_RationalTime
- * Method:    almostEqual
- * Signature: (Lio/opentimeline/opentime/RationalTime;)Z
- */
-JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentime_RationalTime_almostEqual__Lio_opentimeline_opentime_RationalTime_2
-  (JNIEnv *, jobject, jobject);
-
-/*
- * Class:     io_opentimeline_opentime_RationalTime
- * Method:    almostEqual
- * Signature: (Lio/opentimeline/opentime/RationalTime;D)Z
- */
-JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentime_RationalTime_almostEqual__Lio_opentimeline_opentime_RationalTime_2D
-  (JNIEnv *, jobject, jobject, jdouble);
-
-/*
- * Class:     io_opentimeline_opentime_RationalTime
- * Method:    durationFromStartEndTime
- * Signature: (Lio/opentimeline/opentime/RationalTime;Lio/opentimeline/opentime/RationalTime;)Lio/opentimeline/opentime/RationalTime;
- */
-JNIEXPORT jobject JNICALL Java_io_opentimeline_opentime_RationalTime_durationFromStartEndTime
-  (JNIEnv *, jclass, jobject, jobject);
-
+#undef io_opentimeline_opentime_RationalTime_TIMECODE_LENGTH
+#define io_opentimeline_opentime_RationalTime_TIMECODE_LENGTH 11L
 /*
  * Class:     io_opentimeline_opentime_RationalTime
  * Method:    isValidTimecodeRate
@@ -121,27 +43,43 @@ JNIEXPORT jstring JNICALL Java_io_opentimeline_opentime_RationalTime_toTimecodeN
 
 /*
  * Class:     io_opentimeline_opentime_RationalTime
- * Method:    toTimeString
- * Signature: ()Ljava/lang/String;
+ * Method:    toTimecodesNative
+ * Signature: ([DDI[CI)I
  */
-JNIEXPORT jstring JNICALL Java_io_opentimeline_opentime_RationalTime_toTimeString
-  (JNIEnv *, jobject);
+JNIEXPORT jint JNICALL Java_io_opentimeline_opentime_RationalTime_toTimecodesNative
+  (JNIEnv *, jclass, jdoubleArray, jdouble, jint, jcharArray, jint);
+
+/*
+ * Class:     io_opentimeline_opentime_RationalTime
+ * Method:    toTimecodesBytesNative
+ * Signature: ([DDI[BI)I
+ */
+JNIEXPORT jint JNICALL Java_io_opentimeline_opentime_RationalTime_toTimecodesBytesNative
+  (JNIEnv *, jclass, jdoubleArray, jdouble, jint, jbyteArray, jint);
+
+/*
+ * Class:     io_opentimeline_opentime_RationalTime
+ * Method:    toTimecodesDirectNative
+ * Signature: ([DDILjava/nio/ByteBuffer;I)I
+ */
+JNIEXPORT jint JNICALL Java_io_opentimeline_opentime_RationalTime_toTimecodesDirectNative
+  (JNIEnv *, jclass, jdoubleArray, jdouble, jint, jobject, jint);
 
 /*
  * Class:     io_opentimeline_opentime_RationalTime
- * Method:    equals
- * Signature: (Lio/opentimeline/opentime/RationalTime;)Z
+ * Method:    fromTimecodesNative
+ * Signature: ([CI[IID[D)I
  */
-JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentime_RationalTime_equals
-  (JNIEnv *, jobject, jobject);
+JNIEXPORT jint JNICALL Java_io_opentimeline_opentime_RationalTime_fromTimecodesNative
+  (JNIEnv *, jclass, jcharArray, jint, jintArray, jint, jdouble, jdoubleArray);
 
 /*
  * Class:     io_opentimeline_opentime_RationalTime
- * Method:    compareTo
- * Signature: (Lio/opentimeline/opentime/RationalTime;)I
+ * Method:    toTimeString
+ * Signature: ()Ljava/lang/String;
  */
-JNIEXPORT jint JNICALL Java_io_opentimeline_opentime_RationalTime_compareTo
-  (JNIEnv *, jobject, jobject);
+JNIEXPORT jstring JNICALL Java_io_opentimeline_opentime_RationalTime_toTimeString
+  (JNIEnv *, jobject);
 
 #ifdef __cplusplus
 }
@@ -0,0 +1,57 @@
+/* DO NOT EDIT THIS FILE - it is machine generated */
+#include <jni.h>
+/* Header for class io_opentimeline_opentimelineio_AnyTransfer */
+
+#ifndef _Included_io_opentimeline_opentimelineio_AnyTransfer
+#define _Included_io_opentimeline_opentimelineio_AnyTransfer
+#ifdef __cplusplus
+extern "C" {
+#endif
+#undef io_opentimeline_opentimelineio_AnyTransfer_NULL
+#define io_opentimeline_opentimelineio_AnyTransfer_NULL 0L
+#undef io_opentimeline_opentimelineio_AnyTransfer_FALSE
+#define io_opentimeline_opentimelineio_AnyTransfer_FALSE 1L
+#undef io_opentimeline_opentimelineio_AnyTransfer_TRUE
+#define io_opentimeline_opentimelineio_AnyTransfer_TRUE 2L
+#undef io_opentimeline_opentimelineio_AnyTransfer_INT
+#define io_opentimeline_opentimelineio_AnyTransfer_INT 3L
+#undef io_opentimeline_opentimelineio_AnyTransfer_INT64
+#define io_opentimeline_opentimelineio_AnyTransfer_INT64 4L
+#undef io_opentimeline_opentimelineio_AnyTransfer_DOUBLE
+#define io_opentimeline_opentimelineio_AnyTransfer_DOUBLE 5L
+#undef io_opentimeline_opentimelineio_AnyTransfer_STRING
+#define io_opentimeline_opentimelineio_AnyTransfer_STRING 6L
+#undef io_opentimeline_opentimelineio_AnyTransfer_RATIONAL_TIME
+#define io_opentimeline_opentimelineio_AnyTransfer_RATIONAL_TIME 7L
+#undef io_opentimeline_opentimelineio_AnyTransfer_TIME_RANGE
+#define io_opentimeline_opentimelineio_AnyTransfer_TIME_RANGE 8L
+#undef io_opentimeline_opentimelineio_AnyTransfer_TIME_TRANSFORM
+#define io_opentimeline_opentimelineio_AnyTransfer_TIME_TRANSFORM 9L
+#undef io_opentimeline_opentimelineio_AnyTransfer_DICTIONARY
+#define io_opentimeline_opentimelineio_AnyTransfer_DICTIONARY 10L
+#undef io_opentimeline_opentimelineio_AnyTransfer_VECTOR
+#define io_opentimeline_opentimelineio_AnyTransfer_VECTOR 11L
+#undef io_opentimeline_opentimelineio_AnyTransfer_OBJECT
+#define io_opentimeline_opentimelineio_AnyTransfer_OBJECT 12L
+#undef io_opentimeline_opentimelineio_AnyTransfer_ANY
+#define io_opentimeline_opentimelineio_AnyTransfer_ANY 13L
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyTransfer
+ * Method:    encodeDictionary
+ * Signature: (Lio/opentimeline/opentimelineio/AnyDictionary;)[Ljava/lang/Object;
+ */
+JNIEXPORT jobjectArray JNICALL Java_io_opentimeline_opentimelineio_AnyTransfer_encodeDictionary
+  (JNIEnv *, jclass, jobject);
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyTransfer
+ * Method:    putAllEncoded
+ * Signature: (Lio/opentimeline/opentimelineio/AnyDictionary;[B[Ljava/lang/Object;)V
+ */
+JNIEXPORT void JNICALL Java_io_opentimeline_opentimelineio_AnyTransfer_putAllEncoded
+  (JNIEnv *, jclass, jobject, jbyteArray, jobjectArray);
+
+#ifdef __cplusplus
+}
+#endif
+#endif
@@ -87,6 +87,110 @@ JNIEXPORT void JNICALL Java_io_opentimeline_opentimelineio_AnyVector_remove
 JNIEXPORT void JNICALL Java_io_opentimeline_opentimelineio_AnyVector_trimToSize
   (JNIEnv *, jobject);
 
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyVector
+ * Method:    getBoolean
+ * Signature: (I)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_AnyVector_getBoolean
+  (JNIEnv *, jobject, jint);
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyVector
+ * Method:    getInt
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_io_opentimeline_opentimelineio_AnyVector_getInt
+  (JNIEnv *, jobject, jint);
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyVector
+ * Method:    getLong
+ * Signature: (I)J
+ */
+JNIEXPORT jlong JNICALL Java_io_opentimeline_opentimelineio_AnyVector_getLong
+  (JNIEnv *, jobject, jint);
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyVector
+ * Method:    getDouble
+ * Signature: (I)D
+ */
+JNIEXPORT jdouble JNICALL Java_io_opentimeline_opentimelineio_AnyVector_getDouble
+  (JNIEnv *, jobject, jint);
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyVector
+ * Method:    getString
+ * Signature: (I)Ljava/lang/String;
+ */
+JNIEXPORT jstring JNICALL Java_io_opentimeline_opentimelineio_AnyVector_getString
+  (JNIEnv *, jobject, jint);
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyVector
+ * Method:    getRationalTime
+ * Signature: (I)Lio/opentimeline/opentime/RationalTime;
+ */
+JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_AnyVector_getRationalTime
+  (JNIEnv *, jobject, jint);
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyVector
+ * Method:    getTimeRange
+ * Signature: (I)Lio/opentimeline/opentime/TimeRange;
+ */
+JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_AnyVector_getTimeRange
+  (JNIEnv *, jobject, jint);
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyVector
+ * Method:    getDoubles
+ * Signature: ([DI)I
+ */
+JNIEXPORT jint JNICALL Java_io_opentimeline_opentimelineio_AnyVector_getDoubles
+  (JNIEnv *, jobject, jdoubleArray, jint);
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyVector
+ * Method:    getInts
+ * Signature: ([II)I
+ */
+JNIEXPORT jint JNICALL Java_io_opentimeline_opentimelineio_AnyVector_getInts
+  (JNIEnv *, jobject, jintArray, jint);
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyVector
+ * Method:    getLongs
+ * Signature: ([JI)I
+ */
+JNIEXPORT jint JNICALL Java_io_opentimeline_opentimelineio_AnyVector_getLongs
+  (JNIEnv *, jobject, jlongArray, jint);
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyVector
+ * Method:    setDoubles
+ * Signature: ([D)V
+ */
+JNIEXPORT void JNICALL Java_io_opentimeline_opentimelineio_AnyVector_setDoubles
+  (JNIEnv *, jobject, jdoubleArray);
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyVector
+ * Method:    setInts
+ * Signature: ([I)V
+ */
+JNIEXPORT void JNICALL Java_io_opentimeline_opentimelineio_AnyVector_setInts
+  (JNIEnv *, jobject, jintArray);
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyVector
+ * Method:    setLongs
+ * Signature: ([J)V
+ */
+JNIEXPORT void JNICALL Java_io_opentimeline_opentimelineio_AnyVector_setLongs
+  (JNIEnv *, jobject, jlongArray);
+
 #ifdef __cplusplus
 }
 #endif
@@ -39,6 +39,14 @@ JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Composable_isOver
 JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_Composable_parent
   (JNIEnv *, jobject);
 
+/*
+ * Class:     io_opentimeline_opentimelineio_Composable
+ * Method:    rootNativeHandle
+ * Signature: ()J
+ */
+JNIEXPORT jlong JNICALL Java_io_opentimeline_opentimelineio_Composable_rootNativeHandle
+  (JNIEnv *, jobject);
+
 /*
  * Class:     io_opentimeline_opentimelineio_Composable
  * Method:    getDuration
@@ -33,10 +33,10 @@ JNIEXPORT jobjectArray JNICALL Java_io_opentimeline_opentimelineio_Composition_g
 
 /*
  * Class:     io_opentimeline_opentimelineio_Composition
- * Method:    clearChildren
+ * Method:    clearChildrenNative
  * Signature: ()V
  */
-JNIEXPORT void JNICALL Java_io_opentimeline_opentimelineio_Composition_clearChildren
+JNIEXPORT void JNICALL Java_io_opentimeline_opentimelineio_Composition_clearChildrenNative
   (JNIEnv *, jobject);
 
 /*
@@ -49,34 +49,34 @@ JNIEXPORT void JNICALL Java_io_opentimeline_opentimelineio_Composition_setChildr
 
 /*
  * Class:     io_opentimeline_opentimelineio_Composition
- * Method:    insertChild
+ * Method:    insertChildNative
  * Signature: (ILio/opentimeline/opentimelineio/Composable;)Z
  */
-JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Composition_insertChild
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Composition_insertChildNative
   (JNIEnv *, jobject, jint, jobject);
 
 /*
  * Class:     io_opentimeline_opentimelineio_Composition
- * Method:    setChild
+ * Method:    setChildNative
  * Signature: (ILio/opentimeline/opentimelineio/Composable;)Z
  */
-JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Composition_setChild
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Composition_setChildNative
   (JNIEnv *, jobject, jint, jobject);
 
 /*
  * Class:     io_opentimeline_opentimelineio_Composition
- * Method:    removeChild
+ * Method:    removeChildNative
  * Signature: (I)Z
  */
-JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Composition_removeChild
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Composition_removeChildNative
   (JNIEnv *, jobject, jint);
 
 /*
  * Class:     io_opentimeline_opentimelineio_Composition
- * Method:    appendChild
+ * Method:    appendChildNative
  * Signature: (Lio/opentimeline/opentimelineio/Composable;)Z
  */
-JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Composition_appendChild
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Composition_appendChildNative
   (JNIEnv *, jobject, jobject);
 
 /*
@@ -113,10 +113,10 @@ JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_Composition_getTri
 
 /*
  * Class:     io_opentimeline_opentimelineio_Composition
- * Method:    getRangeOfChild
+ * Method:    getRangeOfChildNative
  * Signature: (Lio/opentimeline/opentimelineio/Composable;)Lio/opentimeline/opentime/TimeRange;
  */
-JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_Composition_getRangeOfChild
+JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_Composition_getRangeOfChildNative
   (JNIEnv *, jobject, jobject);
 
 /*
@@ -151,6 +151,30 @@ JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Composition_hasCh
 JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_Composition_getRangeOfAllChildren
   (JNIEnv *, jobject);
 
+/*
+ * Class:     io_opentimeline_opentimelineio_Composition
+ * Method:    getRangesOfChildrenNative
+ * Signature: ()Lio/opentimeline/opentime/TimeRangeArray;
+ */
+JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_Composition_getRangesOfChildrenNative
+  (JNIEnv *, jobject);
+
+/*
+ * Class:     io_opentimeline_opentimelineio_Composition
+ * Method:    eachChildNative
+ * Signature: (Lio/opentimeline/opentime/TimeRange;Ljava/lang/Class;Z)Lio/opentimeline/opentimelineio/AnyVector;
+ */
+JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_Composition_eachChildNative
+  (JNIEnv *, jobject, jobject, jclass, jboolean);
+
+/*
+ * Class:     io_opentimeline_opentimelineio_Composition
+ * Method:    childFromNative
+ * Signature: (Lio/opentimeline/opentimelineio/AnyVector;I)Lio/opentimeline/opentimelineio/Composable;
+ */
+JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_Composition_childFromNative
+  (JNIEnv *, jclass, jobject, jint);
+
 #ifdef __cplusplus
 }
 #endif
@@ -0,0 +1,39 @@
+/* DO NOT EDIT THIS FILE - it is machine generated */
+#include <jni.h>
+/* Header for class io_opentimeline_opentimelineio_CompositionEditBatch */
+
+#ifndef _Included_io_opentimeline_opentimelineio_CompositionEditBatch
+#define _Included_io_opentimeline_opentimelineio_CompositionEditBatch
+#ifdef __cplusplus
+extern "C" {
+#endif
+#undef io_opentimeline_opentimelineio_CompositionEditBatch_OPERATION_SIZE
+#define io_opentimeline_opentimelineio_CompositionEditBatch_OPERATION_SIZE 3L
+#undef io_opentimeline_opentimelineio_CompositionEditBatch_OP_APPEND
+#define io_opentimeline_opentimelineio_CompositionEditBatch_OP_APPEND 0L
+#undef io_opentimeline_opentimelineio_CompositionEditBatch_OP_INSERT
+#define io_opentimeline_opentimelineio_CompositionEditBatch_OP_INSERT 1L
+#undef io_opentimeline_opentimelineio_CompositionEditBatch_OP_REMOVE
+#define io_opentimeline_opentimelineio_CompositionEditBatch_OP_REMOVE 2L
+#undef io_opentimeline_opentimelineio_CompositionEditBatch_OP_REPLACE
+#define io_opentimeline_opentimelineio_CompositionEditBatch_OP_REPLACE 3L
+#undef io_opentimeline_opentimelineio_CompositionEditBatch_OP_MOVE
+#define io_opentimeline_opentimelineio_CompositionEditBatch_OP_MOVE 4L
+#undef io_opentimeline_opentimelineio_CompositionEditBatch_FAILURE_NULL_CHILD
+#define io_opentimeline_opentimelineio_CompositionEditBatch_FAILURE_NULL_CHILD 0L
+#undef io_opentimeline_opentimelineio_CompositionEditBatch_FAILURE_INDEX_OUT_OF_BOUNDS
+#define io_opentimeline_opentimelineio_CompositionEditBatch_FAILURE_INDEX_OUT_OF_BOUNDS 1L
+#undef io_opentimeline_opentimelineio_CompositionEditBatch_FAILURE_CHILD_ALREADY_PARENTED
+#define io_opentimeline_opentimelineio_CompositionEditBatch_FAILURE_CHILD_ALREADY_PARENTED 2L
+/*
+ * Class:     io_opentimeline_opentimelineio_CompositionEditBatch
+ * Method:    applyNative
+ * Signature: (Lio/opentimeline/opentimelineio/Composition;[I[Lio/opentimeline/opentimelineio/Composable;)[I
+ */
+JNIEXPORT jintArray JNICALL Java_io_opentimeline_opentimelineio_CompositionEditBatch_applyNative
+  (JNIEnv *, jclass, jobject, jintArray, jobjectArray);
+
+#ifdef __cplusplus
+}
+#endif
+#endif
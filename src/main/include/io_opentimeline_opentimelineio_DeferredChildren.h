@@ -0,0 +1,29 @@
+/* DO NOT EDIT THIS FILE - it is machine generated */
+#include <jni.h>
+/* Header for class io_opentimeline_opentimelineio_DeferredChildren */
+
+#ifndef _Included_io_opentimeline_opentimelineio_DeferredChildren
+#define _Included_io_opentimeline_opentimelineio_DeferredChildren
+#ifdef __cplusplus
+extern "C" {
+#endif
+/*
+ * Class:     io_opentimeline_opentimelineio_DeferredChildren
+ * Method:    heldNative
+ * Signature: (Lio/opentimeline/opentimelineio/SerializableObject;[J)[J
+ */
+JNIEXPORT jlongArray JNICALL Java_io_opentimeline_opentimelineio_DeferredChildren_heldNative
+  (JNIEnv *, jclass, jobject, jlongArray);
+
+/*
+ * Class:     io_opentimeline_opentimelineio_DeferredChildren
+ * Method:    heldByAnyNative
+ * Signature: (Lio/opentimeline/opentimelineio/Any;[J)[J
+ */
+JNIEXPORT jlongArray JNICALL Java_io_opentimeline_opentimelineio_DeferredChildren_heldByAnyNative
+  (JNIEnv *, jclass, jobject, jlongArray);
+
+#ifdef __cplusplus
+}
+#endif
+#endif
@@ -23,6 +23,46 @@ JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Deserialization_d
 JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Deserialization_deserializeJSONFromFile
   (JNIEnv *, jobject, jstring, jobject);
 
+/*
+ * Class:     io_opentimeline_opentimelineio_Deserialization
+ * Method:    deserializeJSONFromDirectBufferNative
+ * Signature: (Ljava/nio/ByteBuffer;IILio/opentimeline/opentimelineio/Any;)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Deserialization_deserializeJSONFromDirectBufferNative
+  (JNIEnv *, jobject, jobject, jint, jint, jobject);
+
+/*
+ * Class:     io_opentimeline_opentimelineio_Deserialization
+ * Method:    deserializeJSONFromBytesNative
+ * Signature: ([BIILio/opentimeline/opentimelineio/Any;)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Deserialization_deserializeJSONFromBytesNative
+  (JNIEnv *, jobject, jbyteArray, jint, jint, jobject);
+
+/*
+ * Class:     io_opentimeline_opentimelineio_Deserialization
+ * Method:    deserializeBinaryFromFile
+ * Signature: (Ljava/lang/String;Lio/opentimeline/opentimelineio/Any;)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Deserialization_deserializeBinaryFromFile
+  (JNIEnv *, jobject, jstring, jobject);
+
+/*
+ * Class:     io_opentimeline_opentimelineio_Deserialization
+ * Method:    deserializeBinaryFromDirectBufferNative
+ * Signature: (Ljava/nio/ByteBuffer;IILio/opentimeline/opentimelineio/Any;)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Deserialization_deserializeBinaryFromDirectBufferNative
+  (JNIEnv *, jobject, jobject, jint, jint, jobject);
+
+/*
+ * Class:     io_opentimeline_opentimelineio_Deserialization
+ * Method:    deserializeBinaryFromBytesNative
+ * Signature: ([BIILio/opentimeline/opentimelineio/Any;)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Deserialization_deserializeBinaryFromBytesNative
+  (JNIEnv *, jobject, jbyteArray, jint, jint, jobject);
+
 #ifdef __cplusplus
 }
 #endif
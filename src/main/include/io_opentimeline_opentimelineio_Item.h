@@ -41,10 +41,10 @@ JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_Item_getSourceRang
 
 /*
  * Class:     io_opentimeline_opentimelineio_Item
- * Method:    setSourceRange
+ * Method:    setSourceRangeNative
  * Signature: (Lio/opentimeline/opentime/TimeRange;)V
  */
-JNIEXPORT void JNICALL Java_io_opentimeline_opentimelineio_Item_setSourceRange
+JNIEXPORT void JNICALL Java_io_opentimeline_opentimelineio_Item_setSourceRangeNative
   (JNIEnv *, jobject, jobject);
 
 /*
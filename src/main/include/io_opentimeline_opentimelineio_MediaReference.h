@@ -25,10 +25,10 @@ JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_MediaReference_get
 
 /*
  * Class:     io_opentimeline_opentimelineio_MediaReference
- * Method:    setAvailableRange
+ * Method:    setAvailableRangeNative
  * Signature: (Lio/opentimeline/opentime/TimeRange;)V
  */
-JNIEXPORT void JNICALL Java_io_opentimeline_opentimelineio_MediaReference_setAvailableRange
+JNIEXPORT void JNICALL Java_io_opentimeline_opentimelineio_MediaReference_setAvailableRangeNative
   (JNIEnv *, jobject, jobject);
 
 /*
@@ -17,34 +17,18 @@ JNIEXPORT void JNICALL Java_io_opentimeline_opentimelineio_SerializableObject_in
 
 /*
  * Class:     io_opentimeline_opentimelineio_SerializableObject
- * Method:    toJSONFile
- * Signature: (Ljava/lang/String;)Z
- */
-JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_SerializableObject_toJSONFile__Ljava_lang_String_2
-  (JNIEnv *, jobject, jstring);
-
-/*
- * Class:     io_opentimeline_opentimelineio_SerializableObject
- * Method:    toJSONFile
+ * Method:    toJSONFileNative
  * Signature: (Ljava/lang/String;I)Z
  */
-JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_SerializableObject_toJSONFile__Ljava_lang_String_2I
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_SerializableObject_toJSONFileNative
   (JNIEnv *, jobject, jstring, jint);
 
 /*
  * Class:     io_opentimeline_opentimelineio_SerializableObject
- * Method:    toJSONString
- * Signature: ()Ljava/lang/String;
- */
-JNIEXPORT jstring JNICALL Java_io_opentimeline_opentimelineio_SerializableObject_toJSONString__
-  (JNIEnv *, jobject);
-
-/*
- * Class:     io_opentimeline_opentimelineio_SerializableObject
- * Method:    toJSONString
+ * Method:    toJSONStringNative
  * Signature: (I)Ljava/lang/String;
  */
-JNIEXPORT jstring JNICALL Java_io_opentimeline_opentimelineio_SerializableObject_toJSONString__I
+JNIEXPORT jstring JNICALL Java_io_opentimeline_opentimelineio_SerializableObject_toJSONStringNative
   (JNIEnv *, jobject, jint);
 
 /*
@@ -65,18 +49,58 @@ JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_SerializableObject
 
 /*
  * Class:     io_opentimeline_opentimelineio_SerializableObject
- * Method:    isEquivalentTo
+ * Method:    fromJSONBufferNative
+ * Signature: (Ljava/nio/ByteBuffer;II)Lio/opentimeline/opentimelineio/SerializableObject;
+ */
+JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_SerializableObject_fromJSONBufferNative
+  (JNIEnv *, jclass, jobject, jint, jint);
+
+/*
+ * Class:     io_opentimeline_opentimelineio_SerializableObject
+ * Method:    toBinaryNative
+ * Signature: ()[B
+ */
+JNIEXPORT jbyteArray JNICALL Java_io_opentimeline_opentimelineio_SerializableObject_toBinaryNative
+  (JNIEnv *, jobject);
+
+/*
+ * Class:     io_opentimeline_opentimelineio_SerializableObject
+ * Method:    toBinaryFileNative
+ * Signature: (Ljava/lang/String;)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_SerializableObject_toBinaryFileNative
+  (JNIEnv *, jobject, jstring);
+
+/*
+ * Class:     io_opentimeline_opentimelineio_SerializableObject
+ * Method:    fromBinary
+ * Signature: ([B)Lio/opentimeline/opentimelineio/SerializableObject;
+ */
+JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_SerializableObject_fromBinary
+  (JNIEnv *, jclass, jbyteArray);
+
+/*
+ * Class:     io_opentimeline_opentimelineio_SerializableObject
+ * Method:    fromBinaryFile
+ * Signature: (Ljava/lang/String;)Lio/opentimeline/opentimelineio/SerializableObject;
+ */
+JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_SerializableObject_fromBinaryFile
+  (JNIEnv *, jclass, jstring);
+
+/*
+ * Class:     io_opentimeline_opentimelineio_SerializableObject
+ * Method:    isEquivalentToNative
  * Signature: (Lio/opentimeline/opentimelineio/SerializableObject;)Z
  */
-JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_SerializableObject_isEquivalentTo
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_SerializableObject_isEquivalentToNative
   (JNIEnv *, jobject, jobject);
 
 /*
  * Class:     io_opentimeline_opentimelineio_SerializableObject
- * Method:    deepCopy
+ * Method:    deepCopyNative
  * Signature: ()Lio/opentimeline/opentimelineio/SerializableObject;
  */
-JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_SerializableObject_deepCopy
+JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_SerializableObject_deepCopyNative
   (JNIEnv *, jobject);
 
 /*
@@ -87,6 +111,14 @@ JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_SerializableObject
 JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_SerializableObject_dynamicFields
   (JNIEnv *, jobject);
 
+/*
+ * Class:     io_opentimeline_opentimelineio_SerializableObject
+ * Method:    contentHashNative
+ * Signature: ()J
+ */
+JNIEXPORT jlong JNICALL Java_io_opentimeline_opentimelineio_SerializableObject_contentHashNative
+  (JNIEnv *, jobject);
+
 /*
  * Class:     io_opentimeline_opentimelineio_SerializableObject
  * Method:    isUnknownSchema
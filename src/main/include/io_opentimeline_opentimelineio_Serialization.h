@@ -7,6 +7,8 @@
 #ifdef __cplusplus
 extern "C" {
 #endif
+#undef io_opentimeline_opentimelineio_Serialization_CHUNK_SIZE
+#define io_opentimeline_opentimelineio_Serialization_CHUNK_SIZE 65536L
 /*
  * Class:     io_opentimeline_opentimelineio_Serialization
  * Method:    serializeJSONToStringNative
@@ -23,6 +25,46 @@ JNIEXPORT jstring JNICALL Java_io_opentimeline_opentimelineio_Serialization_seri
 JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Serialization_serializeJSONToFileNative
   (JNIEnv *, jobject, jobject, jstring, jint);
 
+/*
+ * Class:     io_opentimeline_opentimelineio_Serialization
+ * Method:    serializeBinaryNative
+ * Signature: (Lio/opentimeline/opentimelineio/Any;)[B
+ */
+JNIEXPORT jbyteArray JNICALL Java_io_opentimeline_opentimelineio_Serialization_serializeBinaryNative
+  (JNIEnv *, jobject, jobject);
+
+/*
+ * Class:     io_opentimeline_opentimelineio_Serialization
+ * Method:    serializeBinaryToFileNative
+ * Signature: (Lio/opentimeline/opentimelineio/Any;Ljava/lang/String;)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Serialization_serializeBinaryToFileNative
+  (JNIEnv *, jobject, jobject, jstring);
+
+/*
+ * Class:     io_opentimeline_opentimelineio_Serialization
+ * Method:    serializeJSONToBufferNative
+ * Signature: (Lio/opentimeline/opentimelineio/Any;I)J
+ */
+JNIEXPORT jlong JNICALL Java_io_opentimeline_opentimelineio_Serialization_serializeJSONToBufferNative
+  (JNIEnv *, jobject, jobject, jint);
+
+/*
+ * Class:     io_opentimeline_opentimelineio_Serialization
+ * Method:    readJSONChunkNative
+ * Signature: (JJLjava/nio/ByteBuffer;)I
+ */
+JNIEXPORT jint JNICALL Java_io_opentimeline_opentimelineio_Serialization_readJSONChunkNative
+  (JNIEnv *, jclass, jlong, jlong, jobject);
+
+/*
+ * Class:     io_opentimeline_opentimelineio_Serialization
+ * Method:    disposeJSONNative
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_io_opentimeline_opentimelineio_Serialization_disposeJSONNative
+  (JNIEnv *, jclass, jlong);
+
 #ifdef __cplusplus
 }
 #endif
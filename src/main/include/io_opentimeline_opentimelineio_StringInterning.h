@@ -0,0 +1,47 @@
+/* DO NOT EDIT THIS FILE - it is machine generated */
+#include <jni.h>
+/* Header for class io_opentimeline_opentimelineio_StringInterning */
+
+#ifndef _Included_io_opentimeline_opentimelineio_StringInterning
+#define _Included_io_opentimeline_opentimelineio_StringInterning
+#ifdef __cplusplus
+extern "C" {
+#endif
+#undef io_opentimeline_opentimelineio_StringInterning_STRING_OVERHEAD
+#define io_opentimeline_opentimelineio_StringInterning_STRING_OVERHEAD 40L
+/*
+ * Class:     io_opentimeline_opentimelineio_StringInterning
+ * Method:    setPoolEnabled
+ * Signature: (Z)V
+ */
+JNIEXPORT void JNICALL Java_io_opentimeline_opentimelineio_StringInterning_setPoolEnabled
+  (JNIEnv *, jclass, jboolean);
+
+/*
+ * Class:     io_opentimeline_opentimelineio_StringInterning
+ * Method:    clearPool
+ * Signature: ()V
+ */
+JNIEXPORT void JNICALL Java_io_opentimeline_opentimelineio_StringInterning_clearPool
+  (JNIEnv *, jclass);
+
+/*
+ * Class:     io_opentimeline_opentimelineio_StringInterning
+ * Method:    getPoolStatistics
+ * Signature: ()[J
+ */
+JNIEXPORT jlongArray JNICALL Java_io_opentimeline_opentimelineio_StringInterning_getPoolStatistics
+  (JNIEnv *, jclass);
+
+/*
+ * Class:     io_opentimeline_opentimelineio_StringInterning
+ * Method:    resetPoolStatistics
+ * Signature: ()V
+ */
+JNIEXPORT void JNICALL Java_io_opentimeline_opentimelineio_StringInterning_resetPoolStatistics
+  (JNIEnv *, jclass);
+
+#ifdef __cplusplus
+}
+#endif
+#endif
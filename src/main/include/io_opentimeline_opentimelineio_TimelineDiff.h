@@ -0,0 +1,43 @@
+/* DO NOT EDIT THIS FILE - it is machine generated */
+#include <jni.h>
+/* Header for class io_opentimeline_opentimelineio_TimelineDiff */
+
+#ifndef _Included_io_opentimeline_opentimelineio_TimelineDiff
+#define _Included_io_opentimeline_opentimelineio_TimelineDiff
+#ifdef __cplusplus
+extern "C" {
+#endif
+#undef io_opentimeline_opentimelineio_TimelineDiff_RECORD_SIZE
+#define io_opentimeline_opentimelineio_TimelineDiff_RECORD_SIZE 4L
+#undef io_opentimeline_opentimelineio_TimelineDiff_INSERT
+#define io_opentimeline_opentimelineio_TimelineDiff_INSERT 0L
+#undef io_opentimeline_opentimelineio_TimelineDiff_DELETE
+#define io_opentimeline_opentimelineio_TimelineDiff_DELETE 1L
+#undef io_opentimeline_opentimelineio_TimelineDiff_MOVE
+#define io_opentimeline_opentimelineio_TimelineDiff_MOVE 2L
+#undef io_opentimeline_opentimelineio_TimelineDiff_TRIM
+#define io_opentimeline_opentimelineio_TimelineDiff_TRIM 3L
+#undef io_opentimeline_opentimelineio_TimelineDiff_RETIME
+#define io_opentimeline_opentimelineio_TimelineDiff_RETIME 4L
+#undef io_opentimeline_opentimelineio_TimelineDiff_METADATA_CHANGE
+#define io_opentimeline_opentimelineio_TimelineDiff_METADATA_CHANGE 5L
+#undef io_opentimeline_opentimelineio_TimelineDiff_MODIFY
+#define io_opentimeline_opentimelineio_TimelineDiff_MODIFY 6L
+#undef io_opentimeline_opentimelineio_TimelineDiff_NESTED
+#define io_opentimeline_opentimelineio_TimelineDiff_NESTED -1L
+#undef io_opentimeline_opentimelineio_TimelineDiff_STACK_PAIR
+#define io_opentimeline_opentimelineio_TimelineDiff_STACK_PAIR 0L
+#undef io_opentimeline_opentimelineio_TimelineDiff_ROOT_PAIR
+#define io_opentimeline_opentimelineio_TimelineDiff_ROOT_PAIR -1L
+/*
+ * Class:     io_opentimeline_opentimelineio_TimelineDiff
+ * Method:    diffNative
+ * Signature: (Lio/opentimeline/opentimelineio/Timeline;Lio/opentimeline/opentimelineio/Timeline;)[I
+ */
+JNIEXPORT jintArray JNICALL Java_io_opentimeline_opentimelineio_TimelineDiff_diffNative
+  (JNIEnv *, jclass, jobject, jobject);
+
+#ifdef __cplusplus
+}
+#endif
+#endif
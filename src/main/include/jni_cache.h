@@ -0,0 +1,93 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+#include <jni.h>
+#include <string>
+#include <class_codes.h>
+
+#ifndef _JNI_CACHE_H_INCLUDED_
+#define _JNI_CACHE_H_INCLUDED_
+
+/* A bound Java class and its constructor which takes an OTIONative */
+struct JavaClass {
+    jclass cls = nullptr;
+    jmethodID init = nullptr;
+};
+
+/*
+ * Global references to the Java classes used by the bindings and the IDs of
+ * their fields and methods. The classes are resolved in JNI_OnLoad and the IDs
+ * on the first native call, so native methods do not have to call FindClass,
+ * GetMethodID or GetFieldID per call.
+ */
+struct JNICache {
+    jclass otioObjectClass = nullptr;
+    jfieldID otioObjectNativeManager = nullptr;
+
+    jclass otioNativeClass = nullptr;
+    jmethodID otioNativeInit = nullptr;
+    jfieldID otioNativeNativeHandle = nullptr;
+    jfieldID otioNativeClassName = nullptr;
+
+    jclass otioFactoryClass = nullptr;
+    jmethodID otioFactoryGetInstance = nullptr;
+    jmethodID otioFactoryRegisterObject = nullptr;
+
+    jclass rationalTimeClass = nullptr;
+    jmethodID rationalTimeInit = nullptr;
+    jfieldID rationalTimeValue = nullptr;
+    jfieldID rationalTimeRate = nullptr;
+
+    jclass timeRangeClass = nullptr;
+    jmethodID timeRangeInit = nullptr;
+    jfieldID timeRangeStartTime = nullptr;
+    jfieldID timeRangeDuration = nullptr;
+
+    jclass rationalTimeArrayClass = nullptr;
+    jmethodID rationalTimeArrayInit = nullptr;
+    jfieldID rationalTimeArrayValues = nullptr;
+    jfieldID rationalTimeArrayRates = nullptr;
+
+    jclass timeRangeArrayClass = nullptr;
+    jmethodID timeRangeArrayInit = nullptr;
+    jfieldID timeRangeArrayStartValues = nullptr;
+    jfieldID timeRangeArrayStartRates = nullptr;
+    jfieldID timeRangeArrayDurationValues = nullptr;
+    jfieldID timeRangeArrayDurationRates = nullptr;
+
+    jclass timeTransformClass = nullptr;
+    jmethodID timeTransformInit = nullptr;
+    jfieldID timeTransformOffset = nullptr;
+    jfieldID timeTransformScale = nullptr;
+    jfieldID timeTransformRate = nullptr;
+
+    JavaClass any;
+    jfieldID anyTypeClass = nullptr;
+    JavaClass anyDictionary;
+    JavaClass anyDictionaryIterator;
+    JavaClass anyVector;
+    JavaClass anyVectorIterator;
+
+    jclass composableClass = nullptr;
+    jmethodID composableDefaultInit = nullptr;
+
+    jclass pairClass = nullptr;
+    jmethodID pairInit = nullptr;
+
+    jclass hashMapClass = nullptr;
+    jmethodID hashMapInit = nullptr;
+    jmethodID hashMapPut = nullptr;
+
+    jclass stringInterningClass = nullptr;
+    jmethodID stringInterningIntern = nullptr;
+
+    /* values stored in OTIONative.className, indexed by ClassCode */
+    jstring classNames[_Timeline + 1] = {};
+};
+
+const JNICache &getJNICache(JNIEnv *env);
+
+/* Java class of a SerializableObject by its schema name, nullptr for unknown schemas */
+const JavaClass *getSchemaJavaClass(JNIEnv *env, const std::string &schemaName);
+
+#endif
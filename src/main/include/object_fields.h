@@ -0,0 +1,61 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+#include <opentime/rationalTime.h>
+#include <opentime/timeRange.h>
+#include <opentimelineio/any.h>
+#include <opentimelineio/anyDictionary.h>
+#include <opentimelineio/serializableObject.h>
+#include <opentimelineio/version.h>
+
+#include <string>
+#include <vector>
+
+#ifndef _OBJECT_FIELDS_H_INCLUDED_
+#define _OBJECT_FIELDS_H_INCLUDED_
+
+/*
+ * The serialized fields of the built-in schemas, read through the object model.
+ *
+ * OTIO only exposes the fields of an object through write_to(), whose Encoder is private to the
+ * JSON writer. writeFields() reads the same fields with the accessors of the schemas, under the
+ * keys and in the representation write_to() uses, so that the TypeRegistry can rebuild the
+ * object from them. Nested objects are handed over as objects, for the writer to walk or not.
+ */
+
+class FieldWriter {
+public:
+    virtual ~FieldWriter() = default;
+
+    /* an absent optional value */
+    virtual void writeNull(const char *key) = 0;
+
+    virtual void write(const char *key, int value) = 0;
+
+    virtual void write(const char *key, double value) = 0;
+
+    virtual void write(const char *key, std::string const &value) = 0;
+
+    virtual void write(const char *key, OTIO_NS::RationalTime value) = 0;
+
+    virtual void write(const char *key, OTIO_NS::TimeRange value) = 0;
+
+    virtual void write(const char *key, OTIO_NS::AnyDictionary const &value) = 0;
+
+    /* a dynamic field, which may hold any value */
+    virtual void write(const char *key, OTIO_NS::any const &value) = 0;
+
+    /* value may be null */
+    virtual void write(const char *key, OTIO_NS::SerializableObject *value) = 0;
+
+    virtual void write(const char *key, std::vector<OTIO_NS::SerializableObject *> const &values) = 0;
+};
+
+/*
+ * Write the fields of object, its dynamic fields included, to writer.
+ * Returns false without writing anything if the schema of object is not a built-in one, as
+ * UnknownSchema and schemas registered by applications have fields only write_to() knows.
+ */
+bool writeFields(OTIO_NS::SerializableObject *object, FieldWriter &writer);
+
+#endif
@@ -0,0 +1,28 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+#include <jni.h>
+#include <string>
+
+#ifndef _STRING_POOL_H_INCLUDED_
+#define _STRING_POOL_H_INCLUDED_
+
+/*
+ * Native side of StringInterning.
+ *
+ * While interning is enabled, the pool maps the content of the std::strings read from metadata to
+ * weak global references to their shared Java Strings, the instances of the Java pool. A string
+ * read again is returned without decoding it and without creating a Java String. The std::strings
+ * themselves stay owned by OTIO's AnyDictionary and any, which cannot share storage.
+ */
+
+/* Java String with the content of value, the shared instance when interning is enabled */
+jstring pooledString(JNIEnv *env, const std::string &value);
+
+/*
+ * Make str, which has the content of value, the shared instance for value when interning is
+ * enabled and the content has none yet, so that reads return the String the caller put.
+ */
+void poolString(JNIEnv *env, const std::string &value, jstring str);
+
+#endif
@@ -3,8 +3,11 @@
 
 #include <jni.h>
 
+#include <limits>
+
 #include <exceptions.h>
 #include <handle.h>
+#include <jni_cache.h>
 #include <opentime/rationalTime.h>
 #include <opentime/timeRange.h>
 #include <opentime/timeTransform.h>
@@ -31,15 +34,26 @@ inline void registerObjectToOTIOFactory(JNIEnv *env, jobject otioObject) {
         return;
     }
 
-    jclass otioFactoryClass = env->FindClass("io/opentimeline/OTIOFactory");
+    jobject factoryInstance = env->CallStaticObjectMethod(
+            getJNICache(env).otioFactoryClass, getJNICache(env).otioFactoryGetInstance);
+    env->CallVoidMethod(factoryInstance, getJNICache(env).otioFactoryRegisterObject, otioObject);
+    env->DeleteLocalRef(factoryInstance);
+}
 
-    jmethodID registerObject = env->GetMethodID(otioFactoryClass, "registerObject",
-                                                "(Lio/opentimeline/OTIOObject;)V");
-    jmethodID getFactoryInstance = env->GetStaticMethodID(otioFactoryClass, "getInstance",
-                                                          "()Lio/opentimeline/OTIOFactory;");
-    jobject factoryInstance = env->CallStaticObjectMethod(otioFactoryClass, getFactoryInstance);
+/* Wraps a new native handle in an OTIONative and a new object of javaClass and registers it to the OTIOFactory */
+inline jobject
+newObjectFromNative(JNIEnv *env, const JavaClass &javaClass, void *nativeHandle, ClassCode classCode) {
+    jobject otioNative = env->NewObject(
+            getJNICache(env).otioNativeClass,
+            getJNICache(env).otioNativeInit,
+            reinterpret_cast<jlong>(nativeHandle));
+    env->SetObjectField(otioNative, getJNICache(env).otioNativeClassName, getJNICache(env).classNames[classCode]);
 
-    env->CallVoidMethod(factoryInstance, registerObject, otioObject);
+    // Call back constructor to allocate a new instance, with an otioNative argument
+    jobject newObj = env->NewObject(javaClass.cls, javaClass.init, otioNative);
+    env->DeleteLocalRef(otioNative);
+    registerObjectToOTIOFactory(env, newObj);
+    return newObj;
 }
 
 inline std::vector<SerializableObject *>
@@ -53,6 +67,7 @@ serializableObjectVectorFromArray(JNIEnv *env, jobjectArray array) {
                 getHandle<SerializableObject::Retainer<SerializableObject>>(env, element);
         auto serializableObject = elementHandle->value;
         objectVector.push_back(serializableObject);
+        env->DeleteLocalRef(element);
     }
     return objectVector;
 }
@@ -68,6 +83,7 @@ effectVectorFromArray(JNIEnv *env, jobjectArray array) {
                 getHandle<SerializableObject::Retainer<Effect>>(env, element);
         auto effect = elementHandle->value;
         objectVector.push_back(effect);
+        env->DeleteLocalRef(element);
     }
     return objectVector;
 }
@@ -83,6 +99,7 @@ markerVectorFromArray(JNIEnv *env, jobjectArray array) {
                 getHandle<SerializableObject::Retainer<Marker>>(env, element);
         auto marker = elementHandle->value;
         objectVector.push_back(marker);
+        env->DeleteLocalRef(element);
     }
     return objectVector;
 }
@@ -98,6 +115,7 @@ composableVectorFromArray(JNIEnv *env, jobjectArray array) {
                 getHandle<SerializableObject::Retainer<Composable>>(env, element);
         auto composable = elementHandle->value;
         objectVector.push_back(composable);
+        env->DeleteLocalRef(element);
     }
     return objectVector;
 }
@@ -113,6 +131,7 @@ trackVectorFromArray(JNIEnv *env, jobjectArray array) {
                 getHandle<SerializableObject::Retainer<Track>>(env, element);
         auto track = elementHandle->value;
         objectVector.push_back(track);
+        env->DeleteLocalRef(element);
     }
     return objectVector;
 }
@@ -121,75 +140,62 @@ std::map<std::type_info const *, std::string> getAnyType();
 
 std::string getAnyType(const std::type_info &typeInfo);
 
-inline std::string getSerializableObjectJavaClassFromNative(OTIO_NS::SerializableObject *serializableObject) {
-    static std::once_flag classFlag;
-    static std::unique_ptr<std::map<std::string, std::string>> class_dispatch_table;
-    std::call_once(classFlag, []() {
-        class_dispatch_table = std::unique_ptr<std::map<std::string, std::string>>(
-                new std::map<std::string, std::string>());
-        (*class_dispatch_table)["Clip"] = "io/opentimeline/opentimelineio/Clip";
-        (*class_dispatch_table)["Composable"] = "io/opentimeline/opentimelineio/Composable";
-        (*class_dispatch_table)["Composition"] = "io/opentimeline/opentimelineio/Composition";
-        (*class_dispatch_table)["Effect"] = "io/opentimeline/opentimelineio/Effect";
-        (*class_dispatch_table)["ExternalReference"] = "io/opentimeline/opentimelineio/ExternalReference";
-        (*class_dispatch_table)["FreezeFrame"] = "io/opentimeline/opentimelineio/FreezeFrame";
-        (*class_dispatch_table)["Gap"] = "io/opentimeline/opentimelineio/Gap";
-        (*class_dispatch_table)["GeneratorReference"] = "io/opentimeline/opentimelineio/GeneratorReference";
-        (*class_dispatch_table)["ImageSequenceReference"] = "io/opentimeline/opentimelineio/ImageSequenceReference";
-        (*class_dispatch_table)["Item"] = "io/opentimeline/opentimelineio/Item";
-        (*class_dispatch_table)["LinearTimeWarp"] = "io/opentimeline/opentimelineio/LinearTimeWarp";
-        (*class_dispatch_table)["Marker"] = "io/opentimeline/opentimelineio/Marker";
-        (*class_dispatch_table)["MediaReference"] = "io/opentimeline/opentimelineio/MediaReference";
-        (*class_dispatch_table)["MissingReference"] = "io/opentimeline/opentimelineio/MissingReference";
-        (*class_dispatch_table)["SerializableCollection"] = "io/opentimeline/opentimelineio/SerializableCollection";
-        (*class_dispatch_table)["SerializableObject"] = "io/opentimeline/opentimelineio/SerializableObject";
-        (*class_dispatch_table)["SerializableObjectWithMetadata"] = "io/opentimeline/opentimelineio/SerializableObjectWithMetadata";
-        (*class_dispatch_table)["Stack"] = "io/opentimeline/opentimelineio/Stack";
-        (*class_dispatch_table)["TimeEffect"] = "io/opentimeline/opentimelineio/TimeEffect";
-        (*class_dispatch_table)["Timeline"] = "io/opentimeline/opentimelineio/Timeline";
-        (*class_dispatch_table)["Track"] = "io/opentimeline/opentimelineio/Track";
-        (*class_dispatch_table)["Transition"] = "io/opentimeline/opentimelineio/Transition";
-        (*class_dispatch_table)["UnknownSchema"] = "io/opentimeline/opentimelineio/UnknownSchema";
-    });
-
-    return (*class_dispatch_table)[serializableObject->schema_name()];
+/* Numeric conversions of the typed accessors of AnyDictionary and AnyVector.
+ * false if the value is not a number or does not fit in the result. */
+inline bool
+numberFromAny(any const &value, double &result) {
+    if (value.type() == typeid(double))
+        result = any_cast<double>(value);
+    else if (value.type() == typeid(int))
+        result = any_cast<int>(value);
+    else if (value.type() == typeid(int64_t))
+        result = (double) any_cast<int64_t>(value);
+    else
+        return false;
+    return true;
+}
+
+inline bool
+numberFromAny(any const &value, jlong &result) {
+    if (value.type() == typeid(int64_t))
+        result = any_cast<int64_t>(value);
+    else if (value.type() == typeid(int))
+        result = any_cast<int>(value);
+    else
+        return false;
+    return true;
+}
+
+inline bool
+numberFromAny(any const &value, jint &result) {
+    jlong wide;
+    if (!numberFromAny(value, wide)
+        || wide < std::numeric_limits<jint>::min() || wide > std::numeric_limits<jint>::max())
+        return false;
+    result = (jint) wide;
+    return true;
 }
 
 /* this deepcopies any */
 inline jobject
 anyFromNative(JNIEnv *env, any *native) {
     if (native == nullptr)return nullptr;
-    jclass cls = env->FindClass("io/opentimeline/opentimelineio/Any");
-    if (cls == NULL) return NULL;
 
-//    std::string anyType = _type_dispatch_table[&native->type()];
-//    std::string anyType = getAnyType()[native->type()];
     std::string anyType = getAnyType(native->type());
-    // Get the Method ID of the constructor which takes an otioNative
-    jmethodID anyInit = env->GetMethodID(cls, "<init>", "(Lio/opentimeline/OTIONative;)V");
-    if (NULL == anyInit) return NULL;
-
     auto newAny = new any(*native);
-    jclass otioNativeClass = env->FindClass("io/opentimeline/OTIONative");
-    jfieldID classNameID =
-            env->GetFieldID(otioNativeClass, "className", "Ljava/lang/String;");
-    jmethodID otioNativeInit =
-            env->GetMethodID(otioNativeClass, "<init>", "(J)V");
     jobject otioNative = env->NewObject(
-            otioNativeClass,
-            otioNativeInit,
+            getJNICache(env).otioNativeClass,
+            getJNICache(env).otioNativeInit,
             reinterpret_cast<jlong>(newAny));
-    std::string classNameStr =
-            "io.opentimeline.opentimelineio.Any";
-    jstring className = env->NewStringUTF(classNameStr.c_str());
-    env->SetObjectField(otioNative, classNameID, className);
+    env->SetObjectField(otioNative, getJNICache(env).otioNativeClassName, getJNICache(env).classNames[_Any]);
 
     // Call back constructor to allocate a new instance, with an otioNative argument
-    jobject newObj = env->NewObject(cls, anyInit, otioNative);
+    jobject newObj = env->NewObject(getJNICache(env).any.cls, getJNICache(env).any.init, otioNative);
+    env->DeleteLocalRef(otioNative);
 
-    jfieldID anyTypeStringID = env->GetFieldID(cls, "anyTypeClass", "Ljava/lang/String;");
     jstring anyTypeString = env->NewStringUTF(anyType.c_str());
-    env->SetObjectField(newObj, anyTypeStringID, anyTypeString);
+    env->SetObjectField(newObj, getJNICache(env).anyTypeClass, anyTypeString);
+    env->DeleteLocalRef(anyTypeString);
 
     registerObjectToOTIOFactory(env, newObj);
     return newObj;
@@ -199,32 +205,7 @@ anyFromNative(JNIEnv *env, any *native) {
 inline jobject
 anyDictionaryFromNative(JNIEnv *env, OTIO_NS::AnyDictionary *native) {
     if (native == nullptr)return nullptr;
-    jclass cls = env->FindClass("io/opentimeline/opentimelineio/AnyDictionary");
-    if (cls == NULL) return NULL;
-
-    // Get the Method ID of the constructor which takes an otioNative
-    jmethodID dictInit = env->GetMethodID(cls, "<init>", "(Lio/opentimeline/OTIONative;)V");
-    if (NULL == dictInit) return NULL;
-
-    auto newDict = new AnyDictionary(*native);
-    jclass otioNativeClass = env->FindClass("io/opentimeline/OTIONative");
-    jfieldID classNameID =
-            env->GetFieldID(otioNativeClass, "className", "Ljava/lang/String;");
-    jmethodID otioNativeInit =
-            env->GetMethodID(otioNativeClass, "<init>", "(J)V");
-    jobject otioNative = env->NewObject(
-            otioNativeClass,
-            otioNativeInit,
-            reinterpret_cast<jlong>(newDict));
-    std::string classNameStr =
-            "io.opentimeline.opentimelineio.AnyDictionary";
-    jstring className = env->NewStringUTF(classNameStr.c_str());
-    env->SetObjectField(otioNative, classNameID, className);
-
-    // Call back constructor to allocate a new instance, with an otioNative argument
-    jobject newObj = env->NewObject(cls, dictInit, otioNative);
-    registerObjectToOTIOFactory(env, newObj);
-    return newObj;
+    return newObjectFromNative(env, getJNICache(env).anyDictionary, new AnyDictionary(*native), _AnyDictionary);
 }
 
 /* this deepcopies anyDictionary::iterator */
@@ -232,98 +213,21 @@ inline jobject
 anyDictionaryIteratorFromNative(
         JNIEnv *env, AnyDictionary::iterator *native) {
     if (native == nullptr)return nullptr;
-    jclass cls =
-            env->FindClass("io/opentimeline/opentimelineio/AnyDictionary$Iterator");
-    if (cls == NULL) return NULL;
-
-    // Get the Method ID of the constructor which takes an otioNative
-    jmethodID itInit = env->GetMethodID(cls, "<init>", "(Lio/opentimeline/OTIONative;)V");
-    if (NULL == itInit) return NULL;
-
-    auto newIt = new AnyDictionary::iterator(*native);
-    jclass otioNativeClass = env->FindClass("io/opentimeline/OTIONative");
-    jfieldID classNameID =
-            env->GetFieldID(otioNativeClass, "className", "Ljava/lang/String;");
-    jmethodID otioNativeInit =
-            env->GetMethodID(otioNativeClass, "<init>", "(J)V");
-    jobject otioNative = env->NewObject(
-            otioNativeClass,
-            otioNativeInit,
-            reinterpret_cast<jlong>(newIt));
-    std::string classNameStr =
-            "io.opentimeline.opentimelineio.AnyDictionary.Iterator";
-    jstring className = env->NewStringUTF(classNameStr.c_str());
-    env->SetObjectField(otioNative, classNameID, className);
-
-    // Call back constructor to allocate a new instance, with an otioNative argument
-    jobject newObj = env->NewObject(cls, itInit, otioNative);
-    registerObjectToOTIOFactory(env, newObj);
-    return newObj;
+    return newObjectFromNative(env, getJNICache(env).anyDictionaryIterator, new AnyDictionary::iterator(*native), _AnyDictionaryIterator);
 }
 
 /* this deepcopies anyVector */
 inline jobject
 anyVectorFromNative(JNIEnv *env, AnyVector *native) {
     if (native == nullptr)return nullptr;
-    jclass cls = env->FindClass("io/opentimeline/opentimelineio/AnyVector");
-    if (cls == NULL) return NULL;
-
-    // Get the Method ID of the constructor which takes an otioNative
-    jmethodID vecInit = env->GetMethodID(cls, "<init>", "(Lio/opentimeline/OTIONative;)V");
-    if (NULL == vecInit) return NULL;
-
-    auto newVec = new AnyVector(*native);
-    jclass otioNativeClass = env->FindClass("io/opentimeline/OTIONative");
-    jfieldID classNameID =
-            env->GetFieldID(otioNativeClass, "className", "Ljava/lang/String;");
-    jmethodID otioNativeInit =
-            env->GetMethodID(otioNativeClass, "<init>", "(J)V");
-    jobject otioNative = env->NewObject(
-            otioNativeClass,
-            otioNativeInit,
-            reinterpret_cast<jlong>(newVec));
-    std::string classNameStr =
-            "io.opentimeline.opentimelineio.AnyVector";
-    jstring className = env->NewStringUTF(classNameStr.c_str());
-    env->SetObjectField(otioNative, classNameID, className);
-
-    // Call back constructor to allocate a new instance, with an otioNative argument
-    jobject newObj = env->NewObject(cls, vecInit, otioNative);
-    registerObjectToOTIOFactory(env, newObj);
-    return newObj;
+    return newObjectFromNative(env, getJNICache(env).anyVector, new AnyVector(*native), _AnyVector);
 }
 
 /* this deepcopies anyVector::iterator */
 inline jobject
 anyVectorIteratorFromNative(JNIEnv *env, AnyVector::iterator *native) {
     if (native == nullptr)return nullptr;
-    jclass cls =
-            env->FindClass("io/opentimeline/opentimelineio/AnyVector$Iterator");
-    if (cls == NULL) return NULL;
-
-    // Get the Method ID of the constructor which takes an otioNative
-    jmethodID itInit = env->GetMethodID(cls, "<init>", "(Lio/opentimeline/OTIONative;)V");
-    if (NULL == itInit) return NULL;
-
-    auto newIt = new AnyVector::iterator(*native);
-    jclass otioNativeClass = env->FindClass("io/opentimeline/OTIONative");
-    jfieldID classNameID =
-            env->GetFieldID(otioNativeClass, "className", "Ljava/lang/String;");
-    jmethodID otioNativeInit =
-            env->GetMethodID(otioNativeClass, "<init>", "(J)V");
-    jobject otioNative = env->NewObject(
-            otioNativeClass,
-            otioNativeInit,
-            reinterpret_cast<jlong>(newIt));
-    std::string classNameStr =
-            "io.opentimeline.opentimelineio.AnyVector.Iterator";
-    jstring className = env->NewStringUTF(classNameStr.c_str());
-    env->SetObjectField(otioNative, classNameID, className);
-
-    // Call back constructor to allocate a new instance, with an otioNative argument
-    jobject newObj = env->NewObject(cls, itInit, otioNative);
-    registerObjectToOTIOFactory(env, newObj);
-    return newObj;
+    return newObjectFromNative(env, getJNICache(env).anyVectorIterator, new AnyVector::iterator(*native), _AnyVectorIterator);
 }
 
 /* Following functions create new Retainer<T> objects thereby increasing the reference count */
@@ -331,276 +235,73 @@ anyVectorIteratorFromNative(JNIEnv *env, AnyVector::iterator *native) {
 inline jobject
 serializableObjectFromNative(JNIEnv *env, SerializableObject *native) {
     if (native == nullptr)return nullptr;
-    std::string javaCls = getSerializableObjectJavaClassFromNative(native);
-    jclass cls =
-            env->FindClass(javaCls.c_str());
-    if (cls == NULL) return NULL;
-
-    // Get the Method ID of the constructor which takes an otioNative
-    jmethodID soInit =
-            env->GetMethodID(cls, "<init>", "(Lio/opentimeline/OTIONative;)V");
-    if (NULL == soInit) return NULL;
-
-    auto serializableObjectManager =
-            new SerializableObject::Retainer<SerializableObject>(native);
-    jclass otioNativeClass = env->FindClass("io/opentimeline/OTIONative");
-    jfieldID classNameID =
-            env->GetFieldID(otioNativeClass, "className", "Ljava/lang/String;");
-    jmethodID otioNativeInit =
-            env->GetMethodID(otioNativeClass, "<init>", "(J)V");
-    jobject otioNative = env->NewObject(
-            otioNativeClass,
-            otioNativeInit,
-            reinterpret_cast<jlong>(serializableObjectManager));
-    std::string classNameStr =
-            "io.opentimeline.opentimelineio.SerializableObject";
-    jstring className = env->NewStringUTF(classNameStr.c_str());
-    env->SetObjectField(otioNative, classNameID, className);
-
-    // Call back constructor to allocate a new instance, with an otioNative argument
-    jobject newObj = env->NewObject(cls, soInit, otioNative);
-    registerObjectToOTIOFactory(env, newObj);
-    return newObj;
+    const JavaClass *javaClass = getSchemaJavaClass(env, native->schema_name());
+    if (javaClass == nullptr) return nullptr;
+    return newObjectFromNative(
+            env, *javaClass, new SerializableObject::Retainer<SerializableObject>(native), _SerializableObject);
 }
 
 inline jobject
 effectFromNative(JNIEnv *env, Effect *native) {
     if (native == nullptr)return nullptr;
-    std::string javaCls = getSerializableObjectJavaClassFromNative(native);
-    jclass cls =
-            env->FindClass(javaCls.c_str());
-    if (cls == NULL) return NULL;
-
-    // Get the Method ID of the constructor which takes an otioNative
-    jmethodID effectInit =
-            env->GetMethodID(cls, "<init>", "(Lio/opentimeline/OTIONative;)V");
-    if (NULL == effectInit) return NULL;
-
-    auto effectManager =
-            new SerializableObject::Retainer<Effect>(native);
-    jclass otioNativeClass = env->FindClass("io/opentimeline/OTIONative");
-    jfieldID classNameID =
-            env->GetFieldID(otioNativeClass, "className", "Ljava/lang/String;");
-    jmethodID otioNativeInit =
-            env->GetMethodID(otioNativeClass, "<init>", "(J)V");
-    jobject otioNative = env->NewObject(
-            otioNativeClass,
-            otioNativeInit,
-            reinterpret_cast<jlong>(effectManager));
-    std::string classNameStr =
-            "io.opentimeline.opentimelineio.Effect";
-    jstring className = env->NewStringUTF(classNameStr.c_str());
-    env->SetObjectField(otioNative, classNameID, className);
-
-    // Call back constructor to allocate a new instance, with an otioNative argument
-    jobject newObj = env->NewObject(cls, effectInit, otioNative);
-    registerObjectToOTIOFactory(env, newObj);
-    return newObj;
+    const JavaClass *javaClass = getSchemaJavaClass(env, native->schema_name());
+    if (javaClass == nullptr) return nullptr;
+    return newObjectFromNative(
+            env, *javaClass, new SerializableObject::Retainer<Effect>(native), _Effect);
 }
 
 inline jobject
 markerFromNative(JNIEnv *env, Marker *native) {
     if (native == nullptr)return nullptr;
-    std::string javaCls = getSerializableObjectJavaClassFromNative(native);
-    jclass cls =
-            env->FindClass(javaCls.c_str());
-    if (cls == NULL) return NULL;
-
-    // Get the Method ID of the constructor which takes an otioNative
-    jmethodID markerInit =
-            env->GetMethodID(cls, "<init>", "(Lio/opentimeline/OTIONative;)V");
-    if (NULL == markerInit) return NULL;
-
-    auto effectManager =
-            new SerializableObject::Retainer<Marker>(native);
-    jclass otioNativeClass = env->FindClass("io/opentimeline/OTIONative");
-    jfieldID classNameID =
-            env->GetFieldID(otioNativeClass, "className", "Ljava/lang/String;");
-    jmethodID otioNativeInit =
-            env->GetMethodID(otioNativeClass, "<init>", "(J)V");
-    jobject otioNative = env->NewObject(
-            otioNativeClass,
-            otioNativeInit,
-            reinterpret_cast<jlong>(effectManager));
-    std::string classNameStr =
-            "io.opentimeline.opentimelineio.Marker";
-    jstring className = env->NewStringUTF(classNameStr.c_str());
-    env->SetObjectField(otioNative, classNameID, className);
-
-    // Call back constructor to allocate a new instance, with an otioNative argument
-    jobject newObj = env->NewObject(cls, markerInit, otioNative);
-    registerObjectToOTIOFactory(env, newObj);
-    return newObj;
+    const JavaClass *javaClass = getSchemaJavaClass(env, native->schema_name());
+    if (javaClass == nullptr) return nullptr;
+    return newObjectFromNative(
+            env, *javaClass, new SerializableObject::Retainer<Marker>(native), _Marker);
 }
 
 inline jobject
 composableFromNative(JNIEnv *env, OTIO_NS::Composable *native) {
     if (native == nullptr)return nullptr;
-    std::string javaCls = getSerializableObjectJavaClassFromNative(native);
-    jclass cls =
-            env->FindClass(javaCls.c_str());
-    if (cls == NULL) return NULL;
-
-    // Get the Method ID of the constructor which takes an otioNatove
-    jmethodID composableInit = env->GetMethodID(cls, "<init>", "(Lio/opentimeline/OTIONative;)V");
-    if (NULL == composableInit) return NULL;
-
-    auto composableManager =
-            new SerializableObject::Retainer<Composable>(native);
-    jclass otioNativeClass = env->FindClass("io/opentimeline/OTIONative");
-    jfieldID classNameID =
-            env->GetFieldID(otioNativeClass, "className", "Ljava/lang/String;");
-    jmethodID otioNativeInit =
-            env->GetMethodID(otioNativeClass, "<init>", "(J)V");
-    jobject otioNative = env->NewObject(
-            otioNativeClass,
-            otioNativeInit,
-            reinterpret_cast<jlong>(composableManager));
-    std::string classNameStr =
-            "io.opentimeline.opentimelineio.Composable";
-    jstring className = env->NewStringUTF(classNameStr.c_str());
-    env->SetObjectField(otioNative, classNameID, className);
-
-    // Call back constructor to allocate a new instance, with an otioNative argument
-    jobject newObj = env->NewObject(cls, composableInit, otioNative);
-    registerObjectToOTIOFactory(env, newObj);
-    return newObj;
+    const JavaClass *javaClass = getSchemaJavaClass(env, native->schema_name());
+    if (javaClass == nullptr) return nullptr;
+    return newObjectFromNative(
+            env, *javaClass, new SerializableObject::Retainer<Composable>(native), _Composable);
 }
 
 inline jobject
 compositionFromNative(JNIEnv *env, OTIO_NS::Composition *native) {
     if (native == nullptr)return nullptr;
-    std::string javaCls = getSerializableObjectJavaClassFromNative(native);
-    jclass cls =
-            env->FindClass(javaCls.c_str());
-    if (cls == NULL) return NULL;
-
-    // Get the Method ID of the constructor which takes an otioNative
-    jmethodID compositionInit = env->GetMethodID(cls, "<init>", "(Lio/opentimeline/OTIONative;)V");
-    if (NULL == compositionInit) return NULL;
-
-    auto compositionManager =
-            new SerializableObject::Retainer<Composable>(native);
-    jclass otioNativeClass = env->FindClass("io/opentimeline/OTIONative");
-    jfieldID classNameID =
-            env->GetFieldID(otioNativeClass, "className", "Ljava/lang/String;");
-    jmethodID otioNativeInit =
-            env->GetMethodID(otioNativeClass, "<init>", "(J)V");
-    jobject otioNative = env->NewObject(
-            otioNativeClass,
-            otioNativeInit,
-            reinterpret_cast<jlong>(compositionManager));
-    std::string classNameStr =
-            "io.opentimeline.opentimelineio.Composition";
-    jstring className = env->NewStringUTF(classNameStr.c_str());
-    env->SetObjectField(otioNative, classNameID, className);
-
-    // Call back constructor to allocate a new instance, with an otioNative argument
-    jobject newObj = env->NewObject(cls, compositionInit, otioNative);
-    registerObjectToOTIOFactory(env, newObj);
-    return newObj;
+    const JavaClass *javaClass = getSchemaJavaClass(env, native->schema_name());
+    if (javaClass == nullptr) return nullptr;
+    return newObjectFromNative(
+            env, *javaClass, new SerializableObject::Retainer<Composable>(native), _Composition);
 }
 
 inline jobject
 mediaReferenceFromNative(JNIEnv *env, OTIO_NS::MediaReference *native) {
     if (native == nullptr)return nullptr;
-    std::string javaCls = getSerializableObjectJavaClassFromNative(native);
-    jclass cls =
-            env->FindClass(javaCls.c_str());
-    if (cls == NULL) return NULL;
-
-    // Get the Method ID of the constructor which takes an otioNative
-    jmethodID mrInit = env->GetMethodID(cls, "<init>", "(Lio/opentimeline/OTIONative;)V");
-    if (NULL == mrInit) return NULL;
-
-    auto mrManager =
-            new SerializableObject::Retainer<MediaReference>(native);
-    jclass otioNativeClass = env->FindClass("io/opentimeline/OTIONative");
-    jfieldID classNameID =
-            env->GetFieldID(otioNativeClass, "className", "Ljava/lang/String;");
-    jmethodID otioNativeInit =
-            env->GetMethodID(otioNativeClass, "<init>", "(J)V");
-    jobject otioNative = env->NewObject(
-            otioNativeClass,
-            otioNativeInit,
-            reinterpret_cast<jlong>(mrManager));
-    std::string classNameStr =
-            "io.opentimeline.opentimelineio.MediaReference";
-    jstring className = env->NewStringUTF(classNameStr.c_str());
-    env->SetObjectField(otioNative, classNameID, className);
-
-    // Call back constructor to allocate a new instance, with an otioNative argument
-    jobject newObj = env->NewObject(cls, mrInit, otioNative);
-    registerObjectToOTIOFactory(env, newObj);
-    return newObj;
+    const JavaClass *javaClass = getSchemaJavaClass(env, native->schema_name());
+    if (javaClass == nullptr) return nullptr;
+    return newObjectFromNative(
+            env, *javaClass, new SerializableObject::Retainer<MediaReference>(native), _MediaReference);
 }
 
 inline jobject
 stackFromNative(JNIEnv *env, OTIO_NS::Stack *native) {
     if (native == nullptr)return nullptr;
-    std::string javaCls = getSerializableObjectJavaClassFromNative(native);
-    jclass cls =
-            env->FindClass(javaCls.c_str());
-    if (cls == NULL) return NULL;
-
-    // Get the Method ID of the constructor which takes an otioNative
-    jmethodID stackInit = env->GetMethodID(cls, "<init>", "(Lio/opentimeline/OTIONative;)V");
-    if (NULL == stackInit) return NULL;
-
-    auto stackManager =
-            new SerializableObject::Retainer<Stack>(native);
-    jclass otioNativeClass = env->FindClass("io/opentimeline/OTIONative");
-    jfieldID classNameID =
-            env->GetFieldID(otioNativeClass, "className", "Ljava/lang/String;");
-    jmethodID otioNativeInit =
-            env->GetMethodID(otioNativeClass, "<init>", "(J)V");
-    jobject otioNative = env->NewObject(
-            otioNativeClass,
-            otioNativeInit,
-            reinterpret_cast<jlong>(stackManager));
-    std::string classNameStr =
-            "io.opentimeline.opentimelineio.Stack";
-    jstring className = env->NewStringUTF(classNameStr.c_str());
-    env->SetObjectField(otioNative, classNameID, className);
-
-    // Call back constructor to allocate a new instance, with an int argument
-    jobject newObj = env->NewObject(cls, stackInit, otioNative);
-    registerObjectToOTIOFactory(env, newObj);
-    return newObj;
+    const JavaClass *javaClass = getSchemaJavaClass(env, native->schema_name());
+    if (javaClass == nullptr) return nullptr;
+    return newObjectFromNative(
+            env, *javaClass, new SerializableObject::Retainer<Stack>(native), _Stack);
 }
 
 inline jobject
 trackFromNative(JNIEnv *env, OTIO_NS::Track *native) {
     if (native == nullptr)return nullptr;
-    std::string javaCls = getSerializableObjectJavaClassFromNative(native);
-    jclass cls =
-            env->FindClass(javaCls.c_str());
-    if (cls == NULL) return NULL;
-
-    // Get the Method ID of the constructor which takes an otioNative
-    jmethodID trackInit = env->GetMethodID(cls, "<init>", "(Lio/opentimeline/OTIONative;)V");
-    if (NULL == trackInit) return NULL;
-
-    auto trackManager =
-            new SerializableObject::Retainer<Track>(native);
-    jclass otioNativeClass = env->FindClass("io/opentimeline/OTIONative");
-    jfieldID classNameID =
-            env->GetFieldID(otioNativeClass, "className", "Ljava/lang/String;");
-    jmethodID otioNativeInit =
-            env->GetMethodID(otioNativeClass, "<init>", "(J)V");
-    jobject otioNative = env->NewObject(
-            otioNativeClass,
-            otioNativeInit,
-            reinterpret_cast<jlong>(trackManager));
-    std::string classNameStr =
-            "io.opentimeline.opentimelineio.Track";
-    jstring className = env->NewStringUTF(classNameStr.c_str());
-    env->SetObjectField(otioNative, classNameID, className);
-
-    // Call back constructor to allocate a new instance, with an otioNative argument
-    jobject newObj = env->NewObject(cls, trackInit, otioNative);
-    registerObjectToOTIOFactory(env, newObj);
-    return newObj;
+    const JavaClass *javaClass = getSchemaJavaClass(env, native->schema_name());
+    if (javaClass == nullptr) return nullptr;
+    return newObjectFromNative(
+            env, *javaClass, new SerializableObject::Retainer<Track>(native), _Track);
 }
 
 inline jobjectArray
@@ -608,15 +309,14 @@ serializableObjectRetainerVectorToArray(
         JNIEnv *env,
         std::vector<
                 OTIO_NS::SerializableObject::Retainer<OTIO_NS::SerializableObject>> &v) {
-    jclass serializableObjectClass = env->FindClass(
-            "io/opentimeline/opentimelineio/SerializableObject");
+    jclass serializableObjectClass = getSchemaJavaClass(env, "SerializableObject")->cls;
     jobjectArray result =
             env->NewObjectArray((jsize)v.size(), serializableObjectClass, nullptr);
     for (int i = 0; i < v.size(); i++) {
         auto newObj = serializableObjectFromNative(env, v[i]);
-        registerObjectToOTIOFactory(env, newObj);
         env->SetObjectArrayElement(
                 result, i, newObj);
+        env->DeleteLocalRef(newObj);
     }
     return result;
 }
@@ -625,15 +325,14 @@ inline jobjectArray
 effectRetainerVectorToArray(
         JNIEnv *env,
         std::vector<OTIO_NS::SerializableObject::Retainer<OTIO_NS::Effect>> &v) {
-    jclass effectClass = env->FindClass(
-            "io/opentimeline/opentimelineio/Effect");
+    jclass effectClass = getSchemaJavaClass(env, "Effect")->cls;
     jobjectArray result =
             env->NewObjectArray((jsize)v.size(), effectClass, nullptr);
     for (int i = 0; i < v.size(); i++) {
         auto newObj = effectFromNative(env, v[i]);
-        registerObjectToOTIOFactory(env, newObj);
         env->SetObjectArrayElement(
                 result, i, newObj);
+        env->DeleteLocalRef(newObj);
     }
     return result;
 }
@@ -642,15 +341,14 @@ inline jobjectArray
 markerRetainerVectorToArray(
         JNIEnv *env,
         std::vector<OTIO_NS::SerializableObject::Retainer<OTIO_NS::Marker>> &v) {
-    jclass markerClass = env->FindClass(
-            "io/opentimeline/opentimelineio/Marker");
+    jclass markerClass = getSchemaJavaClass(env, "Marker")->cls;
     jobjectArray result =
             env->NewObjectArray((jsize)v.size(), markerClass, nullptr);
     for (int i = 0; i < v.size(); i++) {
         auto newObj = markerFromNative(env, v[i]);
-        registerObjectToOTIOFactory(env, newObj);
         env->SetObjectArrayElement(
                 result, i, newObj);
+        env->DeleteLocalRef(newObj);
     }
     return result;
 }
@@ -659,122 +357,184 @@ inline jobjectArray
 composableRetainerVectorToArray(
         JNIEnv *env,
         std::vector<OTIO_NS::SerializableObject::Retainer<OTIO_NS::Composable>> &v) {
-    jclass composableClass = env->FindClass(
-            "io/opentimeline/opentimelineio/Composable");
+    jclass composableClass = getSchemaJavaClass(env, "Composable")->cls;
     jobjectArray result =
             env->NewObjectArray((jsize)v.size(), composableClass, nullptr);
     for (int i = 0; i < v.size(); i++) {
         auto newObj = composableFromNative(env, v[i]);
-        registerObjectToOTIOFactory(env, newObj);
         env->SetObjectArrayElement(
                 result, i, newObj);
+        env->DeleteLocalRef(newObj);
     }
     return result;
 }
 
 inline jobjectArray
 trackVectorToArray(JNIEnv *env, std::vector<OTIO_NS::Track *> &v) {
-    jclass trackClass = env->FindClass("io/opentimeline/opentimelineio/Track");
+    jclass trackClass = getSchemaJavaClass(env, "Track")->cls;
     jobjectArray result = env->NewObjectArray((jsize)v.size(), trackClass, nullptr);
     for (int i = 0; i < v.size(); i++) {
         auto newObj = trackFromNative(env, v[i]);
-        registerObjectToOTIOFactory(env, newObj);
         env->SetObjectArrayElement(result, i, newObj);
+        env->DeleteLocalRef(newObj);
     }
     return result;
 }
 
 inline opentime::RationalTime
 rationalTimeFromJObject(JNIEnv *env, jobject rtObject) {
-    jclass rtClass = env->FindClass("io/opentimeline/opentime/RationalTime");
-    jmethodID getValue = env->GetMethodID(rtClass, "getValue", "()D");
-    jmethodID getRate = env->GetMethodID(rtClass, "getRate", "()D");
-    double value = env->CallDoubleMethod(rtObject, getValue);
-    double rate = env->CallDoubleMethod(rtObject, getRate);
+    double value = env->GetDoubleField(rtObject, getJNICache(env).rationalTimeValue);
+    double rate = env->GetDoubleField(rtObject, getJNICache(env).rationalTimeRate);
     opentime::RationalTime rt(value, rate);
     return rt;
 }
 
 inline opentime::TimeRange
 timeRangeFromJObject(JNIEnv *env, jobject trObject) {
-    jclass trClass = env->FindClass("io/opentimeline/opentime/TimeRange");
-    jmethodID getStartTime = env->GetMethodID(
-            trClass, "getStartTime", "()Lio/opentimeline/opentime/RationalTime;");
-    jmethodID getDuration = env->GetMethodID(
-            trClass, "getDuration", "()Lio/opentimeline/opentime/RationalTime;");
-    jobject startTime = env->CallObjectMethod(trObject, getStartTime);
-    jobject duration = env->CallObjectMethod(trObject, getDuration);
-
-    jclass rtClass = env->FindClass("io/opentimeline/opentime/RationalTime");
-    jmethodID getValue = env->GetMethodID(rtClass, "getValue", "()D");
-    jmethodID getRate = env->GetMethodID(rtClass, "getRate", "()D");
-
-    double startTimeValue = env->CallDoubleMethod(startTime, getValue);
-    double startTimeRate = env->CallDoubleMethod(startTime, getRate);
-    double durationValue = env->CallDoubleMethod(duration, getValue);
-    double durationRate = env->CallDoubleMethod(duration, getRate);
+    jobject startTime = env->GetObjectField(trObject, getJNICache(env).timeRangeStartTime);
+    jobject duration = env->GetObjectField(trObject, getJNICache(env).timeRangeDuration);
 
     opentime::TimeRange tr(
-            opentime::RationalTime(startTimeValue, startTimeRate),
-            opentime::RationalTime(durationValue, durationRate));
+            rationalTimeFromJObject(env, startTime),
+            rationalTimeFromJObject(env, duration));
 
+    env->DeleteLocalRef(startTime);
+    env->DeleteLocalRef(duration);
     return tr;
 }
 
+/* Reads the double[] field of a RationalTimeArray or TimeRangeArray in one call */
+inline std::vector<double>
+doubleArrayFieldFromJObject(JNIEnv *env, jobject object, jfieldID field) {
+    auto array = (jdoubleArray) env->GetObjectField(object, field);
+    std::vector<double> result(env->GetArrayLength(array));
+    env->GetDoubleArrayRegion(array, 0, (jsize) result.size(), result.data());
+    env->DeleteLocalRef(array);
+    return result;
+}
+
+inline void
+doubleArrayFieldToJObject(JNIEnv *env, jobject object, jfieldID field, const std::vector<double> &values) {
+    auto array = (jdoubleArray) env->GetObjectField(object, field);
+    env->SetDoubleArrayRegion(array, 0, (jsize) values.size(), values.data());
+    env->DeleteLocalRef(array);
+}
+
+inline std::vector<opentime::RationalTime>
+rationalTimeArrayFromJObject(JNIEnv *env, jobject rtArrayObject) {
+    auto &c = getJNICache(env);
+    auto values = doubleArrayFieldFromJObject(env, rtArrayObject, c.rationalTimeArrayValues);
+    auto rates = doubleArrayFieldFromJObject(env, rtArrayObject, c.rationalTimeArrayRates);
+    std::vector<opentime::RationalTime> result;
+    result.reserve(values.size());
+    for (size_t i = 0; i < values.size(); i++) {
+        result.emplace_back(values[i], rates[i]);
+    }
+    return result;
+}
+
+inline std::vector<opentime::TimeRange>
+timeRangeArrayFromJObject(JNIEnv *env, jobject trArrayObject) {
+    auto &c = getJNICache(env);
+    auto startValues = doubleArrayFieldFromJObject(env, trArrayObject, c.timeRangeArrayStartValues);
+    auto startRates = doubleArrayFieldFromJObject(env, trArrayObject, c.timeRangeArrayStartRates);
+    auto durationValues = doubleArrayFieldFromJObject(env, trArrayObject, c.timeRangeArrayDurationValues);
+    auto durationRates = doubleArrayFieldFromJObject(env, trArrayObject, c.timeRangeArrayDurationRates);
+    std::vector<opentime::TimeRange> result;
+    result.reserve(startValues.size());
+    for (size_t i = 0; i < startValues.size(); i++) {
+        result.emplace_back(
+                opentime::RationalTime(startValues[i], startRates[i]),
+                opentime::RationalTime(durationValues[i], durationRates[i]));
+    }
+    return result;
+}
+
 inline opentime::TimeTransform
 timeTransformFromJObject(JNIEnv *env, jobject txObject) {
-    jclass trClass = env->FindClass("io/opentimeline/opentime/TimeTransform");
-    jmethodID getOffset = env->GetMethodID(
-            trClass, "getOffset", "()Lio/opentimeline/opentime/RationalTime;");
-    jmethodID getScale = env->GetMethodID(trClass, "getScale", "()D");
-    jmethodID getRate = env->GetMethodID(trClass, "getRate", "()D");
-    jobject offset = env->CallObjectMethod(txObject, getOffset);
-    double scale = env->CallDoubleMethod(txObject, getScale);
-    double rate = env->CallDoubleMethod(txObject, getRate);
-
-    jclass rtClass = env->FindClass("io/opentimeline/opentime/RationalTime");
-    jmethodID getRationalTimeValue =
-            env->GetMethodID(rtClass, "getValue", "()D");
-    jmethodID getRationalTimeRate = env->GetMethodID(rtClass, "getRate", "()D");
-
-    double offsetValue = env->CallDoubleMethod(offset, getRationalTimeValue);
-    double offsetRate = env->CallDoubleMethod(offset, getRationalTimeRate);
+    jobject offset = env->GetObjectField(txObject, getJNICache(env).timeTransformOffset);
+    double scale = env->GetDoubleField(txObject, getJNICache(env).timeTransformScale);
+    double rate = env->GetDoubleField(txObject, getJNICache(env).timeTransformRate);
 
     opentime::TimeTransform timeTransform(
-            opentime::RationalTime(offsetValue, offsetRate), scale, rate);
+            rationalTimeFromJObject(env, offset), scale, rate);
+    env->DeleteLocalRef(offset);
     return timeTransform;
 }
 
 inline jobject
 rationalTimeToJObject(JNIEnv *env, opentime::RationalTime rationalTime) {
-    jclass rtClass = env->FindClass("io/opentimeline/opentime/RationalTime");
-    jmethodID rtInit = env->GetMethodID(rtClass, "<init>", "(DD)V");
     jobject rt = env->NewObject(
-            rtClass, rtInit, rationalTime.value(), rationalTime.rate());
+            getJNICache(env).rationalTimeClass,
+            getJNICache(env).rationalTimeInit,
+            rationalTime.value(),
+            rationalTime.rate());
     return rt;
 }
 
 inline jobject
 timeRangeToJObject(JNIEnv *env, opentime::TimeRange timeRange) {
-    jclass trClass = env->FindClass("io/opentimeline/opentime/TimeRange");
-    jmethodID trInit = env->GetMethodID(
-            trClass,
-            "<init>",
-            "(Lio/opentimeline/opentime/RationalTime;Lio/opentimeline/opentime/RationalTime;)V");
     jobject startTime = rationalTimeToJObject(env, timeRange.start_time());
     jobject duration = rationalTimeToJObject(env, timeRange.duration());
-    jobject tr = env->NewObject(trClass, trInit, startTime, duration);
+    jobject tr = env->NewObject(
+            getJNICache(env).timeRangeClass, getJNICache(env).timeRangeInit, startTime, duration);
+    env->DeleteLocalRef(startTime);
+    env->DeleteLocalRef(duration);
     return tr;
 }
 
+inline jobject
+rationalTimeArrayToJObject(JNIEnv *env, const std::vector<opentime::RationalTime> &rationalTimes) {
+    auto &c = getJNICache(env);
+    jobject rtArray = env->NewObject(
+            c.rationalTimeArrayClass, c.rationalTimeArrayInit, (jint) rationalTimes.size());
+    if (rtArray == nullptr) return nullptr;
+    std::vector<double> values, rates;
+    values.reserve(rationalTimes.size());
+    rates.reserve(rationalTimes.size());
+    for (auto &rt: rationalTimes) {
+        values.push_back(rt.value());
+        rates.push_back(rt.rate());
+    }
+    doubleArrayFieldToJObject(env, rtArray, c.rationalTimeArrayValues, values);
+    doubleArrayFieldToJObject(env, rtArray, c.rationalTimeArrayRates, rates);
+    return rtArray;
+}
+
+inline jobject
+timeRangeArrayToJObject(JNIEnv *env, const std::vector<opentime::TimeRange> &timeRanges) {
+    auto &c = getJNICache(env);
+    jobject trArray = env->NewObject(
+            c.timeRangeArrayClass, c.timeRangeArrayInit, (jint) timeRanges.size());
+    if (trArray == nullptr) return nullptr;
+    std::vector<double> startValues, startRates, durationValues, durationRates;
+    startValues.reserve(timeRanges.size());
+    startRates.reserve(timeRanges.size());
+    durationValues.reserve(timeRanges.size());
+    durationRates.reserve(timeRanges.size());
+    for (auto &tr: timeRanges) {
+        startValues.push_back(tr.start_time().value());
+        startRates.push_back(tr.start_time().rate());
+        durationValues.push_back(tr.duration().value());
+        durationRates.push_back(tr.duration().rate());
+    }
+    doubleArrayFieldToJObject(env, trArray, c.timeRangeArrayStartValues, startValues);
+    doubleArrayFieldToJObject(env, trArray, c.timeRangeArrayStartRates, startRates);
+    doubleArrayFieldToJObject(env, trArray, c.timeRangeArrayDurationValues, durationValues);
+    doubleArrayFieldToJObject(env, trArray, c.timeRangeArrayDurationRates, durationRates);
+    return trArray;
+}
+
 inline jobject
 timeTransformToJObject(JNIEnv *env, opentime::TimeTransform timeTransform) {
-    jclass txClass = env->FindClass("io/opentimeline/opentime/TimeTransform");
-    jmethodID txInit = env->GetMethodID(
-            txClass, "<init>", "(Lio/opentimeline/opentime/RationalTime;DD)V");
     jobject offset = rationalTimeToJObject(env, timeTransform.offset());
     jobject tx = env->NewObject(
-            txClass, txInit, offset, timeTransform.scale(), timeTransform.rate());
+            getJNICache(env).timeTransformClass,
+            getJNICache(env).timeTransformInit,
+            offset,
+            timeTransform.scale(),
+            timeTransform.rate());
+    env->DeleteLocalRef(offset);
     return tx;
 }
 
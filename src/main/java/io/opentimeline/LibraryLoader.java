@@ -26,7 +26,7 @@ public class LibraryLoader {
         return "";
     }
 
-    public static void load(String name) {
+    public static synchronized void load(String name) {
         if (libLoaded)
             return;
         final String libname = System.mapLibraryName(name);
@@ -0,0 +1,135 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline;
+
+import java.util.Arrays;
+
+/**
+ * A scope that owns the native memory of every OTIO object created on its thread while it is open.
+ * <p>
+ * Objects created through the OTIOFactory, or returned by native methods, while an arena is open
+ * are not tracked with PhantomReferences. Instead the arena keeps them and frees all of them
+ * with a single native call when it is closed. It is meant to be used in a try-with-resources block:
+ * <pre>
+ * try (OTIOArena arena = OTIOFactory.getInstance().openArena()) {
+ *     Timeline timeline = OTIOFactory.getInstance().createTimeline(...);
+ *     ...
+ * }
+ * </pre>
+ * Objects owned by an arena must not be used after the arena is closed.
+ * Individual objects can still be closed before that, the arena will not free them again.
+ * <p>
+ * An arena belongs to the thread that opened it and only captures objects created on that thread.
+ * Arenas can be nested, the innermost open arena captures new objects.
+ * They must be closed in the reverse order they were opened.
+ */
+public class OTIOArena implements AutoCloseable {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final OTIOFactory factory;
+    private final OTIOArena parent;
+    private final Thread owner;
+
+    private OTIONative[] natives = new OTIONative[INITIAL_CAPACITY];
+    private long[] nativeHandles = new long[INITIAL_CAPACITY];
+    private int[] classCodes = new int[INITIAL_CAPACITY];
+    private int size = 0;
+    private int released = 0;
+    private boolean closed = false;
+
+    OTIOArena(OTIOFactory factory, OTIOArena parent) {
+        this.factory = factory;
+        this.parent = parent;
+        this.owner = Thread.currentThread();
+    }
+
+    OTIOArena getParent() {
+        return parent;
+    }
+
+    /**
+     * Take ownership of the native memory of an object.
+     *
+     * @param otioNative object to take ownership of
+     * @return false if the object can not be owned by an arena
+     */
+    synchronized boolean capture(OTIONative otioNative) {
+        int classCode = OTIOClassCodes.getClassCode(otioNative.className);
+        if (closed || classCode == OTIOClassCodes.UNKNOWN)
+            return false;
+        if (size == natives.length) {
+            int capacity = natives.length * 2;
+            natives = Arrays.copyOf(natives, capacity);
+            nativeHandles = Arrays.copyOf(nativeHandles, capacity);
+            classCodes = Arrays.copyOf(classCodes, capacity);
+        }
+        natives[size] = otioNative;
+        nativeHandles[size] = otioNative.nativeHandle;
+        classCodes[size] = classCode;
+        otioNative.lifecycle = this;
+        otioNative.arenaIndex = size;
+        size++;
+        return true;
+    }
+
+    /**
+     * Free a single object before the arena is closed, used by OTIONative.close().
+     */
+    synchronized void release(OTIONative otioNative, long nativeHandle) {
+        if (closed)
+            return;
+        int index = otioNative.arenaIndex;
+        if (natives[index] != otioNative)
+            return;
+        natives[index] = null;
+        nativeHandles[index] = 0;
+        released++;
+        OTIONative.disposeNativeObject(nativeHandle, classCodes[index]);
+    }
+
+    /**
+     * @return number of objects owned by this arena that have not been freed yet
+     */
+    public synchronized int getObjectCount() {
+        return size - released;
+    }
+
+    /**
+     * @return is the arena still open?
+     */
+    public synchronized boolean isOpen() {
+        return !closed;
+    }
+
+    /**
+     * Free the native memory of every object owned by this arena in one native call.
+     * Closing an arena more than once has no effect.
+     *
+     * @throws IllegalStateException if the arena is closed from another thread or
+     *                               before an arena opened inside of it
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed)
+                return;
+            if (Thread.currentThread() != owner)
+                throw new IllegalStateException("An OTIOArena must be closed by the thread that opened it.");
+            factory.closeArena(this);
+            closed = true;
+            for (int i = 0; i < size; i++) {
+                OTIONative otioNative = natives[i];
+                if (otioNative != null) {
+                    otioNative.nativeHandle = 0;
+                    otioNative.lifecycle = null;
+                }
+            }
+            OTIONative.disposeNativeObjects(nativeHandles, classCodes, size);
+            natives = null;
+            nativeHandles = null;
+            classCodes = null;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Integer codes of the native classes for internal use of the library.
+ * The codes mirror the ClassCode enum in class_codes.h and must be kept in the same order.
+ * They let the native side pick the right destructor without passing the class name around.
+ */
+final class OTIOClassCodes {
+
+    // _Unknown in class_codes.h
+    static final int UNKNOWN = -1;
+
+    private static final String[] classNames = {
+            "io.opentimeline.opentime.ErrorStatus",
+            "io.opentimeline.opentimelineio.Any",
+            "io.opentimeline.opentimelineio.AnyDictionary",
+            "io.opentimeline.opentimelineio.AnyDictionary.Iterator",
+            "io.opentimeline.opentimelineio.AnyVector",
+            "io.opentimeline.opentimelineio.AnyVector.Iterator",
+            "io.opentimeline.opentimelineio.ErrorStatus",
+            "io.opentimeline.opentimelineio.SerializableObject",
+            "io.opentimeline.opentimelineio.SerializableObjectWithMetadata",
+            "io.opentimeline.opentimelineio.SerializableCollection",
+            "io.opentimeline.opentimelineio.Marker",
+            "io.opentimeline.opentimelineio.MediaReference",
+            "io.opentimeline.opentimelineio.MissingReference",
+            "io.opentimeline.opentimelineio.ExternalReference",
+            "io.opentimeline.opentimelineio.GeneratorReference",
+            "io.opentimeline.opentimelineio.Effect",
+            "io.opentimeline.opentimelineio.TimeEffect",
+            "io.opentimeline.opentimelineio.LinearTimeWarp",
+            "io.opentimeline.opentimelineio.FreezeFrame",
+            "io.opentimeline.opentimelineio.ImageSequenceReference",
+            "io.opentimeline.opentimelineio.Composable",
+            "io.opentimeline.opentimelineio.Item",
+            "io.opentimeline.opentimelineio.Composition",
+            "io.opentimeline.opentimelineio.Gap",
+            "io.opentimeline.opentimelineio.UnknownSchema",
+            "io.opentimeline.opentimelineio.Transition",
+            "io.opentimeline.opentimelineio.Clip",
+            "io.opentimeline.opentimelineio.Stack",
+            "io.opentimeline.opentimelineio.Track",
+            "io.opentimeline.opentimelineio.Timeline",
+    };
+
+    private static final Map<String, Integer> classCodes = new HashMap<>();
+
+    static {
+        for (int i = 0; i < classNames.length; i++) {
+            classCodes.put(classNames[i], i);
+        }
+    }
+
+    private OTIOClassCodes() {
+    }
+
+    /**
+     * @param className canonical name of the Java class of the OTIO object
+     * @return class code of the native object or UNKNOWN
+     */
+    static int getClassCode(String className) {
+        if (className == null)
+            return UNKNOWN;
+        Integer classCode = classCodes.get(className);
+        return classCode == null ? UNKNOWN : classCode;
+    }
+
+    static String getClassName(int classCode) {
+        return classCode >= 0 && classCode < classNames.length ? classNames[classCode] : null;
+    }
+}
@@ -0,0 +1,33 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline;
+
+/**
+ * java.lang.ref.Cleaner based lifecycle backend for internal use of the library.
+ * <p>
+ * java.lang.ref.Cleaner is only available on Java 9+. This is the Java 8 version of the class
+ * which reports the backend as unsupported. The Java 9+ version is packaged in
+ * META-INF/versions/9 of the multi-release jar.
+ */
+final class OTIOCleaner {
+
+    private OTIOCleaner() {
+    }
+
+    static boolean isSupported() {
+        return false;
+    }
+
+    static Object register(OTIONative otioNative, int classCode) {
+        throw new UnsupportedOperationException("java.lang.ref.Cleaner requires Java 9 or later.");
+    }
+
+    static void clean(Object cleanable) {
+        throw new UnsupportedOperationException("java.lang.ref.Cleaner requires Java 9 or later.");
+    }
+
+    static long getDisposedCount() {
+        return 0;
+    }
+}
@@ -9,8 +9,8 @@ import io.opentimeline.opentime.TimeTransform;
 import io.opentimeline.opentimelineio.*;
 
 import java.lang.ref.ReferenceQueue;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * A singleton factory class that helps in creating all OTIO objects.
@@ -21,13 +21,28 @@ import java.util.List;
  * <p>
  * The factory does some minor cleanup everytime you interact with it, but the developers are expected to
  * setup a mechanism to call the cleanUp() method at regular intervals.
+ * <p>
+ * Alternatively an OTIOReaper can be started with startReaper(). The reaper frees native memory
+ * on a background thread as soon as objects are Garbage Collected.
+ * <p>
+ * On Java 9+ the factory can use a java.lang.ref.Cleaner instead of PhantomReferences,
+ * see isUsingCleaner().
+ * <p>
+ * Short lived object graphs can be created inside an OTIOArena, see openArena(),
+ * which frees all of their native memory at once when it is closed.
  */
 public class OTIOFactory {
 
     public static String OTIO_VERSION = "0.14.0";
 
     private ReferenceQueue<OTIONative> otioNativeReferenceQueue = new ReferenceQueue<>();
-    private List<OTIOFinalizer> references = new LinkedList();
+    private final OTIOFinalizerRegistry references = new OTIOFinalizerRegistry();
+    private volatile OTIOReaper reaper = null;
+    private final ThreadLocal<OTIOArena> activeArena = new ThreadLocal<>();
+    // lets registerObject() skip the ThreadLocal lookup while no arena is open
+    private final AtomicInteger openArenaCount = new AtomicInteger();
+    private final boolean useCleaner =
+            "cleaner".equals(System.getProperty("io.opentimeline.lifecycle")) && OTIOCleaner.isSupported();
 
     private static final OTIOFactory instance = new OTIOFactory();
 
@@ -39,7 +54,84 @@ public class OTIOFactory {
     }
 
     void registerObject(OTIOObject otioObject) {
-        references.add(new OTIOFinalizer(otioObject.getNativeManager(), otioNativeReferenceQueue));
+        OTIONative otioNative = otioObject.getNativeManager();
+        if (otioNative.lifecycle != null)
+            return;
+        if (openArenaCount.get() > 0) {
+            OTIOArena arena = activeArena.get();
+            if (arena != null && arena.capture(otioNative))
+                return;
+        }
+        if (useCleaner) {
+            otioNative.lifecycle = OTIOCleaner.register(otioNative,
+                    OTIOClassCodes.getClassCode(otioNative.className));
+            return;
+        }
+        OTIOFinalizer finalizer = new OTIOFinalizer(otioNative, otioNativeReferenceQueue);
+        otioNative.lifecycle = finalizer;
+        references.register(finalizer);
+    }
+
+    /**
+     * Free the native memory of an object right away, used by OTIONative.close().
+     * Releasing an object more than once has no effect.
+     */
+    void release(OTIONative otioNative) {
+        Object lifecycle;
+        long nativeHandle;
+        synchronized (otioNative) {
+            lifecycle = otioNative.lifecycle;
+            nativeHandle = otioNative.nativeHandle;
+            otioNative.lifecycle = null;
+            otioNative.nativeHandle = 0;
+        }
+        if (lifecycle instanceof OTIOFinalizer) {
+            dispose((OTIOFinalizer) lifecycle);
+        } else if (lifecycle instanceof OTIOArena) {
+            ((OTIOArena) lifecycle).release(otioNative, nativeHandle);
+        } else if (lifecycle != null) {
+            OTIOCleaner.clean(lifecycle);
+        } else if (nativeHandle != 0) {
+            // objects that were never registered with the factory
+            OTIONative.disposeNativeObject(nativeHandle, OTIOClassCodes.getClassCode(otioNative.className));
+        }
+    }
+
+    /**
+     * Open an arena on the current thread. Until it is closed, the arena owns every object
+     * created on this thread through the factory or returned by native methods, and frees them all at once
+     * when it is closed.
+     *
+     * @return the new arena, to be closed by the current thread
+     */
+    public OTIOArena openArena() {
+        OTIOArena arena = new OTIOArena(this, activeArena.get());
+        activeArena.set(arena);
+        openArenaCount.incrementAndGet();
+        return arena;
+    }
+
+    void closeArena(OTIOArena arena) {
+        if (activeArena.get() != arena)
+            throw new IllegalStateException("OTIOArenas must be closed in the reverse order they were opened.");
+        if (arena.getParent() == null)
+            activeArena.remove();
+        else
+            activeArena.set(arena.getParent());
+        openArenaCount.decrementAndGet();
+    }
+
+    /**
+     * The lifecycle backend is chosen once, when the factory is created.
+     * By default native memory is tracked with PhantomReferences and freed by cleanUp() or an OTIOReaper.
+     * On Java 9+ setting the system property "io.opentimeline.lifecycle" to "cleaner" registers
+     * every object with a java.lang.ref.Cleaner instead, which frees native memory on the Cleaner's
+     * own thread and needs no registry on the Java side.
+     *
+     * @return are objects tracked with a java.lang.ref.Cleaner?
+     */
+    public boolean isUsingCleaner() {
+        return useCleaner;
     }
 
     // Any ////////////////////////////////////////////////////////////////////
@@ -47,7 +139,7 @@ public class OTIOFactory {
     public <T> Any createAny(T value) {
         cleanUp();
         Any any = new Any(value);
-        references.add(new OTIOFinalizer(any.getNativeManager(), otioNativeReferenceQueue));
+        registerObject(any);
         return any;
     }
 
@@ -58,14 +150,14 @@ public class OTIOFactory {
     public AnyDictionary createAnyDictionary() {
         cleanUp();
         AnyDictionary anyDictionary = new AnyDictionary();
-        references.add(new OTIOFinalizer(anyDictionary.getNativeManager(), otioNativeReferenceQueue));
+        registerObject(anyDictionary);
         return anyDictionary;
     }
 
     public AnyDictionary.Iterator getAnyDictionaryIterator(AnyDictionary anyDictionary) {
         cleanUp();
         AnyDictionary.Iterator iterator = anyDictionary.iterator();
-        references.add(new OTIOFinalizer(iterator.getNativeManager(), otioNativeReferenceQueue));
+        registerObject(iterator);
         return iterator;
     }
 
@@ -76,14 +168,14 @@ public class OTIOFactory {
     public AnyVector createAnyVector() {
         cleanUp();
         AnyVector anyVector = new AnyVector();
-        references.add(new OTIOFinalizer(anyVector.getNativeManager(), otioNativeReferenceQueue));
+        registerObject(anyVector);
         return anyVector;
     }
 
     public AnyVector.Iterator getAnyVectorIterator(AnyVector anyVector) {
         cleanUp();
         AnyVector.Iterator iterator = anyVector.iterator();
-        references.add(new OTIOFinalizer(iterator.getNativeManager(), otioNativeReferenceQueue));
+        registerObject(iterator);
         return iterator;
     }
 
@@ -98,14 +190,14 @@ public class OTIOFactory {
             AnyDictionary metadata) {
         cleanUp();
         Clip clip = new Clip(name, mediaReference, sourceRange, metadata);
-        references.add(new OTIOFinalizer(clip.getNativeManager(), otioNativeReferenceQueue));
+        registerObject(clip);
         return clip;
     }
 
     public Clip createClip(Clip.ClipBuilder builder) {
         cleanUp();
         Clip clip = builder.build();
-        references.add(new OTIOFinalizer(clip.getNativeManager(), otioNativeReferenceQueue));
+        registerObject(clip);
         return clip;
     }
 
@@ -116,28 +208,28 @@ public class OTIOFactory {
     public Composable createComposable(String name, AnyDictionary metadata) {
         cleanUp();
         Composable composable = new Composable(name, metadata);
-        references.add(new OTIOFinalizer(composable.getNativeManager(), otioNativeReferenceQueue));
+        registerObject(composable);
         return composable;
     }
 
     public Composable createComposable(String name) {
         cleanUp();
         Composable composable = new Composable(name);
-        references.add(new OTIOFinalizer(composable.getNativeManager(), otioNativeReferenceQueue));
+        registerObject(composable);
         return composable;
     }
 
     public Composable createComposable(AnyDictionary metadata) {
         cleanUp();
         Composable composable = new Composable(metadata);
-        references.add(new OTIOFinalizer(composable.getNativeManager(), otioNativeReferenceQueue));
+        registerObject(composable);
         return composable;
     }
 
     public Composable createComposable(Composable.ComposableBuilder builder) {
         cleanUp();
         Composable composable = builder.build();
-        references.add(new OTIOFinalizer(composable.getNativeManager(), otioNativeReferenceQueue));
+        registerObject(composable);
         return composable;
     }
     ///////////////////////////////////////////////////////////////////////////
@@ -157,14 +249,14 @@ public class OTIOFactory {
                 metadata,
                 effects,
                 markers);
-        references.add(new OTIOFinalizer(composition.getNativeManager(), otioNativeReferenceQueue));
+        registerObject(composition);
         return composition;
     }
 
     public Composition createComposition(Composition.CompositionBuilder builder) {
         cleanUp();
         Composition composition = builder.build();
-        references.add(new OTIOFinalizer(composition.getNativeManager(), otioNativeReferenceQueue));
+        registerObject(composition);
         return composition;
     }
 
@@ -178,14 +270,14 @@ public class OTIOFactory {
             AnyDictionary metadata) {
         cleanUp();
         Effect effect = new Effect(name, effectName, metadata);
-        references.add(new OTIOFinalizer(effect.getNativeManager(), otioNativeReferenceQueue));
+        registerObject(effect);
         return effect;
     }
 
     public Effect createEffect(Effect.EffectBuilder builder) {
         cleanUp();
         Effect effect = builder.build();
-        references.add(new OTIOFinalizer(effect.getNativeManager(), otioNativeReferenceQueue));
+        registerObject(effect);
         return effect;
     }
     
@@ -200,14 +292,14 @@ public class OTIOFactory {
             AnyDictionary metadata) {
         cleanUp();
         ExternalReference externalReference = new ExternalReference(targetURL, availableRange, metadata);
-        references.add(new OTIOFinalizer(externalReference.getNativeManager(), otioNativeReferenceQueue));
+        registerObject(externalReference);
         return externalReference;
     }
 
     public ExternalReference createExternalReference(ExternalReference.ExternalReferenceBuilder builder) {
         cleanUp();
         ExternalReference externalReference = builder.build();
-        references.add(new OTIOFinalizer(externalReference.getNativeManager(), otioNativeReferenceQueue));
+        registerObject(externalReference);
         return externalReference;
     }
 
@@ -218,14 +310,14 @@ public class OTIOFactory {
     public FreezeFrame createFreezeFrame(String name, AnyDictionary metadata) {
         cleanUp();
         FreezeFrame freezeFrame = new FreezeFrame(name, metadata);
-        references.add(new OTIOFinalizer(freezeFrame.getNativeManager(), otioNativeReferenceQueue));
+        registerObject(freezeFrame);
         return freezeFrame;
     }
 
     public FreezeFrame createFreezeFrame(FreezeFrame.FreezeFrameBuilder builder) {
         cleanUp();
         FreezeFrame freezeFrame = builder.build();
-        references.add(new OTIOFinalizer(freezeFrame.getNativeManager(), otioNativeReferenceQueue));
+        registerObject(freezeFrame);
         return freezeFrame;
     }
 
@@ -241,7 +333,7 @@ public class OTIOFactory {
             AnyDictionary metadata) {
         cleanUp();
         Gap gap = new Gap(sourceRange, name, effects, markers, metadata);
-        references.add(new OTIOFinalizer(gap.getNativeManager(), otioNativeReferenceQueue));
+        registerObject(gap);
         return gap;
     }
 
@@ -253,14 +345,14 @@ public class OTIOFactory {
             AnyDictionary metadata) {
         cleanUp();
         Gap gap = new Gap(duration, name, effects, markers, metadata);
-        references.add(new OTIOFinalizer(gap.getNativeManager(), otioNativeReferenceQueue));
+        registerObject(gap);
         return gap;
     }
 
     public Gap createGap(Gap.GapBuilder builder) {
         cleanUp();
         Gap gap = builder.build();
-        references.add(new OTIOFinalizer(gap.getNativeManager(), otioNativeReferenceQueue));
+        registerObject(gap);
         return gap;
     }
 
@@ -281,14 +373,14 @@ public class OTIOFactory {
                 availableRange,
                 parameters,
                 metadata);
-        references.add(new OTIOFinalizer(generatorReference.getNativeManager(), otioNativeReferenceQueue));
+        registerObject(generatorReference);
         return generatorReference;
     }
 
     public GeneratorReference createGeneratorReference(GeneratorReference.GeneratorReferenceBuilder builder) {
         cleanUp();
         GeneratorReference generatorReference = builder.build();
-        references.add(new OTIOFinalizer(generatorReference.getNativeManager(), otioNativeReferenceQueue));
+        registerObject(generatorReference);
         return generatorReference;
     }
 
@@ -319,7 +411,7 @@ public class OTIOFactory {
                 missingFramePolicy,
                 availableRange,
                 metadata);
-        references.add(new OTIOFinalizer(imageSequenceReference.getNativeManager(), otioNativeReferenceQueue));
+        registerObject(imageSequenceReference);
         return imageSequenceReference;
     }
 
@@ -327,7 +419,7 @@ public class OTIOFactory {
             ImageSequenceReference.ImageSequenceReferenceBuilder builder) {
         cleanUp();
         ImageSequenceReference imageSequenceReference = builder.build();
-        references.add(new OTIOFinalizer(imageSequenceReference.getNativeManager(), otioNativeReferenceQueue));
+        registerObject(imageSequenceReference);
         return imageSequenceReference;
     }
 
@@ -343,14 +435,14 @@ public class OTIOFactory {
             List<Marker> markers) {
         cleanUp();
         Item item = new Item(name, sourceRange, metadata, effects, markers);
-        references.add(new OTIOFinalizer(item.getNativeManager(), otioNativeReferenceQueue));
+        registerObject(item);
         return item;
     }
 
     public Item createItem(Item.ItemBuilder builder) {
         cleanUp();
         Item item = builder.build();
-        references.add(new OTIOFinalizer(item.getNativeManager(), otioNativeReferenceQueue));
+        registerObject(item);
         return item;
     }
 
@@ -365,14 +457,14 @@ public class OTIOFactory {
             AnyDictionary metadata) {
         cleanUp();
         LinearTimeWarp linearTimeWarp = new LinearTimeWarp(name, effectName, timeScalar, metadata);
-        references.add(new OTIOFinalizer(linearTimeWarp.getNativeManager(), otioNativeReferenceQueue));
+        registerObject(linearTimeWarp);
         return linearTimeWarp;
     }
 
     public LinearTimeWarp createLinearTimeWarp(LinearTimeWarp.LinearTimeWarpBuilder builder) {
         cleanUp();
         LinearTimeWarp linearTimeWarp = builder.build();
-        references.add(new OTIOFinalizer(linearTimeWarp.getNativeManager(), otioNativeReferenceQueue));
+        registerObject(linearTimeWarp);
         return linearTimeWarp;
     }
 
@@ -383,14 +475,14 @@ public class OTIOFactory {
     public Marker createMarker(String name, TimeRange markedRange, String color, AnyDictionary metadata) {
         cleanUp();
         Marker marker = new Marker(name, markedRange, color, metadata);
-        references.add(new OTIOFinalizer(marker.getNativeManager(), otioNativeReferenceQueue));
+        registerObject(marker);
         return marker;
     }
 
     public Marker createMarker(Marker.MarkerBuilder builder) {
         cleanUp();
         Marker marker = builder.build();
-        references.add(new OTIOFinalizer(marker.getNativeManager(), otioNativeReferenceQueue));
+        registerObject(marker);
         return marker;
     }
 
@@ -401,14 +493,14 @@ public class OTIOFactory {
     public MediaReference createMediaReference(String name, TimeRange availableRange, AnyDictionary metadata) {
         cleanUp();
         MediaReference mediaReference = new MediaReference(name, availableRange, metadata);
-        references.add(new OTIOFinalizer(mediaReference.getNativeManager(), otioNativeReferenceQueue));
+        registerObject(mediaReference);
         return mediaReference;
     }
 
     public MediaReference createMediaReference(MediaReference.MediaReferenceBuilder builder) {
         cleanUp();
         MediaReference mediaReference = builder.build();
-        references.add(new OTIOFinalizer(mediaReference.getNativeManager(), otioNativeReferenceQueue));
+        registerObject(mediaReference);
         return mediaReference;
     }
 
@@ -419,14 +511,14 @@ public class OTIOFactory {
     public MissingReference createMissingReference(String name, TimeRange availableRange, AnyDictionary metadata) {
         cleanUp();
         MissingReference mediaReference = new MissingReference(name, availableRange, metadata);
-        references.add(new OTIOFinalizer(mediaReference.getNativeManager(), otioNativeReferenceQueue));
+        registerObject(mediaReference);
         return mediaReference;
     }
 
     public MissingReference createMediaReference(MissingReference.MissingReferenceBuilder builder) {
         cleanUp();
         MissingReference mediaReference = builder.build();
-        references.add(new OTIOFinalizer(mediaReference.getNativeManager(), otioNativeReferenceQueue));
+        registerObject(mediaReference);
         return mediaReference;
     }
 
@@ -440,14 +532,14 @@ public class OTIOFactory {
             AnyDictionary metadata) {
         cleanUp();
         SerializableCollection serializableCollection = new SerializableCollection(name, children, metadata);
-        references.add(new OTIOFinalizer(serializableCollection.getNativeManager(), otioNativeReferenceQueue));
+        registerObject(serializableCollection);
         return serializableCollection;
     }
 
     public SerializableCollection createSerializableCollection(SerializableCollection.SerializableCollectionBuilder builder) {
         cleanUp();
         SerializableCollection serializableCollection = builder.build();
-        references.add(new OTIOFinalizer(serializableCollection.getNativeManager(), otioNativeReferenceQueue));
+        registerObject(serializableCollection);
         return serializableCollection;
     }
 
@@ -458,7 +550,7 @@ public class OTIOFactory {
     public SerializableObject createSerializableObject() {
         cleanUp();
         SerializableObject serializableObject = new SerializableObject();
-        references.add(new OTIOFinalizer(serializableObject.getNativeManager(), otioNativeReferenceQueue));
+        registerObject(serializableObject);
         return serializableObject;
     }
 
@@ -469,21 +561,21 @@ public class OTIOFactory {
     public SerializableObjectWithMetadata createSerializableObjectWithMetadata(String name, AnyDictionary metadata) {
         cleanUp();
         SerializableObjectWithMetadata serializableObjectWithMetadata = new SerializableObjectWithMetadata(name, metadata);
-        references.add(new OTIOFinalizer(serializableObjectWithMetadata.getNativeManager(), otioNativeReferenceQueue));
+        registerObject(serializableObjectWithMetadata);
         return serializableObjectWithMetadata;
     }
 
     public SerializableObjectWithMetadata createSerializableObjectWithMetadata(String name) {
         cleanUp();
         SerializableObjectWithMetadata serializableObjectWithMetadata = new SerializableObjectWithMetadata(name);
-        references.add(new OTIOFinalizer(serializableObjectWithMetadata.getNativeManager(), otioNativeReferenceQueue));
+        registerObject(serializableObjectWithMetadata);
         return serializableObjectWithMetadata;
     }
 
     public SerializableObjectWithMetadata createSerializableObjectWithMetadata(AnyDictionary metadata) {
         cleanUp();
         SerializableObjectWithMetadata serializableObjectWithMetadata = new SerializableObjectWithMetadata(metadata);
-        references.add(new OTIOFinalizer(serializableObjectWithMetadata.getNativeManager(), otioNativeReferenceQueue));
+        registerObject(serializableObjectWithMetadata);
         return serializableObjectWithMetadata;
     }
 
@@ -491,7 +583,7 @@ public class OTIOFactory {
             SerializableObjectWithMetadata.SerializableObjectWithMetadataBuilder builder) {
         cleanUp();
         SerializableObjectWithMetadata serializableObjectWithMetadata = builder.build();
-        references.add(new OTIOFinalizer(serializableObjectWithMetadata.getNativeManager(), otioNativeReferenceQueue));
+        registerObject(serializableObjectWithMetadata);
         return serializableObjectWithMetadata;
     }
 
@@ -507,14 +599,14 @@ public class OTIOFactory {
             List<Marker> markers) {
         cleanUp();
         Stack stack = new Stack(name, sourceRange, metadata, effects, markers);
-        references.add(new OTIOFinalizer(stack.getNativeManager(), otioNativeReferenceQueue));
+        registerObject(stack);
         return stack;
     }
 
     public Stack createStack(Stack.StackBuilder builder) {
         cleanUp();
         Stack stack = builder.build();
-        references.add(new OTIOFinalizer(stack.getNativeManager(), otioNativeReferenceQueue));
+        registerObject(stack);
         return stack;
     }
 
@@ -525,14 +617,14 @@ public class OTIOFactory {
     public TimeEffect createTimeEffect(String name, String effectName, AnyDictionary metadata) {
         cleanUp();
         TimeEffect timeEffect = new TimeEffect(name, effectName, metadata);
-        references.add(new OTIOFinalizer(timeEffect.getNativeManager(), otioNativeReferenceQueue));
+        registerObject(timeEffect);
         return timeEffect;
     }
 
     public TimeEffect createTimeEffect(TimeEffect.TimeEffectBuilder builder) {
         cleanUp();
         TimeEffect timeEffect = builder.build();
-        references.add(new OTIOFinalizer(timeEffect.getNativeManager(), otioNativeReferenceQueue));
+        registerObject(timeEffect);
         return timeEffect;
     }
 
@@ -543,14 +635,14 @@ public class OTIOFactory {
     public Timeline createTimeline(String name, RationalTime globalStartTime, AnyDictionary metadata) {
         cleanUp();
         Timeline timeline = new Timeline(name, globalStartTime, metadata);
-        references.add(new OTIOFinalizer(timeline.getNativeManager(), otioNativeReferenceQueue));
+        registerObject(timeline);
         return timeline;
     }
 
     public Timeline createTimeline(Timeline.TimelineBuilder builder) {
         cleanUp();
         Timeline timeline = builder.build();
-        references.add(new OTIOFinalizer(timeline.getNativeManager(), otioNativeReferenceQueue));
+        registerObject(timeline);
         return timeline;
     }
 
@@ -561,14 +653,14 @@ public class OTIOFactory {
     public Track createTrack(String name, TimeRange sourceRange, String kind, AnyDictionary metadata) {
         cleanUp();
         Track track = new Track(name, sourceRange, kind, metadata);
-        references.add(new OTIOFinalizer(track.getNativeManager(), otioNativeReferenceQueue));
+        registerObject(track);
         return track;
     }
 
     public Track createTrack(Track.TrackBuilder builder) {
         cleanUp();
         Track track = builder.build();
-        references.add(new OTIOFinalizer(track.getNativeManager(), otioNativeReferenceQueue));
+        registerObject(track);
         return track;
     }
 
@@ -589,14 +681,14 @@ public class OTIOFactory {
                 inOffset,
                 outOffset,
                 metadata);
-        references.add(new OTIOFinalizer(transition.getNativeManager(), otioNativeReferenceQueue));
+        registerObject(transition);
         return transition;
     }
 
     public Transition createTransition(Transition.TransitionBuilder builder) {
         cleanUp();
         Transition transition = builder.build();
-        references.add(new OTIOFinalizer(transition.getNativeManager(), otioNativeReferenceQueue));
+        registerObject(transition);
         return transition;
     }
 
@@ -607,25 +699,72 @@ public class OTIOFactory {
     public UnknownSchema createUnknownSchema(String originalSchemaName, int originalSchemaVersion) {
         cleanUp();
         UnknownSchema unknownSchema = new UnknownSchema(originalSchemaName, originalSchemaVersion);
-        references.add(new OTIOFinalizer(unknownSchema.getNativeManager(), otioNativeReferenceQueue));
+        registerObject(unknownSchema);
         return unknownSchema;
     }
 
     public UnknownSchema createUnknownSchema(UnknownSchema.UnknownSchemaBuilder builder) {
         cleanUp();
         UnknownSchema unknownSchema = builder.build();
-        references.add(new OTIOFinalizer(unknownSchema.getNativeManager(), otioNativeReferenceQueue));
+        registerObject(unknownSchema);
         return unknownSchema;
     }
 
     ///////////////////////////////////////////////////////////////
 
+    /**
+     * Start a reaper thread with default settings.
+     * If a reaper is already running this does nothing.
+     */
+    public void startReaper() {
+        startReaper(new OTIOReaper.OTIOReaperBuilder());
+    }
+
+    /**
+     * Start a reaper thread that frees native memory of Garbage Collected objects in the background.
+     * If a reaper is already running this does nothing.
+     *
+     * @param builder reaper settings
+     */
+    public synchronized void startReaper(OTIOReaper.OTIOReaperBuilder builder) {
+        if (reaper != null)
+            return;
+        reaper = new OTIOReaper(this, otioNativeReferenceQueue, builder);
+        reaper.start();
+    }
+
+    /**
+     * Stop the reaper thread, if one is running, and free everything that has already been collected.
+     * After this the factory goes back to freeing native memory in cleanUp().
+     */
+    public synchronized void stopReaper() {
+        if (reaper == null)
+            return;
+        reaper.stop();
+        reaper = null;
+    }
+
+    /**
+     * @return the running reaper or null if no reaper was started
+     */
+    public OTIOReaper getReaper() {
+        return reaper;
+    }
+
+    void dispose(OTIOFinalizer finalizer) {
+        if (references.unregister(finalizer))
+            finalizer.cleanUp();
+    }
+
     public void cleanUp() {
+        OTIOReaper currentReaper = reaper;
+        if (currentReaper != null) {
+            currentReaper.applyBackpressure();
+            return;
+        }
         OTIOFinalizer finalizer = (OTIOFinalizer) otioNativeReferenceQueue.poll();
         if (finalizer != null) {
-            System.out.println("Here");
-            finalizer.cleanUp();
-            references.remove(finalizer);
+            dispose(finalizer);
         }
     }
 }
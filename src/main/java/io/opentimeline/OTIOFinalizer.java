@@ -9,28 +9,30 @@ import java.lang.ref.ReferenceQueue;
 /**
  * A finalizer class for internal use of the library.
  * It extends PhantomReference&lt;&gt; and stores
- * the class name and native handle of the object whose reference it holds.
+ * the class code and native handle of the object whose reference it holds.
  * <p>
  * The OTIOFactory will call the cleanUp() method of this class to free native memory allocated
  * after the Java object is Garbage Collected.
  */
 public class OTIOFinalizer extends PhantomReference<OTIONative> {
 
-    String nativeClassName;
+    int classCode;
     long nativeHandle;
 
+    // links used by OTIOFinalizerRegistry
+    OTIOFinalizer previous = null;
+    OTIOFinalizer next = null;
+    volatile int stripe = -1;
+
     public OTIOFinalizer(OTIONative referent, ReferenceQueue<OTIONative> q) {
         super(referent, q);
         this.nativeHandle = referent.nativeHandle;
-        this.nativeClassName = referent.className;
+        this.classCode = OTIOClassCodes.getClassCode(referent.className);
     }
 
-    private native void disposeNativeObject(long nativeHandle, String nativeClassName);
-
     public void cleanUp() {
         try {
-            System.out.println("native cleanup for " + nativeClassName + " " + nativeHandle);
-            disposeNativeObject(nativeHandle, nativeClassName);
+            OTIONative.disposeNativeObject(nativeHandle, classCode);
         } catch (Exception e) {
             System.out.println("Couldn't dispose native object.");
         }
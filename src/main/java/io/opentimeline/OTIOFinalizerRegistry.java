@@ -0,0 +1,95 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline;
+
+/**
+ * Keeps OTIOFinalizers strongly reachable until the native memory they track has been freed.
+ * For internal use of the library.
+ * <p>
+ * The registry is a set of intrusive doubly-linked lists: every OTIOFinalizer stores its own
+ * links, so registering and unregistering are O(1) and allocate nothing.
+ * The lists are striped by the registering thread and each stripe has its own lock,
+ * so threads creating objects concurrently rarely contend with each other or with the reaper.
+ */
+class OTIOFinalizerRegistry {
+
+    private static final class Stripe {
+        private OTIOFinalizer head = null;
+        private int size = 0;
+    }
+
+    private final Stripe[] stripes;
+    private final int mask;
+
+    OTIOFinalizerRegistry() {
+        this(Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+    OTIOFinalizerRegistry(int concurrency) {
+        int stripeCount = 1;
+        while (stripeCount < concurrency)
+            stripeCount <<= 1;
+        stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++)
+            stripes[i] = new Stripe();
+        mask = stripeCount - 1;
+    }
+
+    void register(OTIOFinalizer finalizer) {
+        int index = (int) Thread.currentThread().getId() & mask;
+        Stripe stripe = stripes[index];
+        synchronized (stripe) {
+            if (finalizer.stripe >= 0)
+                throw new IllegalStateException("OTIOFinalizer is already registered.");
+            finalizer.previous = null;
+            finalizer.next = stripe.head;
+            if (stripe.head != null)
+                stripe.head.previous = finalizer;
+            stripe.head = finalizer;
+            stripe.size++;
+            finalizer.stripe = index;
+        }
+    }
+
+    /**
+     * Remove a finalizer from the registry. Removing a finalizer that is not registered does nothing.
+     *
+     * @param finalizer finalizer to remove
+     * @return was the finalizer registered?
+     */
+    boolean unregister(OTIOFinalizer finalizer) {
+        int index = finalizer.stripe;
+        if (index < 0)
+            return false;
+        Stripe stripe = stripes[index];
+        synchronized (stripe) {
+            if (finalizer.stripe != index)
+                return false;
+            if (finalizer.previous != null)
+                finalizer.previous.next = finalizer.next;
+            else
+                stripe.head = finalizer.next;
+            if (finalizer.next != null)
+                finalizer.next.previous = finalizer.previous;
+            finalizer.previous = null;
+            finalizer.next = null;
+            stripe.size--;
+            finalizer.stripe = -1;
+        }
+        return true;
+    }
+
+    /**
+     * @return number of registered finalizers
+     */
+    int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size;
+            }
+        }
+        return size;
+    }
+}
@@ -15,6 +15,12 @@ public class OTIONative implements AutoCloseable {
 
     public String className;
 
+    // OTIOFinalizer, Cleaner.Cleanable or OTIOArena that frees the native memory, set by the OTIOFactory
+    Object lifecycle = null;
+
+    // position of this object in its OTIOArena
+    int arenaIndex = -1;
+
     public OTIONative(long nativeHandle) {
         this.nativeHandle = nativeHandle;
     }
@@ -28,7 +34,17 @@ public class OTIONative implements AutoCloseable {
      */
     public native long getOTIOObjectNativeHandle();
 
+    /**
+     * Free the native memory of this object.
+     * Closing an object more than once has no effect.
+     */
     @Override
-    public native void close() throws Exception;
+    public void close() throws Exception {
+        OTIOFactory.getInstance().release(this);
+    }
+
+    static native void disposeNativeObject(long nativeHandle, int classCode);
+
+    static native void disposeNativeObjects(long[] nativeHandles, int[] classCodes, int count);
 
 }
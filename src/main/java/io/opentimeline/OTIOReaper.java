@@ -0,0 +1,193 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline;
+
+import java.lang.ref.ReferenceQueue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A daemon thread that frees native memory of Garbage Collected OTIO objects.
+ * <p>
+ * Without a reaper the OTIOFactory frees at most one native object every time it is used.
+ * With a reaper running, a background thread blocks on the ReferenceQueue and frees native
+ * objects in batches as soon as they are enqueued, so the creating threads do not pay for it.
+ * <p>
+ * Finalizers taken off the ReferenceQueue wait in a bounded backlog until they are freed.
+ * When the backlog is full, threads that create objects through the OTIOFactory help the reaper
+ * by freeing a batch themselves before creating new objects. This keeps native memory from growing
+ * without bound when objects are released faster than the reaper thread can free them.
+ * <p>
+ * A reaper is started with OTIOFactory.startReaper() and stopped with OTIOFactory.stopReaper().
+ * A shutdown hook stops the reaper thread when the JVM exits.
+ */
+public class OTIOReaper {
+
+    private final OTIOFactory factory;
+    private final ReferenceQueue<OTIONative> referenceQueue;
+    private final int batchSize;
+    private final BlockingQueue<OTIOFinalizer> backlog;
+    private final Thread thread;
+    private final Thread shutdownHook;
+    private final AtomicLong disposedCount = new AtomicLong();
+    private volatile boolean running = false;
+
+    OTIOReaper(OTIOFactory factory,
+               ReferenceQueue<OTIONative> referenceQueue,
+               OTIOReaperBuilder builder) {
+        this.factory = factory;
+        this.referenceQueue = referenceQueue;
+        this.batchSize = builder.batchSize;
+        this.backlog = new ArrayBlockingQueue<>(builder.maxBacklog);
+        this.thread = new Thread(this::run, "otio-reaper");
+        this.thread.setDaemon(true);
+        this.thread.setPriority(builder.priority);
+        this.shutdownHook = new Thread(this::stopThread, "otio-reaper-shutdown");
+    }
+
+    public static class OTIOReaperBuilder {
+        private int batchSize = 256;
+        private int priority = Thread.NORM_PRIORITY;
+        private int maxBacklog = 64 * 1024;
+
+        public OTIOReaperBuilder() {
+        }
+
+        /**
+         * @param batchSize maximum number of native objects freed in one go
+         * @return this builder
+         */
+        public OTIOReaper.OTIOReaperBuilder setBatchSize(int batchSize) {
+            if (batchSize < 1)
+                throw new IllegalArgumentException("batchSize must be positive");
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * @param priority priority of the reaper thread, between Thread.MIN_PRIORITY and Thread.MAX_PRIORITY
+         * @return this builder
+         */
+        public OTIOReaper.OTIOReaperBuilder setPriority(int priority) {
+            if (priority < Thread.MIN_PRIORITY || priority > Thread.MAX_PRIORITY)
+                throw new IllegalArgumentException("priority must be between Thread.MIN_PRIORITY and Thread.MAX_PRIORITY");
+            this.priority = priority;
+            return this;
+        }
+
+        /**
+         * @param maxBacklog number of collected objects waiting to be freed after which
+         *                   creating threads start freeing objects themselves
+         * @return this builder
+         */
+        public OTIOReaper.OTIOReaperBuilder setMaxBacklog(int maxBacklog) {
+            if (maxBacklog < 1)
+                throw new IllegalArgumentException("maxBacklog must be positive");
+            this.maxBacklog = maxBacklog;
+            return this;
+        }
+    }
+
+    void start() {
+        running = true;
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+        thread.start();
+    }
+
+    /**
+     * Stop the reaper thread and free everything that has already been collected.
+     */
+    void stop() {
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (IllegalStateException e) {
+            // the JVM is already shutting down and the hook takes care of the thread
+        }
+        stopThread();
+        drainReferenceQueue();
+        while (freeBatch() > 0) {
+            drainReferenceQueue();
+        }
+    }
+
+    private void stopThread() {
+        running = false;
+        thread.interrupt();
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        while (running) {
+            OTIOFinalizer finalizer;
+            try {
+                finalizer = (OTIOFinalizer) referenceQueue.remove();
+            } catch (InterruptedException e) {
+                continue;
+            }
+            while (!backlog.offer(finalizer)) {
+                freeBatch();
+            }
+            do {
+                drainReferenceQueue();
+            } while (freeBatch() > 0);
+        }
+    }
+
+    /**
+     * Called by the OTIOFactory on the creating thread.
+     * If the reaper has fallen behind, the calling thread frees one batch.
+     */
+    void applyBackpressure() {
+        if (backlog.remainingCapacity() == 0)
+            freeBatch();
+    }
+
+    private void drainReferenceQueue() {
+        OTIOFinalizer finalizer;
+        while (backlog.remainingCapacity() > 0
+                && (finalizer = (OTIOFinalizer) referenceQueue.poll()) != null) {
+            if (!backlog.offer(finalizer)) {
+                factory.dispose(finalizer);
+                disposedCount.incrementAndGet();
+            }
+        }
+    }
+
+    private int freeBatch() {
+        int count = 0;
+        OTIOFinalizer finalizer;
+        while (count < batchSize && (finalizer = backlog.poll()) != null) {
+            factory.dispose(finalizer);
+            count++;
+        }
+        disposedCount.addAndGet(count);
+        return count;
+    }
+
+    /**
+     * @return is the reaper thread running?
+     */
+    public boolean isRunning() {
+        return running && thread.isAlive();
+    }
+
+    /**
+     * @return number of collected objects waiting to be freed
+     */
+    public int getBacklogSize() {
+        return backlog.size();
+    }
+
+    /**
+     * @return number of native objects freed by this reaper so far
+     */
+    public long getDisposedCount() {
+        return disposedCount.get();
+    }
+}
@@ -0,0 +1,92 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline.opentime;
+
+import io.opentimeline.LibraryLoader;
+
+/**
+ * Native opentime implementations of the RationalTime and TimeRange operations that are done in Java.
+ * Used by the tests to verify the Java implementations against opentime. Not part of the OTIO API.
+ */
+class OpenTimeOracle {
+
+    static {
+        LibraryLoader.load("jotio");
+    }
+
+    private OpenTimeOracle() {
+    }
+
+    static native boolean isInvalidTime(RationalTime rationalTime);
+
+    static native RationalTime add(RationalTime lhs, RationalTime rhs);
+
+    static native RationalTime subtract(RationalTime lhs, RationalTime rhs);
+
+    static native RationalTime rescaledTo(RationalTime rationalTime, double newRate);
+
+    static native RationalTime rescaledTo(RationalTime rationalTime, RationalTime other);
+
+    static native double valueRescaledTo(RationalTime rationalTime, double newRate);
+
+    static native double valueRescaledTo(RationalTime rationalTime, RationalTime other);
+
+    static native boolean almostEqual(RationalTime lhs, RationalTime rhs, double delta);
+
+    static native RationalTime durationFromStartEndTime(RationalTime startTime, RationalTime endTimeExclusive);
+
+    static native boolean equals(RationalTime lhs, RationalTime rhs);
+
+    /**
+     * @return -1 if lhs&lt;rhs, 1 if lhs&gt;rhs, 0 if lhs==rhs and -99 if none of them hold
+     */
+    static native int compare(RationalTime lhs, RationalTime rhs);
+
+    /**
+     * @return opentime's DEFAULT_EPSILON_s
+     */
+    static native double defaultEpsilon();
+
+    static native RationalTime endTimeInclusive(TimeRange timeRange);
+
+    static native RationalTime endTimeExclusive(TimeRange timeRange);
+
+    static native TimeRange durationExtendedBy(TimeRange timeRange, RationalTime other);
+
+    static native TimeRange extendedBy(TimeRange timeRange, TimeRange other);
+
+    static native RationalTime clampedTime(TimeRange timeRange, RationalTime other);
+
+    static native TimeRange clampedRange(TimeRange timeRange, TimeRange other);
+
+    static native boolean containsTime(TimeRange timeRange, RationalTime other);
+
+    static native boolean containsRange(TimeRange timeRange, TimeRange other, double epsilon);
+
+    static native boolean overlapsTime(TimeRange timeRange, RationalTime other);
+
+    static native boolean overlapsRange(TimeRange timeRange, TimeRange other, double epsilon);
+
+    static native boolean beforeTime(TimeRange timeRange, RationalTime other, double epsilon);
+
+    static native boolean beforeRange(TimeRange timeRange, TimeRange other, double epsilon);
+
+    static native boolean meets(TimeRange timeRange, TimeRange other, double epsilon);
+
+    static native boolean beginsTime(TimeRange timeRange, RationalTime other, double epsilon);
+
+    static native boolean beginsRange(TimeRange timeRange, TimeRange other, double epsilon);
+
+    static native boolean finishesTime(TimeRange timeRange, RationalTime other, double epsilon);
+
+    static native boolean finishesRange(TimeRange timeRange, TimeRange other, double epsilon);
+
+    static native boolean intersects(TimeRange timeRange, TimeRange other, double epsilon);
+
+    static native boolean rangeEquals(TimeRange lhs, TimeRange rhs);
+
+    static native boolean rangeNotEquals(TimeRange lhs, TimeRange rhs);
+
+    static native TimeRange rangeFromStartEndTime(RationalTime startTime, RationalTime endTime);
+}
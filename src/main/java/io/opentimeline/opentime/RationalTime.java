@@ -6,9 +6,15 @@ package io.opentimeline.opentime;
 import io.opentimeline.LibraryLoader;
 import io.opentimeline.opentime.exception.*;
 
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+
 /**
  * Represents an instantaneous point in time, value * (1/rate) seconds
  * from time 0 seconds.
+ * <p>
+ * Arithmetic and comparisons are done in Java and give the same results as opentime,
+ * bit for bit. Timecode and time string conversions are done by opentime.
  */
 public class RationalTime implements Comparable<RationalTime> {
 
@@ -16,6 +22,11 @@ public class RationalTime implements Comparable<RationalTime> {
         LibraryLoader.load("jotio");
     }
 
+    /**
+     * Number of characters of a timecode written by toTimecodes, HH:MM:SS:FF
+     */
+    public static final int TIMECODE_LENGTH = 11;
+
     private final double value;
     private final double rate;
 
@@ -81,11 +92,11 @@ public class RationalTime implements Comparable<RationalTime> {
      * @return is value and rate pair a valid RationalTime?
      */
     public boolean isInvalidTime() {
-        return isInvalidTimeNative(value, rate);
+        if (Double.isNaN(rate) || Double.isNaN(value))
+            return true;
+        return rate <= 0;
     }
 
-    private static native boolean isInvalidTimeNative(double value, double rate);
-
     /**
      * Returns a RationalTime object that is the sum of this and other.
      * If this and other have differing time rates, the result will have the
@@ -94,7 +105,11 @@ public class RationalTime implements Comparable<RationalTime> {
      * @param other other RationalTime to add
      * @return sum of the two RationalTimes
      */
-    public native RationalTime add(RationalTime other);
+    public RationalTime add(RationalTime other) {
+        if (rate < other.rate)
+            return new RationalTime(valueRescaledTo(other.rate) + other.value, other.rate);
+        return new RationalTime(value + other.valueRescaledTo(rate), rate);
+    }
 
     /**
      * Returns a RationalTime object that is this - other.
@@ -104,7 +119,11 @@ public class RationalTime implements Comparable<RationalTime> {
      * @param other other RationalTime to add
      * @return difference of the two RationalTimes
      */
-    public native RationalTime subtract(RationalTime other);
+    public RationalTime subtract(RationalTime other) {
+        if (rate < other.rate)
+            return new RationalTime(valueRescaledTo(other.rate) - other.value, other.rate);
+        return new RationalTime(value - other.valueRescaledTo(rate), rate);
+    }
 
     /**
      * Returns the time for this time converted to newRate
@@ -112,7 +131,9 @@ public class RationalTime implements Comparable<RationalTime> {
      * @param newRate new rate
      * @return time for this time converted to newRate
      */
-    public native RationalTime rescaledTo(double newRate);
+    public RationalTime rescaledTo(double newRate) {
+        return new RationalTime(valueRescaledTo(newRate), newRate);
+    }
 
     /**
      * Returns the time for this time converted to new rate of a RationalTime
@@ -120,7 +141,9 @@ public class RationalTime implements Comparable<RationalTime> {
      * @param rationalTime RationalTime for new rate
      * @return time for this time converted to new rate of a RationalTime
      */
-    public native RationalTime rescaledTo(RationalTime rationalTime);
+    public RationalTime rescaledTo(RationalTime rationalTime) {
+        return rescaledTo(rationalTime.rate);
+    }
 
     /**
      * Returns the time value for this converted to newRate
@@ -128,7 +151,13 @@ public class RationalTime implements Comparable<RationalTime> {
      * @param newRate new Rate
      * @return time value for this converted to newRate
      */
-    public native double valueRescaledTo(double newRate);
+    public double valueRescaledTo(double newRate) {
+        return valueRescaledTo(value, rate, newRate);
+    }
+
+    static double valueRescaledTo(double value, double rate, double newRate) {
+        return newRate == rate ? value : (value * newRate) / rate;
+    }
 
     /**
      * Returns the time value for this converted to new rate of a RationalTime
@@ -136,7 +165,9 @@ public class RationalTime implements Comparable<RationalTime> {
      * @param rationalTime RationalTime for new rate
      * @return time value for this converted to new rate of a RationalTime
      */
-    public native double valueRescaledTo(RationalTime rationalTime);
+    public double valueRescaledTo(RationalTime rationalTime) {
+        return valueRescaledTo(rationalTime.rate);
+    }
 
     /**
      * Checks if the two RationalTimes equal with a default tolerance of 0.
@@ -144,7 +175,9 @@ public class RationalTime implements Comparable<RationalTime> {
      * @param other other RationalTime
      * @return are the two RationalTimes equal with a default tolerance of 0?
      */
-    public native boolean almostEqual(RationalTime other);
+    public boolean almostEqual(RationalTime other) {
+        return almostEqual(other, 0);
+    }
 
     /**
      * Checks if the two RationalTimes equal with a tolerance of delta.
@@ -153,7 +186,9 @@ public class RationalTime implements Comparable<RationalTime> {
      * @param delta tolerance for equality comparison
      * @return are the two RationalTimes equal with a tolerance of delta?
      */
-    public native boolean almostEqual(RationalTime other, double delta);
+    public boolean almostEqual(RationalTime other, double delta) {
+        return Math.abs(valueRescaledTo(other.rate) - other.value) <= delta;
+    }
 
     /**
      * Compute duration of samples from first to last.
@@ -165,7 +200,13 @@ public class RationalTime implements Comparable<RationalTime> {
      * @param endTimeExclusive end time of duration
      * @return duration
      */
-    public static native RationalTime durationFromStartEndTime(RationalTime startTime, RationalTime endTimeExclusive);
+    public static RationalTime durationFromStartEndTime(RationalTime startTime, RationalTime endTimeExclusive) {
+        if (startTime.rate == endTimeExclusive.rate)
+            return new RationalTime(endTimeExclusive.value - startTime.value, startTime.rate);
+        return new RationalTime(
+                endTimeExclusive.valueRescaledTo(startTime.rate) - startTime.value,
+                startTime.rate);
+    }
 
     /**
      * Check if the timecode rate is valid.
@@ -264,6 +305,147 @@ public class RationalTime implements Comparable<RationalTime> {
 
     private static native String toTimecodeNative(RationalTime rationalTime, double rate, int dropFrameIndex) throws NegativeValueException, InvalidTimecodeRateException, InvalidRateForDropFrameTimecodeException;
 
+    /**
+     * Convert frame values at rate to timecodes, all in one native call and without creating
+     * a String per frame. Every timecode is TIMECODE_LENGTH characters long, the i-th one is written
+     * at out[outOffset + i * TIMECODE_LENGTH]. Gives the same timecodes as
+     * new RationalTime(values[i], rate).toTimecode(rate, dropFrame).
+     * <p>
+     * Conversion stops at the first value that cannot be converted, the timecodes
+     * of the values before it have been written when the exception is thrown.
+     *
+     * @param values    frame values at rate
+     * @param rate      the frame-rate of the values and of the timecodes
+     * @param dropFrame should the algorithm drop frames while conversion? [InferFromRate, ForceYes, ForceNo]
+     * @param out       array to write the timecodes to
+     * @param outOffset index in out of the first timecode
+     * @throws IllegalArgumentException if a timecode is not TIMECODE_LENGTH characters long,
+     *                                  which happens from 100 hours on
+     */
+    public static void toTimecodes(double[] values, double rate, IsDropFrameRate dropFrame, char[] out, int outOffset) throws NegativeValueException, InvalidTimecodeRateException, InvalidRateForDropFrameTimecodeException {
+        checkTimecodesBounds(out.length, outOffset, values.length);
+        int written = toTimecodesNative(values, rate, dropFrame.getIndex(), out, outOffset);
+        if (written < values.length)
+            throwTimecodeException(values[written], rate, dropFrame);
+    }
+
+    /**
+     * Convert frame values at rate to ASCII timecodes written at the position of out,
+     * see toTimecodes(double[], double, IsDropFrameRate, char[], int).
+     * The position of out is advanced past the timecodes that were written.
+     *
+     * @param values    frame values at rate
+     * @param rate      the frame-rate of the values and of the timecodes
+     * @param dropFrame should the algorithm drop frames while conversion? [InferFromRate, ForceYes, ForceNo]
+     * @param out       buffer to write the timecodes to
+     */
+    public static void toTimecodes(double[] values, double rate, IsDropFrameRate dropFrame, ByteBuffer out) throws NegativeValueException, InvalidTimecodeRateException, InvalidRateForDropFrameTimecodeException {
+        if (out.isReadOnly())
+            throw new ReadOnlyBufferException();
+        int position = out.position();
+        checkTimecodesBounds(out.limit(), position, values.length);
+        int written;
+        if (out.isDirect())
+            written = toTimecodesDirectNative(values, rate, dropFrame.getIndex(), out, position);
+        else
+            written = toTimecodesBytesNative(values, rate, dropFrame.getIndex(),
+                    out.array(), out.arrayOffset() + position);
+        out.position(position + written * TIMECODE_LENGTH);
+        if (written < values.length)
+            throwTimecodeException(values[written], rate, dropFrame);
+    }
+
+    private static void checkTimecodesBounds(int length, int offset, int count) {
+        if (offset < 0 || (long) offset + (long) count * TIMECODE_LENGTH > length)
+            throw new IndexOutOfBoundsException(
+                    count + " timecodes do not fit at offset " + offset + " of length " + length);
+    }
+
+    private static void throwTimecodeException(double value, double rate, IsDropFrameRate dropFrame) throws NegativeValueException, InvalidTimecodeRateException, InvalidRateForDropFrameTimecodeException {
+        // converting the failing value on its own throws the exception that describes the failure
+        new RationalTime(value, rate).toTimecode(rate, dropFrame);
+        throw new IllegalArgumentException("Value " + value + " cannot be written as a timecode");
+    }
+
+    /*
+     * The batch natives stop at the first value or timecode that cannot be converted and return
+     * how many were converted. The failing one is then converted again on its own to throw the
+     * exception opentime reports for it.
+     */
+
+    private static native int toTimecodesNative(double[] values, double rate, int dropFrameIndex, char[] out, int outOffset);
+
+    private static native int toTimecodesBytesNative(double[] values, double rate, int dropFrameIndex, byte[] out, int outOffset);
+
+    private static native int toTimecodesDirectNative(double[] values, double rate, int dropFrameIndex, ByteBuffer out, int outPosition);
+
+    /**
+     * Convert timecodes to frame values at rate, all in one native call.
+     * out[i] is set to the same value as RationalTime.fromTimecode(timecodes[i], rate).getValue().
+     * <p>
+     * Conversion stops at the first timecode that cannot be converted, the values
+     * of the timecodes before it have been written when the exception is thrown.
+     *
+     * @param timecodes colon-delimited timecodes
+     * @param rate      the frame-rate to calculate timecode in terms of
+     * @param out       array to write the frame values to
+     */
+    public static void fromTimecodes(CharSequence[] timecodes, double rate, double[] out) throws InvalidTimecodeRateException, NonDropframeRateException, InvalidTimecodeStringException, TimecodeRateMismatchException {
+        if (out.length < timecodes.length)
+            throw new IndexOutOfBoundsException(timecodes.length + " values do not fit in length " + out.length);
+        int totalLength = 0;
+        for (CharSequence timecode : timecodes)
+            totalLength += timecode.length();
+        char[] chars = new char[totalLength];
+        int[] ends = new int[timecodes.length];
+        int position = 0;
+        for (int i = 0; i < timecodes.length; i++) {
+            CharSequence timecode = timecodes[i];
+            int length = timecode.length();
+            if (timecode instanceof String) {
+                ((String) timecode).getChars(0, length, chars, position);
+            } else {
+                for (int j = 0; j < length; j++)
+                    chars[position + j] = timecode.charAt(j);
+            }
+            position += length;
+            ends[i] = position;
+        }
+        int converted = fromTimecodesNative(chars, 0, ends, timecodes.length, rate, out);
+        if (converted < timecodes.length)
+            throwTimecodeException(timecodes[converted].toString(), rate);
+    }
+
+    /**
+     * Convert count timecodes of TIMECODE_LENGTH characters each, stored one after the other
+     * from timecodes[offset], to frame values at rate, as written by toTimecodes.
+     * See fromTimecodes(CharSequence[], double, double[]).
+     *
+     * @param timecodes array holding the timecodes
+     * @param offset    index in timecodes of the first timecode
+     * @param count     number of timecodes
+     * @param rate      the frame-rate to calculate timecode in terms of
+     * @param out       array to write the frame values to
+     */
+    public static void fromTimecodes(char[] timecodes, int offset, int count, double rate, double[] out) throws InvalidTimecodeRateException, NonDropframeRateException, InvalidTimecodeStringException, TimecodeRateMismatchException {
+        checkTimecodesBounds(timecodes.length, offset, count);
+        if (count < 0 || out.length < count)
+            throw new IndexOutOfBoundsException(count + " values do not fit in length " + out.length);
+        int converted = fromTimecodesNative(timecodes, offset, null, count, rate, out);
+        if (converted < count)
+            throwTimecodeException(new String(timecodes, offset + converted * TIMECODE_LENGTH, TIMECODE_LENGTH), rate);
+    }
+
+    private static void throwTimecodeException(String timecode, double rate) throws InvalidTimecodeRateException, NonDropframeRateException, InvalidTimecodeStringException, TimecodeRateMismatchException {
+        fromTimecode(timecode, rate);
+        throw new IllegalArgumentException("Timecode " + timecode + " cannot be converted");
+    }
+
+    /**
+     * @param ends end of every timecode in chars, or null if they all are TIMECODE_LENGTH long
+     */
+    private static native int fromTimecodesNative(char[] chars, int offset, int[] ends, int count, double rate, double[] out);
+
     /**
      * Convert to time with microseconds as formatted in FFMPEG
      *
@@ -271,7 +453,15 @@ public class RationalTime implements Comparable<RationalTime> {
      */
     public native String toTimeString();
 
-    public native boolean equals(RationalTime rationalTime);
+    /**
+     * Two RationalTimes are equal if their values are equal once rescaled to the rate of rationalTime.
+     *
+     * @param rationalTime other RationalTime
+     * @return are the two RationalTimes equal?
+     */
+    public boolean equals(RationalTime rationalTime) {
+        return valueRescaledTo(rationalTime.rate) == rationalTime.value;
+    }
 
     @Override
     public boolean equals(Object obj) {
@@ -280,6 +470,24 @@ public class RationalTime implements Comparable<RationalTime> {
         return this.equals((RationalTime) obj);
     }
 
+    /**
+     * The less than relation of opentime, which orders RationalTimes by value / rate.
+     */
+    static boolean lessThan(RationalTime lhs, RationalTime rhs) {
+        return lessThan(lhs.value, lhs.rate, rhs.value, rhs.rate);
+    }
+
+    static boolean lessThan(double lhsValue, double lhsRate, double rhsValue, double rhsRate) {
+        return lhsValue / lhsRate < rhsValue / rhsRate;
+    }
+
+    /**
+     * The less than or equal relation of opentime, which orders RationalTimes by value / rate.
+     */
+    static boolean lessThanOrEqual(RationalTime lhs, RationalTime rhs) {
+        return lhs.value / lhs.rate <= rhs.value / rhs.rate;
+    }
+
     /**
      * Compare two RationalTimes
      *
@@ -287,7 +495,21 @@ public class RationalTime implements Comparable<RationalTime> {
      * @return <b>0</b> if equal, <b>&lt;0</b> if lhs&lt;rhs, <b>&gt;0</b> if lhs&gt;rhs
      */
     @Override
-    public native int compareTo(RationalTime rationalTime);
+    public int compareTo(RationalTime rationalTime) {
+        // opentime orders by value / rate but tests equality on rescaled values,
+        // the two can disagree through rounding
+        return compare(value, rate, rationalTime.value, rationalTime.rate);
+    }
+
+    static int compare(double lhsValue, double lhsRate, double rhsValue, double rhsRate) {
+        if (lessThan(lhsValue, lhsRate, rhsValue, rhsRate))
+            return -1;
+        if (lessThan(rhsValue, rhsRate, lhsValue, lhsRate))
+            return 1;
+        if (valueRescaledTo(lhsValue, lhsRate, rhsRate) == rhsValue)
+            return 0;
+        return -99;
+    }
 
     @Override
     public String toString() {
@@ -0,0 +1,395 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline.opentime;
+
+import java.util.Arrays;
+
+/**
+ * A fixed size array of RationalTimes stored as two double[], one for the values and one for the rates.
+ * <p>
+ * Meant for working with large numbers of times without allocating a RationalTime for each of them.
+ * The bulk operations give the same results as the RationalTime methods they are named after,
+ * applied to every element.
+ */
+public class RationalTimeArray {
+
+    final double[] values;
+    final double[] rates;
+
+    /**
+     * Create an array of size times, all with value 0 and rate 1.
+     *
+     * @param size number of times
+     */
+    public RationalTimeArray(int size) {
+        values = new double[size];
+        rates = new double[size];
+        Arrays.fill(rates, 1);
+    }
+
+    /**
+     * @param values values of the times, copied
+     * @param rate   rate of all the times
+     */
+    public RationalTimeArray(double[] values, double rate) {
+        this.values = values.clone();
+        this.rates = new double[values.length];
+        Arrays.fill(this.rates, rate);
+    }
+
+    /**
+     * @param values values of the times, copied
+     * @param rates  rates of the times, copied
+     */
+    public RationalTimeArray(double[] values, double[] rates) {
+        if (values.length != rates.length)
+            throw new IllegalArgumentException("values and rates must have the same length");
+        this.values = values.clone();
+        this.rates = rates.clone();
+    }
+
+    public RationalTimeArray(RationalTime[] rationalTimes) {
+        this(rationalTimes.length);
+        for (int i = 0; i < rationalTimes.length; i++)
+            set(i, rationalTimes[i]);
+    }
+
+    public RationalTimeArray(RationalTimeArray rationalTimeArray) {
+        this(rationalTimeArray.values, rationalTimeArray.rates);
+    }
+
+    /**
+     * @return number of times in the array
+     */
+    public int size() {
+        return values.length;
+    }
+
+    public RationalTime get(int index) {
+        return new RationalTime(values[index], rates[index]);
+    }
+
+    public void set(int index, RationalTime rationalTime) {
+        values[index] = rationalTime.getValue();
+        rates[index] = rationalTime.getRate();
+    }
+
+    public double getValue(int index) {
+        return values[index];
+    }
+
+    public double getRate(int index) {
+        return rates[index];
+    }
+
+    /**
+     * @return a copy of the values
+     */
+    public double[] getValues() {
+        return values.clone();
+    }
+
+    /**
+     * @return a copy of the rates
+     */
+    public double[] getRates() {
+        return rates.clone();
+    }
+
+    public RationalTime[] toArray() {
+        RationalTime[] result = new RationalTime[values.length];
+        for (int i = 0; i < result.length; i++)
+            result[i] = get(i);
+        return result;
+    }
+
+    /**
+     * Add other to every time, see RationalTime.add().
+     *
+     * @param other RationalTime to add
+     * @return array of the sums
+     */
+    public RationalTimeArray add(RationalTime other) {
+        RationalTimeArray result = new RationalTimeArray(values.length);
+        for (int i = 0; i < values.length; i++)
+            add(values[i], rates[i], other.getValue(), other.getRate(), result, i);
+        return result;
+    }
+
+    /**
+     * Element-wise sum of two arrays of the same size, see RationalTime.add().
+     *
+     * @param other times to add
+     * @return array of the sums
+     */
+    public RationalTimeArray add(RationalTimeArray other) {
+        checkSameSize(other);
+        RationalTimeArray result = new RationalTimeArray(values.length);
+        for (int i = 0; i < values.length; i++)
+            add(values[i], rates[i], other.values[i], other.rates[i], result, i);
+        return result;
+    }
+
+    /**
+     * Subtract other from every time, see RationalTime.subtract().
+     *
+     * @param other RationalTime to subtract
+     * @return array of the differences
+     */
+    public RationalTimeArray subtract(RationalTime other) {
+        RationalTimeArray result = new RationalTimeArray(values.length);
+        for (int i = 0; i < values.length; i++)
+            subtract(values[i], rates[i], other.getValue(), other.getRate(), result, i);
+        return result;
+    }
+
+    /**
+     * Element-wise difference of two arrays of the same size, see RationalTime.subtract().
+     *
+     * @param other times to subtract
+     * @return array of the differences
+     */
+    public RationalTimeArray subtract(RationalTimeArray other) {
+        checkSameSize(other);
+        RationalTimeArray result = new RationalTimeArray(values.length);
+        for (int i = 0; i < values.length; i++)
+            subtract(values[i], rates[i], other.values[i], other.rates[i], result, i);
+        return result;
+    }
+
+    private static void add(double lhsValue, double lhsRate, double rhsValue, double rhsRate,
+                            RationalTimeArray result, int index) {
+        if (lhsRate < rhsRate) {
+            result.values[index] = RationalTime.valueRescaledTo(lhsValue, lhsRate, rhsRate) + rhsValue;
+            result.rates[index] = rhsRate;
+        } else {
+            result.values[index] = lhsValue + RationalTime.valueRescaledTo(rhsValue, rhsRate, lhsRate);
+            result.rates[index] = lhsRate;
+        }
+    }
+
+    private static void subtract(double lhsValue, double lhsRate, double rhsValue, double rhsRate,
+                                 RationalTimeArray result, int index) {
+        if (lhsRate < rhsRate) {
+            result.values[index] = RationalTime.valueRescaledTo(lhsValue, lhsRate, rhsRate) - rhsValue;
+            result.rates[index] = rhsRate;
+        } else {
+            result.values[index] = lhsValue - RationalTime.valueRescaledTo(rhsValue, rhsRate, lhsRate);
+            result.rates[index] = lhsRate;
+        }
+    }
+
+    private void checkSameSize(RationalTimeArray other) {
+        if (other.values.length != values.length)
+            throw new IllegalArgumentException("arrays must have the same size");
+    }
+
+    /**
+     * Convert every time to newRate, see RationalTime.rescaledTo().
+     *
+     * @param newRate new rate
+     * @return array of the rescaled times
+     */
+    public RationalTimeArray rescaledTo(double newRate) {
+        RationalTimeArray result = new RationalTimeArray(values.length);
+        for (int i = 0; i < values.length; i++) {
+            result.values[i] = RationalTime.valueRescaledTo(values[i], rates[i], newRate);
+            result.rates[i] = newRate;
+        }
+        return result;
+    }
+
+    /**
+     * @return integer frames of every time at its own rate, see RationalTime.toFrames()
+     */
+    public int[] toFrames() {
+        int[] result = new int[values.length];
+        for (int i = 0; i < values.length; i++)
+            result[i] = (int) values[i];
+        return result;
+    }
+
+    /**
+     * @param rate rate to count frames at
+     * @return integer frames of every time at rate, see RationalTime.toFrames(double)
+     */
+    public int[] toFrames(double rate) {
+        int[] result = new int[values.length];
+        for (int i = 0; i < values.length; i++)
+            result[i] = (int) RationalTime.valueRescaledTo(values[i], rates[i], rate);
+        return result;
+    }
+
+    /**
+     * @return every time in seconds, see RationalTime.toSeconds()
+     */
+    public double[] toSeconds() {
+        double[] result = new double[values.length];
+        for (int i = 0; i < values.length; i++)
+            result[i] = RationalTime.valueRescaledTo(values[i], rates[i], 1);
+        return result;
+    }
+
+    /**
+     * Clamp every time to timeRange, see TimeRange.clamped(RationalTime).
+     *
+     * @param timeRange range to clamp to
+     * @return array of the clamped times
+     */
+    public RationalTimeArray clamped(TimeRange timeRange) {
+        RationalTime startTime = timeRange.getStartTime();
+        RationalTime endTimeInclusive = timeRange.endTimeInclusive();
+        RationalTimeArray result = new RationalTimeArray(values.length);
+        for (int i = 0; i < values.length; i++) {
+            double value = values[i];
+            double rate = rates[i];
+            // std::min(std::max(other, startTime), endTimeInclusive)
+            if (RationalTime.lessThan(value, rate, startTime.getValue(), startTime.getRate())) {
+                value = startTime.getValue();
+                rate = startTime.getRate();
+            }
+            if (RationalTime.lessThan(endTimeInclusive.getValue(), endTimeInclusive.getRate(), value, rate)) {
+                value = endTimeInclusive.getValue();
+                rate = endTimeInclusive.getRate();
+            }
+            result.values[i] = value;
+            result.rates[i] = rate;
+        }
+        return result;
+    }
+
+    /**
+     * Sort the times in place by value / rate, the order used by RationalTime comparisons.
+     * The sort is stable. NaN times are moved to the end.
+     */
+    public void sort() {
+        int[] order = sortedOrder(values, rates);
+        permute(values, order);
+        permute(rates, order);
+    }
+
+    /**
+     * Return the index of the first time that is not less than target,
+     * comparing as RationalTime.compareTo() does.
+     * All times before the index are less than target.
+     * <p>
+     * Assumes that the array is sorted.
+     *
+     * @param target time to search for
+     * @return index at which target would be inserted before equal times
+     */
+    public int bisectLeft(RationalTime target) {
+        return bisectLeft(target, 0, values.length);
+    }
+
+    /**
+     * bisectLeft() limited to the indices in [lowerSearchBound, upperSearchBound).
+     */
+    public int bisectLeft(RationalTime target, int lowerSearchBound, int upperSearchBound) {
+        checkSearchBounds(lowerSearchBound, upperSearchBound);
+        double targetValue = target.getValue();
+        double targetRate = target.getRate();
+        while (lowerSearchBound < upperSearchBound) {
+            int midPointIndex = (lowerSearchBound + upperSearchBound) >>> 1;
+            if (RationalTime.compare(values[midPointIndex], rates[midPointIndex], targetValue, targetRate) < 0)
+                lowerSearchBound = midPointIndex + 1;
+            else
+                upperSearchBound = midPointIndex;
+        }
+        return lowerSearchBound;
+    }
+
+    /**
+     * Return the index after the last time that is not greater than target,
+     * comparing as RationalTime.compareTo() does.
+     * All times from the index onward are greater than target.
+     * <p>
+     * Assumes that the array is sorted.
+     *
+     * @param target time to search for
+     * @return index at which target would be inserted after equal times
+     */
+    public int bisectRight(RationalTime target) {
+        return bisectRight(target, 0, values.length);
+    }
+
+    /**
+     * bisectRight() limited to the indices in [lowerSearchBound, upperSearchBound).
+     */
+    public int bisectRight(RationalTime target, int lowerSearchBound, int upperSearchBound) {
+        checkSearchBounds(lowerSearchBound, upperSearchBound);
+        double targetValue = target.getValue();
+        double targetRate = target.getRate();
+        while (lowerSearchBound < upperSearchBound) {
+            int midPointIndex = (lowerSearchBound + upperSearchBound) >>> 1;
+            if (RationalTime.compare(targetValue, targetRate, values[midPointIndex], rates[midPointIndex]) < 0)
+                upperSearchBound = midPointIndex;
+            else
+                lowerSearchBound = midPointIndex + 1;
+        }
+        return lowerSearchBound;
+    }
+
+    private void checkSearchBounds(int lowerSearchBound, int upperSearchBound) {
+        if (lowerSearchBound < 0)
+            throw new IndexOutOfBoundsException("lowerSearchBound must be non-negative");
+        if (upperSearchBound > values.length)
+            throw new IndexOutOfBoundsException("upperSearchBound must not be greater than the size");
+    }
+
+    /**
+     * Stable merge sort of the indices of the times by value / rate. Keys are compared with {@code <}, like
+     * RationalTime comparisons, so equal keys such as -0.0 and 0.0 keep their input order. NaN keys
+     * go last.
+     */
+    static int[] sortedOrder(double[] values, double[] rates) {
+        int size = values.length;
+        double[] keys = new double[size];
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = values[i] / rates[i];
+            order[i] = i;
+        }
+        int[] buffer = new int[size];
+        for (int width = 1; width < size; width *= 2) {
+            for (int low = 0; low < size - width; low += 2 * width) {
+                int middle = low + width;
+                int high = Math.min(low + 2 * width, size);
+                if (!precedes(keys[order[middle]], keys[order[middle - 1]]))
+                    continue;
+                int left = low, right = middle, out = low;
+                while (left < middle && right < high) {
+                    if (precedes(keys[order[right]], keys[order[left]]))
+                        buffer[out++] = order[right++];
+                    else
+                        buffer[out++] = order[left++];
+                }
+                while (left < middle)
+                    buffer[out++] = order[left++];
+                while (right < high)
+                    buffer[out++] = order[right++];
+                System.arraycopy(buffer, low, order, low, high - low);
+            }
+        }
+        return order;
+    }
+
+    private static boolean precedes(double key, double other) {
+        return key < other || (Double.isNaN(other) && !Double.isNaN(key));
+    }
+
+    static void permute(double[] array, int[] order) {
+        double[] copy = array.clone();
+        for (int i = 0; i < order.length; i++)
+            array[i] = copy[order[i]];
+    }
+
+    @Override
+    public String toString() {
+        return this.getClass().getCanonicalName() +
+                "(" +
+                "size=" + this.size() +
+                ")";
+    }
+}
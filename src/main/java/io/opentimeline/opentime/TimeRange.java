@@ -3,7 +3,6 @@
 
 package io.opentimeline.opentime;
 
-import io.opentimeline.LibraryLoader;
 import io.opentimeline.OTIOObject;
 
 /**
@@ -24,9 +23,10 @@ import io.opentimeline.OTIOObject;
  */
 public class TimeRange {
 
-    static {
-        LibraryLoader.load("jotio");
-    }
+    /**
+     * Default tolerance of the comparisons, 1/(2 * 192000) seconds.
+     */
+    public static final double DEFAULT_EPSILON_S = 1.0 / (2 * 192000.0);
 
     private final RationalTime startTime;
     private final RationalTime duration;
@@ -115,7 +115,15 @@ public class TimeRange {
      *
      * @return time of the last sample that contains data in the TimeRange
      */
-    public native RationalTime endTimeInclusive();
+    public RationalTime endTimeInclusive() {
+        RationalTime endTimeExclusive = endTimeExclusive();
+        if (endTimeExclusive.subtract(startTime.rescaledTo(duration)).getValue() > 1) {
+            if (duration.getValue() != Math.floor(duration.getValue()))
+                return new RationalTime(Math.floor(endTimeExclusive.getValue()), endTimeExclusive.getRate());
+            return endTimeExclusive.subtract(new RationalTime(1, duration.getRate()));
+        }
+        return startTime;
+    }
 
     /**
      * Time of the first sample outside the time range.
@@ -126,9 +134,13 @@ public class TimeRange {
      *
      * @return time of the first sample outside the time range
      */
-    public native RationalTime endTimeExclusive();
+    public RationalTime endTimeExclusive() {
+        return duration.add(startTime.rescaledTo(duration));
+    }
 
-    public native TimeRange durationExtendedBy(RationalTime other);
+    public TimeRange durationExtendedBy(RationalTime other) {
+        return new TimeRange(startTime, duration.add(other));
+    }
 
     /**
      * Construct a new TimeRange that is this one extended by another
@@ -136,7 +148,11 @@ public class TimeRange {
      * @param other timeRange by which the duration is extended
      * @return extended TimeRange
      */
-    public native TimeRange extendedBy(TimeRange other);
+    public TimeRange extendedBy(TimeRange other) {
+        RationalTime newStartTime = min(startTime, other.startTime);
+        RationalTime newEndTime = max(endTimeExclusive(), other.endTimeExclusive());
+        return new TimeRange(newStartTime, RationalTime.durationFromStartEndTime(newStartTime, newEndTime));
+    }
 
     /**
      * Clamp 'other', according to this.startTime/endTimeExclusive
@@ -144,7 +160,9 @@ public class TimeRange {
      * @param other RationalTime to clamp to
      * @return clamped TimeRange
      */
-    public native RationalTime clamped(RationalTime other);
+    public RationalTime clamped(RationalTime other) {
+        return min(max(other, startTime), endTimeInclusive());
+    }
 
     /**
      * Clamp 'other', according to this.startTime/endTimeExclusive
@@ -152,7 +170,12 @@ public class TimeRange {
      * @param other TimeRange to clamp to
      * @return clamped TimeRange
      */
-    public native TimeRange clamped(TimeRange other);
+    public TimeRange clamped(TimeRange other) {
+        RationalTime newStartTime = max(other.startTime, startTime);
+        TimeRange range = new TimeRange(newStartTime, other.duration);
+        RationalTime end = min(range.endTimeExclusive(), endTimeExclusive());
+        return new TimeRange(newStartTime, end.subtract(newStartTime));
+    }
 
     /*
      * These relations implement James F. Allen's thirteen basic time interval relations.
@@ -177,7 +200,9 @@ public class TimeRange {
      * @param other RationalTime to check for
      * @return does this contain other
      */
-    public native boolean contains(RationalTime other);
+    public boolean contains(RationalTime other) {
+        return RationalTime.lessThanOrEqual(startTime, other) && RationalTime.lessThan(other, endTimeExclusive());
+    }
 
     /**
      * The start of <b>this</b> precedes start of <b>other</b>.
@@ -189,7 +214,28 @@ public class TimeRange {
      * @param other TimeRange to check for
      * @return does this contain other
      */
-    public native boolean contains(TimeRange other);
+    public boolean contains(TimeRange other) {
+        return contains(other, DEFAULT_EPSILON_S);
+    }
+
+    /**
+     * The start of <b>this</b> precedes start of <b>other</b> by a value &gt;= <b>epsilon</b>.
+     * The end of <b>this</b> antecedes end of <b>other</b> by a value &gt;= <b>epsilon</b>.
+     * [ other ]
+     * [      this      ]
+     * The converse would be <em>other.contains(this)</em>
+     *
+     * @param other   TimeRange to check for
+     * @param epsilon comparison tolerance
+     * @return does this contain other
+     */
+    public boolean contains(TimeRange other, double epsilon) {
+        double thisStart = startTime.toSeconds();
+        double thisEnd = endTimeExclusive().toSeconds();
+        double otherStart = other.startTime.toSeconds();
+        double otherEnd = other.endTimeExclusive().toSeconds();
+        return greaterThan(otherStart, thisStart, epsilon) && lesserThan(otherEnd, thisEnd, epsilon);
+    }
 
     /**
      * <b>this</b> contains <b>other</b>.
@@ -201,7 +247,9 @@ public class TimeRange {
      * @param other RationalTime to check for
      * @return does this overlap other
      */
-    public native boolean overlaps(RationalTime other);
+    public boolean overlaps(RationalTime other) {
+        return contains(other);
+    }
 
     /**
      * The start of <b>this</b> strictly precedes end of <b>other</b> by a value &gt;= <b>epsilon</b>.
@@ -214,7 +262,15 @@ public class TimeRange {
      * @param epsilon comparison tolerance
      * @return does this overlap other
      */
-    public native boolean overlaps(TimeRange other, double epsilon);
+    public boolean overlaps(TimeRange other, double epsilon) {
+        double thisStart = startTime.toSeconds();
+        double thisEnd = endTimeExclusive().toSeconds();
+        double otherStart = other.startTime.toSeconds();
+        double otherEnd = other.endTimeExclusive().toSeconds();
+        return lesserThan(thisStart, otherStart, epsilon)
+                && greaterThan(thisEnd, otherStart, epsilon)
+                && greaterThan(otherEnd, thisEnd, epsilon);
+    }
 
     /**
      * The start of <b>this</b> strictly precedes end of <b>other</b> by a value &gt;= <b>epsilon</b>.
@@ -227,7 +283,9 @@ public class TimeRange {
      * @param other TimeRange to check for
      * @return does this overlap other
      */
-    public native boolean overlaps(TimeRange other);
+    public boolean overlaps(TimeRange other) {
+        return overlaps(other, DEFAULT_EPSILON_S);
+    }
 
     /**
      * The end of <b>this</b> strictly precedes the start of <b>other</b> by a value &gt;= <b>epsilon</b>.
@@ -238,7 +296,11 @@ public class TimeRange {
      * @param epsilon comparison tolerance
      * @return is this before other
      */
-    public native boolean before(TimeRange other, double epsilon);
+    public boolean before(TimeRange other, double epsilon) {
+        double thisEnd = endTimeExclusive().toSeconds();
+        double otherStart = other.startTime.toSeconds();
+        return greaterThan(otherStart, thisEnd, epsilon);
+    }
 
     /**
      * The end of <b>this</b> strictly precedes the start of <b>other</b> by a value &gt;= <b>epsilon</b>.
@@ -249,7 +311,9 @@ public class TimeRange {
      * @param other TimeRange to check for
      * @return is this before other
      */
-    public native boolean before(TimeRange other);
+    public boolean before(TimeRange other) {
+        return before(other, DEFAULT_EPSILON_S);
+    }
 
     /**
      * The end of <b>this</b> strictly precedes <b>other</b> by a value &gt;= <b>epsilon</b>.
@@ -261,7 +325,11 @@ public class TimeRange {
      * @param epsilon comparison tolerance
      * @return is this before other
      */
-    public native boolean before(RationalTime other, double epsilon);
+    public boolean before(RationalTime other, double epsilon) {
+        double thisEnd = endTimeExclusive().toSeconds();
+        double otherTime = other.toSeconds();
+        return greaterThan(otherTime, thisEnd, epsilon);
+    }
 
     /**
      * The end of <b>this</b> strictly precedes <b>other</b> by a value &gt;= <b>epsilon</b>.
@@ -273,7 +341,9 @@ public class TimeRange {
      * @param other RationalTime to check for
      * @return is this before other
      */
-    public native boolean before(RationalTime other);
+    public boolean before(RationalTime other) {
+        return before(other, DEFAULT_EPSILON_S);
+    }
 
     /**
      * The end of <b>this</b> strictly equals the start of <b>other</b> and
@@ -285,7 +355,11 @@ public class TimeRange {
      * @param epsilon comparison tolerance
      * @return does this meet other
      */
-    public native boolean meets(TimeRange other, double epsilon);
+    public boolean meets(TimeRange other, double epsilon) {
+        double thisEnd = endTimeExclusive().toSeconds();
+        double otherStart = other.startTime.toSeconds();
+        return otherStart - thisEnd <= epsilon && otherStart - thisEnd >= 0;
+    }
 
     /**
      * The end of <b>this</b> strictly equals the start of <b>other</b> and
@@ -297,7 +371,9 @@ public class TimeRange {
      * @param other TimeRange to check for
      * @return does this meet other
      */
-    public native boolean meets(TimeRange other);
+    public boolean meets(TimeRange other) {
+        return meets(other, DEFAULT_EPSILON_S);
+    }
 
     /**
      * The start of <b>this</b> strictly equals the start of <b>other</b>.
@@ -310,7 +386,13 @@ public class TimeRange {
      * @param epsilon comparison tolerance
      * @return do the beginnings of both match
      */
-    public native boolean begins(TimeRange other, double epsilon);
+    public boolean begins(TimeRange other, double epsilon) {
+        double thisStart = startTime.toSeconds();
+        double thisEnd = endTimeExclusive().toSeconds();
+        double otherStart = other.startTime.toSeconds();
+        double otherEnd = other.endTimeExclusive().toSeconds();
+        return Math.abs(otherStart - thisStart) <= epsilon && lesserThan(thisEnd, otherEnd, epsilon);
+    }
 
     /**
      * The start of <b>this</b> strictly equals the start of <b>other</b>.
@@ -323,7 +405,9 @@ public class TimeRange {
      * @param other TimeRange to check for
      * @return do the beginnings of both match
      */
-    public native boolean begins(TimeRange other);
+    public boolean begins(TimeRange other) {
+        return begins(other, DEFAULT_EPSILON_S);
+    }
 
     /**
      * The start of <b>this</b> strictly equals <b>other</b>.
@@ -336,7 +420,11 @@ public class TimeRange {
      * @param epsilon comparison tolerance
      * @return does the RationalTime match the beginning of this
      */
-    public native boolean begins(RationalTime other, double epsilon);
+    public boolean begins(RationalTime other, double epsilon) {
+        double thisStart = startTime.toSeconds();
+        double otherStart = other.toSeconds();
+        return Math.abs(otherStart - thisStart) <= epsilon;
+    }
 
     /**
      * The start of <b>this</b> strictly equals <b>other</b>.
@@ -349,7 +437,9 @@ public class TimeRange {
      * @param other RationalTime to check for
      * @return does the RationalTime match the beginning of this
      */
-    public native boolean begins(RationalTime other);
+    public boolean begins(RationalTime other) {
+        return begins(other, DEFAULT_EPSILON_S);
+    }
 
     /**
      * The start of <b>this</b> strictly antecedes the start of <b>other</b> by a value &gt;= <b>epsilon</b>.
@@ -362,7 +452,13 @@ public class TimeRange {
      * @param epsilon comparison tolerance
      * @return do the ends of both match
      */
-    public native boolean finishes(TimeRange other, double epsilon);
+    public boolean finishes(TimeRange other, double epsilon) {
+        double thisStart = startTime.toSeconds();
+        double thisEnd = endTimeExclusive().toSeconds();
+        double otherStart = other.startTime.toSeconds();
+        double otherEnd = other.endTimeExclusive().toSeconds();
+        return Math.abs(thisEnd - otherEnd) <= epsilon && greaterThan(thisStart, otherStart, epsilon);
+    }
 
     /**
      * The start of <b>this</b> strictly antecedes the start of <b>other</b> by a value &gt;= <b>epsilon</b>.
@@ -375,7 +471,9 @@ public class TimeRange {
      * @param other TimeRange to check for
      * @return do the ends of both match
      */
-    public native boolean finishes(TimeRange other);
+    public boolean finishes(TimeRange other) {
+        return finishes(other, DEFAULT_EPSILON_S);
+    }
 
     /**
      * The end of <b>this</b> strictly equals <b>other</b>.
@@ -388,7 +486,11 @@ public class TimeRange {
      * @param epsilon comparison tolerance
      * @return does the RationalTime match the end of this
      */
-    public native boolean finishes(RationalTime other, double epsilon);
+    public boolean finishes(RationalTime other, double epsilon) {
+        double thisEnd = endTimeExclusive().toSeconds();
+        double otherEnd = other.toSeconds();
+        return Math.abs(thisEnd - otherEnd) <= epsilon;
+    }
 
     /**
      * The end of <b>this</b> strictly equals <b>other</b>.
@@ -400,7 +502,9 @@ public class TimeRange {
      * @param other RationalTime to check for
      * @return does the RationalTime match the end of this
      */
-    public native boolean finishes(RationalTime other);
+    public boolean finishes(RationalTime other) {
+        return finishes(other, DEFAULT_EPSILON_S);
+    }
 
     /**
      * The start of <b>this</b> precedes or equals the end of <b>other</b> by a value &gt;= <b>epsilon_s</b>.
@@ -413,7 +517,13 @@ public class TimeRange {
      * @param epsilon comparison tolerance
      * @return does the other TimeRange intersect this
      */
-    public native boolean intersects(TimeRange other, double epsilon);
+    public boolean intersects(TimeRange other, double epsilon) {
+        double thisStart = startTime.toSeconds();
+        double thisEnd = endTimeExclusive().toSeconds();
+        double otherStart = other.startTime.toSeconds();
+        double otherEnd = other.endTimeExclusive().toSeconds();
+        return lesserThan(thisStart, otherEnd, epsilon) && greaterThan(thisEnd, otherStart, epsilon);
+    }
 
     /**
      * The start of <b>this</b> precedes or equals the end of <b>other</b> by a value &gt;= <b>epsilon_s</b>.
@@ -426,9 +536,23 @@ public class TimeRange {
      * @param other TimeRange to check for
      * @return does the other TimeRange intersect this
      */
-    public native boolean intersects(TimeRange other);
+    public boolean intersects(TimeRange other) {
+        return intersects(other, DEFAULT_EPSILON_S);
+    }
 
-    public native boolean equals(TimeRange other);
+    /**
+     * Two TimeRanges are equal if their start times and durations differ by less than
+     * the default epsilon in seconds.
+     *
+     * @param other other TimeRange
+     * @return are the two TimeRanges equal?
+     */
+    public boolean equals(TimeRange other) {
+        RationalTime startTimeDifference = startTime.subtract(other.startTime);
+        RationalTime durationDifference = duration.subtract(other.duration);
+        return Math.abs(startTimeDifference.toSeconds()) < DEFAULT_EPSILON_S
+                && Math.abs(durationDifference.toSeconds()) < DEFAULT_EPSILON_S;
+    }
 
     @Override
     public boolean equals(Object obj) {
@@ -437,7 +561,9 @@ public class TimeRange {
         return this.equals((TimeRange) obj);
     }
 
-    public native boolean notEquals(TimeRange other);
+    public boolean notEquals(TimeRange other) {
+        return !equals(other);
+    }
 
     /**
      * Create a TimeRange from start and end RationalTimes
@@ -446,7 +572,27 @@ public class TimeRange {
      * @param endTime   end time
      * @return TimeRange from start and end RationalTimes
      */
-    public native static TimeRange rangeFromStartEndTime(RationalTime startTime, RationalTime endTime);
+    public static TimeRange rangeFromStartEndTime(RationalTime startTime, RationalTime endTime) {
+        return new TimeRange(startTime, RationalTime.durationFromStartEndTime(startTime, endTime));
+    }
+
+    // std::min and std::max with opentime's less than relation, ties go to the first argument
+
+    private static RationalTime min(RationalTime a, RationalTime b) {
+        return RationalTime.lessThan(b, a) ? b : a;
+    }
+
+    private static RationalTime max(RationalTime a, RationalTime b) {
+        return RationalTime.lessThan(a, b) ? b : a;
+    }
+
+    private static boolean greaterThan(double lhs, double rhs, double epsilon) {
+        return lhs - rhs >= epsilon;
+    }
+
+    private static boolean lesserThan(double lhs, double rhs, double epsilon) {
+        return rhs - lhs >= epsilon;
+    }
 
     @Override
     public String toString() {
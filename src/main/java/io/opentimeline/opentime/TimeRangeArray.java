@@ -0,0 +1,247 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline.opentime;
+
+import java.util.Arrays;
+
+/**
+ * A fixed size array of TimeRanges stored as four double[]: start time values and rates,
+ * and duration values and rates.
+ * <p>
+ * Meant for working with large numbers of ranges without allocating a TimeRange and two RationalTimes
+ * for each of them. The bulk operations give the same results as the TimeRange methods they are
+ * named after, applied to every element.
+ */
+public class TimeRangeArray {
+
+    final double[] startValues;
+    final double[] startRates;
+    final double[] durationValues;
+    final double[] durationRates;
+
+    /**
+     * Create an array of size ranges, all with start time and duration (0, 1).
+     *
+     * @param size number of ranges
+     */
+    public TimeRangeArray(int size) {
+        startValues = new double[size];
+        startRates = new double[size];
+        durationValues = new double[size];
+        durationRates = new double[size];
+        Arrays.fill(startRates, 1);
+        Arrays.fill(durationRates, 1);
+    }
+
+    /**
+     * @param startTimes start times of the ranges
+     * @param durations  durations of the ranges
+     */
+    public TimeRangeArray(RationalTimeArray startTimes, RationalTimeArray durations) {
+        if (startTimes.size() != durations.size())
+            throw new IllegalArgumentException("startTimes and durations must have the same size");
+        startValues = startTimes.values.clone();
+        startRates = startTimes.rates.clone();
+        durationValues = durations.values.clone();
+        durationRates = durations.rates.clone();
+    }
+
+    public TimeRangeArray(TimeRange[] timeRanges) {
+        this(timeRanges.length);
+        for (int i = 0; i < timeRanges.length; i++)
+            set(i, timeRanges[i]);
+    }
+
+    /**
+     * @return number of ranges in the array
+     */
+    public int size() {
+        return startValues.length;
+    }
+
+    public TimeRange get(int index) {
+        return new TimeRange(
+                new RationalTime(startValues[index], startRates[index]),
+                new RationalTime(durationValues[index], durationRates[index]));
+    }
+
+    public void set(int index, TimeRange timeRange) {
+        RationalTime startTime = timeRange.getStartTime();
+        RationalTime duration = timeRange.getDuration();
+        startValues[index] = startTime.getValue();
+        startRates[index] = startTime.getRate();
+        durationValues[index] = duration.getValue();
+        durationRates[index] = duration.getRate();
+    }
+
+    public TimeRange[] toArray() {
+        TimeRange[] result = new TimeRange[startValues.length];
+        for (int i = 0; i < result.length; i++)
+            result[i] = get(i);
+        return result;
+    }
+
+    /**
+     * @return start times of the ranges
+     */
+    public RationalTimeArray getStartTimes() {
+        return new RationalTimeArray(startValues, startRates);
+    }
+
+    /**
+     * @return durations of the ranges
+     */
+    public RationalTimeArray getDurations() {
+        return new RationalTimeArray(durationValues, durationRates);
+    }
+
+    /**
+     * @return end time exclusive of every range, see TimeRange.endTimeExclusive()
+     */
+    public RationalTimeArray endTimesExclusive() {
+        RationalTimeArray result = new RationalTimeArray(startValues.length);
+        for (int i = 0; i < startValues.length; i++) {
+            // duration + startTime.rescaledTo(duration)
+            double durationRate = durationRates[i];
+            double startValue = RationalTime.valueRescaledTo(startValues[i], startRates[i], durationRate);
+            result.values[i] = durationValues[i] + startValue;
+            result.rates[i] = durationRate;
+        }
+        return result;
+    }
+
+    /**
+     * @return end time inclusive of every range, see TimeRange.endTimeInclusive()
+     */
+    public RationalTimeArray endTimesInclusive() {
+        RationalTimeArray result = new RationalTimeArray(startValues.length);
+        for (int i = 0; i < startValues.length; i++)
+            result.set(i, get(i).endTimeInclusive());
+        return result;
+    }
+
+    /**
+     * Clamp every range to timeRange, see TimeRange.clamped(TimeRange).
+     *
+     * @param timeRange range to clamp to
+     * @return array of the clamped ranges
+     */
+    public TimeRangeArray clamped(TimeRange timeRange) {
+        TimeRangeArray result = new TimeRangeArray(startValues.length);
+        for (int i = 0; i < startValues.length; i++)
+            result.set(i, timeRange.clamped(get(i)));
+        return result;
+    }
+
+    /**
+     * @param rationalTime time to check for
+     * @return for every range, does it overlap rationalTime, see TimeRange.overlaps(RationalTime)
+     */
+    public boolean[] overlaps(RationalTime rationalTime) {
+        double value = rationalTime.getValue();
+        double rate = rationalTime.getRate();
+        RationalTimeArray endTimes = endTimesExclusive();
+        boolean[] result = new boolean[startValues.length];
+        for (int i = 0; i < startValues.length; i++) {
+            // startTime <= rationalTime && rationalTime < endTimeExclusive
+            result[i] = startValues[i] / startRates[i] <= value / rate
+                    && RationalTime.lessThan(value, rate, endTimes.values[i], endTimes.rates[i]);
+        }
+        return result;
+    }
+
+    /**
+     * @param timeRange range to check for
+     * @param epsilon   comparison tolerance
+     * @return for every range, does it overlap timeRange, see TimeRange.overlaps(TimeRange, double)
+     */
+    public boolean[] overlaps(TimeRange timeRange, double epsilon) {
+        double otherStart = timeRange.getStartTime().toSeconds();
+        double otherEnd = timeRange.endTimeExclusive().toSeconds();
+        double[] starts = getStartTimes().toSeconds();
+        double[] ends = endTimesExclusive().toSeconds();
+        boolean[] result = new boolean[startValues.length];
+        for (int i = 0; i < startValues.length; i++) {
+            result[i] = otherStart - starts[i] >= epsilon
+                    && ends[i] - otherStart >= epsilon
+                    && otherEnd - ends[i] >= epsilon;
+        }
+        return result;
+    }
+
+    /**
+     * @param timeRange range to check for
+     * @return for every range, does it overlap timeRange, see TimeRange.overlaps(TimeRange)
+     */
+    public boolean[] overlaps(TimeRange timeRange) {
+        return overlaps(timeRange, TimeRange.DEFAULT_EPSILON_S);
+    }
+
+    /**
+     * @param timeRange range to check for
+     * @param epsilon   comparison tolerance
+     * @return for every range, does it intersect timeRange, see TimeRange.intersects(TimeRange, double)
+     */
+    public boolean[] intersects(TimeRange timeRange, double epsilon) {
+        double otherStart = timeRange.getStartTime().toSeconds();
+        double otherEnd = timeRange.endTimeExclusive().toSeconds();
+        double[] starts = getStartTimes().toSeconds();
+        double[] ends = endTimesExclusive().toSeconds();
+        boolean[] result = new boolean[startValues.length];
+        for (int i = 0; i < startValues.length; i++)
+            result[i] = otherEnd - starts[i] >= epsilon && ends[i] - otherStart >= epsilon;
+        return result;
+    }
+
+    /**
+     * @param timeRange range to check for
+     * @return for every range, does it intersect timeRange, see TimeRange.intersects(TimeRange)
+     */
+    public boolean[] intersects(TimeRange timeRange) {
+        return intersects(timeRange, TimeRange.DEFAULT_EPSILON_S);
+    }
+
+    /**
+     * Sort the ranges in place by start time, in the order used by RationalTime comparisons.
+     * The sort is stable, so ranges with the same start time keep their order.
+     */
+    public void sort() {
+        int[] order = RationalTimeArray.sortedOrder(startValues, startRates);
+        RationalTimeArray.permute(startValues, order);
+        RationalTimeArray.permute(startRates, order);
+        RationalTimeArray.permute(durationValues, order);
+        RationalTimeArray.permute(durationRates, order);
+    }
+
+    /**
+     * Return the index of the first range whose start time is not less than target.
+     * Assumes that the ranges are sorted by start time.
+     *
+     * @param target time to search for
+     * @return index of the first range starting at or after target
+     */
+    public int bisectStartTimes(RationalTime target) {
+        int lowerSearchBound = 0;
+        int upperSearchBound = startValues.length;
+        double targetValue = target.getValue();
+        double targetRate = target.getRate();
+        while (lowerSearchBound < upperSearchBound) {
+            int midPointIndex = (lowerSearchBound + upperSearchBound) >>> 1;
+            if (RationalTime.compare(
+                    startValues[midPointIndex], startRates[midPointIndex], targetValue, targetRate) < 0)
+                lowerSearchBound = midPointIndex + 1;
+            else
+                upperSearchBound = midPointIndex;
+        }
+        return lowerSearchBound;
+    }
+
+    @Override
+    public String toString() {
+        return this.getClass().getCanonicalName() +
+                "(" +
+                "size=" + this.size() +
+                ")";
+    }
+}
@@ -5,6 +5,8 @@ package io.opentimeline.opentimelineio;
 
 import io.opentimeline.OTIONative;
 import io.opentimeline.OTIOObject;
+import io.opentimeline.opentime.RationalTime;
+import io.opentimeline.opentime.TimeRange;
 
 import java.util.*;
 import java.util.function.BiConsumer;
@@ -158,6 +160,66 @@ public class AnyDictionary extends OTIOObject implements Map<String, Any> {
      */
     public native Any replace(String key, Any value);
 
+    /*
+     * Typed accessors resolve in a single native call without creating an Any.
+     * The getters return the default value if the key is absent or holds a value of another
+     * type. Integers are widened to longs and doubles, and longs are accepted by getInt if they
+     * fit. The putters replace any existing value of the key.
+     */
+
+    public native boolean getBoolean(String key, boolean defaultValue);
+
+    public native int getInt(String key, int defaultValue);
+
+    public native long getLong(String key, long defaultValue);
+
+    public native double getDouble(String key, double defaultValue);
+
+    public native String getString(String key, String defaultValue);
+
+    public native RationalTime getRationalTime(String key, RationalTime defaultValue);
+
+    public native TimeRange getTimeRange(String key, TimeRange defaultValue);
+
+    public native void putBoolean(String key, boolean value);
+
+    public native void putInt(String key, int value);
+
+    public native void putLong(String key, long value);
+
+    public native void putDouble(String key, double value);
+
+    public native void putString(String key, String value);
+
+    public native void putRationalTime(String key, RationalTime value);
+
+    public native void putTimeRange(String key, TimeRange value);
+
+    /**
+     * Copy the whole dictionary into plain Java values in a single native call.
+     * Nested dictionaries become Maps and vectors become Lists; booleans, integers, longs,
+     * doubles, Strings, RationalTimes, TimeRanges and TimeTransforms are copied by value.
+     * SerializableObjects are returned as references to the native objects.
+     *
+     * @return LinkedHashMap snapshot of the dictionary
+     */
+    public Map<String, Object> toJavaMap() {
+        return AnyTransfer.toJavaMap(this);
+    }
+
+    /**
+     * Put all entries of a map of plain Java values in a single native call, replacing the values
+     * of existing keys. Values can be null, Booleans, Integers, Shorts, Bytes, Longs, Floats,
+     * Doubles, Strings, RationalTimes, TimeRanges, TimeTransforms, SerializableObjects, Anys, Maps
+     * with String keys and Iterables of such values.
+     *
+     * @param map values to put, as returned by toJavaMap()
+     * @throws IllegalArgumentException if a value cannot be stored in an AnyDictionary
+     */
+    public void putAllFromJava(Map<String, ?> map) {
+        AnyTransfer.putAll(this, map);
+    }
+
     public boolean isEmpty() {
         return size() == 0;
     }
@@ -0,0 +1,257 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline.opentimelineio;
+
+import io.opentimeline.opentime.RationalTime;
+import io.opentimeline.opentime.TimeRange;
+import io.opentimeline.opentime.TimeTransform;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Moves whole AnyDictionaries across JNI in a single call, see AnyDictionary.toJavaMap() and
+ * AnyDictionary.putAllFromJava().
+ * <p>
+ * Values are encoded in a byte array as a tag byte followed by little endian data:
+ * <pre>
+ *   NULL, FALSE, TRUE
+ *   INT            4 byte integer
+ *   INT64          8 byte integer
+ *   DOUBLE         8 byte IEEE 754 double
+ *   STRING         4 byte UTF-8 length and the UTF-8 bytes
+ *   RATIONAL_TIME  value, rate as doubles
+ *   TIME_RANGE     start time value, start time rate, duration value, duration rate as doubles
+ *   TIME_TRANSFORM offset value, offset rate, scale, rate as doubles
+ *   DICTIONARY     4 byte count, then count STRING keys, without their tag, each followed by a value
+ *   VECTOR         4 byte count, then count values
+ *   OBJECT         4 byte index of a SerializableObject in the array passed along the bytes
+ *   ANY            4 byte index of an Any in the array passed along the bytes, only to native code
+ * </pre>
+ * SerializableObjects and Anys are passed by reference, everything else by value.
+ */
+final class AnyTransfer {
+
+    static final byte NULL = 0;
+    static final byte FALSE = 1;
+    static final byte TRUE = 2;
+    static final byte INT = 3;
+    static final byte INT64 = 4;
+    static final byte DOUBLE = 5;
+    static final byte STRING = 6;
+    static final byte RATIONAL_TIME = 7;
+    static final byte TIME_RANGE = 8;
+    static final byte TIME_TRANSFORM = 9;
+    static final byte DICTIONARY = 10;
+    static final byte VECTOR = 11;
+    static final byte OBJECT = 12;
+    static final byte ANY = 13;
+
+    private ByteBuffer buffer;
+    private final List<Object> references = new ArrayList<>();
+
+    private AnyTransfer(ByteBuffer buffer) {
+        this.buffer = buffer.order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * @return {byte[] encoded dictionary, SerializableObject[] referenced objects}
+     */
+    static native Object[] encodeDictionary(AnyDictionary dictionary);
+
+    /**
+     * Decode a dictionary and put each of its entries in dictionary, replacing existing entries.
+     */
+    static native void putAllEncoded(AnyDictionary dictionary, byte[] encoded, Object[] references);
+
+    static Map<String, Object> toJavaMap(AnyDictionary dictionary) {
+        Object[] encoded = encodeDictionary(dictionary);
+        AnyTransfer decoder = new AnyTransfer(ByteBuffer.wrap((byte[]) encoded[0]));
+        decoder.references.addAll(Arrays.asList((Object[]) encoded[1]));
+        if (decoder.buffer.get() != DICTIONARY)
+            throw new IllegalStateException("expected an encoded dictionary");
+        return decoder.dictionary();
+    }
+
+    static void putAll(AnyDictionary dictionary, Map<String, ?> values) {
+        AnyTransfer encoder = new AnyTransfer(ByteBuffer.allocate(256));
+        encoder.encodeDictionary(values);
+        encoder.buffer.flip();
+        byte[] encoded = Arrays.copyOf(encoder.buffer.array(), encoder.buffer.limit());
+        putAllEncoded(dictionary, encoded, encoder.references.toArray());
+    }
+
+    private Map<String, Object> dictionary() {
+        int count = buffer.getInt();
+        Map<String, Object> result = new LinkedHashMap<>(Math.max(16, count * 4 / 3 + 1));
+        for (int i = 0; i < count; i++) {
+            String key = string();
+            result.put(key, value());
+        }
+        return result;
+    }
+
+    private String string() {
+        int length = buffer.getInt();
+        String result = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+                StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return StringInterning.intern(result);
+    }
+
+    private RationalTime rationalTime() {
+        double value = buffer.getDouble();
+        return new RationalTime(value, buffer.getDouble());
+    }
+
+    private Object value() {
+        byte tag = buffer.get();
+        switch (tag) {
+            case NULL:
+                return null;
+            case FALSE:
+                return Boolean.FALSE;
+            case TRUE:
+                return Boolean.TRUE;
+            case INT:
+                return buffer.getInt();
+            case INT64:
+                return buffer.getLong();
+            case DOUBLE:
+                return buffer.getDouble();
+            case STRING:
+                return string();
+            case RATIONAL_TIME:
+                return rationalTime();
+            case TIME_RANGE: {
+                RationalTime startTime = rationalTime();
+                return new TimeRange(startTime, rationalTime());
+            }
+            case TIME_TRANSFORM: {
+                RationalTime offset = rationalTime();
+                double scale = buffer.getDouble();
+                return new TimeTransform(offset, scale, buffer.getDouble());
+            }
+            case DICTIONARY:
+                return dictionary();
+            case VECTOR: {
+                int count = buffer.getInt();
+                List<Object> result = new ArrayList<>(count);
+                for (int i = 0; i < count; i++)
+                    result.add(value());
+                return result;
+            }
+            case OBJECT:
+                return references.get(buffer.getInt());
+            default:
+                throw new IllegalStateException("unknown tag " + tag);
+        }
+    }
+
+    private void ensureRemaining(int bytes) {
+        if (buffer.remaining() >= bytes)
+            return;
+        ByteBuffer larger = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + bytes))
+                .order(ByteOrder.LITTLE_ENDIAN);
+        buffer.flip();
+        larger.put(buffer);
+        buffer = larger;
+    }
+
+    private void putTag(byte tag) {
+        ensureRemaining(1);
+        buffer.put(tag);
+    }
+
+    private void putString(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        ensureRemaining(4 + bytes.length);
+        buffer.putInt(bytes.length);
+        buffer.put(bytes);
+    }
+
+    private void putDoubles(double... values) {
+        ensureRemaining(8 * values.length);
+        for (double value : values)
+            buffer.putDouble(value);
+    }
+
+    private void putReference(byte tag, Object reference) {
+        putTag(tag);
+        ensureRemaining(4);
+        buffer.putInt(references.size());
+        references.add(reference);
+    }
+
+    private void encodeDictionary(Map<?, ?> values) {
+        putTag(DICTIONARY);
+        ensureRemaining(4);
+        buffer.putInt(values.size());
+        for (Map.Entry<?, ?> entry : values.entrySet()) {
+            if (!(entry.getKey() instanceof String))
+                throw new IllegalArgumentException("dictionary keys must be Strings, not " + entry.getKey());
+            putString((String) entry.getKey());
+            encode(entry.getValue());
+        }
+    }
+
+    private void encode(Object value) {
+        if (value == null) {
+            putTag(NULL);
+        } else if (value instanceof Boolean) {
+            putTag((Boolean) value ? TRUE : FALSE);
+        } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            putTag(INT);
+            ensureRemaining(4);
+            buffer.putInt(((Number) value).intValue());
+        } else if (value instanceof Long) {
+            putTag(INT64);
+            ensureRemaining(8);
+            buffer.putLong((Long) value);
+        } else if (value instanceof Double || value instanceof Float) {
+            putTag(DOUBLE);
+            putDoubles(((Number) value).doubleValue());
+        } else if (value instanceof String) {
+            putTag(STRING);
+            putString((String) value);
+        } else if (value instanceof RationalTime) {
+            RationalTime rationalTime = (RationalTime) value;
+            putTag(RATIONAL_TIME);
+            putDoubles(rationalTime.getValue(), rationalTime.getRate());
+        } else if (value instanceof TimeRange) {
+            TimeRange timeRange = (TimeRange) value;
+            putTag(TIME_RANGE);
+            putDoubles(timeRange.getStartTime().getValue(), timeRange.getStartTime().getRate(),
+                    timeRange.getDuration().getValue(), timeRange.getDuration().getRate());
+        } else if (value instanceof TimeTransform) {
+            TimeTransform timeTransform = (TimeTransform) value;
+            putTag(TIME_TRANSFORM);
+            putDoubles(timeTransform.getOffset().getValue(), timeTransform.getOffset().getRate(),
+                    timeTransform.getScale(), timeTransform.getRate());
+        } else if (value instanceof SerializableObject) {
+            putReference(OBJECT, value);
+        } else if (value instanceof Any) {
+            putReference(ANY, value);
+        } else if (value instanceof Map) {
+            encodeDictionary((Map<?, ?>) value);
+        } else if (value instanceof Iterable) {
+            List<Object> elements = new ArrayList<>();
+            for (Object element : (Iterable<?>) value)
+                elements.add(element);
+            putTag(VECTOR);
+            ensureRemaining(4);
+            buffer.putInt(elements.size());
+            for (Object element : elements)
+                encode(element);
+        } else {
+            throw new IllegalArgumentException("cannot store a " + value.getClass().getName() + " in an AnyDictionary");
+        }
+    }
+}
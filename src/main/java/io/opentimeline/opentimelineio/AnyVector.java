@@ -5,6 +5,8 @@ package io.opentimeline.opentimelineio;
 
 import io.opentimeline.OTIONative;
 import io.opentimeline.OTIOObject;
+import io.opentimeline.opentime.RationalTime;
+import io.opentimeline.opentime.TimeRange;
 
 import java.util.Arrays;
 import java.util.Collection;
@@ -206,6 +208,85 @@ public class AnyVector extends OTIOObject implements Collection<Any> {
 
     public native void trimToSize();
 
+    /*
+     * Typed accessors resolve in a single native call without creating an Any.
+     * They throw IndexOutOfBoundsException for an index out of range, and ClassCastException for
+     * an element of another type. Integers are widened to longs and doubles, and longs are
+     * accepted by getInt if they fit.
+     */
+
+    public native boolean getBoolean(int index);
+
+    public native int getInt(int index);
+
+    public native long getLong(int index);
+
+    public native double getDouble(int index);
+
+    public native String getString(int index);
+
+    public native RationalTime getRationalTime(int index);
+
+    public native TimeRange getTimeRange(int index);
+
+    /**
+     * Copy a range of numeric elements in a single native call, without an Any per element.
+     * Integers and longs are widened to doubles.
+     *
+     * @param dst  destination, filled from index 0
+     * @param from index of the first element to copy
+     * @return number of elements copied, the smaller of dst.length and size() - from
+     * @throws IndexOutOfBoundsException if from is negative or greater than size()
+     * @throws ClassCastException        if an element in the range is not a number
+     */
+    public native int getDoubles(double[] dst, int from);
+
+    /**
+     * Copy a range of integer elements in a single native call, without an Any per element.
+     * Longs are accepted if they fit in an int.
+     *
+     * @param dst  destination, filled from index 0
+     * @param from index of the first element to copy
+     * @return number of elements copied, the smaller of dst.length and size() - from
+     * @throws IndexOutOfBoundsException if from is negative or greater than size()
+     * @throws ClassCastException        if an element in the range is not an int
+     */
+    public native int getInts(int[] dst, int from);
+
+    /**
+     * Copy a range of integer elements in a single native call, without an Any per element.
+     * Integers are widened to longs.
+     *
+     * @param dst  destination, filled from index 0
+     * @param from index of the first element to copy
+     * @return number of elements copied, the smaller of dst.length and size() - from
+     * @throws IndexOutOfBoundsException if from is negative or greater than size()
+     * @throws ClassCastException        if an element in the range is not an int or a long
+     */
+    public native int getLongs(long[] dst, int from);
+
+    /**
+     * Replace the contents of the vector with doubles in a single native call.
+     * The vector serializes as a plain JSON array of numbers.
+     *
+     * @param src new elements
+     */
+    public native void setDoubles(double[] src);
+
+    /**
+     * Replace the contents of the vector with ints in a single native call.
+     *
+     * @param src new elements
+     */
+    public native void setInts(int[] src);
+
+    /**
+     * Replace the contents of the vector with longs in a single native call.
+     *
+     * @param src new elements
+     */
+    public native void setLongs(long[] src);
+
     public boolean equals(AnyVector anyVector) {
         if (size() != anyVector.size()) return false;
         for (int i = 0; i < size(); i++) {
@@ -93,7 +93,12 @@ public class Clip extends Item {
         }
     }
 
-    public native void setMediaReference(MediaReference mediaReference);
+    public void setMediaReference(MediaReference mediaReference) {
+        setMediaReferenceNative(mediaReference);
+        CompositionIndex.timingChanged(this);
+    }
+
+    private native void setMediaReferenceNative(MediaReference mediaReference);
 
     public native MediaReference getMediaReference();
 
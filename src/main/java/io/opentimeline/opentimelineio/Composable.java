@@ -79,6 +79,11 @@ public class Composable extends SerializableObjectWithMetadata {
      */
     public native Composition parent();
 
+    /**
+     * @return address of the native object of the highest ancestor, or of this if it has no parent
+     */
+    native long rootNativeHandle();
+
     /**
      * @return the duration of the Composable object.
      */
@@ -0,0 +1,68 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline.opentimelineio;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Spliterator over children found by a native search of a composition tree.
+ * The native side retains the children in an AnyVector, and the Java object of a child
+ * is only created when the child is consumed, so a parallel stream also creates them in parallel.
+ * Splitting halves the remaining children, which divides the work evenly however the tree is nested.
+ */
+final class ComposableSpliterator implements Spliterator<Composable> {
+
+    private final AnyVector children;
+    private int index;
+    private final int fence;
+
+    ComposableSpliterator(AnyVector children) {
+        this(children, 0, children.size());
+    }
+
+    private ComposableSpliterator(AnyVector children, int index, int fence) {
+        this.children = children;
+        this.index = index;
+        this.fence = fence;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Composable> action) {
+        if (action == null)
+            throw new NullPointerException();
+        if (index >= fence)
+            return false;
+        action.accept(Composition.childFromNative(children, index++));
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super Composable> action) {
+        if (action == null)
+            throw new NullPointerException();
+        for (; index < fence; index++)
+            action.accept(Composition.childFromNative(children, index));
+    }
+
+    @Override
+    public Spliterator<Composable> trySplit() {
+        int middle = (index + fence) >>> 1;
+        if (middle <= index)
+            return null;
+        ComposableSpliterator prefix = new ComposableSpliterator(children, index, middle);
+        index = middle;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED | NONNULL;
+    }
+}
@@ -6,13 +6,14 @@ package io.opentimeline.opentimelineio;
 import io.opentimeline.OTIONative;
 import io.opentimeline.opentime.RationalTime;
 import io.opentimeline.opentime.TimeRange;
+import io.opentimeline.opentime.TimeRangeArray;
 import io.opentimeline.util.Pair;
 import io.opentimeline.opentimelineio.exception.*;
 
 import java.util.*;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Base class for an OTIO Item that contains other Items.
@@ -125,15 +126,22 @@ public class Composition extends Item {
      * @return all the chidlren held by this Composition.
      */
     public List<Composable> getChildren() {
+        DeferredChildren.materialize(this);
         return Arrays.asList(getChildrenNative());
     }
 
-    private native Composable[] getChildrenNative();
+    native Composable[] getChildrenNative();
 
     /**
      * Remove all children from the composition and clear their parents.
      */
-    public native void clearChildren();
+    public void clearChildren() {
+        clearChildrenNative();
+        DeferredChildren.discard(this);
+        CompositionIndex.timingChanged(this);
+    }
+
+    private native void clearChildrenNative();
 
     /**
      * Set children for this Composition.
@@ -143,7 +151,12 @@ public class Composition extends Item {
     public void setChildren(List<Composable> children) throws ChildAlreadyParentedException {
         Composable[] childrenArray = new Composable[children.size()];
         childrenArray = children.toArray(childrenArray);
-        setChildrenNative(childrenArray);
+        try {
+            setChildrenNative(childrenArray);
+            DeferredChildren.discard(this);
+        } finally {
+            CompositionIndex.timingChanged(this);
+        }
     }
 
     private native void setChildrenNative(Composable[] children) throws ChildAlreadyParentedException;
@@ -155,7 +168,14 @@ public class Composition extends Item {
      * @param child child Composable to be inserted.
      * @return was the child inserted successfully?
      */
-    public native boolean insertChild(int index, Composable child) throws ChildAlreadyParentedException;
+    public boolean insertChild(int index, Composable child) throws ChildAlreadyParentedException {
+        DeferredChildren.materialize(this);
+        boolean result = insertChildNative(index, child);
+        CompositionIndex.timingChanged(this);
+        return result;
+    }
+
+    private native boolean insertChildNative(int index, Composable child) throws ChildAlreadyParentedException;
 
     /**
      * Set the child at a particular index. The needs to exist for the child to be set.
@@ -164,7 +184,14 @@ public class Composition extends Item {
      * @param child child Composable to be set
      * @return was the child set successfully?
      */
-    public native boolean setChild(int index, Composable child) throws IndexOutOfBoundsException, ChildAlreadyParentedException;
+    public boolean setChild(int index, Composable child) throws IndexOutOfBoundsException, ChildAlreadyParentedException {
+        DeferredChildren.materialize(this);
+        boolean result = setChildNative(index, child);
+        CompositionIndex.timingChanged(this);
+        return result;
+    }
+
+    private native boolean setChildNative(int index, Composable child) throws IndexOutOfBoundsException, ChildAlreadyParentedException;
 
     /**
      * Remove the child at any index.
@@ -172,7 +199,14 @@ public class Composition extends Item {
      * @param index index from which the child needs to be removed.
      * @return was the child removed successfully?
      */
-    public native boolean removeChild(int index) throws IndexOutOfBoundsException;
+    public boolean removeChild(int index) throws IndexOutOfBoundsException {
+        DeferredChildren.materialize(this);
+        boolean result = removeChildNative(index);
+        CompositionIndex.timingChanged(this);
+        return result;
+    }
+
+    private native boolean removeChildNative(int index) throws IndexOutOfBoundsException;
 
     /**
      * Append the child to the end of the Composition.
@@ -180,7 +214,14 @@ public class Composition extends Item {
      * @param child child to be appended
      * @return was the child appended successfully?
      */
-    public native boolean appendChild(Composable child) throws ChildAlreadyParentedException;
+    public boolean appendChild(Composable child) throws ChildAlreadyParentedException {
+        DeferredChildren.materialize(this);
+        boolean result = appendChildNative(child);
+        CompositionIndex.timingChanged(this);
+        return result;
+    }
+
+    private native boolean appendChildNative(Composable child) throws ChildAlreadyParentedException;
 
     /**
      * @param composable Composable to check ancestry of
@@ -244,7 +285,12 @@ public class Composition extends Item {
      * @param child child Composable whose range is to be fetched
      * @return range of the child not trimmed based on this composition's sourceRange
      */
-    public native TimeRange getRangeOfChild(Composable child) throws NotAChildException, UnsupportedOperationException, IndexOutOfBoundsException, ObjectWithoutDurationException, CannotComputeAvailableRangeException;
+    public TimeRange getRangeOfChild(Composable child) throws NotAChildException, UnsupportedOperationException, IndexOutOfBoundsException, ObjectWithoutDurationException, CannotComputeAvailableRangeException {
+        DeferredChildren.materializeForRanges(this);
+        return getRangeOfChildNative(child);
+    }
+
+    private native TimeRange getRangeOfChildNative(Composable child) throws NotAChildException, UnsupportedOperationException, IndexOutOfBoundsException, ObjectWithoutDurationException, CannotComputeAvailableRangeException;
 
     /**
      * Get range of the child, after the sourceRange is applied.
@@ -289,6 +335,19 @@ public class Composition extends Item {
      */
     public native HashMap<Composable, TimeRange> getRangeOfAllChildren() throws UnsupportedOperationException, IndexOutOfBoundsException, ObjectWithoutDurationException, CannotComputeAvailableRangeException;
 
+    /**
+     * Return the range of every child in this object, in the order of getChildren().
+     * All the ranges are fetched with a single native call.
+     *
+     * @return the ranges of the children in this object
+     */
+    public TimeRangeArray getRangesOfChildren() throws UnsupportedOperationException, IndexOutOfBoundsException, ObjectWithoutDurationException, CannotComputeAvailableRangeException {
+        DeferredChildren.materializeForRanges(this);
+        return getRangesOfChildrenNative();
+    }
+
+    private native TimeRangeArray getRangesOfChildrenNative() throws UnsupportedOperationException, IndexOutOfBoundsException, ObjectWithoutDurationException, CannotComputeAvailableRangeException;
+
     /**
      * Return the child that overlaps with time searchTime.
      * searchTime is in the space of self.
@@ -299,26 +358,18 @@ public class Composition extends Item {
      * @return the child that overlaps with time searchTime
      */
     public Composable getChildAtTime(RationalTime searchTime, boolean shallowSearch) throws UnsupportedOperationException, IndexOutOfBoundsException, ObjectWithoutDurationException, CannotComputeAvailableRangeException, NotAChildException {
-        HashMap<Composable, TimeRange> rangeOfAllChildren = this.getRangeOfAllChildren();
+        TimeRangeArray rangesOfChildren = this.getRangesOfChildren();
         List<Composable> children = this.getChildren();
         // find the first item whose endTimeExclusive is after the target
-        int firstInsideRange = bisectLeft(
-                children,
-                searchTime,
-                child -> rangeOfAllChildren.get(child).endTimeExclusive(),
-                0, null);
+        int firstInsideRange = rangesOfChildren.endTimesExclusive().bisectLeft(searchTime);
         // find the last item whose startTime is before the target
-        int lastInRange = bisectRight(
-                children,
-                searchTime,
-                child -> rangeOfAllChildren.get(child).getStartTime(),
-                firstInsideRange, null);
+        int lastInRange = rangesOfChildren.getStartTimes().bisectRight(
+                searchTime, firstInsideRange, rangesOfChildren.size());
         // limit the search to children who are in the searchRange
-        children = children.subList(firstInsideRange, lastInRange);
         Composable result = null;
-        for (Composable potentialMatch : children) {
-            if (rangeOfAllChildren.get(potentialMatch).overlaps(searchTime)) {
-                result = potentialMatch;
+        for (int i = firstInsideRange; i < lastInRange; i++) {
+            if (rangesOfChildren.get(i).overlaps(searchTime)) {
+                result = children.get(i);
                 break;
             }
         }
@@ -348,6 +399,7 @@ public class Composition extends Item {
     /**
      * Stream that returns each child of specified type contained in the composition in
      * the order in which it is found.
+     * The stream is sized and can be split, so it can be consumed in parallel.
      *
      * @param searchRange   if not null, only children whose range overlaps with the search range will be in the stream.
      * @param descendedFrom only children who are a descendent of the descendedFrom type will be in the stream
@@ -357,63 +409,21 @@ public class Composition extends Item {
      */
     public <T extends Composable> Stream<T> eachChild(
             TimeRange searchRange, Class<T> descendedFrom, boolean shallowSearch) throws NotAChildException, ObjectWithoutDurationException, CannotComputeAvailableRangeException {
-        List<Composable> children;
-        if (searchRange != null) {
-            HashMap<Composable, TimeRange> rangeOfAllChildren = this.getRangeOfAllChildren();
-            children = this.getChildren();
-            // find the first item whose endTimeInclusive is after the
-            // startTime of the searchRange
-            int firstInsideRange = bisectLeft(
-                    children,
-                    searchRange.getStartTime(),
-                    child -> rangeOfAllChildren.get(child).endTimeInclusive(),
-                    0, null);
-            // find the last item whose startTime is before the
-            // endTimeInclusive of the searchRange
-            int lastInRange = bisectRight(
-                    children,
-                    searchRange.endTimeInclusive(),
-                    child -> rangeOfAllChildren.get(child).getStartTime(),
-                    firstInsideRange, null);
-            children = children.subList(firstInsideRange, lastInRange);
-        } else {
-            children = this.getChildren();
-        }
+        if (shallowSearch)
+            DeferredChildren.materializeForRanges(this);
+        else
+            DeferredChildren.materializeSubtree(this);
+        // the whole subtree is searched by a single native call, the Java objects
+        // of the children are only created as the stream consumes them
+        return StreamSupport.stream(new ComposableSpliterator(
+                        eachChildNative(searchRange, descendedFrom, shallowSearch)), false)
+                .map(descendedFrom::cast);
+    }
 
-        Stream<T> resultStream;
-        // TODO: Use functional exception handling for exceptions in lambdas
-        try {
-            resultStream = children.stream()
-                    .flatMap(element -> {
-                                Stream<T> currentElementStream = Stream.empty();
-                                if (descendedFrom.isAssignableFrom(element.getClass()))
-                                    currentElementStream = Stream.concat(Stream.of(descendedFrom.cast(element)), currentElementStream);
-                                Stream<T> nestedStream = Stream.empty();
-                                if (!shallowSearch && element instanceof Composition) {
-                                    try {
-                                        nestedStream = ((Composition) element).eachChild(
-                                                searchRange == null ? null : this.getTransformedTimeRange(searchRange, ((Composition) element)),
-                                                descendedFrom,
-                                                shallowSearch);
-                                    } catch (Exception e) {
-                                        throw new RuntimeException(e);
-                                    }
-                                }
-                                return Stream.concat(currentElementStream, nestedStream);
-                            }
-                    );
-        } catch (RuntimeException e) {
-            if (e.getCause() instanceof NotAChildException)
-                throw (NotAChildException) e.getCause();
-            else if (e.getCause() instanceof ObjectWithoutDurationException)
-                throw (ObjectWithoutDurationException) e.getCause();
-            else if (e.getCause() instanceof CannotComputeAvailableRangeException)
-                throw (CannotComputeAvailableRangeException) e.getCause();
-            else throw e;
-        }
+    private native AnyVector eachChildNative(
+            TimeRange searchRange, Class<? extends Composable> descendedFrom, boolean shallowSearch) throws NotAChildException, ObjectWithoutDurationException, CannotComputeAvailableRangeException;
 
-        return resultStream;
-    }
+    static native Composable childFromNative(AnyVector children, int index);
 
     /**
      * Stream that returns each child contained in the composition in
@@ -439,78 +449,6 @@ public class Composition extends Item {
         return eachChild(null, descendedFrom, false);
     }
 
-    /**
-     * Return the index of the last item in seqChildren such that all e in seqChildren[:index]
-     * have keyFunction(e) <= target, and all e in seq[index:] have keyFunction(e) > target.
-     * <p>
-     * Thus, seqChildren.insert(index, value) will insert value after the rightmost item
-     * such that meets the above condition.
-     * <p>
-     * lowerSearchBound and upperSearchBound bound the range of elements to be searched.
-     * <p>
-     * Assumes that seqChildren is already sorted.
-     */
-    private int bisectRight(
-            List<Composable> seqChildren,
-            RationalTime target,
-            Function<Composable, RationalTime> keyFunction,
-            Integer lowerSearchBound,
-            Integer upperSearchBound) {
-        if (lowerSearchBound == null)
-            lowerSearchBound = 0;
-        if (lowerSearchBound < 0)
-            throw new IndexOutOfBoundsException("lowerSearchBound must be non-negative");
-        if (upperSearchBound == null)
-            upperSearchBound = seqChildren.size();
-
-        while (lowerSearchBound < upperSearchBound) {
-            int midPointIndex = Math.floorDiv(lowerSearchBound + upperSearchBound, 2);
-
-            if (target.compareTo(keyFunction.apply(seqChildren.get(midPointIndex))) < 0) {
-                upperSearchBound = midPointIndex;
-            } else {
-                lowerSearchBound = midPointIndex + 1;
-            }
-        }
-        return lowerSearchBound;
-    }
-
-    /**
-     * Return the index of the last item in seqChildren such that all e in seqChildren[:index]
-     * have keyFunction(e) < target, and all e in seqChildren[index:] have keyFunction(e) >= target.
-     * <p>
-     * Thus, seqChildren.insert(index, value) will insert value before the leftmost item
-     * such that meets the above condition.
-     * <p>
-     * lowerSearchBound and upperSearchBound bound the range of elements to be searched.
-     * <p>
-     * Assumes that seqChildren is already sorted.
-     */
-    private int bisectLeft(
-            List<Composable> seqChildren,
-            RationalTime target,
-            Function<Composable, RationalTime> keyFunction,
-            Integer lowerSearchBound,
-            Integer upperSearchBound) {
-        if (lowerSearchBound == null)
-            lowerSearchBound = 0;
-        if (lowerSearchBound < 0)
-            throw new IndexOutOfBoundsException("lowerSearchBound must be non-negative");
-        if (upperSearchBound == null)
-            upperSearchBound = seqChildren.size();
-
-        while (lowerSearchBound < upperSearchBound) {
-            int midPointIndex = Math.floorDiv(lowerSearchBound + upperSearchBound, 2);
-
-            if (keyFunction.apply(seqChildren.get(midPointIndex)).compareTo(target) < 0) {
-                lowerSearchBound = midPointIndex + 1;
-            } else {
-                upperSearchBound = midPointIndex;
-            }
-        }
-        return lowerSearchBound;
-    }
-
     @Override
     public String toString() {
         return this.getClass().getCanonicalName() +
@@ -0,0 +1,185 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline.opentimelineio;
+
+import io.opentimeline.opentimelineio.exception.CompositionEditException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Edits of the children of a Composition, recorded in Java and applied all at once.
+ * <p>
+ * Operations are recorded in order and refer to the children as they are after the previous
+ * operations of the batch. apply() validates all of them in a single native call and, only if
+ * every one is valid, replaces the children of the composition with the result. Otherwise the
+ * composition is left unchanged and a CompositionEditException reports each failed operation by
+ * its index in the batch. Operations after a failed one are validated as if it was skipped.
+ * <p>
+ * A child can be inserted if it has no parent, or if it is a child of the composition that an
+ * earlier operation of the batch removed.
+ */
+public class CompositionEditBatch {
+
+    // operation codes, each operation is {code, first argument, second argument}
+    static final int OPERATION_SIZE = 3;
+    static final int OP_APPEND = 0;
+    static final int OP_INSERT = 1;
+    static final int OP_REMOVE = 2;
+    static final int OP_REPLACE = 3;
+    static final int OP_MOVE = 4;
+
+    // reason codes of the failures returned by applyNative
+    static final int FAILURE_NULL_CHILD = 0;
+    static final int FAILURE_INDEX_OUT_OF_BOUNDS = 1;
+    static final int FAILURE_CHILD_ALREADY_PARENTED = 2;
+
+    private final Composition composition;
+    private int[] operations = new int[OPERATION_SIZE * 16];
+    private int size = 0;
+    private final List<Composable> children = new ArrayList<>();
+
+    public CompositionEditBatch(Composition composition) {
+        this.composition = composition;
+    }
+
+    public Composition getComposition() {
+        return composition;
+    }
+
+    private CompositionEditBatch record(int code, int first, int second) {
+        if (operations.length < (size + 1) * OPERATION_SIZE)
+            operations = Arrays.copyOf(operations, operations.length * 2);
+        operations[size * OPERATION_SIZE] = code;
+        operations[size * OPERATION_SIZE + 1] = first;
+        operations[size * OPERATION_SIZE + 2] = second;
+        size++;
+        return this;
+    }
+
+    private int childReference(Composable child) {
+        children.add(child);
+        return children.size() - 1;
+    }
+
+    /**
+     * Append a child after the last child.
+     */
+    public CompositionEditBatch append(Composable child) {
+        return record(OP_APPEND, 0, childReference(child));
+    }
+
+    /**
+     * Insert a child at an index from 0 to the number of children, both included.
+     */
+    public CompositionEditBatch insert(int index, Composable child) {
+        return record(OP_INSERT, index, childReference(child));
+    }
+
+    /**
+     * Remove the child at an index.
+     */
+    public CompositionEditBatch remove(int index) {
+        return record(OP_REMOVE, index, 0);
+    }
+
+    /**
+     * Replace the child at an index.
+     */
+    public CompositionEditBatch replace(int index, Composable child) {
+        return record(OP_REPLACE, index, childReference(child));
+    }
+
+    /**
+     * Move the child at index from so that it ends up at index to.
+     */
+    public CompositionEditBatch move(int from, int to) {
+        return record(OP_MOVE, from, to);
+    }
+
+    /**
+     * @return number of recorded operations
+     */
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        size = 0;
+        children.clear();
+    }
+
+    /**
+     * Validate and apply all the recorded operations, or none of them.
+     * The batch is cleared once applied.
+     *
+     * @throws CompositionEditException if any operation is invalid, the composition is unchanged
+     */
+    public void apply() throws CompositionEditException {
+        DeferredChildren.materialize(composition);
+        int[] failures;
+        try {
+            failures = applyNative(composition, Arrays.copyOf(operations, size * OPERATION_SIZE),
+                    children.toArray(new Composable[0]));
+        } finally {
+            CompositionIndex.timingChanged(composition);
+        }
+        if (failures.length == 0) {
+            clear();
+            return;
+        }
+        Map<Integer, String> reasons = new TreeMap<>();
+        for (int i = 0; i < failures.length; i += 2)
+            reasons.put(failures[i], describe(failures[i]) + ": " + reason(failures[i + 1]));
+        throw new CompositionEditException(
+                reasons.size() + " of " + size + " operations failed, first " + reasons.values().iterator().next(),
+                reasons);
+    }
+
+    /**
+     * @return pairs of {index of the operation, reason code}, empty if the operations were applied
+     */
+    private static native int[] applyNative(Composition composition, int[] operations, Composable[] children);
+
+    private String describe(int index) {
+        int offset = index * OPERATION_SIZE;
+        int first = operations[offset + 1];
+        int second = operations[offset + 2];
+        switch (operations[offset]) {
+            case OP_APPEND:
+                return "append(" + name(second) + ")";
+            case OP_INSERT:
+                return "insert(" + first + ", " + name(second) + ")";
+            case OP_REMOVE:
+                return "remove(" + first + ")";
+            case OP_REPLACE:
+                return "replace(" + first + ", " + name(second) + ")";
+            case OP_MOVE:
+                return "move(" + first + ", " + second + ")";
+            default:
+                throw new IllegalStateException("unknown operation " + operations[offset]);
+        }
+    }
+
+    private String name(int childReference) {
+        Composable child = children.get(childReference);
+        return child == null ? "null" : child.getName();
+    }
+
+    private static String reason(int code) {
+        switch (code) {
+            case FAILURE_NULL_CHILD:
+                return "null child";
+            case FAILURE_INDEX_OUT_OF_BOUNDS:
+                return "index out of bounds";
+            case FAILURE_CHILD_ALREADY_PARENTED:
+                return "child already parented";
+            default:
+                return "unknown failure " + code;
+        }
+    }
+}
@@ -0,0 +1,390 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline.opentimelineio;
+
+import io.opentimeline.opentime.RationalTime;
+import io.opentimeline.opentime.RationalTimeArray;
+import io.opentimeline.opentime.TimeRange;
+import io.opentimeline.opentime.TimeRangeArray;
+import io.opentimeline.opentimelineio.exception.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.IntStream;
+
+/**
+ * A cache of the ranges of the children of a Composition, for answering
+ * repeated time and range queries without calling into OTIO for every one of them.
+ * <p>
+ * The ranges of the children are kept in an interval tree, so childAt() and childrenIn()
+ * take O(log n + k) for n children and k results instead of fetching the ranges of all
+ * the children on every call like Composition.getChildAtTime() and Composition.eachChild() do.
+ * The deep queries build the index of a nested Composition the first time they descend
+ * into it and keep the transform into its time space.
+ * <p>
+ * The index is rebuilt on the next query after any change to the timing of a Composition
+ * or of an Item made through this API: inserting, setting, appending or removing children,
+ * setting a source range, a media reference, an available range or transition offsets.
+ * Changes are tracked per tree, by the root of the changed object, so editing one timeline
+ * does not invalidate the indexes of another. As a MediaReference does not know its clips,
+ * changing its available range invalidates every index.
+ */
+public class CompositionIndex {
+
+    // change counters of the trees, by a hash of their root, trees sharing a counter
+    // invalidate the indexes of each other
+    private static final int TREE_GENERATIONS_BITS = 12;
+    private static final AtomicLongArray treeGenerations = new AtomicLongArray(1 << TREE_GENERATIONS_BITS);
+    // incremented on the changes that cannot be attributed to a tree
+    private static final AtomicLong sharedGeneration = new AtomicLong();
+
+    private final Composition composition;
+
+    private Node root = null;
+    private long rootHandle;
+    private long treeGeneration;
+    private long generation;
+
+    /**
+     * @param composition Composition to index; the index is built on the first query
+     */
+    public CompositionIndex(Composition composition) {
+        this.composition = composition;
+    }
+
+    /**
+     * Invalidate the indexes of the tree of changed.
+     */
+    static void timingChanged(Composable changed) {
+        treeGenerations.incrementAndGet(slot(changed.rootNativeHandle()));
+    }
+
+    /**
+     * Invalidate every index.
+     */
+    static void timingChanged() {
+        sharedGeneration.incrementAndGet();
+    }
+
+    private static int slot(long rootHandle) {
+        return (int) (((rootHandle ^ (rootHandle >>> 17)) * 0x9E3779B97F4A7C15L) >>> (64 - TREE_GENERATIONS_BITS));
+    }
+
+    public Composition getComposition() {
+        return composition;
+    }
+
+    /**
+     * @return false if the timing of a Composition or Item has changed since the index was built
+     */
+    public synchronized boolean isValid() {
+        if (root == null || generation != sharedGeneration.get())
+            return false;
+        long currentRoot = composition.rootNativeHandle();
+        return rootHandle == currentRoot && treeGeneration == treeGenerations.get(slot(currentRoot));
+    }
+
+    /**
+     * Drop the cached ranges, so that the next query rebuilds them.
+     */
+    public synchronized void invalidate() {
+        root = null;
+    }
+
+    private synchronized Node root() throws ObjectWithoutDurationException, CannotComputeAvailableRangeException {
+        if (!isValid()) {
+            // read the counters first, a change during the build invalidates it
+            long currentGeneration = sharedGeneration.get();
+            long currentRoot = composition.rootNativeHandle();
+            long currentTreeGeneration = treeGenerations.get(slot(currentRoot));
+            root = new Node(composition);
+            generation = currentGeneration;
+            rootHandle = currentRoot;
+            treeGeneration = currentTreeGeneration;
+        }
+        return root;
+    }
+
+    /**
+     * Return the child that overlaps with time searchTime, the same child as
+     * Composition.getChildAtTime(searchTime, true).
+     *
+     * @param searchTime time in the space of the composition
+     * @return the first child overlapping searchTime, or null if there is none
+     */
+    public Composable childAt(RationalTime searchTime) throws ObjectWithoutDurationException, CannotComputeAvailableRangeException {
+        return childAt(searchTime, true);
+    }
+
+    /**
+     * Return the child that overlaps with time searchTime, the same child as
+     * Composition.getChildAtTime(searchTime, shallowSearch).
+     * If shallowSearch is false, will recurse into compositions.
+     *
+     * @param searchTime    time in the space of the composition
+     * @param shallowSearch should the search recurse into compositions or not?
+     * @return the child that overlaps with time searchTime
+     */
+    public Composable childAt(RationalTime searchTime, boolean shallowSearch) throws ObjectWithoutDurationException, CannotComputeAvailableRangeException {
+        Node node = root();
+        while (true) {
+            int index = node.firstOverlapping(searchTime.getValue() / searchTime.getRate());
+            if (index < 0)
+                return null;
+            Composable result = node.children.get(index);
+            // if the search cannot or should not continue
+            if (shallowSearch || !(result instanceof Composition))
+                return result;
+            // before descending, transform the time into the space of the child
+            searchTime = node.transformedTime(searchTime, index);
+            node = node.nested(index);
+        }
+    }
+
+    /**
+     * Return the children whose range overlaps with searchRange,
+     * in the order of Composition.eachChild(searchRange, true).
+     *
+     * @param searchRange range in the space of the composition
+     * @return the children in searchRange
+     */
+    public List<Composable> childrenIn(TimeRange searchRange) throws ObjectWithoutDurationException, CannotComputeAvailableRangeException {
+        return childrenIn(searchRange, Composable.class, true);
+    }
+
+    /**
+     * Return the children whose range overlaps with searchRange,
+     * in the order of Composition.eachChild(searchRange, shallowSearch).
+     * If shallowSearch is false, will recurse into compositions.
+     *
+     * @param searchRange   range in the space of the composition
+     * @param shallowSearch should the search recurse into compositions or not?
+     * @return the children in searchRange
+     */
+    public List<Composable> childrenIn(TimeRange searchRange, boolean shallowSearch) throws ObjectWithoutDurationException, CannotComputeAvailableRangeException {
+        return childrenIn(searchRange, Composable.class, shallowSearch);
+    }
+
+    /**
+     * Return the children of specified type whose range overlaps with searchRange,
+     * in the order of Composition.eachChild(searchRange, descendedFrom, shallowSearch).
+     *
+     * @param searchRange   range in the space of the composition
+     * @param descendedFrom only children who are a descendent of the descendedFrom type will be returned
+     * @param shallowSearch should the search recurse into compositions or not?
+     * @param <T>           type of children to fetch
+     * @return the children of specified type in searchRange
+     */
+    public <T extends Composable> List<T> childrenIn(
+            TimeRange searchRange, Class<T> descendedFrom, boolean shallowSearch) throws ObjectWithoutDurationException, CannotComputeAvailableRangeException {
+        List<T> result = new ArrayList<>();
+        collect(root(), searchRange, descendedFrom, shallowSearch, result);
+        return result;
+    }
+
+    private static <T extends Composable> void collect(
+            Node node, TimeRange searchRange, Class<T> descendedFrom, boolean shallowSearch, List<T> result) throws ObjectWithoutDurationException, CannotComputeAvailableRangeException {
+        RationalTime startTime = searchRange.getStartTime();
+        RationalTime endTimeInclusive = searchRange.endTimeInclusive();
+        int[] indices = node.intersecting(
+                startTime.getValue() / startTime.getRate(),
+                endTimeInclusive.getValue() / endTimeInclusive.getRate());
+        for (int index : indices) {
+            Composable child = node.children.get(index);
+            if (descendedFrom.isAssignableFrom(child.getClass()))
+                result.add(descendedFrom.cast(child));
+            if (!shallowSearch && child instanceof Composition)
+                collect(node.nested(index), node.transformedTimeRange(searchRange, index),
+                        descendedFrom, shallowSearch, result);
+        }
+    }
+
+    /**
+     * The ranges of the children of one Composition in an implicit interval tree:
+     * the children are sorted by start time, the node of the subtree [low, high)
+     * is at (low + high) / 2 and every node keeps the largest end time of its subtree.
+     * Times are compared as value / rate, like the RationalTime comparisons.
+     */
+    private static final class Node {
+
+        final Composition composition;
+        final List<Composable> children;
+
+        // child index of every node, in start time order
+        final int[] order;
+        final double[] starts;
+        final double[] endsExclusive;
+        final double[] endsInclusive;
+        final double[] maxEndsExclusive;
+        final double[] maxEndsInclusive;
+
+        // range start and trimmed range start of the nested compositions, by child index
+        final RationalTime[] rangeStartTimes;
+        final RationalTime[] trimmedStartTimes;
+        final Node[] nested;
+
+        Node(Composition composition) throws ObjectWithoutDurationException, CannotComputeAvailableRangeException {
+            this.composition = composition;
+            // getRangesOfChildren() first, it materializes the deferred children of the
+            // composition and of its child compositions
+            TimeRangeArray ranges = composition.getRangesOfChildren();
+            children = Collections.unmodifiableList(new ArrayList<>(composition.getChildren()));
+            int size = ranges.size();
+
+            RationalTimeArray startTimes = ranges.getStartTimes();
+            RationalTimeArray endTimesExclusive = ranges.endTimesExclusive();
+            RationalTimeArray endTimesInclusive = ranges.endTimesInclusive();
+            double[] startKeys = new double[size];
+            for (int i = 0; i < size; i++)
+                startKeys[i] = startTimes.getValue(i) / startTimes.getRate(i);
+            // stable, so children starting at the same time stay in child order
+            order = IntStream.range(0, size).boxed()
+                    .sorted((lhs, rhs) -> Double.compare(startKeys[lhs], startKeys[rhs]))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+
+            starts = new double[size];
+            endsExclusive = new double[size];
+            endsInclusive = new double[size];
+            for (int i = 0; i < size; i++) {
+                int child = order[i];
+                starts[i] = startKeys[child];
+                endsExclusive[i] = endTimesExclusive.getValue(child) / endTimesExclusive.getRate(child);
+                endsInclusive[i] = endTimesInclusive.getValue(child) / endTimesInclusive.getRate(child);
+            }
+            maxEndsExclusive = new double[size];
+            maxEndsInclusive = new double[size];
+            buildMaxEnds(0, size);
+
+            rangeStartTimes = new RationalTime[size];
+            trimmedStartTimes = new RationalTime[size];
+            nested = new Node[size];
+            for (int i = 0; i < size; i++) {
+                if (children.get(i) instanceof Composition) {
+                    rangeStartTimes[i] = startTimes.get(i);
+                    trimmedStartTimes[i] = ((Composition) children.get(i)).getTrimmedRange().getStartTime();
+                }
+            }
+        }
+
+        private void buildMaxEnds(int low, int high) {
+            if (low >= high)
+                return;
+            int middle = (low + high) >>> 1;
+            buildMaxEnds(low, middle);
+            buildMaxEnds(middle + 1, high);
+            double maxEndExclusive = endsExclusive[middle];
+            double maxEndInclusive = endsInclusive[middle];
+            if (low < middle) {
+                int left = (low + middle) >>> 1;
+                maxEndExclusive = max(maxEndExclusive, maxEndsExclusive[left]);
+                maxEndInclusive = max(maxEndInclusive, maxEndsInclusive[left]);
+            }
+            if (middle + 1 < high) {
+                int right = (middle + 1 + high) >>> 1;
+                maxEndExclusive = max(maxEndExclusive, maxEndsExclusive[right]);
+                maxEndInclusive = max(maxEndInclusive, maxEndsInclusive[right]);
+            }
+            maxEndsExclusive[middle] = maxEndExclusive;
+            maxEndsInclusive[middle] = maxEndInclusive;
+        }
+
+        // unlike Math.max, ignores NaN so that a child without a proper range does not hide the others
+        private static double max(double lhs, double rhs) {
+            return rhs > lhs || Double.isNaN(lhs) ? rhs : lhs;
+        }
+
+        /**
+         * @return child index of the first child whose range overlaps time, or -1
+         */
+        int firstOverlapping(double time) {
+            int[] result = {-1};
+            firstOverlapping(0, starts.length, time, result);
+            return result[0];
+        }
+
+        private void firstOverlapping(int low, int high, double time, int[] result) {
+            if (low >= high)
+                return;
+            int middle = (low + high) >>> 1;
+            // startTime <= time && time < endTimeExclusive
+            if (!(time < maxEndsExclusive[middle]))
+                return;
+            firstOverlapping(low, middle, time, result);
+            if (!(starts[middle] <= time))
+                return;
+            if (time < endsExclusive[middle] && (result[0] < 0 || order[middle] < result[0]))
+                result[0] = order[middle];
+            firstOverlapping(middle + 1, high, time, result);
+        }
+
+        /**
+         * @return child indices, in child order, of the children whose
+         * [startTime, endTimeInclusive] intersects [start, endInclusive]
+         */
+        int[] intersecting(double start, double endInclusive) {
+            Hits hits = new Hits();
+            intersecting(0, starts.length, start, endInclusive, hits);
+            int[] result = Arrays.copyOf(hits.indices, hits.count);
+            Arrays.sort(result);
+            return result;
+        }
+
+        private void intersecting(int low, int high, double start, double endInclusive, Hits hits) {
+            if (low >= high)
+                return;
+            int middle = (low + high) >>> 1;
+            // startTime <= searchEndInclusive && searchStart <= endTimeInclusive
+            if (!(start <= maxEndsInclusive[middle]))
+                return;
+            intersecting(low, middle, start, endInclusive, hits);
+            if (!(starts[middle] <= endInclusive))
+                return;
+            if (start <= endsInclusive[middle])
+                hits.add(order[middle]);
+            intersecting(middle + 1, high, start, endInclusive, hits);
+        }
+
+        synchronized Node nested(int index) throws ObjectWithoutDurationException, CannotComputeAvailableRangeException {
+            if (nested[index] == null)
+                nested[index] = new Node((Composition) children.get(index));
+            return nested[index];
+        }
+
+        /**
+         * Transform time from the space of this composition into the space of the child at index,
+         * as Item.getTransformedTime() does for a direct child.
+         */
+        RationalTime transformedTime(RationalTime time, int index) {
+            return time.add(trimmedStartTimes[index]).subtract(rangeStartTimes[index]);
+        }
+
+        TimeRange transformedTimeRange(TimeRange timeRange, int index) {
+            return new TimeRange(transformedTime(timeRange.getStartTime(), index), timeRange.getDuration());
+        }
+    }
+
+    private static final class Hits {
+        int[] indices = new int[16];
+        int count = 0;
+
+        void add(int index) {
+            if (count == indices.length)
+                indices = Arrays.copyOf(indices, count * 2);
+            indices[count++] = index;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return this.getClass().getCanonicalName() +
+                "(" +
+                "composition=" + this.composition.getName() +
+                ")";
+    }
+}
@@ -0,0 +1,298 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline.opentimelineio;
+
+import io.opentimeline.opentimelineio.exception.OpenTimelineIOException;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Children of a Composition that are still unparsed JSON, see TimelineLoader.loadLazy().
+ * <p>
+ * The pending children are keyed by the native object of the composition, as every Java object
+ * of the composition must see them. Composition.getChildren() and eachChild() deserialize them
+ * on first access, as do the methods adding or removing single children and the Java methods
+ * computing the ranges of the children, which also need the children of their child
+ * compositions. Setting or clearing all the children drops them. Methods handing an object to
+ * native code that reads all of it, like serialization, deepCopy() and isEquivalentTo(), first
+ * deserialize the pending children of the compositions the object holds, see materializeHeldBy().
+ * <p>
+ * The pending children of a timeline belong to a Document stored on the Timeline object
+ * returned by loadLazy(), which holds the mapped file and the compositions, so that their native
+ * objects are not freed and their addresses reused while they are pending. The entries only
+ * refer to the Document weakly: once that Timeline object is closed or collected, its entries
+ * are dropped and the mapped file and the compositions are released.
+ */
+final class DeferredChildren {
+
+    private static final ConcurrentHashMap<Long, DeferredChildren> pending = new ConcurrentHashMap<>();
+    private static final ReferenceQueue<Document> collected = new ReferenceQueue<>();
+
+    /**
+     * The mapped file and the compositions with pending children of a timeline.
+     */
+    static final class Document {
+        private final Timeline timeline;
+        private final ByteBuffer buffer;
+        private final List<Composition> owners = new ArrayList<>();
+        private final DocumentReference reference;
+
+        Document(Timeline timeline, ByteBuffer buffer) {
+            this.timeline = timeline;
+            this.buffer = buffer;
+            this.reference = new DocumentReference(this);
+        }
+
+        private boolean isReleased() {
+            // closed through an OTIOArena, which does not call Timeline.close()
+            return timeline.getNativeManager().nativeHandle == 0;
+        }
+    }
+
+    /*
+     * Keeps the keys of a Document, to drop its entries once it is collected.
+     */
+    private static final class DocumentReference extends WeakReference<Document> {
+        private final List<Long> keys = new ArrayList<>();
+
+        DocumentReference(Document document) {
+            super(document, collected);
+        }
+    }
+
+    private final DocumentReference document;
+    // index of the composition in the owners of the document
+    private final int owner;
+    // {start, end} pairs of the JSON of each child in the buffer of the document
+    private final int[] bounds;
+    private boolean loaded = false;
+
+    private DeferredChildren(DocumentReference document, int owner, int[] bounds) {
+        this.document = document;
+        this.owner = owner;
+        this.bounds = bounds;
+    }
+
+    private static long key(Composition composition) {
+        return composition.getNativeManager().getOTIOObjectNativeHandle();
+    }
+
+    static void defer(Document document, Composition composition, int[] bounds) {
+        long key = key(composition);
+        int owner;
+        synchronized (document.reference) {
+            owner = document.owners.size();
+            document.owners.add(composition);
+            document.reference.keys.add(key);
+        }
+        pending.put(key, new DeferredChildren(document.reference, owner, bounds));
+    }
+
+    /**
+     * @return the Document of an entry, or null after dropping the entry if its timeline is gone
+     */
+    private static Document documentOf(long key, DeferredChildren deferred) {
+        Document document = deferred.document.get();
+        if (document != null && !document.isReleased())
+            return document;
+        pending.remove(key, deferred);
+        return null;
+    }
+
+    /* drop the entries of the Documents that were collected */
+    private static void purge() {
+        DocumentReference reference;
+        while ((reference = (DocumentReference) collected.poll()) != null)
+            removeEntries(reference);
+    }
+
+    private static void removeEntries(DocumentReference reference) {
+        List<Long> keys;
+        synchronized (reference) {
+            keys = new ArrayList<>(reference.keys);
+        }
+        for (Long key : keys) {
+            DeferredChildren deferred = pending.get(key);
+            if (deferred != null && deferred.document == reference)
+                pending.remove(key, deferred);
+        }
+    }
+
+    /**
+     * @return the entry of composition, or null if it has no pending children
+     */
+    private static DeferredChildren lookup(long key) {
+        purge();
+        if (pending.isEmpty())
+            return null;
+        DeferredChildren deferred = pending.get(key);
+        if (deferred == null || documentOf(key, deferred) == null)
+            return null;
+        return deferred;
+    }
+
+    static boolean isDeferred(Composition composition) {
+        return lookup(key(composition)) != null;
+    }
+
+    /**
+     * Deserialize the pending children of the composition, if it has any.
+     */
+    static void materialize(Composition composition) {
+        long key = key(composition);
+        DeferredChildren deferred = lookup(key);
+        if (deferred != null)
+            materialize(key, deferred, composition);
+    }
+
+    private static void materialize(long key, DeferredChildren deferred, Composition composition) {
+        // concurrent callers wait for the children instead of seeing none
+        synchronized (deferred) {
+            if (deferred.loaded)
+                return;
+            Document document = documentOf(key, deferred);
+            if (document == null)
+                return;
+            try {
+                List<Composable> children = new ArrayList<>(deferred.bounds.length / 2);
+                for (int i = 0; i < deferred.bounds.length; i += 2) {
+                    children.add((Composable) SerializableObject.fromJSONBufferNative(
+                            document.buffer, deferred.bounds[i], deferred.bounds[i + 1]));
+                }
+                adoptChildren(composition, children);
+            } catch (OpenTimelineIOException e) {
+                throw new IllegalStateException("cannot deserialize the deferred children", e);
+            }
+            deferred.loaded = true;
+            pending.remove(key, deferred);
+        }
+    }
+
+    /**
+     * Deserialize the pending children of the composition and of its child compositions, the
+     * ranges of the children depend on the durations of the child compositions.
+     * Deferred children are deserialized in full, so there is nothing pending further down.
+     */
+    static void materializeForRanges(Composition composition) {
+        if (pending.isEmpty())
+            return;
+        materialize(composition);
+        for (Composable child : composition.getChildrenNative()) {
+            if (child instanceof Composition)
+                materialize((Composition) child);
+        }
+    }
+
+    /**
+     * Drop the pending children of the composition, its children have been replaced.
+     */
+    static void discard(Composition composition) {
+        if (!pending.isEmpty())
+            pending.remove(key(composition));
+    }
+
+    /**
+     * Deserialize the pending children of the composition and of all the compositions below it.
+     */
+    static void materializeSubtree(Composition composition) {
+        if (pending.isEmpty())
+            return;
+        materialize(composition);
+        for (Composable child : composition.getChildrenNative()) {
+            if (child instanceof Composition)
+                materializeSubtree((Composition) child);
+        }
+    }
+
+    /**
+     * Drop the pending children of the composition and of all the compositions below it,
+     * leaving those compositions empty.
+     */
+    static void discardSubtree(Composition composition) {
+        if (pending.isEmpty())
+            return;
+        discard(composition);
+        for (Composable child : composition.getChildrenNative()) {
+            if (child instanceof Composition)
+                discardSubtree((Composition) child);
+        }
+    }
+
+    /**
+     * Deserialize the pending children of every composition object holds, object included,
+     * before native code reads all of it.
+     */
+    static void materializeHeldBy(SerializableObject object) {
+        long[] keys = pendingKeys();
+        if (keys.length > 0 && object != null)
+            materializeKeys(heldNative(object, keys));
+    }
+
+    /**
+     * Deserialize the pending children of every composition held by the value of an Any, see
+     * materializeHeldBy(SerializableObject).
+     */
+    static void materializeHeldBy(Any value) {
+        long[] keys = pendingKeys();
+        if (keys.length > 0 && value != null)
+            materializeKeys(heldByAnyNative(value, keys));
+    }
+
+    private static long[] pendingKeys() {
+        purge();
+        if (pending.isEmpty())
+            return new long[0];
+        List<Long> keys = new ArrayList<>(pending.keySet());
+        long[] result = new long[keys.size()];
+        for (int i = 0; i < result.length; i++)
+            result[i] = keys.get(i);
+        return result;
+    }
+
+    private static void materializeKeys(long[] keys) {
+        for (long key : keys) {
+            DeferredChildren deferred = lookup(key);
+            Document document = deferred == null ? null : deferred.document.get();
+            if (document != null)
+                materialize(key, deferred, document.owners.get(deferred.owner));
+        }
+    }
+
+    /**
+     * Drop the pending children of a timeline returned by loadLazy() and release its Document,
+     * used by Timeline.close().
+     */
+    static void release(Timeline timeline) {
+        Document document = timeline.deferredChildren;
+        if (document == null)
+            return;
+        timeline.deferredChildren = null;
+        removeEntries(document.reference);
+        List<Composition> owners;
+        synchronized (document.reference) {
+            owners = new ArrayList<>(document.owners);
+        }
+        Wrappers.closeAll(owners);
+    }
+
+    /**
+     * Set the children of a composition and close their Java objects, the composition retains them.
+     */
+    static void adoptChildren(Composition composition, List<Composable> children) throws OpenTimelineIOException {
+        composition.setChildren(children);
+        Wrappers.closeAll(children);
+    }
+
+    /**
+     * @return the keys, among keys, of the native objects object holds or is
+     */
+    private static native long[] heldNative(SerializableObject object, long[] keys);
+
+    private static native long[] heldByAnyNative(Any value, long[] keys);
+}
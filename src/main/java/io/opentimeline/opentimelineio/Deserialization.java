@@ -5,6 +5,8 @@ package io.opentimeline.opentimelineio;
 
 import io.opentimeline.opentimelineio.exception.OpenTimelineIOException;
 
+import java.nio.ByteBuffer;
+
 public class Deserialization {
 
     /**
@@ -27,4 +29,93 @@ public class Deserialization {
     public native boolean deserializeJSONFromFile(
             String fileName, Any destination) throws OpenTimelineIOException;
 
+    /**
+     * Deserialize UTF-8 encoded OTIO JSON held in a ByteBuffer and get the result in an Any object.
+     * The JSON is read from the position to the limit of the buffer, whose position is not changed.
+     * Direct buffers, including MappedByteBuffers from FileChannel.map(), are read by the native
+     * side from their memory, without creating a Java String or array.
+     *
+     * @param input       buffer holding the JSON
+     * @param destination JSON will be deserialized into this object
+     * @return was the JSON deserialized successfully?
+     */
+    public boolean deserializeJSONFromBuffer(
+            ByteBuffer input, Any destination) throws OpenTimelineIOException {
+        if (input == null)
+            throw new NullPointerException();
+        int position = input.position();
+        int limit = input.limit();
+        if (input.isDirect())
+            return deserializeJSONFromDirectBufferNative(input, position, limit, destination);
+        if (input.hasArray())
+            return deserializeJSONFromBytesNative(
+                    input.array(), input.arrayOffset() + position, limit - position, destination);
+        // read-only heap buffers do not give access to their array
+        byte[] bytes = new byte[limit - position];
+        input.duplicate().get(bytes);
+        return deserializeJSONFromBytesNative(bytes, 0, bytes.length, destination);
+    }
+
+    private native boolean deserializeJSONFromDirectBufferNative(
+            ByteBuffer input, int position, int limit, Any destination) throws OpenTimelineIOException;
+
+    private native boolean deserializeJSONFromBytesNative(
+            byte[] input, int offset, int length, Any destination) throws OpenTimelineIOException;
+
+    /**
+     * Deserialize an OTIO object in the binary format written by Serialization.serializeBinary()
+     * and get the result in an Any object.
+     *
+     * @param input       binary OTIO document
+     * @param destination document will be deserialized into this object
+     * @return was the document deserialized successfully?
+     */
+    public boolean deserializeBinary(byte[] input, Any destination) throws OpenTimelineIOException {
+        if (input == null)
+            throw new NullPointerException();
+        return deserializeBinaryFromBytesNative(input, 0, input.length, destination);
+    }
+
+    /**
+     * Deserialize a binary OTIO document held in a ByteBuffer and get the result in an Any object,
+     * see deserializeBinary(byte[], Any).
+     * The document is read from the position to the limit of the buffer, whose position is not changed.
+     * Direct buffers, including MappedByteBuffers from FileChannel.map(), are decoded in place.
+     *
+     * @param input       buffer holding the binary document
+     * @param destination document will be deserialized into this object
+     * @return was the document deserialized successfully?
+     */
+    public boolean deserializeBinaryFromBuffer(
+            ByteBuffer input, Any destination) throws OpenTimelineIOException {
+        if (input == null)
+            throw new NullPointerException();
+        int position = input.position();
+        int limit = input.limit();
+        if (input.isDirect())
+            return deserializeBinaryFromDirectBufferNative(input, position, limit, destination);
+        if (input.hasArray())
+            return deserializeBinaryFromBytesNative(
+                    input.array(), input.arrayOffset() + position, limit - position, destination);
+        byte[] bytes = new byte[limit - position];
+        input.duplicate().get(bytes);
+        return deserializeBinaryFromBytesNative(bytes, 0, bytes.length, destination);
+    }
+
+    /**
+     * Deserialize a binary OTIO file and get the result in an Any object,
+     * see deserializeBinary(byte[], Any).
+     *
+     * @param fileName    path to binary OTIO file
+     * @param destination document will be deserialized into this object
+     * @return was the document deserialized successfully?
+     */
+    public native boolean deserializeBinaryFromFile(
+            String fileName, Any destination) throws OpenTimelineIOException;
+
+    private native boolean deserializeBinaryFromDirectBufferNative(
+            ByteBuffer input, int position, int limit, Any destination) throws OpenTimelineIOException;
+
+    private native boolean deserializeBinaryFromBytesNative(
+            byte[] input, int offset, int length, Any destination) throws OpenTimelineIOException;
 }
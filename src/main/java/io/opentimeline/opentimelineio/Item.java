@@ -124,7 +124,12 @@ public class Item extends Composable {
 
     public native TimeRange getSourceRange();
 
-    public native void setSourceRange(TimeRange sourceRange);
+    public void setSourceRange(TimeRange sourceRange) {
+        setSourceRangeNative(sourceRange);
+        CompositionIndex.timingChanged(this);
+    }
+
+    private native void setSourceRangeNative(TimeRange sourceRange);
 
     public List<Effect> getEffects() {
         return Arrays.asList(getEffectsNative());
@@ -0,0 +1,212 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline.opentimelineio;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Finds the bounds of the values of UTF-8 encoded JSON held in a ByteBuffer without decoding them,
+ * so that parts of an OTIO document can be handed to the native deserializer on their own.
+ * Bounds are absolute buffer indexes, as {start, end} with an exclusive end.
+ * The scanner only checks the structure it walks through, any problem is reported as null
+ * and left for the native deserializer to report properly.
+ */
+final class JSONScanner {
+
+    private final ByteBuffer buffer;
+    private int position;
+    private int limit;
+
+    JSONScanner(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * @return the bounds of the values of the object between start and end by key,
+     * in document order and keeping the first of duplicate keys, or null if it is not an object
+     */
+    Map<String, int[]> scanObject(int start, int end) {
+        position = start;
+        limit = end;
+        skipWhitespace();
+        if (!consume('{'))
+            return null;
+        Map<String, int[]> members = new LinkedHashMap<>();
+        skipWhitespace();
+        if (!consume('}')) {
+            do {
+                skipWhitespace();
+                int keyStart = position + 1;
+                if (!skipString())
+                    return null;
+                String key = decode(keyStart, position - 1);
+                skipWhitespace();
+                if (!consume(':'))
+                    return null;
+                skipWhitespace();
+                int valueStart = position;
+                if (!skipValue())
+                    return null;
+                members.putIfAbsent(key, new int[]{valueStart, position});
+                skipWhitespace();
+            } while (consume(','));
+            if (!consume('}'))
+                return null;
+        }
+        skipWhitespace();
+        return position == limit ? members : null;
+    }
+
+    /**
+     * @param bounds bounds of the array, may be null
+     * @return the bounds of each element of the array as consecutive {start, end} pairs,
+     * or null if it is not an array
+     */
+    int[] scanArray(int[] bounds) {
+        if (bounds == null)
+            return null;
+        position = bounds[0];
+        limit = bounds[1];
+        if (!consume('['))
+            return null;
+        int[] elements = new int[16];
+        int size = 0;
+        skipWhitespace();
+        if (!consume(']')) {
+            do {
+                skipWhitespace();
+                int valueStart = position;
+                if (!skipValue())
+                    return null;
+                if (size + 2 > elements.length)
+                    elements = Arrays.copyOf(elements, elements.length * 2);
+                elements[size++] = valueStart;
+                elements[size++] = position;
+                skipWhitespace();
+            } while (consume(','));
+            if (!consume(']'))
+                return null;
+        }
+        return position == limit ? Arrays.copyOf(elements, size) : null;
+    }
+
+    /**
+     * @param bounds bounds of a string value, may be null
+     * @return the string, or null if it is not a string without escape sequences
+     */
+    String stringValue(int[] bounds) {
+        if (bounds == null || bounds[1] - bounds[0] < 2
+                || buffer.get(bounds[0]) != '"' || buffer.get(bounds[1] - 1) != '"')
+            return null;
+        for (int i = bounds[0] + 1; i < bounds[1] - 1; i++) {
+            if (buffer.get(i) == '\\')
+                return null;
+        }
+        return decode(bounds[0] + 1, bounds[1] - 1);
+    }
+
+    /**
+     * @param bounds bounds of a number value, may be null
+     * @return the number, or NaN if it is not a number
+     */
+    double numberValue(int[] bounds) {
+        if (bounds == null)
+            return Double.NaN;
+        try {
+            return Double.parseDouble(decode(bounds[0], bounds[1]));
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    /**
+     * @return the document between start and end with the contents of the array at arrayBounds removed
+     */
+    String withEmptyArray(int start, int end, int[] arrayBounds) {
+        int prefixLength = arrayBounds[0] + 1 - start;
+        int suffixLength = end - (arrayBounds[1] - 1);
+        byte[] bytes = new byte[prefixLength + suffixLength];
+        ByteBuffer view = buffer.duplicate();
+        view.limit(arrayBounds[0] + 1).position(start);
+        view.get(bytes, 0, prefixLength);
+        view.limit(end).position(arrayBounds[1] - 1);
+        view.get(bytes, prefixLength, suffixLength);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private String decode(int start, int end) {
+        byte[] bytes = new byte[end - start];
+        for (int i = 0; i < bytes.length; i++)
+            bytes[i] = buffer.get(start + i);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private int peek() {
+        return position < limit ? buffer.get(position) : -1;
+    }
+
+    private boolean consume(char c) {
+        if (peek() != c)
+            return false;
+        position++;
+        return true;
+    }
+
+    private void skipWhitespace() {
+        while (position < limit) {
+            byte c = buffer.get(position);
+            if (c != ' ' && c != '\n' && c != '\r' && c != '\t')
+                return;
+            position++;
+        }
+    }
+
+    private boolean skipString() {
+        if (!consume('"'))
+            return false;
+        while (position < limit) {
+            byte c = buffer.get(position++);
+            if (c == '\\')
+                position++;
+            else if (c == '"')
+                return true;
+        }
+        return false;
+    }
+
+    private boolean skipValue() {
+        int c = peek();
+        if (c == '"')
+            return skipString();
+        if (c == '{' || c == '[') {
+            int depth = 0;
+            while (position < limit) {
+                c = buffer.get(position);
+                if (c == '"') {
+                    if (!skipString())
+                        return false;
+                    continue;
+                }
+                position++;
+                if (c == '{' || c == '[')
+                    depth++;
+                else if ((c == '}' || c == ']') && --depth == 0)
+                    return true;
+            }
+            return false;
+        }
+        int valueStart = position;
+        while (position < limit) {
+            c = buffer.get(position);
+            if (c == ',' || c == '}' || c == ']' || c == ' ' || c == '\n' || c == '\r' || c == '\t')
+                break;
+            position++;
+        }
+        return position > valueStart;
+    }
+}
@@ -67,7 +67,12 @@ public class MediaReference extends SerializableObjectWithMetadata {
 
     public native TimeRange getAvailableRange();
 
-    public native void setAvailableRange(TimeRange availableRange);
+    public void setAvailableRange(TimeRange availableRange) {
+        setAvailableRangeNative(availableRange);
+        CompositionIndex.timingChanged();
+    }
+
+    private native void setAvailableRangeNative(TimeRange availableRange);
 
     public native boolean isMissingReference();
 
@@ -0,0 +1,95 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline.opentimelineio;
+
+import io.opentimeline.opentimelineio.exception.OpenTimelineIOException;
+
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Deserializes OTIO JSON whose root is a SerializableCollection by parsing each of its
+ * children on an ExecutorService.
+ * <p>
+ * The top level of the document is scanned by a JSONScanner for the bounds of the values in the
+ * "children" array, without decoding them. The collection itself is deserialized with an empty
+ * children array and each child from its own slice of the buffer, then the children are set in
+ * document order.
+ * Anything that is not such a collection, or that does not scan cleanly, is deserialized serially
+ * so that errors are reported as by the serial path.
+ */
+final class ParallelCollectionReader {
+
+    private ParallelCollectionReader() {
+    }
+
+    /**
+     * @param input    direct buffer holding the UTF-8 JSON between its position and limit
+     * @param executor runs the deserialization of the children
+     */
+    static SerializableObject read(
+            ByteBuffer input, ExecutorService executor) throws OpenTimelineIOException, InterruptedIOException {
+        JSONScanner scanner = new JSONScanner(input);
+        Map<String, int[]> members = scanner.scanObject(input.position(), input.limit());
+        String schema = members == null ? null : scanner.stringValue(members.get("OTIO_SCHEMA"));
+        int[] childrenBounds = schema != null && schema.startsWith("SerializableCollection.")
+                ? members.get("children") : null;
+        int[] bounds = scanner.scanArray(childrenBounds);
+        int childCount = bounds == null ? 0 : bounds.length / 2;
+        if (childCount < 2)
+            return SerializableObject.fromJSONBufferNative(input, input.position(), input.limit());
+
+        SerializableObject root = SerializableObject.fromJSONString(
+                scanner.withEmptyArray(input.position(), input.limit(), childrenBounds));
+        if (!(root instanceof SerializableCollection))
+            return SerializableObject.fromJSONBufferNative(input, input.position(), input.limit());
+
+        List<Callable<SerializableObject>> tasks = new ArrayList<>(childCount);
+        for (int i = 0; i < childCount; i++) {
+            int childStart = bounds[2 * i];
+            int childEnd = bounds[2 * i + 1];
+            tasks.add(() -> SerializableObject.fromJSONBufferNative(input, childStart, childEnd));
+        }
+        SerializableObject[] children = new SerializableObject[childCount];
+        try {
+            List<Future<SerializableObject>> futures = executor.invokeAll(tasks);
+            for (int i = 0; i < childCount; i++)
+                children[i] = futures.get(i).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            InterruptedIOException failure = new InterruptedIOException("interrupted while deserializing the collection");
+            closeAll(root, children, failure);
+            throw failure;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            Throwable failure = cause instanceof OpenTimelineIOException || cause instanceof RuntimeException
+                    || cause instanceof Error ? cause : new RuntimeException(cause);
+            closeAll(root, children, failure);
+            if (failure instanceof OpenTimelineIOException)
+                throw (OpenTimelineIOException) failure;
+            if (failure instanceof Error)
+                throw (Error) failure;
+            throw (RuntimeException) failure;
+        }
+        ((SerializableCollection) root).setChildren(Arrays.asList(children));
+        // the collection retains the children, their wrappers are not needed anymore
+        Wrappers.closeAll(Arrays.asList(children));
+        return root;
+    }
+
+    /* frees what was deserialized before the failure */
+    private static void closeAll(SerializableObject root, SerializableObject[] children, Throwable failure) {
+        List<SerializableObject> objects = new ArrayList<>(Arrays.asList(children));
+        objects.add(root);
+        Wrappers.closeAll(objects, failure);
+    }
+}
@@ -7,6 +7,14 @@ import io.opentimeline.OTIONative;
 import io.opentimeline.OTIOObject;
 import io.opentimeline.opentimelineio.exception.*;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+
 /**
  * Base object for things that can be [de]serialized to/from .otio files.
  */
@@ -29,35 +37,173 @@ public class SerializableObject extends OTIOObject {
 
     private native void initialize();
 
-    public native boolean toJSONFile(String fileName) throws OpenTimelineIOException;
+    /*
+     * The methods handing this object to native code that reads all of it first deserialize the
+     * children of the compositions it holds that are still deferred, see TimelineLoader.loadLazy(),
+     * so that they are not written, copied, compared or hashed as empty.
+     */
 
-    public native boolean toJSONFile(String fileName, int indent) throws OpenTimelineIOException;
+    public boolean toJSONFile(String fileName) throws OpenTimelineIOException {
+        return toJSONFile(fileName, 4);
+    }
 
-    public native String toJSONString() throws OpenTimelineIOException;
+    public boolean toJSONFile(String fileName, int indent) throws OpenTimelineIOException {
+        DeferredChildren.materializeHeldBy(this);
+        return toJSONFileNative(fileName, indent);
+    }
 
-    public native String toJSONString(int indent) throws OpenTimelineIOException;
+    private native boolean toJSONFileNative(String fileName, int indent) throws OpenTimelineIOException;
+
+    public String toJSONString() throws OpenTimelineIOException {
+        return toJSONString(4);
+    }
+
+    public String toJSONString(int indent) throws OpenTimelineIOException {
+        DeferredChildren.materializeHeldBy(this);
+        return toJSONStringNative(indent);
+    }
+
+    private native String toJSONStringNative(int indent) throws OpenTimelineIOException;
 
     public static native SerializableObject fromJSONFile(String fileName) throws OpenTimelineIOException;
 
     public static native SerializableObject fromJSONString(String input) throws OpenTimelineIOException;
 
+    /**
+     * Deserialize an OTIO JSON file like fromJSONFile(), parsing the children of a
+     * SerializableCollection at the root of the document in parallel on the common ForkJoinPool.
+     *
+     * @param fileName path to JSON file
+     * @return deserialized object, equivalent to the result of fromJSONFile()
+     */
+    public static SerializableObject fromJSONFileParallel(
+            String fileName) throws OpenTimelineIOException, IOException {
+        return fromJSONFileParallel(fileName, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Deserialize an OTIO JSON file like fromJSONFile(), parsing the children of a
+     * SerializableCollection at the root of the document in parallel on the given executor.
+     * The children are set on the collection in document order, so the result does not depend
+     * on the executor. Documents with any other root are deserialized serially.
+     * The file is memory-mapped and read in place.
+     *
+     * @param fileName path to JSON file
+     * @param executor runs the deserialization of the children
+     * @return deserialized object, equivalent to the result of fromJSONFile()
+     */
+    public static SerializableObject fromJSONFileParallel(
+            String fileName, ExecutorService executor) throws OpenTimelineIOException, IOException {
+        if (fileName == null || executor == null)
+            throw new NullPointerException();
+        try (FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE)
+                return fromJSONFile(fileName);
+            return ParallelCollectionReader.read(
+                    channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), executor);
+        }
+    }
+
+    /**
+     * Deserialize UTF-8 encoded OTIO JSON held in a ByteBuffer, between its position and limit,
+     * see fromJSONFileParallel(String, ExecutorService). Heap buffers are copied to a direct buffer first.
+     *
+     * @param input    buffer holding the JSON
+     * @param executor runs the deserialization of the children
+     * @return deserialized object
+     */
+    public static SerializableObject fromJSONBufferParallel(
+            ByteBuffer input, ExecutorService executor) throws OpenTimelineIOException, IOException {
+        if (input == null || executor == null)
+            throw new NullPointerException();
+        if (!input.isDirect()) {
+            ByteBuffer direct = ByteBuffer.allocateDirect(input.remaining());
+            direct.put(input.duplicate()).flip();
+            input = direct;
+        }
+        return ParallelCollectionReader.read(input, executor);
+    }
+
+    static native SerializableObject fromJSONBufferNative(
+            ByteBuffer input, int position, int limit) throws OpenTimelineIOException;
+
+    /**
+     * Serialize this object to the compact binary OTIO format, see Serialization.serializeBinary().
+     *
+     * @return binary OTIO document
+     */
+    public byte[] toBinary() throws OpenTimelineIOException {
+        DeferredChildren.materializeHeldBy(this);
+        return toBinaryNative();
+    }
+
+    private native byte[] toBinaryNative() throws OpenTimelineIOException;
+
+    public boolean toBinaryFile(String fileName) throws OpenTimelineIOException {
+        DeferredChildren.materializeHeldBy(this);
+        return toBinaryFileNative(fileName);
+    }
+
+    private native boolean toBinaryFileNative(String fileName) throws OpenTimelineIOException;
+
+    /**
+     * Deserialize an object from the compact binary OTIO format written by toBinary().
+     *
+     * @param input binary OTIO document
+     * @return deserialized object
+     */
+    public static native SerializableObject fromBinary(byte[] input) throws OpenTimelineIOException;
+
+    public static native SerializableObject fromBinaryFile(String fileName) throws OpenTimelineIOException;
+
     /**
      * Returns true if the contents of self and other match.
      *
      * @param serializableObject other SerializableObject
      * @return true if the contents of both match, otherwise false
      */
-    public native boolean isEquivalentTo(SerializableObject serializableObject);
+    public boolean isEquivalentTo(SerializableObject serializableObject) {
+        DeferredChildren.materializeHeldBy(this);
+        DeferredChildren.materializeHeldBy(serializableObject);
+        return isEquivalentToNative(serializableObject);
+    }
+
+    private native boolean isEquivalentToNative(SerializableObject serializableObject);
 
     /**
      * Create a deepcopy of the SerializableObject
      *
      * @return a deepcopy of the object
      */
-    public native SerializableObject deepCopy() throws OpenTimelineIOException;
+    public SerializableObject deepCopy() throws OpenTimelineIOException {
+        DeferredChildren.materializeHeldBy(this);
+        return deepCopyNative();
+    }
+
+    private native SerializableObject deepCopyNative() throws OpenTimelineIOException;
 
     public native AnyDictionary dynamicFields();
 
+    /**
+     * Structural hash of the content of this object and of everything it holds, computed natively
+     * with XXH64 from the fields of the object and the hashes of the objects it holds. Equivalent
+     * objects have the same hash, so comparing hashes rules out most non equivalent pairs without
+     * a deep comparison.
+     * <p>
+     * Hashes are memoized per native object. Modifying an object only drops the hashes of the
+     * object and of the objects holding it, so hashing a large timeline again after an edit only
+     * rehashes the path to the edited object. Unlike hashCode(), which identifies the native
+     * object, the hash is stable across deserializations and deep copies of the same content.
+     *
+     * @return 64-bit hash of the content of this object
+     */
+    public long contentHash() throws OpenTimelineIOException {
+        DeferredChildren.materializeHeldBy(this);
+        return contentHashNative();
+    }
+
+    private native long contentHashNative() throws OpenTimelineIOException;
+
     /**
      * In general, SerializableObject will have a known schema
      * but UnknownSchema subclass will redefine this property to be True
@@ -5,8 +5,20 @@ package io.opentimeline.opentimelineio;
 
 import io.opentimeline.opentimelineio.exception.OpenTimelineIOException;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Serializes the value of an Any. The children of the compositions it holds that are still
+ * deferred, see TimelineLoader.loadLazy(), are deserialized first.
+ */
 public class Serialization {
 
+    private static final int CHUNK_SIZE = 64 * 1024;
+
     /**
      * Serialize any OTIO object contained in an Any to a String.
      *
@@ -15,6 +27,7 @@ public class Serialization {
      * @return serialized OTIO object
      */
     public String serializeJSONToString(Any value, int indent) throws OpenTimelineIOException {
+        DeferredChildren.materializeHeldBy(value);
         return serializeJSONToStringNative(value, indent);
     }
 
@@ -25,6 +38,7 @@ public class Serialization {
      * @return serialized OTIO object
      */
     public String serializeJSONToString(Any value) throws OpenTimelineIOException {
+        DeferredChildren.materializeHeldBy(value);
         return serializeJSONToStringNative(value, 4);
     }
 
@@ -41,6 +55,7 @@ public class Serialization {
      */
     public boolean serializeJSONToFile(
             Any value, String fileName, int indent) throws OpenTimelineIOException {
+        DeferredChildren.materializeHeldBy(value);
         return serializeJSONToFileNative(value, fileName, indent);
     }
 
@@ -53,10 +68,129 @@ public class Serialization {
      */
     public boolean serializeJSONToFile(
             Any value, String fileName) throws OpenTimelineIOException {
+        DeferredChildren.materializeHeldBy(value);
         return serializeJSONToFileNative(value, fileName, 4);
     }
 
     private native boolean serializeJSONToFileNative(
             Any value, String fileName, int indent) throws OpenTimelineIOException ;
 
+    /**
+     * Serialize any OTIO object contained in an Any as UTF-8 encoded JSON to a channel.
+     * The JSON is copied to the channel in chunks through a direct ByteBuffer of 64 KiB owned
+     * by the call, without creating a Java String of the document.
+     * The channel is not closed.
+     *
+     * @param value   Any to be serialized
+     * @param channel channel to write the JSON to
+     * @param indent  number of spaces to use for indentation in JSON
+     */
+    public void serializeJSON(
+            Any value, WritableByteChannel channel, int indent) throws OpenTimelineIOException, IOException {
+        if (channel == null)
+            throw new NullPointerException();
+        DeferredChildren.materializeHeldBy(value);
+        long document = serializeJSONToBufferNative(value, indent);
+        try {
+            // owned by this call, so that a channel that serializes again on this thread is safe
+            ByteBuffer buffer = ByteBuffer.allocateDirect(CHUNK_SIZE);
+            long offset = 0;
+            while (true) {
+                buffer.clear();
+                int length = readJSONChunkNative(document, offset, buffer);
+                if (length == 0)
+                    break;
+                buffer.limit(length);
+                while (buffer.hasRemaining())
+                    channel.write(buffer);
+                offset += length;
+            }
+        } finally {
+            disposeJSONNative(document);
+        }
+    }
+
+    /**
+     * Serialize any OTIO object contained in an Any as UTF-8 encoded JSON to a channel
+     * with a default indent of 4.
+     *
+     * @param value   Any to be serialized
+     * @param channel channel to write the JSON to
+     */
+    public void serializeJSON(Any value, WritableByteChannel channel) throws OpenTimelineIOException, IOException {
+        serializeJSON(value, channel, 4);
+    }
+
+    /**
+     * Serialize any OTIO object contained in an Any as UTF-8 encoded JSON to an OutputStream,
+     * see serializeJSON(Any, WritableByteChannel, int).
+     * The stream is neither flushed nor closed.
+     *
+     * @param value        Any to be serialized
+     * @param outputStream stream to write the JSON to
+     * @param indent       number of spaces to use for indentation in JSON
+     */
+    public void serializeJSON(
+            Any value, OutputStream outputStream, int indent) throws OpenTimelineIOException, IOException {
+        serializeJSON(value, Channels.newChannel(outputStream), indent);
+    }
+
+    /**
+     * Serialize any OTIO object contained in an Any as UTF-8 encoded JSON to an OutputStream
+     * with a default indent of 4.
+     *
+     * @param value        Any to be serialized
+     * @param outputStream stream to write the JSON to
+     */
+    public void serializeJSON(Any value, OutputStream outputStream) throws OpenTimelineIOException, IOException {
+        serializeJSON(value, outputStream, 4);
+    }
+
+    /**
+     * Serialize any OTIO object contained in an Any to the compact binary OTIO format.
+     * RationalTimes, TimeRanges and TimeTransforms are stored as packed doubles and every
+     * string, like schema names and metadata keys, is stored once and then referred to by index.
+     * Objects are encoded from their fields, except those of schemas that are not built-in ones,
+     * like UnknownSchema, which are stored as JSON.
+     * Use Deserialization.deserializeBinary() or SerializableObject.fromBinary() to read it back.
+     *
+     * @param value Any to be serialized
+     * @return serialized OTIO object
+     */
+    public byte[] serializeBinary(Any value) throws OpenTimelineIOException {
+        DeferredChildren.materializeHeldBy(value);
+        return serializeBinaryNative(value);
+    }
+
+    private native byte[] serializeBinaryNative(Any value) throws OpenTimelineIOException;
+
+    /**
+     * Serialize any OTIO object contained in an Any to a file in the compact binary OTIO format,
+     * see serializeBinary(Any).
+     *
+     * @param value    Any to be serialized
+     * @param fileName path to file
+     * @return was the object serialized and was the file created successfully?
+     */
+    public boolean serializeBinaryToFile(Any value, String fileName) throws OpenTimelineIOException {
+        DeferredChildren.materializeHeldBy(value);
+        return serializeBinaryToFileNative(value, fileName);
+    }
+
+    private native boolean serializeBinaryToFileNative(
+            Any value, String fileName) throws OpenTimelineIOException;
+
+    /*
+     * The document is serialized once into a native buffer, returned as a handle, and then
+     * copied out chunk by chunk. The handle must be passed to disposeJSONNative() when done.
+     */
+
+    private native long serializeJSONToBufferNative(Any value, int indent) throws OpenTimelineIOException;
+
+    /**
+     * @return number of bytes copied to the start of buffer, 0 at the end of the document
+     */
+    private static native int readJSONChunkNative(long document, long offset, ByteBuffer buffer);
+
+    private static native void disposeJSONNative(long document);
 }
@@ -134,6 +134,6 @@ public class Stack extends Composition {
     }
 
     public Stream<Clip> eachClip() throws NotAChildException, ObjectWithoutDurationException, CannotComputeAvailableRangeException {
-        return this.eachChild(null);
+        return this.eachClip(null);
     }
 }
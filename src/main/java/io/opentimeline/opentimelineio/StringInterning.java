@@ -0,0 +1,197 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline.opentimelineio;
+
+import io.opentimeline.LibraryLoader;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Opt-in deduplication of the Strings read from native metadata.
+ * <p>
+ * Metadata keys and many values repeat across the items of a timeline, and every read creates a
+ * new Java String for them. When interning is enabled, the Strings returned by
+ * Any.safelyCastString(), AnyDictionary.Iterator.getKey(), the getString() accessors of
+ * AnyDictionary and AnyVector, and AnyDictionary.toJavaMap() are replaced by one shared
+ * instance per content. The keys and String values given to AnyDictionary.put() and the putters
+ * become the shared instances of their content if there is none yet.
+ * <p>
+ * The shared instances are kept in a concurrent pool of weak references, so Strings no longer
+ * used anywhere are garbage collected as usual. A native pool maps the content of the strings
+ * read from metadata to their shared instances, so reading a string again does not create a
+ * Java String at all.
+ * <p>
+ * Native storage is not affected: OTIO owns its keys and values as std::strings, whether they
+ * were deserialized or put, and a std::string longer than 15 characters always has its own
+ * allocation.
+ */
+public final class StringInterning {
+
+    static {
+        LibraryLoader.load("jotio");
+    }
+
+    // object header and fields of a String and header of its char array, on a 64-bit JVM
+    private static final int STRING_OVERHEAD = 40;
+
+    private static volatile boolean enabled = false;
+    private static final ConcurrentHashMap<WeakKey, WeakKey> pool = new ConcurrentHashMap<>();
+    private static final ReferenceQueue<String> collected = new ReferenceQueue<>();
+    private static final LongAdder hitCount = new LongAdder();
+    private static final LongAdder missCount = new LongAdder();
+    private static final LongAdder savedBytes = new LongAdder();
+
+    /**
+     * Weak reference to a pooled String, equal to the references to a String of the same content.
+     * A cleared reference is only equal to itself until it is expunged.
+     */
+    private static final class WeakKey extends WeakReference<String> {
+        private final int hash;
+
+        WeakKey(String value, ReferenceQueue<String> queue) {
+            super(value, queue);
+            this.hash = value.hashCode();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this)
+                return true;
+            if (!(obj instanceof WeakKey) || ((WeakKey) obj).hash != hash)
+                return false;
+            String value = get();
+            return value != null && value.equals(((WeakKey) obj).get());
+        }
+    }
+
+    private StringInterning() {
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enable or disable interning of Strings read from native metadata.
+     * Disabling it clears the pool, the statistics are kept.
+     */
+    public static synchronized void setEnabled(boolean enabled) {
+        StringInterning.enabled = enabled;
+        setPoolEnabled(enabled);
+        if (!enabled)
+            clear();
+    }
+
+    /**
+     * @param value String to deduplicate, may be null
+     * @return the shared instance with the content of value if interning is enabled,
+     * otherwise value
+     */
+    public static String intern(String value) {
+        if (!enabled || value == null)
+            return value;
+        WeakKey existing = pool.get(new WeakKey(value, null));
+        String shared = existing != null ? existing.get() : null;
+        if (shared != null) {
+            hit(shared);
+            return shared;
+        }
+        expunge();
+        WeakKey key = new WeakKey(value, collected);
+        while (true) {
+            WeakKey previous = pool.putIfAbsent(key, key);
+            if (previous == null) {
+                missCount.increment();
+                return value;
+            }
+            shared = previous.get();
+            if (shared != null) {
+                hit(shared);
+                return shared;
+            }
+            pool.remove(previous, previous);
+        }
+    }
+
+    private static void hit(String shared) {
+        hitCount.increment();
+        savedBytes.add(estimateSize(shared));
+    }
+
+    private static void expunge() {
+        Reference<? extends String> reference;
+        while ((reference = collected.poll()) != null)
+            pool.remove(reference, reference);
+    }
+
+    /**
+     * @return number of distinct Strings currently in the pool
+     */
+    public static int size() {
+        expunge();
+        return pool.size();
+    }
+
+    public static synchronized void clear() {
+        clearPool();
+        pool.clear();
+        expunge();
+    }
+
+    /**
+     * @return number of Strings replaced by a shared instance, or found in the native pool
+     */
+    public static long getHitCount() {
+        return hitCount.sum() + getPoolStatistics()[0];
+    }
+
+    /**
+     * @return number of Strings added to the pool
+     */
+    public static long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * Estimated memory saved so far: the total size of the duplicate Strings that were replaced by
+     * a shared instance or not created thanks to the native pool. Duplicates the caller would have
+     * dropped right away count as well, so this is an upper bound of the heap saved.
+     *
+     * @return saved bytes
+     */
+    public static long getSavedBytes() {
+        return savedBytes.sum() + getPoolStatistics()[1];
+    }
+
+    public static void resetStatistics() {
+        hitCount.reset();
+        missCount.reset();
+        savedBytes.reset();
+        resetPoolStatistics();
+    }
+
+    static long estimateSize(String value) {
+        return (STRING_OVERHEAD + 2L * value.length() + 7) & ~7L;
+    }
+
+    private static native void setPoolEnabled(boolean enabled);
+
+    private static native void clearPool();
+
+    /**
+     * @return {hits, saved bytes} of the native pool
+     */
+    private static native long[] getPoolStatistics();
+
+    private static native void resetPoolStatistics();
+}
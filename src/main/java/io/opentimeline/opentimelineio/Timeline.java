@@ -17,6 +17,9 @@ import java.util.stream.Stream;
  */
 public class Timeline extends SerializableObjectWithMetadata {
 
+    // pending children of a timeline returned by TimelineLoader.loadLazy()
+    DeferredChildren.Document deferredChildren = null;
+
     protected Timeline() {
     }
 
@@ -202,6 +205,16 @@ public class Timeline extends SerializableObjectWithMetadata {
         return this.eachClip(null);
     }
 
+    /**
+     * Free the native memory of this object. On a timeline returned by TimelineLoader.loadLazy(),
+     * this also drops the children that were not deserialized yet and releases the mapped file.
+     */
+    @Override
+    public void close() throws Exception {
+        DeferredChildren.release(this);
+        super.close();
+    }
+
     @Override
     public String toString() {
         return this.getClass().getCanonicalName() +
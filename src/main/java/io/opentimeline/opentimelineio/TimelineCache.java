@@ -0,0 +1,396 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline.opentimelineio;
+
+import io.opentimeline.opentimelineio.exception.OpenTimelineIOException;
+import io.opentimeline.opentimelineio.exception.TypeMismatchException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A cache of deserialized OTIO files, so that loading the same file again does not parse it again.
+ * <p>
+ * Each cached file is kept as one deserialized object that is never handed out. Every get()
+ * returns a deep copy of it, which the caller owns and may modify or close freely.
+ * <p>
+ * A cached object is used as long as the file has the same identity, size and modification time
+ * as when it was loaded, and optionally the same SHA-256 digest of its content. Otherwise the file
+ * is loaded again. JSON and binary OTIO files are both accepted.
+ * <p>
+ * The cache is bounded by the estimated size of the native objects it holds. The size of a cached
+ * object is estimated from the size and the format of its file. When the bound is exceeded, the
+ * least recently used objects are evicted and their native memory freed.
+ * <p>
+ * The cache is thread safe. Files are loaded and cached objects are copied outside of its lock,
+ * so loading or copying a large file does not block hits on other files. An object that is being
+ * copied is only freed once the copy is done, even if it is evicted meanwhile.
+ */
+public class TimelineCache implements AutoCloseable {
+
+    private static final byte[] BINARY_MAGIC = "OTIOBIN".getBytes(StandardCharsets.US_ASCII);
+
+    private final long maxWeight;
+    private final boolean verifyContent;
+    private final LinkedHashMap<Path, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long weight = 0;
+    private long hitCount = 0;
+    private long missCount = 0;
+    private long evictionCount = 0;
+    private long invalidationCount = 0;
+    private boolean closed = false;
+
+    private static class Entry {
+        final SerializableObject object;
+        final Object fileKey;
+        final long size;
+        final long lastModified;
+        final byte[] digest;
+        final long weight;
+        // number of copies in progress, and has the entry left the cache?
+        int pins = 0;
+        boolean dropped = false;
+
+        Entry(SerializableObject object, BasicFileAttributes attributes, byte[] digest, long weight) {
+            this.object = object;
+            this.fileKey = attributes.fileKey();
+            this.size = attributes.size();
+            this.lastModified = attributes.lastModifiedTime().toMillis();
+            this.digest = digest;
+            this.weight = weight;
+        }
+
+        boolean matches(BasicFileAttributes attributes, byte[] digest) {
+            return Objects.equals(fileKey, attributes.fileKey())
+                    && size == attributes.size()
+                    && lastModified == attributes.lastModifiedTime().toMillis()
+                    && (digest == null || Arrays.equals(this.digest, digest));
+        }
+    }
+
+    public TimelineCache() {
+        this(new TimelineCache.TimelineCacheBuilder());
+    }
+
+    public TimelineCache(TimelineCache.TimelineCacheBuilder builder) {
+        this.maxWeight = builder.maxWeight;
+        this.verifyContent = builder.verifyContent;
+    }
+
+    public static class TimelineCacheBuilder {
+        private long maxWeight = 256L * 1024 * 1024;
+        private boolean verifyContent = false;
+
+        public TimelineCacheBuilder() {
+        }
+
+        /**
+         * @param maxWeight estimated number of bytes of native memory the cached objects may use
+         * @return this builder
+         */
+        public TimelineCache.TimelineCacheBuilder setMaxWeight(long maxWeight) {
+            if (maxWeight < 0)
+                throw new IllegalArgumentException("maxWeight must not be negative");
+            this.maxWeight = maxWeight;
+            return this;
+        }
+
+        /**
+         * @param verifyContent also compare a digest of the content of a file before using its cached
+         *                      object, which reads the whole file on every get() but catches changes
+         *                      that keep the size and modification time
+         * @return this builder
+         */
+        public TimelineCache.TimelineCacheBuilder setVerifyContent(boolean verifyContent) {
+            this.verifyContent = verifyContent;
+            return this;
+        }
+
+        public TimelineCache build() {
+            return new TimelineCache(this);
+        }
+    }
+
+    /**
+     * The native objects of a deserialized file take a few times the size of its JSON,
+     * which is good enough to bound the cache. The binary format stores times as packed doubles
+     * and every string once, its files are about four times smaller than the JSON.
+     */
+    static long estimateWeight(long fileSize, boolean binary) {
+        return binary ? 8 * fileSize : 2 * fileSize;
+    }
+
+    /**
+     * Get a copy of the object held in a file, loading the file if it is not cached or has changed.
+     *
+     * @param fileName path to a JSON or binary OTIO file
+     * @return a deep copy of the object held in the file, owned by the caller
+     */
+    public SerializableObject get(String fileName) throws OpenTimelineIOException, IOException {
+        Path path = Paths.get(fileName).toRealPath();
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        byte[] digest = verifyContent ? digest(path) : null;
+        Entry hit = null;
+        SerializableObject stale = null;
+        synchronized (this) {
+            ensureOpen();
+            Entry entry = entries.get(path);
+            if (entry != null && entry.matches(attributes, digest)) {
+                hitCount++;
+                entry.pins++;
+                hit = entry;
+            } else {
+                Entry removed = remove(path);
+                if (removed != null) {
+                    invalidationCount++;
+                    stale = drop(removed);
+                }
+                missCount++;
+            }
+        }
+        if (hit != null)
+            return copy(hit);
+        if (stale != null)
+            Wrappers.close(stale);
+
+        boolean binary = isBinary(path);
+        SerializableObject object = binary
+                ? SerializableObject.fromBinaryFile(path.toString())
+                : SerializableObject.fromJSONFile(path.toString());
+        long objectWeight = estimateWeight(attributes.size(), binary);
+        List<SerializableObject> evicted = new ArrayList<>();
+        SerializableObject result;
+        try {
+            result = object.deepCopy();
+        } catch (OpenTimelineIOException | RuntimeException e) {
+            Wrappers.close(object, e);
+            throw e;
+        }
+        synchronized (this) {
+            if (closed || objectWeight > maxWeight) {
+                evicted.add(object);
+            } else {
+                Entry previous = entries.put(path, new Entry(object, attributes, digest, objectWeight));
+                if (previous != null) {
+                    // another thread loaded the same file meanwhile
+                    weight -= previous.weight;
+                    SerializableObject old = drop(previous);
+                    if (old != null)
+                        evicted.add(old);
+                }
+                weight += objectWeight;
+                evict(evicted);
+            }
+        }
+        Wrappers.closeAll(evicted);
+        return result;
+    }
+
+    /**
+     * Copy the object of a pinned entry outside of the lock, then unpin it.
+     */
+    private SerializableObject copy(Entry entry) throws OpenTimelineIOException {
+        SerializableObject result;
+        try {
+            result = entry.object.deepCopy();
+        } catch (OpenTimelineIOException | RuntimeException e) {
+            if (unpin(entry))
+                Wrappers.close(entry.object, e);
+            throw e;
+        }
+        if (unpin(entry))
+            Wrappers.close(entry.object);
+        return result;
+    }
+
+    /**
+     * @return was the entry dropped while it was pinned, its object is then closed by the caller
+     */
+    private synchronized boolean unpin(Entry entry) {
+        return --entry.pins == 0 && entry.dropped;
+    }
+
+    /**
+     * Get a copy of the Timeline held in a file, see get().
+     *
+     * @param fileName path to a JSON or binary OTIO file
+     * @return a deep copy of the Timeline held in the file, owned by the caller
+     */
+    public Timeline getTimeline(String fileName) throws OpenTimelineIOException, IOException {
+        SerializableObject object = get(fileName);
+        if (!(object instanceof Timeline)) {
+            TypeMismatchException failure = new TypeMismatchException(fileName + " does not hold a Timeline");
+            Wrappers.close(object, failure);
+            throw failure;
+        }
+        return (Timeline) object;
+    }
+
+    /**
+     * Drop the cached object of a file, if any.
+     *
+     * @param fileName path to the file
+     */
+    public void invalidate(String fileName) throws IOException {
+        Path path = Paths.get(fileName).toRealPath();
+        SerializableObject object = null;
+        synchronized (this) {
+            Entry entry = remove(path);
+            if (entry != null) {
+                invalidationCount++;
+                object = drop(entry);
+            }
+        }
+        if (object != null)
+            Wrappers.close(object);
+    }
+
+    /**
+     * Drop all the cached objects.
+     */
+    public void invalidateAll() {
+        List<SerializableObject> removed = new ArrayList<>();
+        synchronized (this) {
+            for (Entry entry : entries.values()) {
+                SerializableObject object = drop(entry);
+                if (object != null)
+                    removed.add(object);
+            }
+            invalidationCount += entries.size();
+            entries.clear();
+            weight = 0;
+        }
+        Wrappers.closeAll(removed);
+    }
+
+    /**
+     * Drop all the cached objects, the cache can not be used afterwards.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            closed = true;
+        }
+        invalidateAll();
+    }
+
+    /**
+     * @return number of cached files
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return estimated number of bytes of native memory used by the cached objects
+     */
+    public synchronized long getWeight() {
+        return weight;
+    }
+
+    /**
+     * @return number of get() calls that used a cached object
+     */
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * @return number of get() calls that loaded the file
+     */
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * @return number of cached objects dropped to stay within the maximum weight
+     */
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * @return number of cached objects dropped because their file changed or by invalidate()
+     */
+    public synchronized long getInvalidationCount() {
+        return invalidationCount;
+    }
+
+    private void ensureOpen() {
+        if (closed)
+            throw new IllegalStateException("the cache is closed");
+    }
+
+    private Entry remove(Path path) {
+        Entry entry = entries.remove(path);
+        if (entry != null)
+            weight -= entry.weight;
+        return entry;
+    }
+
+    /**
+     * Mark an entry that left the cache as dropped, with the lock held.
+     *
+     * @return the object of the entry to close once the lock is released,
+     * or null if a copy of it is in progress, which then closes it
+     */
+    private static SerializableObject drop(Entry entry) {
+        entry.dropped = true;
+        return entry.pins == 0 ? entry.object : null;
+    }
+
+    private void evict(List<SerializableObject> evicted) {
+        Iterator<Map.Entry<Path, Entry>> iterator = entries.entrySet().iterator();
+        while (weight > maxWeight && iterator.hasNext()) {
+            Entry entry = iterator.next().getValue();
+            iterator.remove();
+            weight -= entry.weight;
+            evictionCount++;
+            SerializableObject object = drop(entry);
+            if (object != null)
+                evicted.add(object);
+        }
+    }
+
+    private static boolean isBinary(Path path) throws IOException {
+        byte[] magic = new byte[BINARY_MAGIC.length];
+        int read = 0;
+        try (InputStream input = Files.newInputStream(path)) {
+            int n;
+            while (read < magic.length && (n = input.read(magic, read, magic.length - read)) > 0)
+                read += n;
+        }
+        return read == magic.length && Arrays.equals(magic, BINARY_MAGIC);
+    }
+
+    private static byte[] digest(Path path) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        byte[] buffer = new byte[64 * 1024];
+        try (InputStream input = Files.newInputStream(path)) {
+            int n;
+            while ((n = input.read(buffer)) > 0)
+                digest.update(buffer, 0, n);
+        }
+        return digest.digest();
+    }
+}
@@ -0,0 +1,229 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline.opentimelineio;
+
+import io.opentimeline.opentimelineio.exception.OpenTimelineIOException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Computes the edits that turn one Timeline into another.
+ * <p>
+ * The children of the stacks of both timelines, and recursively of the compositions matched
+ * between them, are aligned by identity: their schema, name and media reference URL. Children
+ * with the same identity are matched in order. Unmatched children are deleted or inserted, and
+ * matched children that are not in the longest run keeping their relative order are moved.
+ * Matched children whose content differs are reported by what changed: source range or
+ * transition offsets (TRIM), effects (RETIME), metadata (METADATA_CHANGE), or anything else
+ * but their children (MODIFY). Matched compositions with different children are then diffed in
+ * turn. Changes of the timelines themselves and of their stacks are reported first, the same way.
+ * <p>
+ * The whole diff runs natively in one call. Children are fingerprinted by the memoized content
+ * hashes of SerializableObject.contentHash(), so the fingerprint of a composition is built from
+ * the hashes of its children, and subtrees with the same hash are skipped. The alignment takes
+ * O(n log n) in the number of children of a composition.
+ */
+public class TimelineDiff {
+
+    // layout of the records returned by diffNative(): {type, pair, indexA, indexB}
+    static final int RECORD_SIZE = 4;
+    // record types, the ordinals of EditType
+    static final int INSERT = 0;
+    static final int DELETE = 1;
+    static final int MOVE = 2;
+    static final int TRIM = 3;
+    static final int RETIME = 4;
+    static final int METADATA_CHANGE = 5;
+    static final int MODIFY = 6;
+    // record defining the next pair of compositions, the children at indexA and indexB of pair
+    static final int NESTED = -1;
+    // pair of the stacks, the pair of the first nested record is 1
+    static final int STACK_PAIR = 0;
+    // pair of the edits of the timelines (indexes -1) and of their stacks (indexes 0)
+    static final int ROOT_PAIR = -1;
+
+    public enum EditType {
+        /** child of parentB at indexB has no match in parentA */
+        INSERT,
+        /** child of parentA at indexA has no match in parentB */
+        DELETE,
+        /** matched child changed its position relative to the other children */
+        MOVE,
+        /** source range of an item, or offsets of a transition, changed */
+        TRIM,
+        /** effects of an item, like time warps, changed */
+        RETIME,
+        /** metadata changed */
+        METADATA_CHANGE,
+        /** any other content changed */
+        MODIFY
+    }
+
+    public static class Edit {
+        private final EditType type;
+        private final Composition parentA;
+        private final Composition parentB;
+        private final int indexA;
+        private final int indexB;
+        private final Composable itemA;
+        private final Composable itemB;
+
+        Edit(EditType type,
+             Composition parentA, int indexA, Composable itemA,
+             Composition parentB, int indexB, Composable itemB) {
+            this.type = type;
+            this.parentA = parentA;
+            this.indexA = indexA;
+            this.itemA = itemA;
+            this.parentB = parentB;
+            this.indexB = indexB;
+            this.itemB = itemB;
+        }
+
+        public EditType getType() {
+            return type;
+        }
+
+        /**
+         * @return composition of the first timeline holding the child, null for INSERT and the
+         * edits of the timelines and their stacks
+         */
+        public Composition getParentA() {
+            return parentA;
+        }
+
+        /**
+         * @return composition of the second timeline holding the child, null for DELETE and the
+         * edits of the timelines and their stacks
+         */
+        public Composition getParentB() {
+            return parentB;
+        }
+
+        /**
+         * @return index of the child in parentA, -1 for INSERT and the edits of the timelines and
+         * their stacks
+         */
+        public int getIndexA() {
+            return indexA;
+        }
+
+        /**
+         * @return index of the child in parentB, -1 for DELETE and the edits of the timelines and
+         * their stacks
+         */
+        public int getIndexB() {
+            return indexB;
+        }
+
+        /**
+         * @return the child in the first timeline, or its stack, null for INSERT and the edits of
+         * the timelines
+         */
+        public Composable getItemA() {
+            return itemA;
+        }
+
+        /**
+         * @return the child in the second timeline, or its stack, null for DELETE and the edits of
+         * the timelines
+         */
+        public Composable getItemB() {
+            return itemB;
+        }
+
+        @Override
+        public String toString() {
+            return this.getClass().getCanonicalName() +
+                    "(type=" + type +
+                    ", indexA=" + indexA +
+                    ", indexB=" + indexB +
+                    ", name=" + (itemB != null ? itemB.getName() : itemA != null ? itemA.getName() : null) +
+                    ")";
+        }
+    }
+
+    /**
+     * Compositions matched between the timelines, with their children once needed.
+     */
+    private static class Pair {
+        private final Composition a;
+        private final Composition b;
+        private List<Composable> childrenA;
+        private List<Composable> childrenB;
+
+        Pair(Composition a, Composition b) {
+            this.a = a;
+            this.b = b;
+        }
+
+        Composable childA(int index) {
+            if (childrenA == null)
+                childrenA = a.getChildren();
+            return childrenA.get(index);
+        }
+
+        Composable childB(int index) {
+            if (childrenB == null)
+                childrenB = b.getChildren();
+            return childrenB.get(index);
+        }
+    }
+
+    private TimelineDiff() {
+    }
+
+    /**
+     * Compute the edits that turn timeline a into timeline b.
+     * Edits of the timelines and of their stacks come first. Then edits are listed composition
+     * by composition, starting with the stacks: deletes, inserts and moves by index, then the
+     * changes of the matched children in the order of a.
+     *
+     * @param a first timeline
+     * @param b second timeline
+     * @return edit script, empty if both timelines have the same content
+     */
+    public static List<Edit> compute(Timeline a, Timeline b) throws OpenTimelineIOException {
+        Stack stackA = a.getTracks();
+        Stack stackB = b.getTracks();
+        // lazily loaded timelines are compared in full
+        DeferredChildren.materializeSubtree(stackA);
+        DeferredChildren.materializeSubtree(stackB);
+        int[] records = diffNative(a, b);
+        List<Edit> edits = new ArrayList<>(records.length / RECORD_SIZE);
+        List<Pair> pairs = new ArrayList<>();
+        pairs.add(new Pair(stackA, stackB));
+        EditType[] types = EditType.values();
+        for (int r = 0; r < records.length; r += RECORD_SIZE) {
+            int type = records[r];
+            int indexA = records[r + 2];
+            int indexB = records[r + 3];
+            if (records[r + 1] == ROOT_PAIR) {
+                boolean stacks = indexA == 0;
+                edits.add(new Edit(types[type], null, -1, stacks ? stackA : null,
+                        null, -1, stacks ? stackB : null));
+                continue;
+            }
+            Pair pair = pairs.get(records[r + 1]);
+            if (type == NESTED) {
+                pairs.add(new Pair((Composition) pair.childA(indexA), (Composition) pair.childB(indexB)));
+            } else if (type == INSERT) {
+                edits.add(new Edit(types[type], null, -1, null, pair.b, indexB, pair.childB(indexB)));
+            } else if (type == DELETE) {
+                edits.add(new Edit(types[type], pair.a, indexA, pair.childA(indexA), null, -1, null));
+            } else {
+                edits.add(new Edit(types[type], pair.a, indexA, pair.childA(indexA),
+                        pair.b, indexB, pair.childB(indexB)));
+            }
+        }
+        return edits;
+    }
+
+    /**
+     * @return records of RECORD_SIZE ints, NESTED ones defining the pairs the following records
+     * refer to, or an empty array if both timelines have the same content
+     */
+    private static native int[] diffNative(Timeline a, Timeline b) throws OpenTimelineIOException;
+}
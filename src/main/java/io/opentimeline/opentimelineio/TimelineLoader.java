@@ -0,0 +1,291 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline.opentimelineio;
+
+import io.opentimeline.opentime.RationalTime;
+import io.opentimeline.opentime.TimeRange;
+import io.opentimeline.opentimelineio.exception.OpenTimelineIOException;
+import io.opentimeline.opentimelineio.exception.TypeMismatchException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Loads the parts of a Timeline JSON file that are needed, instead of the whole document.
+ * <p>
+ * The file is memory-mapped and its structure is scanned without decoding it. The timeline, its
+ * stack and the tracks are deserialized without their children, tracks that are not wanted are
+ * never parsed. The children of the tracks are then either deferred until they are accessed,
+ * see loadLazy(), or deserialized only where they overlap a time window, see loadTimeline().
+ * Documents that are not laid out as written by OTIO are deserialized in full, only filtering
+ * their tracks.
+ */
+public class TimelineLoader {
+
+    /**
+     * Load the skeleton of a timeline: the timeline, its stack and the tracks without their children.
+     * The children of a track are deserialized the first time they are accessed through
+     * Composition.getChildren(), eachChild(), getRangeOfChild() or getRangesOfChildren(), or any
+     * method built on them, like getChildAtTime() or a CompositionIndex. The ranges of the tracks
+     * in the stack deserialize the children of every track.
+     * Serializing, copying, comparing or hashing the timeline, or an object holding it,
+     * deserializes the deferred children first. Other native methods that use the children of a
+     * track, like getDuration(), do not see deferred children, call materialize() on the timeline
+     * before using them.
+     * <p>
+     * The deferred children belong to the returned Timeline object, which keeps the mapped file
+     * and the tracks alive. Closing it, or dropping it, releases them, and the tracks that were
+     * not accessed stay empty in any other Java object of the timeline.
+     *
+     * @param fileName path to the timeline JSON file
+     * @return the skeleton of the timeline
+     */
+    public Timeline loadLazy(String fileName) throws OpenTimelineIOException, IOException {
+        return loadLazy(fileName, null);
+    }
+
+    /**
+     * Load the skeleton of a timeline with only the tracks of the kinds accepted by trackKindFilter,
+     * see loadLazy(String).
+     *
+     * @param fileName        path to the timeline JSON file
+     * @param trackKindFilter accepts the kinds of the tracks to load, like Track.Kind.video, or null for all tracks
+     * @return the skeleton of the timeline
+     */
+    public Timeline loadLazy(
+            String fileName, Predicate<String> trackKindFilter) throws OpenTimelineIOException, IOException {
+        return load(map(fileName), trackKindFilter, null, true);
+    }
+
+    /**
+     * Load a timeline with only the tracks of the kinds accepted by trackKindFilter and only the
+     * children of those tracks that overlap window.
+     * Runs of children outside the window are replaced by a Gap of the same duration, so the
+     * children that are loaded keep their range in the track and the tracks keep their duration.
+     * Transitions are loaded when their own range overlaps the window.
+     * Only the source range of the children outside the window is parsed, or the whole child
+     * when it has no source range.
+     *
+     * @param fileName        path to the timeline JSON file
+     * @param trackKindFilter accepts the kinds of the tracks to load, like Track.Kind.video, or null for all tracks
+     * @param window          range in the time of the tracks, or null to load all the children
+     * @return the filtered timeline
+     */
+    public Timeline loadTimeline(
+            String fileName, Predicate<String> trackKindFilter, TimeRange window) throws OpenTimelineIOException, IOException {
+        return load(map(fileName), trackKindFilter, window, false);
+    }
+
+    /**
+     * @param composition composition of a timeline returned by loadLazy()
+     * @return are the children of the composition not deserialized yet?
+     */
+    public boolean hasDeferredChildren(Composition composition) {
+        return DeferredChildren.isDeferred(composition);
+    }
+
+    /**
+     * Deserialize all the deferred children of a timeline returned by loadLazy().
+     *
+     * @param timeline timeline returned by loadLazy()
+     */
+    public void materialize(Timeline timeline) {
+        DeferredChildren.materializeSubtree(timeline.getTracks());
+    }
+
+    /**
+     * Drop the deferred children of a timeline returned by loadLazy(), its tracks that were not
+     * accessed stay empty. Closing the timeline also releases the mapped file.
+     *
+     * @param timeline timeline returned by loadLazy()
+     */
+    public void discardDeferredChildren(Timeline timeline) {
+        DeferredChildren.discardSubtree(timeline.getTracks());
+    }
+
+    private static ByteBuffer map(String fileName) throws IOException {
+        if (fileName == null)
+            throw new NullPointerException();
+        try (FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE)
+                throw new IOException(fileName + " is too large to be memory-mapped");
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    private static boolean hasSchema(JSONScanner scanner, Map<String, int[]> members, String schemaName) {
+        if (members == null)
+            return false;
+        String schema = scanner.stringValue(members.get("OTIO_SCHEMA"));
+        return schema != null && schema.startsWith(schemaName + ".");
+    }
+
+    private static Timeline load(
+            ByteBuffer buffer, Predicate<String> trackKindFilter, TimeRange window, boolean lazy) throws OpenTimelineIOException {
+        JSONScanner scanner = new JSONScanner(buffer);
+        int start = buffer.position();
+        int end = buffer.limit();
+        Map<String, int[]> timelineMembers = scanner.scanObject(start, end);
+        int[] stackBounds = hasSchema(scanner, timelineMembers, "Timeline") ? timelineMembers.get("tracks") : null;
+        Map<String, int[]> stackMembers = stackBounds == null ? null : scanner.scanObject(stackBounds[0], stackBounds[1]);
+        int[] stackChildren = hasSchema(scanner, stackMembers, "Stack") ? stackMembers.get("children") : null;
+        int[] trackBounds = scanner.scanArray(stackChildren);
+        if (trackBounds == null)
+            return loadFully(buffer, trackKindFilter);
+
+        Timeline timeline = (Timeline) SerializableObject.fromJSONString(
+                scanner.withEmptyArray(start, end, stackChildren));
+        DeferredChildren.Document document = null;
+        if (lazy) {
+            document = new DeferredChildren.Document(timeline, buffer);
+            timeline.deferredChildren = document;
+        }
+        List<Composable> tracks = new ArrayList<>();
+        for (int i = 0; i < trackBounds.length; i += 2) {
+            Composable track = loadStackChild(
+                    scanner, buffer, trackBounds[i], trackBounds[i + 1], trackKindFilter, window, document);
+            if (track != null)
+                tracks.add(track);
+        }
+        Stack stack = timeline.getTracks();
+        stack.setChildren(tracks);
+        return timeline;
+    }
+
+    private static Timeline loadFully(
+            ByteBuffer buffer, Predicate<String> trackKindFilter) throws OpenTimelineIOException {
+        SerializableObject result = SerializableObject.fromJSONBufferNative(buffer, buffer.position(), buffer.limit());
+        if (!(result instanceof Timeline))
+            throw new TypeMismatchException("the document does not hold a Timeline");
+        Timeline timeline = (Timeline) result;
+        if (trackKindFilter != null) {
+            Stack stack = timeline.getTracks();
+            List<Composable> tracks = new ArrayList<>();
+            for (Composable child : stack.getChildren()) {
+                if (child instanceof Track && trackKindFilter.test(((Track) child).getKind()))
+                    tracks.add(child);
+            }
+            stack.clearChildren();
+            stack.setChildren(tracks);
+        }
+        return timeline;
+    }
+
+    private static Composable loadStackChild(
+            JSONScanner scanner, ByteBuffer buffer, int start, int end,
+            Predicate<String> trackKindFilter, TimeRange window,
+            DeferredChildren.Document document) throws OpenTimelineIOException {
+        Map<String, int[]> members = scanner.scanObject(start, end);
+        int[] childrenBounds = hasSchema(scanner, members, "Track") ? members.get("children") : null;
+        int[] childBounds = scanner.scanArray(childrenBounds);
+        if (childBounds == null) {
+            // other compositions of the stack have no kind, they are only kept when loading all kinds
+            return trackKindFilter == null
+                    ? (Composable) SerializableObject.fromJSONBufferNative(buffer, start, end) : null;
+        }
+        if (trackKindFilter != null && !trackKindFilter.test(scanner.stringValue(members.get("kind"))))
+            return null;
+        Track track = (Track) SerializableObject.fromJSONString(scanner.withEmptyArray(start, end, childrenBounds));
+        if (document != null)
+            DeferredChildren.defer(document, track, childBounds);
+        else
+            DeferredChildren.adoptChildren(track, loadChildren(scanner, buffer, childBounds, window));
+        return track;
+    }
+
+    private static List<Composable> loadChildren(
+            JSONScanner scanner, ByteBuffer buffer, int[] bounds, TimeRange window) throws OpenTimelineIOException {
+        List<Composable> children = new ArrayList<>();
+        if (window == null) {
+            for (int i = 0; i < bounds.length; i += 2)
+                children.add((Composable) SerializableObject.fromJSONBufferNative(buffer, bounds[i], bounds[i + 1]));
+            return children;
+        }
+        double windowStart = window.getStartTime().toSeconds();
+        double windowEnd = window.endTimeExclusive().toSeconds();
+        // start of the next child in the track and duration of the children skipped since the last one kept
+        RationalTime position = null;
+        RationalTime skipped = null;
+        for (int i = 0; i < bounds.length; i += 2) {
+            Map<String, int[]> members = scanner.scanObject(bounds[i], bounds[i + 1]);
+            Composable child = null;
+            if (hasSchema(scanner, members, "Transition")) {
+                // transitions take no time in the track, they overlap their neighbours
+                Transition transition = (Transition) SerializableObject.fromJSONBufferNative(
+                        buffer, bounds[i], bounds[i + 1]);
+                double at = position == null ? 0 : position.toSeconds();
+                if (overlaps(at - transition.getInOffset().toSeconds(),
+                        at + transition.getOutOffset().toSeconds(), windowStart, windowEnd)) {
+                    if (skipped != null)
+                        children.add(gap(skipped));
+                    skipped = null;
+                    children.add(transition);
+                } else {
+                    Wrappers.close(transition);
+                }
+                continue;
+            }
+            RationalTime duration = sourceRangeDuration(scanner, members);
+            if (duration == null) {
+                child = (Composable) SerializableObject.fromJSONBufferNative(buffer, bounds[i], bounds[i + 1]);
+                duration = ((Item) child).getDuration();
+            }
+            RationalTime childStart = position == null ? new RationalTime(0, duration.getRate()) : position;
+            RationalTime childEnd = childStart.add(duration);
+            if (overlaps(childStart.toSeconds(), childEnd.toSeconds(), windowStart, windowEnd)) {
+                if (skipped != null)
+                    children.add(gap(skipped));
+                skipped = null;
+                children.add(child != null ? child
+                        : (Composable) SerializableObject.fromJSONBufferNative(buffer, bounds[i], bounds[i + 1]));
+            } else {
+                skipped = skipped == null ? duration : skipped.add(duration);
+                if (child != null)
+                    Wrappers.close(child);
+            }
+            position = childEnd;
+        }
+        if (skipped != null)
+            children.add(gap(skipped));
+        return children;
+    }
+
+    private static boolean overlaps(double start, double end, double windowStart, double windowEnd) {
+        if (start == end)
+            return start >= windowStart && start < windowEnd;
+        return start < windowEnd && end > windowStart;
+    }
+
+    /**
+     * @return the duration of the source_range of a child, or null if it has none
+     */
+    private static RationalTime sourceRangeDuration(JSONScanner scanner, Map<String, int[]> members) {
+        int[] sourceRange = members == null ? null : members.get("source_range");
+        Map<String, int[]> rangeMembers = sourceRange == null ? null : scanner.scanObject(sourceRange[0], sourceRange[1]);
+        if (!hasSchema(scanner, rangeMembers, "TimeRange"))
+            return null;
+        int[] duration = rangeMembers.get("duration");
+        Map<String, int[]> durationMembers = duration == null ? null : scanner.scanObject(duration[0], duration[1]);
+        if (!hasSchema(scanner, durationMembers, "RationalTime"))
+            return null;
+        double value = scanner.numberValue(durationMembers.get("value"));
+        double rate = scanner.numberValue(durationMembers.get("rate"));
+        if (Double.isNaN(value) || Double.isNaN(rate))
+            return null;
+        return new RationalTime(value, rate);
+    }
+
+    private static Gap gap(RationalTime duration) {
+        return new Gap.GapBuilder()
+                .setSourceRange(new TimeRange(new RationalTime(0, duration.getRate()), duration))
+                .build();
+    }
+}
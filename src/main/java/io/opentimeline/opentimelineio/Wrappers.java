@@ -0,0 +1,74 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline.opentimelineio;
+
+import io.opentimeline.OTIOObject;
+
+import java.util.Collections;
+
+/**
+ * Closes the Java objects of native objects that are retained elsewhere, like children set on
+ * their parent, whose wrappers are not needed anymore.
+ * <p>
+ * Every object is closed even if closing another one fails. The first failure is kept, with the
+ * later ones suppressed, and either thrown or, when the caller is already failing, added to the
+ * caller's exception as suppressed.
+ */
+final class Wrappers {
+
+    private Wrappers() {
+    }
+
+    /**
+     * Close objects, null ones are skipped.
+     *
+     * @throws IllegalStateException if closing an object fails with a checked exception
+     */
+    static void closeAll(Iterable<? extends OTIOObject> objects) {
+        Exception failure = closeEach(objects);
+        if (failure instanceof RuntimeException)
+            throw (RuntimeException) failure;
+        if (failure != null)
+            throw new IllegalStateException("cannot close a native object", failure);
+    }
+
+    static void close(OTIOObject object) {
+        closeAll(Collections.singletonList(object));
+    }
+
+    /**
+     * Close objects on a failure path of the caller, null ones are skipped.
+     *
+     * @param failure exception the caller is about to throw, which gets the failures to close as suppressed
+     */
+    static void closeAll(Iterable<? extends OTIOObject> objects, Throwable failure) {
+        Exception closeFailure = closeEach(objects);
+        if (closeFailure != null)
+            failure.addSuppressed(closeFailure);
+    }
+
+    static void close(OTIOObject object, Throwable failure) {
+        closeAll(Collections.singletonList(object), failure);
+    }
+
+    /**
+     * @return the first exception thrown by close(), with the later ones suppressed, or null
+     */
+    private static Exception closeEach(Iterable<? extends OTIOObject> objects) {
+        Exception failure = null;
+        for (OTIOObject object : objects) {
+            if (object == null)
+                continue;
+            try {
+                object.close();
+            } catch (Exception e) {
+                if (failure == null)
+                    failure = e;
+                else
+                    failure.addSuppressed(e);
+            }
+        }
+        return failure;
+    }
+}
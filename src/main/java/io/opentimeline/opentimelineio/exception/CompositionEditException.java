@@ -0,0 +1,27 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline.opentimelineio.exception;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Thrown when a CompositionEditBatch cannot be applied. None of its operations were applied.
+ */
+public class CompositionEditException extends OpenTimelineIOException {
+
+    private final Map<Integer, String> failures;
+
+    public CompositionEditException(String message, Map<Integer, String> failures) {
+        super(message);
+        this.failures = Collections.unmodifiableMap(failures);
+    }
+
+    /**
+     * @return reason of each failed operation, by index of the operation in the batch
+     */
+    public Map<Integer, String> getFailures() {
+        return failures;
+    }
+}
@@ -0,0 +1,69 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline;
+
+import java.lang.ref.Cleaner;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * java.lang.ref.Cleaner based lifecycle backend for internal use of the library.
+ * <p>
+ * Every OTIONative is registered with a single shared Cleaner together with a Disposer
+ * that only holds the native handle and the class code of the object.
+ * The Cleaner keeps track of its registrations itself, so the OTIOFactory needs no registry
+ * and native memory is freed on the Cleaner's thread as soon as the object is Garbage Collected.
+ */
+final class OTIOCleaner {
+
+    private static final Cleaner cleaner = Cleaner.create(runnable -> {
+        Thread thread = new Thread(runnable, "otio-cleaner");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final AtomicLong disposedCount = new AtomicLong();
+
+    // must not reference the OTIONative, otherwise it would never become phantom reachable
+    private static final class Disposer implements Runnable {
+        private final long nativeHandle;
+        private final int classCode;
+
+        private Disposer(long nativeHandle, int classCode) {
+            this.nativeHandle = nativeHandle;
+            this.classCode = classCode;
+        }
+
+        @Override
+        public void run() {
+            try {
+                OTIONative.disposeNativeObject(nativeHandle, classCode);
+                disposedCount.incrementAndGet();
+            } catch (Exception e) {
+                System.out.println("Couldn't dispose native object.");
+            }
+        }
+    }
+
+    private OTIOCleaner() {
+    }
+
+    static boolean isSupported() {
+        return true;
+    }
+
+    static Object register(OTIONative otioNative, int classCode) {
+        return cleaner.register(otioNative, new Disposer(otioNative.nativeHandle, classCode));
+    }
+
+    static void clean(Object cleanable) {
+        ((Cleaner.Cleanable) cleanable).clean();
+    }
+
+    /**
+     * @return number of native objects freed through the Cleaner so far
+     */
+    static long getDisposedCount() {
+        return disposedCount.get();
+    }
+}
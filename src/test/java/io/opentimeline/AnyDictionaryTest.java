@@ -0,0 +1,185 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline;
+
+import io.opentimeline.opentime.RationalTime;
+import io.opentimeline.opentime.TimeRange;
+import io.opentimeline.opentime.TimeTransform;
+import io.opentimeline.opentimelineio.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AnyDictionaryTest {
+
+    @Test
+    public void testToJavaMap() {
+        AnyVector takes = new AnyVector();
+        takes.add(new Any(1));
+        takes.add(new Any("two"));
+        AnyDictionary camera = new AnyDictionary();
+        camera.put("iso", new Any(800));
+        camera.put("takes", new Any(takes));
+        Clip clip = new Clip.ClipBuilder().setName("plate").build();
+        AnyDictionary metadata = new AnyDictionary();
+        metadata.put("flag", new Any(true));
+        metadata.put("frames", new Any(1L << 40));
+        metadata.put("gain", new Any(0.5));
+        metadata.put("note", new Any("héllo"));
+        metadata.put("time", new Any(new RationalTime(12, 24)));
+        metadata.put("range", new Any(new TimeRange(new RationalTime(1, 24), new RationalTime(48, 24))));
+        metadata.put("transform", new Any(new TimeTransform(new RationalTime(2, 24), 2, 24)));
+        metadata.put("camera", new Any(camera));
+        metadata.put("clip", new Any(clip));
+
+        Map<String, Object> map = metadata.toJavaMap();
+        assertEquals(9, map.size());
+        assertEquals(true, map.get("flag"));
+        assertEquals(1L << 40, map.get("frames"));
+        assertEquals(0.5, map.get("gain"));
+        assertEquals("héllo", map.get("note"));
+        assertEquals(new RationalTime(12, 24), map.get("time"));
+        assertEquals(new TimeRange(new RationalTime(1, 24), new RationalTime(48, 24)), map.get("range"));
+        TimeTransform transform = (TimeTransform) map.get("transform");
+        assertEquals(new RationalTime(2, 24), transform.getOffset());
+        assertEquals(2, transform.getScale());
+        Map<?, ?> cameraMap = (Map<?, ?>) map.get("camera");
+        assertEquals(800, cameraMap.get("iso"));
+        assertEquals(Arrays.asList(1, "two"), cameraMap.get("takes"));
+        Clip clipValue = (Clip) map.get("clip");
+        assertEquals("plate", clipValue.getName());
+        assertTrue(clipValue.isEquivalentTo(clip));
+        try {
+            takes.close();
+            camera.close();
+            clip.close();
+            clipValue.close();
+            metadata.close();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    public void testPutAllFromJava() {
+        Gap gap = new Gap.GapBuilder().setName("filler").build();
+        Map<String, Object> nested = new LinkedHashMap<>();
+        nested.put("list", Arrays.asList(1, 2.5f, null, "x"));
+        nested.put("gap", gap);
+        Map<String, Object> values = new HashMap<>();
+        values.put("count", 3);
+        values.put("big", Long.MAX_VALUE);
+        values.put("time", new RationalTime(5, 30));
+        values.put("any", new Any("wrapped"));
+        values.put("nested", nested);
+
+        AnyDictionary dictionary = new AnyDictionary();
+        dictionary.put("count", new Any(1));
+        dictionary.put("kept", new Any("yes"));
+        dictionary.putAllFromJava(values);
+        assertEquals(6, dictionary.size());
+        assertEquals(3, dictionary.get("count").safelyCastInt());
+        assertEquals("yes", dictionary.get("kept").safelyCastString());
+        assertEquals(Long.MAX_VALUE, dictionary.get("big").safelyCastLong());
+        assertEquals(new RationalTime(5, 30), dictionary.get("time").safelyCastRationalTime());
+        assertEquals("wrapped", dictionary.get("any").safelyCastString());
+        AnyDictionary nestedDictionary = dictionary.get("nested").safelyCastAnyDictionary();
+        assertEquals("filler", ((Gap) nestedDictionary.get("gap").safelyCastSerializableObject()).getName());
+        AnyVector list = nestedDictionary.get("list").safelyCastAnyVector();
+        assertEquals(4, list.size());
+        assertEquals(2.5, list.get(1).safelyCastDouble());
+
+        // round trip
+        Map<String, Object> snapshot = dictionary.toJavaMap();
+        AnyDictionary copy = new AnyDictionary();
+        copy.putAllFromJava(snapshot);
+        assertEquals(snapshot.keySet(), copy.toJavaMap().keySet());
+        assertEquals(((Map<?, ?>) snapshot.get("nested")).get("list"),
+                ((Map<?, ?>) copy.toJavaMap().get("nested")).get("list"));
+        assertEquals(copy.get("big").safelyCastLong(), Long.MAX_VALUE);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> dictionary.putAllFromJava(Collections.singletonMap("bad", new Object())));
+        assertEquals(6, dictionary.size());
+        try {
+            gap.close();
+            dictionary.close();
+            copy.close();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    public void testEmpty() {
+        AnyDictionary dictionary = new AnyDictionary();
+        assertTrue(dictionary.toJavaMap().isEmpty());
+        dictionary.putAllFromJava(new HashMap<String, Object>());
+        assertEquals(0, dictionary.size());
+        List<Object> empty = Collections.emptyList();
+        Map<String, Object> values = new HashMap<>();
+        values.put("empty", empty);
+        dictionary.putAllFromJava(values);
+        assertEquals(0, dictionary.get("empty").safelyCastAnyVector().size());
+        try {
+            dictionary.close();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    public void testTypedAccessors() {
+        AnyDictionary metadata = new AnyDictionary();
+        metadata.putDouble("fps", 23.976);
+        metadata.putInt("reel", 12);
+        metadata.putLong("frames", 1L << 40);
+        metadata.putBoolean("approved", true);
+        metadata.putString("camera", "A");
+        metadata.putRationalTime("offset", new RationalTime(86400, 24));
+        metadata.putTimeRange("handles", new TimeRange(new RationalTime(-8, 24), new RationalTime(16, 24)));
+
+        assertEquals(23.976, metadata.getDouble("fps", 24));
+        assertEquals(12, metadata.getInt("reel", 0));
+        assertEquals(12L, metadata.getLong("reel", 0));
+        assertEquals(12.0, metadata.getDouble("reel", 0));
+        assertEquals(1L << 40, metadata.getLong("frames", 0));
+        assertTrue(metadata.getBoolean("approved", false));
+        assertEquals("A", metadata.getString("camera", null));
+        assertEquals(new RationalTime(86400, 24), metadata.getRationalTime("offset", null));
+        assertEquals(new TimeRange(new RationalTime(-8, 24), new RationalTime(16, 24)),
+                metadata.getTimeRange("handles", null));
+        assertEquals(23.976, metadata.get("fps").safelyCastDouble());
+
+        // defaults for absent keys and values of other types
+        assertEquals(24, metadata.getDouble("missing", 24));
+        assertEquals(-1, metadata.getInt("frames", -1));
+        assertEquals(-1, metadata.getLong("fps", -1));
+        assertFalse(metadata.getBoolean("camera", false));
+        assertEquals("none", metadata.getString("reel", "none"));
+        assertNull(metadata.getRationalTime("handles", null));
+        TimeRange empty = new TimeRange(new RationalTime(), new RationalTime());
+        assertSame(empty, metadata.getTimeRange("offset", empty));
+
+        // putters replace existing values
+        metadata.putString("fps", "variable");
+        assertEquals("variable", metadata.getString("fps", null));
+        assertEquals(0, metadata.getDouble("fps", 0));
+        assertEquals(7, metadata.size());
+        assertThrows(NullPointerException.class, () -> metadata.getDouble(null, 0));
+        assertThrows(NullPointerException.class, () -> metadata.putString("camera", null));
+        try {
+            metadata.close();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+}
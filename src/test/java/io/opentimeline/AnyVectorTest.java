@@ -0,0 +1,118 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline;
+
+import io.opentimeline.opentime.RationalTime;
+import io.opentimeline.opentime.TimeRange;
+import io.opentimeline.opentimelineio.*;
+import io.opentimeline.opentimelineio.exception.OpenTimelineIOException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AnyVectorTest {
+
+    @Test
+    public void testDoubles() throws OpenTimelineIOException {
+        AnyVector histogram = new AnyVector();
+        histogram.setDoubles(new double[]{0.25, 0.5, 0.125, 1});
+        assertEquals(4, histogram.size());
+        assertEquals(0.125, histogram.get(2).safelyCastDouble());
+
+        double[] dst = new double[3];
+        assertEquals(3, histogram.getDoubles(dst, 1));
+        assertArrayEquals(new double[]{0.5, 0.125, 1}, dst);
+        assertEquals(1, histogram.getDoubles(dst, 3));
+        assertEquals(1, dst[0]);
+        assertEquals(0, histogram.getDoubles(dst, 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> histogram.getDoubles(dst, 5));
+        assertThrows(IndexOutOfBoundsException.class, () -> histogram.getDoubles(dst, -1));
+
+        // integers read from JSON are widened
+        AnyDictionary metadata = new AnyDictionary();
+        metadata.put("histogram", new Any(histogram));
+        SerializableObjectWithMetadata so = new SerializableObjectWithMetadata(metadata);
+        String json = so.toJSONString().replace("1.0", "1");
+        SerializableObjectWithMetadata copy =
+                (SerializableObjectWithMetadata) SerializableObject.fromJSONString(json);
+        AnyVector copied = copy.getMetadata().get("histogram").safelyCastAnyVector();
+        double[] all = new double[4];
+        assertEquals(4, copied.getDoubles(all, 0));
+        assertArrayEquals(new double[]{0.25, 0.5, 0.125, 1}, all);
+        try {
+            histogram.close();
+            metadata.close();
+            so.close();
+            copy.close();
+            copied.close();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    public void testIntsAndLongs() {
+        AnyVector vector = new AnyVector();
+        vector.setInts(new int[]{1, -2, 3});
+        int[] ints = new int[3];
+        assertEquals(3, vector.getInts(ints, 0));
+        assertArrayEquals(new int[]{1, -2, 3}, ints);
+        long[] longs = new long[3];
+        assertEquals(3, vector.getLongs(longs, 0));
+        assertArrayEquals(new long[]{1, -2, 3}, longs);
+
+        vector.setLongs(new long[]{7, Long.MIN_VALUE});
+        assertEquals(2, vector.size());
+        assertEquals(Long.MIN_VALUE, vector.get(1).safelyCastLong());
+        assertEquals(1, vector.getInts(ints, 0));
+        assertEquals(7, ints[0]);
+        ints[1] = 42;
+        assertThrows(ClassCastException.class, () -> vector.getInts(ints, 0));
+        // a mismatch leaves the destination unchanged
+        assertEquals(42, ints[1]);
+
+        vector.add(new Any("text"));
+        assertThrows(ClassCastException.class, () -> vector.getDoubles(new double[3], 0));
+        assertThrows(ClassCastException.class, () -> vector.getLongs(longs, 1));
+        try {
+            vector.close();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    public void testTypedAccessors() {
+        AnyVector vector = new AnyVector();
+        vector.add(new Any(true));
+        vector.add(new Any(3));
+        vector.add(new Any(1L << 40));
+        vector.add(new Any(0.5));
+        vector.add(new Any("text"));
+        vector.add(new Any(new RationalTime(1, 24)));
+        vector.add(new Any(new TimeRange(new RationalTime(0, 24), new RationalTime(48, 24))));
+
+        assertTrue(vector.getBoolean(0));
+        assertEquals(3, vector.getInt(1));
+        assertEquals(3L, vector.getLong(1));
+        assertEquals(3.0, vector.getDouble(1));
+        assertEquals(1L << 40, vector.getLong(2));
+        assertEquals(0.5, vector.getDouble(3));
+        assertEquals("text", vector.getString(4));
+        assertEquals(new RationalTime(1, 24), vector.getRationalTime(5));
+        assertEquals(new TimeRange(new RationalTime(0, 24), new RationalTime(48, 24)), vector.getTimeRange(6));
+
+        assertThrows(ClassCastException.class, () -> vector.getInt(2));
+        assertThrows(ClassCastException.class, () -> vector.getLong(3));
+        assertThrows(ClassCastException.class, () -> vector.getString(0));
+        assertThrows(ClassCastException.class, () -> vector.getTimeRange(5));
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.getDouble(7));
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.getBoolean(-1));
+        try {
+            vector.close();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline;
+
+import io.opentimeline.opentimelineio.Clip;
+import io.opentimeline.opentimelineio.Composable;
+import io.opentimeline.opentimelineio.SerializableObject;
+import io.opentimeline.opentimelineio.Track;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ArenaTest {
+
+    private final OTIOFactory factory = OTIOFactory.getInstance();
+
+    @Test
+    public void testArenaCapturesFactoryObjects() {
+        Clip clip;
+        try (OTIOArena arena = factory.openArena()) {
+            clip = factory.createClip(new Clip.ClipBuilder().setName("clip"));
+            SerializableObject serializableObject = factory.createSerializableObject();
+            assertEquals(2, arena.getObjectCount());
+            assertSame(arena, clip.getNativeManager().lifecycle);
+            assertSame(arena, serializableObject.getNativeManager().lifecycle);
+        }
+        assertEquals(0, clip.getNativeManager().nativeHandle);
+        assertNull(clip.getNativeManager().lifecycle);
+    }
+
+    @Test
+    public void testArenaCapturesNativeObjects() throws Exception {
+        try (OTIOArena arena = factory.openArena()) {
+            Track track = factory.createTrack(new Track.TrackBuilder());
+            for (int i = 0; i < 100; i++) {
+                track.appendChild(factory.createClip(new Clip.ClipBuilder()));
+            }
+            int created = arena.getObjectCount();
+            List<Composable> children = track.getChildren();
+            assertEquals(100, children.size());
+            assertEquals(created + 100, arena.getObjectCount());
+            for (Composable child : children) {
+                assertSame(arena, child.getNativeManager().lifecycle);
+            }
+        }
+    }
+
+    @Test
+    public void testCloseObjectInsideArena() throws Exception {
+        try (OTIOArena arena = factory.openArena()) {
+            SerializableObject first = factory.createSerializableObject();
+            SerializableObject second = factory.createSerializableObject();
+            first.close();
+            assertEquals(0, first.getNativeManager().nativeHandle);
+            assertEquals(1, arena.getObjectCount());
+            first.close();
+            assertEquals(1, arena.getObjectCount());
+            assertNotEquals(0, second.getNativeManager().nativeHandle);
+        }
+    }
+
+    @Test
+    public void testNestedArenas() {
+        OTIOArena outer = factory.openArena();
+        SerializableObject outerObject = factory.createSerializableObject();
+        OTIOArena inner = factory.openArena();
+        SerializableObject innerObject = factory.createSerializableObject();
+        assertThrows(IllegalStateException.class, outer::close);
+        assertTrue(outer.isOpen());
+        inner.close();
+        assertFalse(inner.isOpen());
+        assertEquals(0, innerObject.getNativeManager().nativeHandle);
+        assertNotEquals(0, outerObject.getNativeManager().nativeHandle);
+        SerializableObject laterObject = factory.createSerializableObject();
+        assertSame(outer, laterObject.getNativeManager().lifecycle);
+        outer.close();
+        outer.close();
+        assertEquals(0, outerObject.getNativeManager().nativeHandle);
+        assertNotSame(outer, factory.createSerializableObject().getNativeManager().lifecycle);
+    }
+
+    @Test
+    public void testArenaIsThreadConfined() throws InterruptedException {
+        try (OTIOArena arena = factory.openArena()) {
+            SerializableObject[] otherThreadObject = new SerializableObject[1];
+            Throwable[] closeError = new Throwable[1];
+            Thread thread = new Thread(() -> {
+                otherThreadObject[0] = factory.createSerializableObject();
+                try {
+                    arena.close();
+                } catch (Throwable t) {
+                    closeError[0] = t;
+                }
+            });
+            thread.start();
+            thread.join();
+            assertNotSame(arena, otherThreadObject[0].getNativeManager().lifecycle);
+            assertTrue(closeError[0] instanceof IllegalStateException);
+            assertTrue(arena.isOpen());
+        }
+    }
+}
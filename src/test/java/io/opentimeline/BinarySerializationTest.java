@@ -0,0 +1,224 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline;
+
+import io.opentimeline.opentime.RationalTime;
+import io.opentimeline.opentime.TimeRange;
+import io.opentimeline.opentime.TimeTransform;
+import io.opentimeline.opentimelineio.*;
+import io.opentimeline.opentimelineio.exception.*;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that the binary format round trips to objects equivalent to the originals and to the JSON round trip.
+ */
+public class BinarySerializationTest {
+
+    private static AnyDictionary metadata(int i) {
+        AnyDictionary nested = new AnyDictionary();
+        nested.put("path", new Any("/show/shot_" + i + "/é☺ \"quoted\"\n"));
+        nested.put("frame", new Any(i));
+        AnyVector vector = new AnyVector();
+        vector.add(new Any(1.5));
+        vector.add(new Any(true));
+        vector.add(new Any(new RationalTime(i, 30)));
+        vector.add(new Any("shared"));
+        AnyDictionary metadata = new AnyDictionary();
+        metadata.put("nested", new Any(nested));
+        metadata.put("vector", new Any(vector));
+        metadata.put("big", new Any(1L << 40));
+        metadata.put("negative", new Any(-7));
+        metadata.put("range", new Any(new TimeRange(new RationalTime(i, 24), new RationalTime(10, 48))));
+        metadata.put("transform", new Any(new TimeTransform(new RationalTime(3, 24), 2, 48)));
+        metadata.put("empty", new Any(new AnyDictionary()));
+        return metadata;
+    }
+
+    private static Timeline buildTimeline() throws OpenTimelineIOException {
+        Stack stack = new Stack.StackBuilder().setName("stack").build();
+        for (int t = 0; t < 3; t++) {
+            Track track = new Track.TrackBuilder()
+                    .setName("track" + t)
+                    .setKind(t == 2 ? Track.Kind.audio : Track.Kind.video)
+                    .build();
+            for (int i = 0; i < 200; i++) {
+                if (i % 20 == 10) {
+                    track.appendChild(new Gap.GapBuilder()
+                            .setSourceRange(new TimeRange(new RationalTime(0, 24), new RationalTime(12, 24)))
+                            .build());
+                } else if (i % 20 == 15) {
+                    track.appendChild(new Transition.TransitionBuilder()
+                            .setName("dissolve" + i)
+                            .setTransitionType(Transition.Type.SMPTE_Dissolve)
+                            .setInOffset(new RationalTime(3, 24))
+                            .setOutOffset(new RationalTime(4, 24))
+                            .build());
+                } else {
+                    ExternalReference reference = new ExternalReference.ExternalReferenceBuilder()
+                            .setTargetURL("file:///media/clip" + i + ".mov")
+                            .setAvailableRange(new TimeRange(new RationalTime(0, 24), new RationalTime(500, 24)))
+                            .build();
+                    track.appendChild(new Clip.ClipBuilder()
+                            .setName("clip" + i)
+                            .setMediaReference(reference)
+                            .setSourceRange(new TimeRange(new RationalTime(i, 24), new RationalTime(24.5, 24)))
+                            .setMetadata(metadata(i))
+                            .build());
+                }
+            }
+            stack.appendChild(track);
+        }
+        AnyDictionary timelineMetadata = metadata(-1);
+        timelineMetadata.put("effect", new Any(new LinearTimeWarp.LinearTimeWarpBuilder()
+                .setEffectName("speed")
+                .setTimeScalar(2.5)
+                .build()));
+        Timeline timeline = new Timeline.TimelineBuilder()
+                .setName("binary")
+                .setGlobalStartTime(new RationalTime(86400, 24))
+                .setMetadata(timelineMetadata)
+                .build();
+        timeline.setTracks(stack);
+        return timeline;
+    }
+
+    @Test
+    public void testRoundTrip() throws OpenTimelineIOException {
+        Timeline timeline = buildTimeline();
+        byte[] binary = timeline.toBinary();
+        Timeline decoded = (Timeline) SerializableObject.fromBinary(binary);
+        assertTrue(timeline.isEquivalentTo(decoded));
+
+        Timeline fromJSON = (Timeline) SerializableObject.fromJSONString(timeline.toJSONString());
+        assertTrue(fromJSON.isEquivalentTo(decoded));
+        assertEquals(fromJSON.toJSONString(), decoded.toJSONString());
+        assertArrayEquals(binary, decoded.toBinary());
+        assertTrue(binary.length * 3 < timeline.toJSONString(0).getBytes(StandardCharsets.UTF_8).length);
+        try {
+            timeline.close();
+            decoded.close();
+            fromJSON.close();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    public void testSerializationAny() throws OpenTimelineIOException {
+        Timeline timeline = buildTimeline();
+        Any timelineAny = new Any(timeline);
+        Serialization serialization = new Serialization();
+        Deserialization deserialization = new Deserialization();
+        byte[] binary = serialization.serializeBinary(timelineAny);
+        assertArrayEquals(timeline.toBinary(), binary);
+
+        Any fromBytes = new Any(new SerializableObject());
+        assertTrue(deserialization.deserializeBinary(binary, fromBytes));
+        assertTrue(timeline.isEquivalentTo(fromBytes.safelyCastSerializableObject()));
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(binary.length + 1);
+        direct.put((byte) 0).put(binary).flip().position(1);
+        Any fromDirect = new Any(new SerializableObject());
+        assertTrue(deserialization.deserializeBinaryFromBuffer(direct, fromDirect));
+        assertTrue(timeline.isEquivalentTo(fromDirect.safelyCastSerializableObject()));
+
+        AnyDictionary dictionary = metadata(3);
+        Any dictionaryAny = new Any(dictionary);
+        Any decodedDictionary = new Any(new AnyDictionary());
+        assertTrue(deserialization.deserializeBinary(serialization.serializeBinary(dictionaryAny), decodedDictionary));
+        assertEquals(serialization.serializeJSONToString(dictionaryAny),
+                serialization.serializeJSONToString(decodedDictionary));
+        try {
+            timeline.close();
+            timelineAny.close();
+            fromBytes.close();
+            fromDirect.close();
+            dictionary.close();
+            dictionaryAny.close();
+            decodedDictionary.close();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    public void testFile() throws OpenTimelineIOException, IOException {
+        Timeline timeline = buildTimeline();
+        Path file = Files.createTempFile("timeline", ".otiob");
+        try {
+            assertTrue(timeline.toBinaryFile(file.toString()));
+            Timeline decoded = (Timeline) SerializableObject.fromBinaryFile(file.toString());
+            assertTrue(timeline.isEquivalentTo(decoded));
+
+            Any fromFile = new Any(new SerializableObject());
+            assertTrue(new Deserialization().deserializeBinaryFromFile(file.toString(), fromFile));
+            assertTrue(timeline.isEquivalentTo(fromFile.safelyCastSerializableObject()));
+            try {
+                decoded.close();
+                fromFile.close();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        } finally {
+            Files.delete(file);
+        }
+        try {
+            timeline.close();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    public void testUnknownSchema() throws OpenTimelineIOException {
+        String json = "{\"OTIO_SCHEMA\": \"Clip.1\", \"name\": \"clip\", \"metadata\": {\"stuff\": " +
+                "{\"OTIO_SCHEMA\": \"MyOwnDangSchema.3\", \"some_data\": 895, \"howlongami\": " +
+                "{\"OTIO_SCHEMA\": \"RationalTime.1\", \"rate\": 30, \"value\": 100}}}}";
+        SerializableObject clip = SerializableObject.fromJSONString(json);
+        SerializableObject decoded = SerializableObject.fromBinary(clip.toBinary());
+        assertTrue(clip.isEquivalentTo(decoded));
+        assertEquals(clip.toJSONString(), decoded.toJSONString());
+        UnknownSchema unknownSchema = (UnknownSchema) ((Clip) decoded).getMetadata()
+                .get("stuff").safelyCastSerializableObject();
+        assertEquals("MyOwnDangSchema", unknownSchema.getOriginalSchemaName());
+        assertEquals(3, unknownSchema.getOriginalSchemaVersion());
+        try {
+            clip.close();
+            decoded.close();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    public void testMalformed() throws OpenTimelineIOException {
+        Clip clip = new Clip.ClipBuilder().setName("clip").setMetadata(metadata(1)).build();
+        byte[] binary = clip.toBinary();
+        assertThrows(DeserializationException.class,
+                () -> SerializableObject.fromBinary(Arrays.copyOf(binary, binary.length - 3)));
+        assertThrows(DeserializationException.class,
+                () -> SerializableObject.fromBinary(clip.toJSONString().getBytes(StandardCharsets.UTF_8)));
+        byte[] trailing = Arrays.copyOf(binary, binary.length + 1);
+        assertThrows(DeserializationException.class, () -> SerializableObject.fromBinary(trailing));
+
+        Any number = new Any(5);
+        byte[] notAnObject = new Serialization().serializeBinary(number);
+        assertThrows(TypeMismatchException.class, () -> SerializableObject.fromBinary(notAnObject));
+        try {
+            clip.close();
+            number.close();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+}
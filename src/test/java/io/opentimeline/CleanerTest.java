@@ -0,0 +1,51 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline;
+
+import io.opentimeline.opentimelineio.Clip;
+import io.opentimeline.opentimelineio.SerializableObject;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class CleanerTest {
+
+    @Test
+    public void testClassCodes() {
+        assertEquals(0, OTIOClassCodes.getClassCode("io.opentimeline.opentime.ErrorStatus"));
+        assertEquals(OTIOClassCodes.UNKNOWN, OTIOClassCodes.getClassCode("java.lang.String"));
+        assertEquals(OTIOClassCodes.UNKNOWN, OTIOClassCodes.getClassCode(null));
+        String className = Clip.class.getCanonicalName();
+        assertEquals(className, OTIOClassCodes.getClassName(OTIOClassCodes.getClassCode(className)));
+    }
+
+    @Test
+    public void testCloseIsIdempotent() throws Exception {
+        OTIOFactory factory = OTIOFactory.getInstance();
+        SerializableObject serializableObject = factory.createSerializableObject();
+        OTIONative otioNative = serializableObject.getNativeManager();
+        assertNotNull(otioNative.lifecycle);
+        serializableObject.close();
+        assertEquals(0, otioNative.nativeHandle);
+        assertNull(otioNative.lifecycle);
+        serializableObject.close();
+        assertEquals(0, otioNative.nativeHandle);
+    }
+
+    @Test
+    public void testCleanerFreesCollectedObjects() throws InterruptedException {
+        OTIOFactory factory = OTIOFactory.getInstance();
+        assumeTrue(factory.isUsingCleaner());
+        long disposedBefore = OTIOCleaner.getDisposedCount();
+        for (int i = 0; i < 10000; i++) {
+            factory.createSerializableObject();
+        }
+        for (int i = 0; i < 50 && OTIOCleaner.getDisposedCount() == disposedBefore; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        assertTrue(OTIOCleaner.getDisposedCount() > disposedBefore);
+    }
+}
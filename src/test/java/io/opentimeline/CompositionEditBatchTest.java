@@ -0,0 +1,131 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline;
+
+import io.opentimeline.opentime.RationalTime;
+import io.opentimeline.opentime.TimeRange;
+import io.opentimeline.opentimelineio.*;
+import io.opentimeline.opentimelineio.exception.CompositionEditException;
+import io.opentimeline.opentimelineio.exception.OpenTimelineIOException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CompositionEditBatchTest {
+
+    private Clip clip(String name) {
+        return new Clip.ClipBuilder()
+                .setName(name)
+                .setSourceRange(new TimeRange(new RationalTime(0, 24), new RationalTime(24, 24)))
+                .build();
+    }
+
+    private List<String> names(Composition composition) {
+        List<String> names = new ArrayList<>();
+        for (Composable child : composition.getChildren())
+            names.add(child.getName());
+        return names;
+    }
+
+    @Test
+    public void testApply() throws OpenTimelineIOException {
+        Track track = new Track.TrackBuilder().setName("track").build();
+        Clip a = clip("a");
+        Clip b = clip("b");
+        track.appendChild(a);
+        track.appendChild(b);
+
+        Clip c = clip("c");
+        Clip d = clip("d");
+        Clip e = clip("e");
+        CompositionEditBatch batch = new CompositionEditBatch(track)
+                .append(c)          // a b c
+                .insert(0, d)       // d a b c
+                .remove(2)          // d a c
+                .replace(1, e)      // d e c
+                .move(0, 2)         // e c d
+                .append(b);         // e c d b
+        assertEquals(6, batch.size());
+        batch.apply();
+        assertEquals(0, batch.size());
+        assertEquals(Arrays.asList("e", "c", "d", "b"), names(track));
+        assertNull(a.parent());
+        assertEquals("track", c.parent().getName());
+        assertEquals(new RationalTime(96, 24), track.getDuration());
+        try {
+            track.close();
+            a.close();
+            b.close();
+            c.close();
+            d.close();
+            e.close();
+        } catch (Exception ex) {
+            ex.printStackTrace();
+        }
+    }
+
+    @Test
+    public void testRollback() throws OpenTimelineIOException {
+        Track track = new Track.TrackBuilder().setName("track").build();
+        Track other = new Track.TrackBuilder().setName("other").build();
+        Clip a = clip("a");
+        Clip parented = clip("parented");
+        track.appendChild(a);
+        other.appendChild(parented);
+
+        Clip c = clip("c");
+        CompositionEditBatch batch = new CompositionEditBatch(track)
+                .append(c)
+                .remove(5)
+                .append(parented)
+                .append(null)
+                .append(a)
+                .move(0, 1);
+        CompositionEditException exception = assertThrows(CompositionEditException.class, batch::apply);
+        Map<Integer, String> failures = exception.getFailures();
+        assertEquals(4, failures.size());
+        assertTrue(failures.get(1).contains("index out of bounds"));
+        assertTrue(failures.get(2).contains("already parented"));
+        assertTrue(failures.get(3).contains("null child"));
+        assertTrue(failures.get(4).contains("already parented"));
+        assertFalse(failures.containsKey(0));
+        assertFalse(failures.containsKey(5));
+
+        // nothing was applied
+        assertEquals(Arrays.asList("a"), names(track));
+        assertNull(c.parent());
+        assertEquals("other", parented.parent().getName());
+        assertEquals(6, batch.size());
+        try {
+            track.close();
+            other.close();
+            a.close();
+            c.close();
+            parented.close();
+        } catch (Exception ex) {
+            ex.printStackTrace();
+        }
+    }
+
+    @Test
+    public void testLargeBatch() throws OpenTimelineIOException {
+        Track track = new Track.TrackBuilder().setName("track").build();
+        CompositionEditBatch batch = new CompositionEditBatch(track);
+        for (int i = 0; i < 1000; i++)
+            batch.append(clip("clip" + i));
+        batch.apply();
+        assertEquals(1000, track.getChildren().size());
+        assertEquals("clip999", track.getChildren().get(999).getName());
+        try {
+            track.close();
+        } catch (Exception ex) {
+            ex.printStackTrace();
+        }
+    }
+}
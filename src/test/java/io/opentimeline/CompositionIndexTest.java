@@ -0,0 +1,208 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline;
+
+import io.opentimeline.opentime.RationalTime;
+import io.opentimeline.opentime.TimeRange;
+import io.opentimeline.opentimelineio.*;
+import io.opentimeline.opentimelineio.exception.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CompositionIndexTest {
+
+    private final Random random = new Random(0x1dec5L);
+
+    private static Clip clip(String name, double start, double duration) {
+        return new Clip.ClipBuilder()
+                .setName(name)
+                .setSourceRange(new TimeRange(new RationalTime(start, 24), new RationalTime(duration, 24)))
+                .build();
+    }
+
+    /**
+     * A track of clips and gaps with a nested trimmed track every tenth child.
+     */
+    private static Track buildTrack(int size) throws ChildAlreadyParentedException {
+        Track track = new Track.TrackBuilder().setName("track").build();
+        for (int i = 0; i < size; i++) {
+            if (i % 10 == 9) {
+                Track nested = new Track.TrackBuilder()
+                        .setName("nested" + i)
+                        .setSourceRange(new TimeRange(new RationalTime(3, 24), new RationalTime(20, 24)))
+                        .build();
+                for (int j = 0; j < 4; j++)
+                    nested.appendChild(clip("nested" + i + "_" + j, 0, 6 + j));
+                track.appendChild(nested);
+            } else if (i % 10 == 4) {
+                track.appendChild(new Gap.GapBuilder()
+                        .setSourceRange(new TimeRange(new RationalTime(0, 24), new RationalTime(5, 24)))
+                        .build());
+            } else {
+                track.appendChild(clip("clip" + i, i, (i % 7) + 1));
+            }
+        }
+        return track;
+    }
+
+    private static long handle(Composable composable) {
+        return composable == null ? 0 : composable.getNativeManager().getOTIOObjectNativeHandle();
+    }
+
+    private static List<Long> handles(List<? extends Composable> composables) {
+        return composables.stream().map(CompositionIndexTest::handle).collect(Collectors.toList());
+    }
+
+    private void assertSameAsComposition(Track track, CompositionIndex index) throws OpenTimelineIOException {
+        double duration = track.getDuration().getValue();
+        for (int n = 0; n < 300; n++) {
+            RationalTime time = new RationalTime(
+                    n % 3 == 0 ? random.nextInt((int) duration + 10) - 5 : random.nextDouble() * duration, 24);
+            assertEquals(handle(track.getChildAtTime(time, true)), handle(index.childAt(time)), time.toString());
+            assertEquals(handle(track.getChildAtTime(time, false)), handle(index.childAt(time, false)),
+                    time.toString());
+
+            TimeRange range = new TimeRange(time, new RationalTime(random.nextInt(60) + 0.5 * random.nextInt(2), 24));
+            assertEquals(handles(track.eachChild(range, true).collect(Collectors.toList())),
+                    handles(index.childrenIn(range)), range.toString());
+            assertEquals(handles(track.eachChild(range, false).collect(Collectors.toList())),
+                    handles(index.childrenIn(range, false)), range.toString());
+            assertEquals(handles(track.eachChild(range, Clip.class, false).collect(Collectors.toList())),
+                    handles(index.childrenIn(range, Clip.class, false)), range.toString());
+        }
+    }
+
+    @Test
+    public void testQueries() throws OpenTimelineIOException {
+        Track track = buildTrack(500);
+        CompositionIndex index = new CompositionIndex(track);
+        assertFalse(index.isValid());
+        assertSameAsComposition(track, index);
+        assertTrue(index.isValid());
+        try {
+            track.close();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    public void testInvalidation() throws OpenTimelineIOException {
+        Track track = buildTrack(100);
+        CompositionIndex index = new CompositionIndex(track);
+        assertSameAsComposition(track, index);
+
+        Item first = (Item) track.getChildren().get(0);
+        first.setSourceRange(new TimeRange(new RationalTime(0, 24), new RationalTime(100, 24)));
+        assertFalse(index.isValid());
+        assertSameAsComposition(track, index);
+
+        track.removeChild(1);
+        assertFalse(index.isValid());
+        assertSameAsComposition(track, index);
+
+        track.insertChild(5, clip("inserted", 0, 30));
+        assertFalse(index.isValid());
+        assertSameAsComposition(track, index);
+
+        track.setChild(7, clip("set", 0, 2));
+        assertFalse(index.isValid());
+        assertSameAsComposition(track, index);
+
+        Track nested = (Track) track.getChildren().get(9);
+        nested.setSourceRange(null);
+        assertFalse(index.isValid());
+        assertSameAsComposition(track, index);
+
+        index.childAt(new RationalTime(0, 24));
+        assertTrue(index.isValid());
+        index.invalidate();
+        assertFalse(index.isValid());
+        try {
+            track.close();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    public void testInvalidationPerTree() throws OpenTimelineIOException {
+        Track track = buildTrack(20);
+        Track other = buildTrack(20);
+        CompositionIndex index = new CompositionIndex(track);
+        index.childAt(new RationalTime(0, 24));
+        assertTrue(index.isValid());
+
+        // edits of another tree keep the index
+        other.removeChild(0);
+        other.appendChild(clip("appended", 0, 10));
+        ((Item) other.getChildren().get(0)).setSourceRange(
+                new TimeRange(new RationalTime(0, 24), new RationalTime(3, 24)));
+        assertTrue(index.isValid());
+
+        // an index on a nested composition is invalidated by edits anywhere in its tree
+        Track nested = (Track) track.getChildren().get(9);
+        CompositionIndex nestedIndex = new CompositionIndex(nested);
+        nestedIndex.childAt(new RationalTime(0, 24));
+        assertTrue(nestedIndex.isValid());
+        track.appendChild(clip("appended", 0, 10));
+        assertFalse(index.isValid());
+        assertFalse(nestedIndex.isValid());
+        assertSameAsComposition(nested, nestedIndex);
+
+        // and by leaving the tree, after which it follows its own tree
+        track.removeChild(9);
+        assertFalse(nestedIndex.isValid());
+        assertSameAsComposition(nested, nestedIndex);
+        assertTrue(nestedIndex.isValid());
+        track.appendChild(clip("appended again", 0, 10));
+        assertTrue(nestedIndex.isValid());
+        nested.appendChild(clip("nested", 0, 10));
+        assertFalse(nestedIndex.isValid());
+        assertSameAsComposition(nested, nestedIndex);
+        try {
+            track.close();
+            other.close();
+            nested.close();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    public void testStack() throws OpenTimelineIOException {
+        Stack stack = new Stack.StackBuilder().build();
+        double[] durations = {30, 10, 50, 20};
+        for (int i = 0; i < durations.length; i++) {
+            Track track = new Track.TrackBuilder().setName("track" + i).build();
+            track.appendChild(clip("clip" + i, 0, durations[i]));
+            stack.appendChild(track);
+        }
+        List<Composable> tracks = stack.getChildren();
+        CompositionIndex index = new CompositionIndex(stack);
+
+        assertEquals(handle(tracks.get(0)), handle(index.childAt(new RationalTime(5, 24))));
+        assertEquals(handle(tracks.get(2)), handle(index.childAt(new RationalTime(35, 24))));
+        assertEquals("clip2", index.childAt(new RationalTime(35, 24), false).getName());
+        assertNull(index.childAt(new RationalTime(50, 24)));
+
+        TimeRange range = new TimeRange(new RationalTime(15, 24), new RationalTime(10, 24));
+        assertEquals(handles(Arrays.asList(tracks.get(0), tracks.get(2), tracks.get(3))),
+                handles(index.childrenIn(range)));
+        assertEquals(Arrays.asList("clip0", "clip2", "clip3"),
+                index.childrenIn(range, Clip.class, false).stream()
+                        .map(Composable::getName).collect(Collectors.toList()));
+        try {
+            stack.close();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+}
@@ -3,6 +3,8 @@
 
 package io.opentimeline;
 
+import io.opentimeline.opentime.RationalTime;
+import io.opentimeline.opentime.TimeRange;
 import io.opentimeline.opentimelineio.*;
 import io.opentimeline.opentimelineio.exception.*;
 import org.junit.jupiter.api.Test;
@@ -11,6 +13,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Spliterator;
 import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -348,6 +351,81 @@ public class CompositionTest {
         }
     }
 
+    private static TimeRange range(double start, double duration) {
+        return new TimeRange(new RationalTime(start, 24), new RationalTime(duration, 24));
+    }
+
+    @Test
+    public void testEachChildInSearchRange() throws ChildAlreadyParentedException, NotAChildException, ObjectWithoutDurationException, CannotComputeAvailableRangeException {
+        Track track = new Track.TrackBuilder().setName("track").build();
+        Clip a = new Clip.ClipBuilder().setName("a").setSourceRange(range(0, 10)).build();
+        Clip b = new Clip.ClipBuilder().setName("b").setSourceRange(range(0, 10)).build();
+        Gap gap = new Gap.GapBuilder().setSourceRange(range(0, 5)).build();
+        Track nested = new Track.TrackBuilder().setName("nested").setSourceRange(range(5, 20)).build();
+        Clip c1 = new Clip.ClipBuilder().setName("c1").setSourceRange(range(0, 10)).build();
+        Clip c2 = new Clip.ClipBuilder().setName("c2").setSourceRange(range(0, 10)).build();
+        Clip c3 = new Clip.ClipBuilder().setName("c3").setSourceRange(range(0, 10)).build();
+        assertTrue(nested.appendChild(c1));
+        assertTrue(nested.appendChild(c2));
+        assertTrue(nested.appendChild(c3));
+        assertTrue(track.appendChild(a));
+        assertTrue(track.appendChild(b));
+        assertTrue(track.appendChild(gap));
+        assertTrue(track.appendChild(nested));
+
+        // frames 12 to 29 are in b, gap and nested, which starts at frame 25 and is trimmed by 5 frames,
+        // so the search range covers frames -8 to 9 of nested, which are in c1
+        TimeRange searchRange = range(12, 18);
+        assertEquals(Arrays.asList(b, gap, nested, c1),
+                track.eachChild(searchRange, Item.class, false).collect(Collectors.toList()));
+        assertEquals(Arrays.asList(b, gap, nested),
+                track.eachChild(searchRange, Item.class, true).collect(Collectors.toList()));
+        assertEquals(Arrays.asList(b, c1),
+                track.eachChild(searchRange, Clip.class, false).collect(Collectors.toList()));
+        assertEquals(Collections.singletonList(nested),
+                track.eachChild(searchRange, Composition.class, false).collect(Collectors.toList()));
+        assertEquals(Arrays.asList(a, b, c1, c2, c3), track.eachClip(null).collect(Collectors.toList()));
+        assertEquals(0, track.eachChild(range(100, 10), false).count());
+        assertThrows(NullPointerException.class, () -> track.eachChild(null, null, false));
+
+        try {
+            track.close();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    public void testEachChildParallel() throws ChildAlreadyParentedException, NotAChildException, ObjectWithoutDurationException, CannotComputeAvailableRangeException {
+        Stack stack = new Stack.StackBuilder().build();
+        for (int i = 0; i < 8; i++) {
+            Track track = new Track.TrackBuilder().setName("track" + i).build();
+            for (int j = 0; j < 250; j++) {
+                Clip clip = new Clip.ClipBuilder().setName(i + "_" + j).setSourceRange(range(0, 10)).build();
+                assertTrue(track.appendChild(clip));
+            }
+            assertTrue(stack.appendChild(track));
+        }
+
+        Spliterator<Clip> spliterator = stack.eachClip().spliterator();
+        assertEquals(2000, spliterator.getExactSizeIfKnown());
+        assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+
+        List<String> names = stack.eachClip().map(Composable::getName).collect(Collectors.toList());
+        assertEquals(2000, names.size());
+        assertEquals("0_0", names.get(0));
+        assertEquals("7_249", names.get(1999));
+        assertEquals(names, stack.eachClip().parallel().map(Composable::getName).collect(Collectors.toList()));
+        assertEquals("3_0", stack.eachClip(range(0, 10)).parallel()
+                .filter(clip -> clip.getName().startsWith("3_")).findFirst().get().getName());
+
+        try {
+            stack.close();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
     @Test
     public void testRemoveActuallyRemoves() throws ChildAlreadyParentedException {
         Track track = new Track.TrackBuilder().build();
@@ -0,0 +1,151 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.ReferenceQueue;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FinalizerRegistryTest {
+
+    private static final int THREADS = 48;
+    private static final int PER_THREAD = 20000;
+
+    private final ReferenceQueue<OTIONative> referenceQueue = new ReferenceQueue<>();
+    // keeps the referents alive so that nothing gets enqueued during the test
+    private final ConcurrentLinkedQueue<OTIONative> referents = new ConcurrentLinkedQueue<>();
+
+    private OTIOFinalizer newFinalizer(long handle) {
+        OTIONative otioNative = new OTIONative(handle);
+        otioNative.className = "io.opentimeline.opentimelineio.SerializableObject";
+        referents.add(otioNative);
+        return new OTIOFinalizer(otioNative, referenceQueue);
+    }
+
+    private static void runConcurrently(int threadCount, Runnable task) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        List<Throwable> failures = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                    task.run();
+                } catch (Throwable t) {
+                    synchronized (failures) {
+                        failures.add(t);
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertTrue(failures.isEmpty(), failures.toString());
+    }
+
+    @Test
+    public void testRegisterUnregister() {
+        OTIOFinalizerRegistry registry = new OTIOFinalizerRegistry(4);
+        OTIOFinalizer first = newFinalizer(1);
+        OTIOFinalizer second = newFinalizer(2);
+        OTIOFinalizer third = newFinalizer(3);
+        registry.register(first);
+        registry.register(second);
+        registry.register(third);
+        assertEquals(3, registry.size());
+        assertThrows(IllegalStateException.class, () -> registry.register(second));
+
+        assertTrue(registry.unregister(second));
+        assertFalse(registry.unregister(second));
+        assertEquals(2, registry.size());
+        assertTrue(registry.unregister(third));
+        assertTrue(registry.unregister(first));
+        assertEquals(0, registry.size());
+
+        registry.register(second);
+        assertEquals(1, registry.size());
+    }
+
+    @Test
+    public void testConcurrentRegister() throws InterruptedException {
+        OTIOFinalizerRegistry registry = new OTIOFinalizerRegistry();
+        AtomicInteger handles = new AtomicInteger();
+        runConcurrently(THREADS, () -> {
+            for (int i = 0; i < PER_THREAD; i++) {
+                registry.register(newFinalizer(handles.incrementAndGet()));
+            }
+        });
+        assertEquals(THREADS * PER_THREAD, registry.size());
+    }
+
+    @Test
+    public void testConcurrentRegisterAndCrossThreadUnregister() throws InterruptedException {
+        OTIOFinalizerRegistry registry = new OTIOFinalizerRegistry();
+        ConcurrentLinkedQueue<OTIOFinalizer> handoff = new ConcurrentLinkedQueue<>();
+        AtomicInteger roles = new AtomicInteger();
+        AtomicInteger handles = new AtomicInteger();
+        AtomicInteger unregistered = new AtomicInteger();
+        AtomicInteger producersDone = new AtomicInteger();
+        int producers = THREADS / 2;
+
+        // half of the threads register finalizers and hand every other one to the
+        // other half, which unregister them, mimicking the reaper freeing objects
+        // created on worker threads
+        runConcurrently(THREADS, () -> {
+            if (roles.getAndIncrement() < producers) {
+                for (int i = 0; i < PER_THREAD; i++) {
+                    OTIOFinalizer finalizer = newFinalizer(handles.incrementAndGet());
+                    registry.register(finalizer);
+                    if (i % 2 == 0)
+                        handoff.add(finalizer);
+                }
+                producersDone.incrementAndGet();
+            } else {
+                while (producersDone.get() < producers || !handoff.isEmpty()) {
+                    OTIOFinalizer finalizer = handoff.poll();
+                    if (finalizer == null) {
+                        Thread.yield();
+                        continue;
+                    }
+                    assertTrue(registry.unregister(finalizer));
+                    unregistered.incrementAndGet();
+                }
+            }
+        });
+
+        assertEquals(producers * PER_THREAD / 2, unregistered.get());
+        assertEquals(producers * PER_THREAD - unregistered.get(), registry.size());
+    }
+
+    @Test
+    public void testConcurrentDoubleUnregister() throws InterruptedException {
+        OTIOFinalizerRegistry registry = new OTIOFinalizerRegistry();
+        List<OTIOFinalizer> finalizers = new ArrayList<>();
+        for (int i = 0; i < PER_THREAD; i++) {
+            OTIOFinalizer finalizer = newFinalizer(i);
+            registry.register(finalizer);
+            finalizers.add(finalizer);
+        }
+        AtomicInteger unregistered = new AtomicInteger();
+        runConcurrently(THREADS, () -> {
+            for (OTIOFinalizer finalizer : finalizers) {
+                if (registry.unregister(finalizer))
+                    unregistered.incrementAndGet();
+            }
+        });
+        assertEquals(PER_THREAD, unregistered.get());
+        assertEquals(0, registry.size());
+    }
+}
@@ -0,0 +1,67 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline;
+
+import io.opentimeline.opentimelineio.SerializableObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+public class ReaperTest {
+
+    @AfterEach
+    public void tearDown() {
+        OTIOFactory.getInstance().stopReaper();
+    }
+
+    @Test
+    public void testStartStop() {
+        OTIOFactory factory = OTIOFactory.getInstance();
+        assertNull(factory.getReaper());
+        factory.startReaper(new OTIOReaper.OTIOReaperBuilder()
+                .setBatchSize(16)
+                .setPriority(Thread.MIN_PRIORITY)
+                .setMaxBacklog(128));
+        OTIOReaper reaper = factory.getReaper();
+        assertNotNull(reaper);
+        assertTrue(reaper.isRunning());
+        factory.startReaper();
+        assertSame(reaper, factory.getReaper());
+        factory.stopReaper();
+        assertFalse(reaper.isRunning());
+        assertNull(factory.getReaper());
+    }
+
+    @Test
+    public void testInvalidSettings() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new OTIOReaper.OTIOReaperBuilder().setBatchSize(0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new OTIOReaper.OTIOReaperBuilder().setPriority(Thread.MAX_PRIORITY + 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new OTIOReaper.OTIOReaperBuilder().setMaxBacklog(0));
+    }
+
+    @Test
+    public void testReaperFreesCollectedObjects() throws InterruptedException {
+        OTIOFactory factory = OTIOFactory.getInstance();
+        // with the Cleaner backend there is nothing for the reaper to free
+        assumeFalse(factory.isUsingCleaner());
+        factory.startReaper(new OTIOReaper.OTIOReaperBuilder()
+                .setBatchSize(64)
+                .setMaxBacklog(256));
+        OTIOReaper reaper = factory.getReaper();
+        for (int i = 0; i < 10000; i++) {
+            factory.createSerializableObject();
+        }
+        for (int i = 0; i < 50 && reaper.getDisposedCount() == 0; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        assertTrue(reaper.getDisposedCount() > 0);
+        assertTrue(reaper.getBacklogSize() <= 256);
+    }
+}
@@ -3,14 +3,24 @@
 
 package io.opentimeline;
 
+import io.opentimeline.opentime.RationalTime;
+import io.opentimeline.opentime.TimeRange;
 import io.opentimeline.opentimelineio.*;
 import io.opentimeline.opentimelineio.exception.*;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -84,6 +94,97 @@ public class SerializableCollectionTest {
         }
     }
 
+    private static SerializableCollection buildBundle(int timelineCount) throws OpenTimelineIOException {
+        List<SerializableObject> timelines = new ArrayList<>();
+        for (int t = 0; t < timelineCount; t++) {
+            Track track = new Track.TrackBuilder().setName("track" + t).build();
+            for (int i = 0; i < 20; i++) {
+                AnyDictionary clipMetadata = new AnyDictionary();
+                clipMetadata.put("note", new Any("[{\"not\": \"json\"}, ]\\"));
+                track.appendChild(new Clip.ClipBuilder()
+                        .setName("clip" + t + "_" + i)
+                        .setSourceRange(new TimeRange(new RationalTime(i, 24), new RationalTime(10, 24)))
+                        .setMetadata(clipMetadata)
+                        .build());
+            }
+            Stack stack = new Stack.StackBuilder().build();
+            stack.appendChild(track);
+            Timeline timeline = new Timeline.TimelineBuilder().setName("dailies " + t).build();
+            timeline.setTracks(stack);
+            timelines.add(timeline);
+        }
+        timelines.add(new MissingReference.MissingReferenceBuilder().build());
+        AnyDictionary bundleMetadata = new AnyDictionary();
+        bundleMetadata.put("children", new Any("not the children"));
+        return new SerializableCollection.SerializableCollectionBuilder()
+                .setName("bundle")
+                .setMetadata(bundleMetadata)
+                .setChildren(timelines)
+                .build();
+    }
+
+    @Test
+    public void testParallelDeserialization() throws OpenTimelineIOException, IOException {
+        SerializableCollection bundle = buildBundle(40);
+        Path file = Files.createTempFile("bundle", ".otio");
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            assertTrue(bundle.toJSONFile(file.toString()));
+            SerializableObject serial = SerializableObject.fromJSONFile(file.toString());
+            SerializableObject parallel = SerializableObject.fromJSONFileParallel(file.toString());
+            SerializableObject onExecutor = SerializableObject.fromJSONFileParallel(file.toString(), executor);
+            SerializableObject fromHeap = SerializableObject.fromJSONBufferParallel(
+                    ByteBuffer.wrap(Files.readAllBytes(file)), executor);
+            for (SerializableObject decoded : Arrays.asList(parallel, onExecutor, fromHeap)) {
+                assertTrue(decoded instanceof SerializableCollection);
+                assertTrue(serial.isEquivalentTo(decoded));
+                assertEquals(serial.toJSONString(), decoded.toJSONString());
+            }
+            assertEquals(41, ((SerializableCollection) parallel).getChildren().size());
+            assertEquals("dailies 7", ((Timeline) ((SerializableCollection) parallel).getChildren().get(7)).getName());
+            try {
+                serial.close();
+                parallel.close();
+                onExecutor.close();
+                fromHeap.close();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        } finally {
+            executor.shutdown();
+            Files.delete(file);
+        }
+        try {
+            bundle.close();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    public void testParallelDeserializationFallback() throws OpenTimelineIOException, IOException {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            String clipJSON = clip.toJSONString();
+            SerializableObject decodedClip = SerializableObject.fromJSONBufferParallel(
+                    ByteBuffer.wrap(clipJSON.getBytes(StandardCharsets.UTF_8)), executor);
+            assertTrue(clip.isEquivalentTo(decodedClip));
+
+            String malformed = "{\"OTIO_SCHEMA\": \"SerializableCollection.1\", \"children\": ["
+                    + clipJSON + ", {\"OTIO_SCHEMA\": \"Clip.1\", \"name\": }], \"name\": \"broken\"}";
+            assertThrows(JSONParseException.class, () -> SerializableObject.fromJSONString(malformed));
+            assertThrows(JSONParseException.class, () -> SerializableObject.fromJSONBufferParallel(
+                    ByteBuffer.wrap(malformed.getBytes(StandardCharsets.UTF_8)), executor));
+            try {
+                decodedClip.close();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     @AfterEach
     public void tearDown() {
         try {
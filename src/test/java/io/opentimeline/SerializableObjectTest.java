@@ -3,12 +3,15 @@
 
 package io.opentimeline;
 
-import io.opentimeline.opentimelineio.Any;
-import io.opentimeline.opentimelineio.AnyDictionary;
-import io.opentimeline.opentimelineio.SerializableObject;
-import io.opentimeline.opentimelineio.SerializableObjectWithMetadata;
+import io.opentimeline.opentime.RationalTime;
+import io.opentimeline.opentime.TimeRange;
+import io.opentimeline.opentimelineio.*;
+import io.opentimeline.opentimelineio.exception.OpenTimelineIOException;
 import org.junit.jupiter.api.Test;
 
+import java.util.HashSet;
+import java.util.Set;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 public class SerializableObjectTest {
@@ -91,4 +94,126 @@ public class SerializableObjectTest {
             e.printStackTrace();
         }
     }
+
+    @Test
+    public void testContentHash() throws OpenTimelineIOException {
+        Track track = new Track.TrackBuilder().setName("track").build();
+        for (int i = 0; i < 3; i++) {
+            track.appendChild(new Clip.ClipBuilder()
+                    .setName("clip" + i)
+                    .setSourceRange(new TimeRange(new RationalTime(0, 24), new RationalTime(24, 24)))
+                    .build());
+        }
+        SerializableObject copy = track.deepCopy();
+        SerializableObject decoded = SerializableObject.fromJSONString(track.toJSONString());
+        long hash = track.contentHash();
+        assertEquals(hash, track.contentHash());
+        assertEquals(hash, copy.contentHash());
+        assertEquals(hash, decoded.contentHash());
+        assertNotEquals(track.hashCode(), copy.hashCode());
+
+        ((Track) copy).setName("renamed");
+        assertNotEquals(hash, copy.contentHash());
+        assertEquals(hash, track.contentHash());
+
+        AnyDictionary metadata = ((Track) decoded).getMetadata();
+        metadata.put("foo", new Any("bar"));
+        ((Track) decoded).setMetadata(metadata);
+        assertNotEquals(hash, decoded.contentHash());
+        metadata.remove("foo");
+        ((Track) decoded).setMetadata(metadata);
+        assertEquals(hash, decoded.contentHash());
+
+        Composable clip = track.getChildren().get(1);
+        ((Clip) clip).setSourceRange(new TimeRange(new RationalTime(0, 24), new RationalTime(12, 24)));
+        assertNotEquals(hash, track.contentHash());
+        try {
+            clip.close();
+            metadata.close();
+            track.close();
+            copy.close();
+            decoded.close();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    public void testContentHashInvalidation() throws OpenTimelineIOException {
+        Track track = new Track.TrackBuilder().setName("track").build();
+        for (int i = 0; i < 3; i++) {
+            track.appendChild(new Clip.ClipBuilder()
+                    .setName("clip" + i)
+                    .setMediaReference(new ExternalReference.ExternalReferenceBuilder()
+                            .setTargetURL("clip" + i + ".mov")
+                            .build())
+                    .build());
+        }
+        Stack stack = new Stack.StackBuilder().setName("tracks").build();
+        stack.appendChild(track);
+        Timeline timeline = new Timeline.TimelineBuilder().setName("timeline").build();
+        timeline.setTracks(stack);
+        int refCount = track.currentRefCount();
+        long hash = timeline.contentHash();
+        long stackHash = stack.contentHash();
+        assertEquals(refCount, track.currentRefCount());
+
+        // the change of a media reference reaches the timeline through its clip, track and stack
+        Clip clip = (Clip) track.getChildren().get(2);
+        ExternalReference reference = (ExternalReference) clip.getMediaReference();
+        reference.setTargetURL("other.mov");
+        long changed = timeline.contentHash();
+        assertNotEquals(hash, changed);
+        SerializableObject copy = timeline.deepCopy();
+        assertEquals(changed, copy.contentHash());
+        reference.setTargetURL("clip2.mov");
+        assertEquals(hash, timeline.contentHash());
+
+        track.removeChild(0);
+        assertNotEquals(stackHash, stack.contentHash());
+        assertNotEquals(hash, timeline.contentHash());
+        try {
+            copy.close();
+            reference.close();
+            clip.close();
+            track.close();
+            stack.close();
+            timeline.close();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    public void testContentHashFreedObjects() throws OpenTimelineIOException {
+        // objects allocated where hashed objects were freed get their own hashes
+        Set<Long> clipHashes = new HashSet<>();
+        Set<Long> trackHashes = new HashSet<>();
+        Track track = new Track.TrackBuilder().setName("track").build();
+        for (int i = 0; i < 100; i++) {
+            Clip clip = new Clip.ClipBuilder().setName("clip" + i).build();
+            clipHashes.add(clip.contentHash());
+            try {
+                clip.close();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+            Clip child = new Clip.ClipBuilder().setName("child" + i).build();
+            track.appendChild(child);
+            try {
+                child.close();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+            trackHashes.add(track.contentHash());
+            track.removeChild(0);
+        }
+        assertEquals(100, clipHashes.size());
+        assertEquals(100, trackHashes.size());
+        try {
+            track.close();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
 }
@@ -0,0 +1,121 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline;
+
+import io.opentimeline.opentimelineio.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StringInterningTest {
+
+    @AfterEach
+    public void tearDown() {
+        StringInterning.setEnabled(false);
+        StringInterning.resetStatistics();
+    }
+
+    private AnyDictionary metadata(String reel) {
+        AnyDictionary metadata = new AnyDictionary();
+        metadata.put("reel", new Any(reel));
+        metadata.put("tape", new Any("tape-" + reel));
+        return metadata;
+    }
+
+    @Test
+    public void testDisabled() {
+        AnyDictionary a = metadata("A001");
+        AnyDictionary b = metadata("A001");
+        assertFalse(StringInterning.isEnabled());
+        assertNotSame(a.get("reel").safelyCastString(), b.get("reel").safelyCastString());
+        assertEquals(0, StringInterning.size());
+        assertEquals(0, StringInterning.getSavedBytes());
+        try {
+            a.close();
+            b.close();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    public void testConcurrentInterning() throws Exception {
+        StringInterning.setEnabled(true);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<String[]>> results = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            results.add(executor.submit(() -> {
+                String[] shared = new String[100];
+                for (int i = 0; i < shared.length; i++)
+                    shared[i] = StringInterning.intern(new String("camera" + i));
+                return shared;
+            }));
+        }
+        String[] first = results.get(0).get();
+        for (Future<String[]> result : results) {
+            String[] shared = result.get();
+            for (int i = 0; i < shared.length; i++)
+                assertSame(first[i], shared[i]);
+        }
+        executor.shutdown();
+        assertEquals(100, StringInterning.getMissCount());
+        assertEquals(300, StringInterning.getHitCount());
+    }
+
+    @Test
+    public void testInterning() {
+        StringInterning.setEnabled(true);
+        AnyDictionary a = metadata("A001");
+        AnyDictionary b = metadata("A001");
+
+        // the keys put, "reel" and "tape"
+        assertEquals(2, StringInterning.getMissCount());
+        assertEquals(0, StringInterning.getHitCount());
+
+        String reelA = a.get("reel").safelyCastString();
+        String reelB = b.get("reel").safelyCastString();
+        assertEquals("A001", reelA);
+        assertSame(reelA, reelB);
+        assertSame(reelA, b.getString("reel", null));
+        assertEquals(3, StringInterning.getMissCount());
+        assertEquals(2, StringInterning.getHitCount());
+        assertTrue(StringInterning.getSavedBytes() > 0);
+
+        // keys are read back as the Strings that were put
+        AnyDictionary.Iterator iterator = a.iterator();
+        String key = iterator.next().getKey();
+        assertSame("reel", key);
+        for (String other : b.keySet()) {
+            if (other.equals(key))
+                assertSame(key, other);
+        }
+        String value = new String(new char[]{'L', 'U', 'T', '1'});
+        b.putString("lut", value);
+        assertSame(value, b.getString("lut", null));
+
+        Map<String, Object> map = b.toJavaMap();
+        assertSame(reelA, map.get("reel"));
+        assertSame(value, map.get("lut"));
+        assertEquals(6, StringInterning.size());
+
+        StringInterning.setEnabled(false);
+        assertEquals(0, StringInterning.size());
+        assertNotSame(reelA, a.get("reel").safelyCastString());
+        try {
+            iterator.close();
+            a.close();
+            b.close();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+}
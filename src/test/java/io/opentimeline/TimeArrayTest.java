@@ -0,0 +1,197 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline;
+
+import io.opentimeline.opentime.RationalTime;
+import io.opentimeline.opentime.RationalTimeArray;
+import io.opentimeline.opentime.TimeRange;
+import io.opentimeline.opentime.TimeRangeArray;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the bulk operations of RationalTimeArray and TimeRangeArray against
+ * the RationalTime and TimeRange methods they are named after.
+ */
+public class TimeArrayTest {
+
+    private static final int SIZE = 5000;
+    private static final double[] RATES = {24, 25, 30, 48, 23.976, 29.97, 30000.0 / 1001, 48000};
+
+    private final Random random = new Random(0x5eed);
+
+    private RationalTime randomTime() {
+        double value = random.nextBoolean() ? random.nextInt(20000) - 1000 : random.nextDouble() * 20000;
+        return new RationalTime(value, RATES[random.nextInt(RATES.length)]);
+    }
+
+    private RationalTime[] randomTimes() {
+        RationalTime[] times = new RationalTime[SIZE];
+        for (int i = 0; i < SIZE; i++)
+            times[i] = randomTime();
+        return times;
+    }
+
+    private TimeRange[] randomRanges() {
+        TimeRange[] ranges = new TimeRange[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            RationalTime duration = new RationalTime(random.nextInt(200) + random.nextInt(2) * 0.5,
+                    RATES[random.nextInt(RATES.length)]);
+            ranges[i] = new TimeRange(randomTime(), duration);
+        }
+        return ranges;
+    }
+
+    private static void assertSameTime(RationalTime expected, RationalTime actual) {
+        assertEquals(expected.getValue(), actual.getValue(), 0, expected + " " + actual);
+        assertEquals(expected.getRate(), actual.getRate(), 0, expected + " " + actual);
+    }
+
+    @Test
+    public void testCreate() {
+        RationalTimeArray times = new RationalTimeArray(3);
+        assertEquals(3, times.size());
+        assertSameTime(new RationalTime(), times.get(2));
+
+        times = new RationalTimeArray(new double[]{1, 2, 3}, 24);
+        assertSameTime(new RationalTime(2, 24), times.get(1));
+        times.set(1, new RationalTime(5, 30));
+        assertEquals(5, times.getValue(1));
+        assertEquals(30, times.getRate(1));
+        assertArrayEquals(new double[]{24, 30, 24}, times.getRates());
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new RationalTimeArray(new double[]{1, 2}, new double[]{24}));
+        assertThrows(IllegalArgumentException.class,
+                () -> new RationalTimeArray(2).add(new RationalTimeArray(3)));
+        assertThrows(IndexOutOfBoundsException.class, () -> new RationalTimeArray(2).get(2));
+
+        TimeRangeArray ranges = new TimeRangeArray(new TimeRange[]{
+                new TimeRange(new RationalTime(1, 24), new RationalTime(10, 24))});
+        assertEquals(new TimeRange(new RationalTime(1, 24), new RationalTime(10, 24)), ranges.get(0));
+        assertSameTime(new RationalTime(1, 24), ranges.getStartTimes().get(0));
+        assertSameTime(new RationalTime(10, 24), ranges.getDurations().get(0));
+    }
+
+    @Test
+    public void testArithmetic() {
+        RationalTime[] lhs = randomTimes();
+        RationalTime[] rhs = randomTimes();
+        RationalTimeArray lhsArray = new RationalTimeArray(lhs);
+        RationalTimeArray rhsArray = new RationalTimeArray(rhs);
+        RationalTime offset = new RationalTime(86400, 24);
+
+        RationalTimeArray sums = lhsArray.add(rhsArray);
+        RationalTimeArray differences = lhsArray.subtract(rhsArray);
+        RationalTimeArray offsetSums = lhsArray.add(offset);
+        RationalTimeArray offsetDifferences = lhsArray.subtract(offset);
+        RationalTimeArray rescaled = lhsArray.rescaledTo(29.97);
+        int[] frames = lhsArray.toFrames();
+        int[] framesAt48 = lhsArray.toFrames(48);
+        double[] seconds = lhsArray.toSeconds();
+        for (int i = 0; i < SIZE; i++) {
+            assertSameTime(lhs[i].add(rhs[i]), sums.get(i));
+            assertSameTime(lhs[i].subtract(rhs[i]), differences.get(i));
+            assertSameTime(lhs[i].add(offset), offsetSums.get(i));
+            assertSameTime(lhs[i].subtract(offset), offsetDifferences.get(i));
+            assertSameTime(lhs[i].rescaledTo(29.97), rescaled.get(i));
+            assertEquals(lhs[i].toFrames(), frames[i]);
+            assertEquals(lhs[i].toFrames(48), framesAt48[i]);
+            assertEquals(lhs[i].toSeconds(), seconds[i], 0);
+        }
+    }
+
+    @Test
+    public void testClamped() {
+        RationalTime[] times = randomTimes();
+        TimeRange range = new TimeRange(new RationalTime(100, 24), new RationalTime(5000.5, 30));
+        RationalTimeArray clamped = new RationalTimeArray(times).clamped(range);
+        for (int i = 0; i < SIZE; i++)
+            assertSameTime(range.clamped(times[i]), clamped.get(i));
+
+        TimeRange[] ranges = randomRanges();
+        TimeRangeArray clampedRanges = new TimeRangeArray(ranges).clamped(range);
+        for (int i = 0; i < SIZE; i++) {
+            TimeRange expected = range.clamped(ranges[i]);
+            assertSameTime(expected.getStartTime(), clampedRanges.get(i).getStartTime());
+            assertSameTime(expected.getDuration(), clampedRanges.get(i).getDuration());
+        }
+    }
+
+    @Test
+    public void testRangePredicates() {
+        TimeRange[] ranges = randomRanges();
+        TimeRangeArray rangeArray = new TimeRangeArray(ranges);
+        RationalTimeArray endTimesExclusive = rangeArray.endTimesExclusive();
+        RationalTimeArray endTimesInclusive = rangeArray.endTimesInclusive();
+        for (int i = 0; i < SIZE; i++) {
+            assertSameTime(ranges[i].endTimeExclusive(), endTimesExclusive.get(i));
+            assertSameTime(ranges[i].endTimeInclusive(), endTimesInclusive.get(i));
+        }
+        for (int n = 0; n < 20; n++) {
+            RationalTime time = n % 2 == 0 ? randomTime() : ranges[random.nextInt(SIZE)].endTimeExclusive();
+            TimeRange other = n % 2 == 0 ? ranges[random.nextInt(SIZE)] : randomRanges()[0];
+            boolean[] overlapsTime = rangeArray.overlaps(time);
+            boolean[] overlapsRange = rangeArray.overlaps(other);
+            boolean[] intersects = rangeArray.intersects(other);
+            boolean[] intersectsWithEpsilon = rangeArray.intersects(other, 0.5);
+            for (int i = 0; i < SIZE; i++) {
+                assertEquals(ranges[i].overlaps(time), overlapsTime[i]);
+                assertEquals(ranges[i].overlaps(other), overlapsRange[i]);
+                assertEquals(ranges[i].intersects(other), intersects[i]);
+                assertEquals(ranges[i].intersects(other, 0.5), intersectsWithEpsilon[i]);
+            }
+        }
+    }
+
+    @Test
+    public void testSortAndBisect() {
+        RationalTime[] times = randomTimes();
+        RationalTimeArray timeArray = new RationalTimeArray(times);
+        timeArray.sort();
+        Arrays.sort(times, Comparator.comparingDouble(RationalTime::toSeconds));
+        for (int i = 0; i < SIZE; i++)
+            assertSameTime(times[i], timeArray.get(i));
+
+        for (int n = 0; n < 1000; n++) {
+            RationalTime target = n % 2 == 0 ? randomTime() : times[random.nextInt(SIZE)];
+            int left = timeArray.bisectLeft(target);
+            int right = timeArray.bisectRight(target);
+            assertTrue(left <= right);
+            for (int i = 0; i < left; i++)
+                assertTrue(times[i].compareTo(target) < 0);
+            for (int i = left; i < right; i++)
+                assertEquals(0, times[i].compareTo(target));
+            for (int i = right; i < SIZE; i++)
+                assertTrue(times[i].compareTo(target) > 0);
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> timeArray.bisectLeft(times[0], -1, SIZE));
+        assertThrows(IndexOutOfBoundsException.class, () -> timeArray.bisectRight(times[0], 0, SIZE + 1));
+
+        // equal times keep their order, -0.0 and 0.0 included, NaN goes last
+        RationalTimeArray zeros = new RationalTimeArray(new RationalTime[]{
+                new RationalTime(Double.NaN, 24), new RationalTime(0.0, 24), new RationalTime(-0.0, 24)});
+        zeros.sort();
+        assertEquals(0.0, zeros.get(0).getValue());
+        assertEquals(-0.0, zeros.get(1).getValue());
+        assertTrue(Double.isNaN(zeros.get(2).getValue()));
+
+        TimeRange[] ranges = randomRanges();
+        TimeRangeArray rangeArray = new TimeRangeArray(ranges);
+        rangeArray.sort();
+        Arrays.sort(ranges, Comparator.comparingDouble(range -> range.getStartTime().toSeconds()));
+        for (int i = 0; i < SIZE; i++) {
+            assertSameTime(ranges[i].getStartTime(), rangeArray.get(i).getStartTime());
+            assertSameTime(ranges[i].getDuration(), rangeArray.get(i).getDuration());
+        }
+        RationalTime target = randomTime();
+        int index = rangeArray.bisectStartTimes(target);
+        assertEquals(rangeArray.getStartTimes().bisectLeft(target), index);
+    }
+}
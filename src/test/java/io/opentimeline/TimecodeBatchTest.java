@@ -0,0 +1,130 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline;
+
+import io.opentimeline.opentime.IsDropFrameRate;
+import io.opentimeline.opentime.RationalTime;
+import io.opentimeline.opentime.exception.*;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that the batch timecode conversions give the same results as converting one time at a time.
+ */
+public class TimecodeBatchTest {
+
+    private static final int SIZE = 100000;
+    private static final int LENGTH = RationalTime.TIMECODE_LENGTH;
+
+    private static double[] frames(int step) {
+        double[] values = new double[SIZE];
+        for (int i = 0; i < SIZE; i++)
+            values[i] = (double) i * step;
+        return values;
+    }
+
+    private static void assertBatchMatches(double rate, IsDropFrameRate dropFrame) throws OpentimeException {
+        double[] values = frames(7);
+        char[] chars = new char[SIZE * LENGTH + 3];
+        RationalTime.toTimecodes(values, rate, dropFrame, chars, 3);
+
+        ByteBuffer heap = ByteBuffer.allocate(SIZE * LENGTH + 1);
+        heap.put((byte) '#');
+        RationalTime.toTimecodes(values, rate, dropFrame, heap);
+        assertEquals(heap.limit(), heap.position());
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(SIZE * LENGTH);
+        RationalTime.toTimecodes(values, rate, dropFrame, direct);
+        assertEquals(direct.limit(), direct.position());
+
+        byte[] heapBytes = heap.array();
+        byte[] directBytes = new byte[SIZE * LENGTH];
+        direct.flip();
+        direct.get(directBytes);
+
+        String[] timecodes = new String[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            String expected = new RationalTime(values[i], rate).toTimecode(rate, dropFrame);
+            timecodes[i] = expected;
+            assertEquals(expected, new String(chars, 3 + i * LENGTH, LENGTH), "char[] at " + rate);
+            assertEquals(expected, new String(heapBytes, 1 + i * LENGTH, LENGTH, StandardCharsets.US_ASCII),
+                    "heap buffer at " + rate);
+            assertEquals(expected, new String(directBytes, i * LENGTH, LENGTH, StandardCharsets.US_ASCII),
+                    "direct buffer at " + rate);
+        }
+
+        double[] parsed = new double[SIZE];
+        RationalTime.fromTimecodes(timecodes, rate, parsed);
+        double[] parsedPacked = new double[SIZE];
+        RationalTime.fromTimecodes(chars, 3, SIZE, rate, parsedPacked);
+        for (int i = 0; i < SIZE; i++) {
+            double expected = RationalTime.fromTimecode(timecodes[i], rate).getValue();
+            assertEquals(expected, parsed[i], 0, timecodes[i] + " at " + rate);
+            assertEquals(expected, parsedPacked[i], 0, timecodes[i] + " at " + rate);
+        }
+    }
+
+    @Test
+    public void testIntegerRates() throws OpentimeException {
+        assertBatchMatches(24, IsDropFrameRate.InferFromRate);
+        assertBatchMatches(25, IsDropFrameRate.InferFromRate);
+        assertBatchMatches(30, IsDropFrameRate.InferFromRate);
+    }
+
+    @Test
+    public void testDropFrame() throws OpentimeException {
+        assertBatchMatches(29.97, IsDropFrameRate.InferFromRate);
+        assertBatchMatches(59.94, IsDropFrameRate.InferFromRate);
+        assertBatchMatches(30000.0 / 1001, IsDropFrameRate.ForceYes);
+    }
+
+    @Test
+    public void testNonDropFrame() throws OpentimeException {
+        assertBatchMatches(29.97, IsDropFrameRate.ForceNo);
+        assertBatchMatches(24000.0 / 1001, IsDropFrameRate.InferFromRate);
+    }
+
+    @Test
+    public void testBounds() {
+        double[] values = {0, 1, 2};
+        assertThrows(IndexOutOfBoundsException.class, () -> RationalTime.toTimecodes(
+                values, 24, IsDropFrameRate.InferFromRate, new char[3 * LENGTH], 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> RationalTime.toTimecodes(
+                values, 24, IsDropFrameRate.InferFromRate, new char[3 * LENGTH], -1));
+        assertThrows(IndexOutOfBoundsException.class, () -> RationalTime.toTimecodes(
+                values, 24, IsDropFrameRate.InferFromRate, ByteBuffer.allocate(3 * LENGTH - 1)));
+        assertThrows(java.nio.ReadOnlyBufferException.class, () -> RationalTime.toTimecodes(
+                values, 24, IsDropFrameRate.InferFromRate, ByteBuffer.allocate(3 * LENGTH).asReadOnlyBuffer()));
+        assertThrows(IndexOutOfBoundsException.class, () -> RationalTime.fromTimecodes(
+                new String[]{"00:00:00:01", "00:00:00:02"}, 24, new double[1]));
+        assertThrows(IndexOutOfBoundsException.class, () -> RationalTime.fromTimecodes(
+                new char[2 * LENGTH], 1, 2, 24, new double[2]));
+    }
+
+    @Test
+    public void testExceptions() throws OpentimeException {
+        char[] chars = new char[3 * LENGTH];
+        assertThrows(NegativeValueException.class, () -> RationalTime.toTimecodes(
+                new double[]{0, 1, -5}, 24, IsDropFrameRate.InferFromRate, chars, 0));
+        assertEquals("00:00:00:01", new String(chars, LENGTH, LENGTH));
+        assertThrows(InvalidRateForDropFrameTimecodeException.class, () -> RationalTime.toTimecodes(
+                new double[]{0}, 24, IsDropFrameRate.ForceYes, chars, 0));
+
+        ByteBuffer buffer = ByteBuffer.allocate(3 * LENGTH);
+        assertThrows(NegativeValueException.class, () -> RationalTime.toTimecodes(
+                new double[]{0, 1, -5}, 24, IsDropFrameRate.InferFromRate, buffer));
+        assertEquals(2 * LENGTH, buffer.position());
+
+        double[] out = new double[3];
+        assertThrows(InvalidTimecodeStringException.class, () -> RationalTime.fromTimecodes(
+                new String[]{"00:00:00:01", "00:00:00:02", "not a timecode"}, 24, out));
+        assertArrayEquals(new double[]{1, 2, 0}, out);
+        assertThrows(TimecodeRateMismatchException.class, () -> RationalTime.fromTimecodes(
+                new String[]{"00:00:00:30"}, 24, out));
+    }
+}
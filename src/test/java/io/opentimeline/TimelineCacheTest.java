@@ -0,0 +1,207 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline;
+
+import io.opentimeline.opentime.RationalTime;
+import io.opentimeline.opentime.TimeRange;
+import io.opentimeline.opentimelineio.*;
+import io.opentimeline.opentimelineio.exception.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TimelineCacheTest {
+
+    Timeline timeline;
+    Path file;
+
+    @BeforeEach
+    public void setUp() throws OpenTimelineIOException, IOException {
+        Track track = new Track.TrackBuilder().setName("track").build();
+        for (int i = 0; i < 10; i++) {
+            track.appendChild(new Clip.ClipBuilder()
+                    .setName("clip" + i)
+                    .setSourceRange(new TimeRange(new RationalTime(0, 24), new RationalTime(24, 24)))
+                    .build());
+        }
+        Stack stack = new Stack.StackBuilder().build();
+        stack.appendChild(track);
+        timeline = new Timeline.TimelineBuilder().setName("cached").build();
+        timeline.setTracks(stack);
+        file = Files.createTempFile("timeline", ".otio");
+        assertTrue(timeline.toJSONFile(file.toString()));
+        try {
+            track.close();
+            stack.close();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    public void testHitsReturnCopies() throws OpenTimelineIOException, IOException {
+        try (TimelineCache cache = new TimelineCache()) {
+            Timeline first = cache.getTimeline(file.toString());
+            Timeline second = cache.getTimeline(file.toString());
+            assertEquals(1, cache.getMissCount());
+            assertEquals(1, cache.getHitCount());
+            assertEquals(1, cache.size());
+            assertTrue(cache.getWeight() > 0);
+            assertTrue(timeline.isEquivalentTo(first));
+            assertTrue(timeline.isEquivalentTo(second));
+
+            first.setName("changed");
+            Timeline third = cache.getTimeline(file.toString());
+            assertEquals("cached", third.getName());
+            assertEquals("cached", second.getName());
+            try {
+                first.close();
+                second.close();
+                third.close();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    @Test
+    public void testInvalidation() throws OpenTimelineIOException, IOException {
+        try (TimelineCache cache = new TimelineCache()) {
+            SerializableObject before = cache.get(file.toString());
+            timeline.setName("renamed");
+            assertTrue(timeline.toJSONFile(file.toString()));
+            Files.setLastModifiedTime(file, FileTime.fromMillis(
+                    Files.getLastModifiedTime(file).toMillis() + 10000));
+            Timeline after = cache.getTimeline(file.toString());
+            assertEquals("renamed", after.getName());
+            assertEquals(2, cache.getMissCount());
+            assertEquals(1, cache.getInvalidationCount());
+
+            cache.invalidate(file.toString());
+            assertEquals(0, cache.size());
+            assertEquals(0, cache.getWeight());
+            try {
+                before.close();
+                after.close();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    @Test
+    public void testVerifyContent() throws OpenTimelineIOException, IOException {
+        try (TimelineCache cache = new TimelineCache.TimelineCacheBuilder().setVerifyContent(true).build()) {
+            FileTime lastModified = Files.getLastModifiedTime(file);
+            SerializableObject before = cache.get(file.toString());
+            // same length and modification time, different content
+            timeline.setName("CACHED");
+            assertTrue(timeline.toJSONFile(file.toString()));
+            Files.setLastModifiedTime(file, lastModified);
+            Timeline after = cache.getTimeline(file.toString());
+            assertEquals("CACHED", after.getName());
+            assertEquals(0, cache.getHitCount());
+            try {
+                before.close();
+                after.close();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    @Test
+    public void testEviction() throws OpenTimelineIOException, IOException {
+        Path binaryFile = Files.createTempFile("timeline", ".otiob");
+        assertTrue(timeline.toBinaryFile(binaryFile.toString()));
+        // either file fits alone, JSON files weigh twice their size and binary files eight times
+        long maxWeight = Math.max(Files.size(file) * 2, Files.size(binaryFile) * 8);
+        try (TimelineCache cache = new TimelineCache.TimelineCacheBuilder().setMaxWeight(maxWeight).build()) {
+            SerializableObject fromJSON = cache.get(file.toString());
+            SerializableObject fromBinary = cache.get(binaryFile.toString());
+            assertTrue(timeline.isEquivalentTo(fromBinary));
+            assertEquals(1, cache.size());
+            assertEquals(1, cache.getEvictionCount());
+            assertEquals(Files.size(binaryFile) * 8, cache.getWeight());
+            try {
+                fromJSON.close();
+                fromBinary.close();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        } finally {
+            Files.delete(binaryFile);
+        }
+    }
+
+    @Test
+    public void testConcurrentInvalidation() throws Exception {
+        try (TimelineCache cache = new TimelineCache()) {
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                boolean invalidate = i % 5 == 0;
+                results.add(executor.submit(() -> {
+                    if (invalidate)
+                        cache.invalidateAll();
+                    // copies of an object invalidated meanwhile are still complete
+                    Timeline copy = cache.getTimeline(file.toString());
+                    boolean equivalent = timeline.isEquivalentTo(copy);
+                    copy.close();
+                    return equivalent;
+                }));
+            }
+            for (Future<Boolean> result : results)
+                assertTrue(result.get());
+            executor.shutdown();
+            assertEquals(200, cache.getHitCount() + cache.getMissCount());
+        }
+    }
+
+    @Test
+    public void testNotATimeline() throws OpenTimelineIOException, IOException {
+        Path clipFile = Files.createTempFile("clip", ".otio");
+        Clip clip = new Clip.ClipBuilder().setName("clip").build();
+        try (TimelineCache cache = new TimelineCache()) {
+            assertTrue(clip.toJSONFile(clipFile.toString()));
+            assertThrows(TypeMismatchException.class, () -> cache.getTimeline(clipFile.toString()));
+            SerializableObject decoded = cache.get(clipFile.toString());
+            assertTrue(clip.isEquivalentTo(decoded));
+            try {
+                decoded.close();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        } finally {
+            Files.delete(clipFile);
+        }
+        try {
+            clip.close();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        Files.delete(file);
+        try {
+            timeline.close();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+}
@@ -0,0 +1,192 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline;
+
+import io.opentimeline.opentime.RationalTime;
+import io.opentimeline.opentime.TimeRange;
+import io.opentimeline.opentimelineio.*;
+import io.opentimeline.opentimelineio.exception.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TimelineDiffTest {
+
+    private Clip clip(String name, int duration, String take) {
+        AnyDictionary metadata = new AnyDictionary();
+        metadata.put("take", new Any(take));
+        return new Clip.ClipBuilder()
+                .setName(name)
+                .setMediaReference(new ExternalReference.ExternalReferenceBuilder()
+                        .setTargetURL("file:///media/" + name + ".mov")
+                        .build())
+                .setSourceRange(new TimeRange(new RationalTime(0, 24), new RationalTime(duration, 24)))
+                .setMetadata(metadata)
+                .build();
+    }
+
+    private Timeline timeline(List<Composable> videoClips) throws OpenTimelineIOException {
+        Track video = new Track.TrackBuilder().setName("video").build();
+        video.setChildren(videoClips);
+        Track audio = new Track.TrackBuilder().setName("audio").setKind(Track.Kind.audio).build();
+        audio.appendChild(clip("music", 240, "1"));
+        Stack stack = new Stack.StackBuilder().build();
+        stack.setChildren(Arrays.asList(video, audio));
+        Timeline timeline = new Timeline.TimelineBuilder().setName("cut").build();
+        timeline.setTracks(stack);
+        return timeline;
+    }
+
+    private List<TimelineDiff.EditType> types(List<TimelineDiff.Edit> edits) {
+        List<TimelineDiff.EditType> types = new ArrayList<>();
+        for (TimelineDiff.Edit edit : edits)
+            types.add(edit.getType());
+        return types;
+    }
+
+    @Test
+    public void testIdentical() throws OpenTimelineIOException {
+        Timeline a = timeline(Arrays.asList(clip("c0", 24, "1"), clip("c1", 24, "1")));
+        Timeline b = (Timeline) a.deepCopy();
+        assertTrue(TimelineDiff.compute(a, b).isEmpty());
+        try {
+            a.close();
+            b.close();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    public void testEditScript() throws OpenTimelineIOException {
+        List<Composable> clipsA = new ArrayList<>();
+        for (int i = 0; i < 6; i++)
+            clipsA.add(clip("c" + i, 24, "1"));
+        Timeline a = timeline(clipsA);
+
+        LinearTimeWarp warp = new LinearTimeWarp.LinearTimeWarpBuilder().setTimeScalar(2).build();
+        String retimedJSON = clip("c5", 24, "1").toJSONString()
+                .replace("\"effects\": []", "\"effects\": [" + warp.toJSONString() + "]");
+        Clip retimed = (Clip) SerializableObject.fromJSONString(retimedJSON);
+        assertEquals(1, retimed.getEffects().size());
+        Timeline b = timeline(Arrays.asList(
+                clip("c4", 24, "1"),
+                clip("c0", 24, "1"),
+                clip("c2", 12, "1"),
+                clip("c3", 24, "2"),
+                clip("new", 24, "1"),
+                retimed));
+
+        List<TimelineDiff.Edit> edits = TimelineDiff.compute(a, b);
+        assertEquals(Arrays.asList(
+                TimelineDiff.EditType.DELETE,
+                TimelineDiff.EditType.INSERT,
+                TimelineDiff.EditType.MOVE,
+                TimelineDiff.EditType.TRIM,
+                TimelineDiff.EditType.METADATA_CHANGE,
+                TimelineDiff.EditType.RETIME), types(edits));
+
+        TimelineDiff.Edit delete = edits.get(0);
+        assertEquals(1, delete.getIndexA());
+        assertEquals(-1, delete.getIndexB());
+        assertEquals("c1", delete.getItemA().getName());
+        assertNull(delete.getItemB());
+        assertEquals("video", delete.getParentA().getName());
+
+        TimelineDiff.Edit insert = edits.get(1);
+        assertEquals(4, insert.getIndexB());
+        assertEquals("new", insert.getItemB().getName());
+
+        TimelineDiff.Edit move = edits.get(2);
+        assertEquals(4, move.getIndexA());
+        assertEquals(0, move.getIndexB());
+
+        TimelineDiff.Edit trim = edits.get(3);
+        assertEquals("c2", trim.getItemA().getName());
+        assertEquals(new RationalTime(12, 24), trim.getItemB().getDuration());
+        assertEquals("c3", edits.get(4).getItemB().getName());
+        assertEquals("c5", edits.get(5).getItemB().getName());
+        try {
+            warp.close();
+            a.close();
+            b.close();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    public void testTracks() throws OpenTimelineIOException {
+        Timeline a = timeline(Arrays.asList(clip("c0", 24, "1")));
+        Timeline b = timeline(Arrays.asList(clip("c0", 24, "1")));
+        Stack stack = b.getTracks();
+        stack.appendChild(new Track.TrackBuilder().setName("titles").build());
+        List<TimelineDiff.Edit> edits = TimelineDiff.compute(a, b);
+        assertEquals(1, edits.size());
+        assertEquals(TimelineDiff.EditType.INSERT, edits.get(0).getType());
+        assertEquals("titles", edits.get(0).getItemB().getName());
+        assertEquals(2, edits.get(0).getIndexB());
+        try {
+            a.close();
+            b.close();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    public void testRootChanges() throws OpenTimelineIOException {
+        Timeline a = timeline(Arrays.asList(clip("c0", 24, "1")));
+        Timeline b = timeline(Arrays.asList(clip("c0", 24, "1")));
+        b.setName("final cut");
+        AnyDictionary metadata = new AnyDictionary();
+        metadata.put("status", new Any("approved"));
+        b.setMetadata(metadata);
+        Stack stack = b.getTracks();
+        stack.setMetadata(metadata);
+        List<TimelineDiff.Edit> edits = TimelineDiff.compute(a, b);
+        assertEquals(Arrays.asList(
+                TimelineDiff.EditType.METADATA_CHANGE,
+                TimelineDiff.EditType.MODIFY,
+                TimelineDiff.EditType.METADATA_CHANGE), types(edits));
+        for (int i = 0; i < 2; i++) {
+            assertNull(edits.get(i).getItemB());
+            assertNull(edits.get(i).getParentB());
+            assertEquals(-1, edits.get(i).getIndexB());
+        }
+        TimelineDiff.Edit stackEdit = edits.get(2);
+        assertEquals(stack, stackEdit.getItemB());
+        assertNull(stackEdit.getParentB());
+        assertEquals(-1, stackEdit.getIndexB());
+        try {
+            a.close();
+            b.close();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    public void testCompositionFields() throws OpenTimelineIOException {
+        Timeline a = timeline(Arrays.asList(clip("c0", 24, "1")));
+        Timeline b = timeline(Arrays.asList(clip("c0", 24, "1")));
+        Track video = (Track) b.getTracks().getChildren().get(0);
+        video.setKind(Track.Kind.audio);
+        List<TimelineDiff.Edit> edits = TimelineDiff.compute(a, b);
+        assertEquals(1, edits.size());
+        assertEquals(TimelineDiff.EditType.MODIFY, edits.get(0).getType());
+        assertEquals("video", edits.get(0).getItemB().getName());
+        assertEquals(0, edits.get(0).getIndexB());
+        try {
+            a.close();
+            b.close();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+}
@@ -0,0 +1,268 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline;
+
+import io.opentimeline.opentime.RationalTime;
+import io.opentimeline.opentime.TimeRange;
+import io.opentimeline.opentimelineio.*;
+import io.opentimeline.opentimelineio.exception.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TimelineLoaderTest {
+
+    Timeline timeline;
+    Path file;
+    TimelineLoader loader = new TimelineLoader();
+
+    @BeforeEach
+    public void setUp() throws OpenTimelineIOException, IOException {
+        Track video = new Track.TrackBuilder().setName("video").setKind(Track.Kind.video).build();
+        for (int i = 0; i < 5; i++) {
+            if (i == 2) {
+                video.appendChild(new Transition.TransitionBuilder()
+                        .setName("dissolve")
+                        .setInOffset(new RationalTime(6, 24))
+                        .setOutOffset(new RationalTime(6, 24))
+                        .build());
+            }
+            video.appendChild(new Clip.ClipBuilder()
+                    .setName("video" + i)
+                    .setSourceRange(new TimeRange(new RationalTime(i * 100, 24), new RationalTime(24, 24)))
+                    .build());
+        }
+        Track audio = new Track.TrackBuilder().setName("audio").setKind(Track.Kind.audio).build();
+        for (int i = 0; i < 2; i++) {
+            audio.appendChild(new Clip.ClipBuilder()
+                    .setName("audio" + i)
+                    .setSourceRange(new TimeRange(new RationalTime(0, 24), new RationalTime(60, 24)))
+                    .build());
+        }
+        Stack stack = new Stack.StackBuilder().setName("tracks").build();
+        stack.appendChild(video);
+        stack.appendChild(audio);
+        timeline = new Timeline.TimelineBuilder().setName("loader").build();
+        timeline.setTracks(stack);
+        file = Files.createTempFile("timeline", ".otio");
+        assertTrue(timeline.toJSONFile(file.toString()));
+        try {
+            video.close();
+            audio.close();
+            stack.close();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    public void testLoadLazy() throws OpenTimelineIOException, IOException {
+        Timeline lazy = loader.loadLazy(file.toString());
+        List<Composable> tracks = lazy.getTracks().getChildren();
+        assertEquals(2, tracks.size());
+        assertTrue(loader.hasDeferredChildren((Composition) tracks.get(0)));
+        assertTrue(loader.hasDeferredChildren((Composition) tracks.get(1)));
+        assertEquals(6, ((Track) tracks.get(0)).getChildren().size());
+        assertFalse(loader.hasDeferredChildren((Composition) tracks.get(0)));
+        assertTrue(loader.hasDeferredChildren((Composition) tracks.get(1)));
+        loader.materialize(lazy);
+        assertFalse(loader.hasDeferredChildren((Composition) tracks.get(1)));
+        assertTrue(timeline.isEquivalentTo(lazy));
+
+        Timeline discarded = loader.loadLazy(file.toString());
+        loader.discardDeferredChildren(discarded);
+        for (Composable track : discarded.getTracks().getChildren()) {
+            assertFalse(loader.hasDeferredChildren((Composition) track));
+            assertEquals(0, ((Composition) track).getChildren().size());
+        }
+        try {
+            lazy.close();
+            discarded.close();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    public void testLoadLazyChildAtTime() throws OpenTimelineIOException, IOException {
+        Timeline lazy = loader.loadLazy(file.toString());
+        Track audio = (Track) lazy.getTracks().getChildren().get(1);
+        assertTrue(loader.hasDeferredChildren(audio));
+        assertEquals("audio1", audio.getChildAtTime(new RationalTime(70, 24)).getName());
+
+        // the ranges of the tracks in the stack need the children of the tracks
+        Timeline deep = loader.loadLazy(file.toString());
+        assertEquals("video2", deep.getTracks().getChildAtTime(new RationalTime(50, 24)).getName());
+        Timeline shallow = loader.loadLazy(file.toString());
+        assertEquals("video", shallow.getTracks().getChildAtTime(new RationalTime(50, 24), true).getName());
+        Timeline streamed = loader.loadLazy(file.toString());
+        assertEquals(2, streamed.getTracks().eachChild(
+                new TimeRange(new RationalTime(100, 24), new RationalTime(10, 24)), true).count());
+        try {
+            lazy.close();
+            deep.close();
+            shallow.close();
+            streamed.close();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    public void testLoadLazyCompositionIndex() throws OpenTimelineIOException, IOException {
+        Timeline lazy = loader.loadLazy(file.toString());
+        CompositionIndex index = new CompositionIndex(lazy.getTracks());
+        assertEquals("video", index.childAt(new RationalTime(50, 24)).getName());
+        assertEquals("video2", index.childAt(new RationalTime(50, 24), false).getName());
+        assertEquals(2, index.childrenIn(new TimeRange(new RationalTime(100, 24), new RationalTime(10, 24))).size());
+        for (Composable track : lazy.getTracks().getChildren())
+            assertFalse(loader.hasDeferredChildren((Composition) track));
+        try {
+            lazy.close();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    public void testLoadLazyWholeObject() throws OpenTimelineIOException, IOException {
+        Timeline saved = loader.loadLazy(file.toString());
+        assertEquals(timeline.toJSONString(), saved.toJSONString());
+
+        Timeline copied = loader.loadLazy(file.toString());
+        SerializableObject copy = copied.deepCopy();
+        assertTrue(timeline.isEquivalentTo(copy));
+        Timeline compared = loader.loadLazy(file.toString());
+        assertTrue(compared.isEquivalentTo(timeline));
+        Timeline hashed = loader.loadLazy(file.toString());
+        assertEquals(timeline.contentHash(), hashed.contentHash());
+
+        // held by another object
+        Timeline held = loader.loadLazy(file.toString());
+        SerializableCollection collection = new SerializableCollection.SerializableCollectionBuilder().build();
+        collection.setChildren(Collections.singletonList(held));
+        Any value = new Any(collection);
+        String json = new Serialization().serializeJSONToString(value);
+        assertTrue(json.contains("\"audio1\""));
+        for (Composable track : held.getTracks().getChildren())
+            assertFalse(loader.hasDeferredChildren((Composition) track));
+        try {
+            saved.close();
+            copied.close();
+            copy.close();
+            compared.close();
+            hashed.close();
+            held.close();
+            collection.close();
+            value.close();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    public void testLoadLazyClose() throws OpenTimelineIOException, IOException {
+        Timeline lazy = loader.loadLazy(file.toString());
+        List<Composable> tracks = lazy.getTracks().getChildren();
+        assertTrue(loader.hasDeferredChildren((Composition) tracks.get(1)));
+        try {
+            lazy.close();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+        // the children that were not deserialized went with the timeline
+        assertFalse(loader.hasDeferredChildren((Composition) tracks.get(1)));
+        assertEquals(0, ((Composition) tracks.get(1)).getChildren().size());
+        try {
+            for (Composable track : tracks)
+                track.close();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    public void testLoadLazyTrackKind() throws OpenTimelineIOException, IOException {
+        Timeline audioOnly = loader.loadLazy(file.toString(), Track.Kind.audio::equals);
+        List<Composable> tracks = audioOnly.getTracks().getChildren();
+        assertEquals(1, tracks.size());
+        assertEquals("audio", tracks.get(0).getName());
+        loader.materialize(audioOnly);
+        assertFalse(loader.hasDeferredChildren((Composition) tracks.get(0)));
+        assertEquals(new RationalTime(120, 24), audioOnly.getDuration());
+        try {
+            audioOnly.close();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    public void testLoadTimelineWindow() throws OpenTimelineIOException, IOException {
+        Timeline full = loader.loadTimeline(file.toString(), null, null);
+        assertTrue(timeline.isEquivalentTo(full));
+
+        TimeRange window = new TimeRange(new RationalTime(48, 24), new RationalTime(24, 24));
+        Timeline windowed = loader.loadTimeline(file.toString(), Track.Kind.video::equals, window);
+        List<Composable> tracks = windowed.getTracks().getChildren();
+        assertEquals(1, tracks.size());
+        Track video = (Track) tracks.get(0);
+        List<Composable> children = video.getChildren();
+        assertEquals(4, children.size());
+        assertTrue(children.get(0) instanceof Gap);
+        assertEquals(new RationalTime(48, 24), children.get(0).getDuration());
+        assertEquals("dissolve", children.get(1).getName());
+        assertEquals("video2", children.get(2).getName());
+        assertTrue(children.get(3) instanceof Gap);
+        assertEquals(new RationalTime(48, 24), children.get(3).getDuration());
+        assertEquals(new RationalTime(120, 24), video.getDuration());
+        assertEquals(new TimeRange(new RationalTime(48, 24), new RationalTime(24, 24)),
+                video.getRangeOfChild(children.get(2)));
+        assertEquals(new TimeRange(new RationalTime(200, 24), new RationalTime(24, 24)),
+                ((Clip) children.get(2)).getSourceRange());
+        try {
+            full.close();
+            windowed.close();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    public void testLoadNotATimeline() throws IOException {
+        Path clipFile = Files.createTempFile("clip", ".otio");
+        try {
+            Clip clip = new Clip.ClipBuilder().setName("clip").build();
+            assertTrue(clip.toJSONFile(clipFile.toString()));
+            assertThrows(TypeMismatchException.class, () -> loader.loadLazy(clipFile.toString()));
+            try {
+                clip.close();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        } catch (OpenTimelineIOException e) {
+            fail(e);
+        } finally {
+            Files.delete(clipFile);
+        }
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        Files.delete(file);
+        try {
+            timeline.close();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+}
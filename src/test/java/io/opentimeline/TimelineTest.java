@@ -9,6 +9,17 @@ import io.opentimeline.opentimelineio.*;
 import io.opentimeline.opentimelineio.exception.*;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -151,6 +162,127 @@ public class TimelineTest {
         }
     }
 
+    @Test
+    public void testSerializeToStream() throws OpenTimelineIOException, IOException {
+        Track track = new Track.TrackBuilder().build();
+        Stack stack = new Stack.StackBuilder().build();
+        assertTrue(stack.appendChild(track));
+        Timeline timeline = new Timeline.TimelineBuilder().setName("streamed \u00e9\u263a").build();
+        timeline.setTracks(stack);
+        // large enough to need several chunks
+        for (int i = 0; i < 2000; i++) {
+            assertTrue(track.appendChild(new Clip.ClipBuilder()
+                    .setName("clip" + i)
+                    .setSourceRange(new TimeRange(new RationalTime(i, 24), new RationalTime(24, 24)))
+                    .build()));
+        }
+        Any timelineAny = new Any(timeline);
+        Serialization serialization = new Serialization();
+        byte[] expected = serialization.serializeJSONToString(timelineAny, 2).getBytes(StandardCharsets.UTF_8);
+        assertTrue(expected.length > 3 * 64 * 1024);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        serialization.serializeJSON(timelineAny, outputStream, 2);
+        assertArrayEquals(expected, outputStream.toByteArray());
+
+        ByteArrayOutputStream channelOutput = new ByteArrayOutputStream();
+        serialization.serializeJSON(timelineAny, Channels.newChannel(channelOutput), 2);
+        assertArrayEquals(expected, channelOutput.toByteArray());
+
+        ByteArrayOutputStream defaultIndent = new ByteArrayOutputStream();
+        serialization.serializeJSON(timelineAny, defaultIndent);
+        Timeline decoded = (Timeline) SerializableObject.fromJSONString(
+                new String(defaultIndent.toByteArray(), StandardCharsets.UTF_8));
+        assertTrue(decoded.isEquivalentTo(timeline));
+
+        // a stream that serializes again on the same thread for every chunk it receives
+        ByteArrayOutputStream outer = new ByteArrayOutputStream();
+        ByteArrayOutputStream inner = new ByteArrayOutputStream();
+        serialization.serializeJSON(timelineAny, new OutputStream() {
+            @Override
+            public void write(int b) {
+                outer.write(b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                outer.write(b, off, len);
+                inner.reset();
+                try {
+                    serialization.serializeJSON(timelineAny, inner, 2);
+                } catch (OpenTimelineIOException e) {
+                    throw new IOException(e);
+                }
+            }
+        }, 2);
+        assertArrayEquals(expected, outer.toByteArray());
+        assertArrayEquals(expected, inner.toByteArray());
+        try {
+            timeline.close();
+            decoded.close();
+            timelineAny.close();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    public void testDeserializeFromBuffer() throws OpenTimelineIOException, IOException {
+        Track track = new Track.TrackBuilder().build();
+        Stack stack = new Stack.StackBuilder().build();
+        assertTrue(stack.appendChild(track));
+        Timeline timeline = new Timeline.TimelineBuilder().setName("buffered \u00e9\u263a").build();
+        timeline.setTracks(stack);
+        for (int i = 0; i < 500; i++) {
+            assertTrue(track.appendChild(new Clip.ClipBuilder()
+                    .setName("clip" + i)
+                    .setSourceRange(new TimeRange(new RationalTime(i, 24), new RationalTime(24, 24)))
+                    .build()));
+        }
+        Any timelineAny = new Any(timeline);
+        byte[] encoded = new Serialization().serializeJSONToString(timelineAny).getBytes(StandardCharsets.UTF_8);
+        Deserialization deserialization = new Deserialization();
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(encoded.length + 2);
+        direct.put((byte) ' ').put(encoded).put((byte) '#').flip();
+        direct.position(1).limit(encoded.length + 1);
+        Any fromDirect = new Any(new SerializableObject());
+        assertTrue(deserialization.deserializeJSONFromBuffer(direct, fromDirect));
+        assertTrue(timeline.isEquivalentTo(fromDirect.safelyCastSerializableObject()));
+        assertEquals(1, direct.position());
+
+        Any fromHeap = new Any(new SerializableObject());
+        assertTrue(deserialization.deserializeJSONFromBuffer(ByteBuffer.wrap(encoded).asReadOnlyBuffer(), fromHeap));
+        assertTrue(timeline.isEquivalentTo(fromHeap.safelyCastSerializableObject()));
+
+        Path file = Files.createTempFile("timeline", ".otio");
+        Any fromMapped = new Any(new SerializableObject());
+        try {
+            Files.write(file, encoded);
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                assertTrue(deserialization.deserializeJSONFromBuffer(mapped, fromMapped));
+            }
+            assertTrue(timeline.isEquivalentTo(fromMapped.safelyCastSerializableObject()));
+        } finally {
+            Files.delete(file);
+        }
+
+        Any malformed = new Any(new SerializableObject());
+        assertThrows(JSONParseException.class, () -> deserialization.deserializeJSONFromBuffer(
+                ByteBuffer.wrap(encoded, 0, encoded.length / 2), malformed));
+        try {
+            timeline.close();
+            timelineAny.close();
+            fromDirect.close();
+            fromHeap.close();
+            fromMapped.close();
+            malformed.close();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
     @Test
     public void testSerializeOfSubclasses() throws OpenTimelineIOException {
         Clip clip1 = new Clip.ClipBuilder()
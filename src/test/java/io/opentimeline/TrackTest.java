@@ -5,6 +5,7 @@ package io.opentimeline;
 
 import io.opentimeline.opentime.RationalTime;
 import io.opentimeline.opentime.TimeRange;
+import io.opentimeline.opentime.TimeRangeArray;
 import io.opentimeline.opentimelineio.*;
 import io.opentimeline.opentimelineio.exception.*;
 import io.opentimeline.util.Pair;
@@ -717,4 +718,34 @@ public class TrackTest {
             e.printStackTrace();
         }
     }
+
+    @Test
+    public void testRangesOfChildren() throws OpenTimelineIOException {
+        String projectRootDir = System.getProperty("user.dir");
+        String sampleDataDir = projectRootDir + File.separator +
+                "src" + File.separator + "test" + File.separator + "sample_data";
+        String genRefTest = sampleDataDir + File.separator + "transition_test.otio";
+        Timeline timeline = (Timeline) SerializableObject.fromJSONFile(genRefTest);
+        for (Composable stackChild : timeline.getTracks().getChildren()) {
+            Track track = (Track) stackChild;
+            List<Composable> children = track.getChildren();
+            TimeRangeArray rangesOfChildren = track.getRangesOfChildren();
+            assertEquals(children.size(), rangesOfChildren.size());
+            for (int i = 0; i < children.size(); i++) {
+                assertEquals(track.getRangeOfChildAtIndex(i), rangesOfChildren.get(i));
+            }
+        }
+        try {
+            timeline.close();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+        Track track = new Track.TrackBuilder().build();
+        assertEquals(0, track.getRangesOfChildren().size());
+        try {
+            track.close();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
 }
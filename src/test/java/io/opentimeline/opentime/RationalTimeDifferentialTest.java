@@ -0,0 +1,135 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline.opentime;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares the Java RationalTime arithmetic with opentime over random inputs.
+ */
+public class RationalTimeDifferentialTest {
+
+    private static final int ITERATIONS = 20000;
+
+    private static final double[] RATES = {
+            1, 24, 25, 30, 48, 60, 23.976, 29.97, 59.94, 24000.0 / 1001, 30000.0 / 1001,
+            60000.0 / 1001, 44100, 48000, 192000, 0.5, 0, -0.0, -24, Double.NaN,
+            Double.POSITIVE_INFINITY, Double.MIN_VALUE};
+
+    private static final double[] VALUES = {
+            0, -0.0, 1, -1, 0.5, 86399, 86400 * 24, 1e15, -1e15, Double.MAX_VALUE,
+            Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY};
+
+    private final Random random = new Random(0x07106a11L);
+
+    private double randomRate() {
+        switch (random.nextInt(4)) {
+            case 0:
+                return RATES[random.nextInt(RATES.length)];
+            case 1:
+                return random.nextInt(240) + 1;
+            default:
+                return random.nextDouble() * 1000;
+        }
+    }
+
+    private double randomValue() {
+        switch (random.nextInt(5)) {
+            case 0:
+                return VALUES[random.nextInt(VALUES.length)];
+            case 1:
+                return random.nextInt(1000000) - 500000;
+            case 2:
+                return (random.nextDouble() - 0.5) * 1e9;
+            default:
+                return random.nextGaussian() * 1000;
+        }
+    }
+
+    private RationalTime randomTime() {
+        return new RationalTime(randomValue(), randomRate());
+    }
+
+    private static void assertSameDouble(double expected, double actual, String message) {
+        assertEquals(Double.doubleToLongBits(expected), Double.doubleToLongBits(actual),
+                () -> message + ": expected " + expected + " but was " + actual);
+    }
+
+    private static void assertSameTime(RationalTime expected, RationalTime actual, String message) {
+        assertSameDouble(expected.getValue(), actual.getValue(), message + " value");
+        assertSameDouble(expected.getRate(), actual.getRate(), message + " rate");
+    }
+
+    @Test
+    public void testArithmetic() {
+        for (int i = 0; i < ITERATIONS; i++) {
+            RationalTime lhs = randomTime();
+            RationalTime rhs = randomTime();
+            String message = lhs + ", " + rhs;
+            assertSameTime(OpenTimeOracle.add(lhs, rhs), lhs.add(rhs), "add " + message);
+            assertSameTime(OpenTimeOracle.subtract(lhs, rhs), lhs.subtract(rhs), "subtract " + message);
+            assertSameTime(OpenTimeOracle.durationFromStartEndTime(lhs, rhs),
+                    RationalTime.durationFromStartEndTime(lhs, rhs), "durationFromStartEndTime " + message);
+        }
+    }
+
+    @Test
+    public void testRescale() {
+        for (int i = 0; i < ITERATIONS; i++) {
+            RationalTime time = randomTime();
+            RationalTime other = randomTime();
+            double newRate = random.nextBoolean() ? time.getRate() : randomRate();
+            String message = time + ", " + newRate;
+            assertSameTime(OpenTimeOracle.rescaledTo(time, newRate), time.rescaledTo(newRate), "rescaledTo " + message);
+            assertSameTime(OpenTimeOracle.rescaledTo(time, other), time.rescaledTo(other), "rescaledTo " + other);
+            assertSameDouble(OpenTimeOracle.valueRescaledTo(time, newRate), time.valueRescaledTo(newRate),
+                    "valueRescaledTo " + message);
+            assertSameDouble(OpenTimeOracle.valueRescaledTo(time, other), time.valueRescaledTo(other),
+                    "valueRescaledTo " + other);
+        }
+    }
+
+    @Test
+    public void testComparison() {
+        for (int i = 0; i < ITERATIONS; i++) {
+            RationalTime lhs = randomTime();
+            // equal and nearly equal times are the interesting cases for comparisons
+            RationalTime rhs;
+            switch (random.nextInt(3)) {
+                case 0:
+                    rhs = lhs.rescaledTo(randomRate());
+                    break;
+                case 1:
+                    rhs = new RationalTime(Math.nextUp(lhs.getValue()), lhs.getRate());
+                    break;
+                default:
+                    rhs = randomTime();
+            }
+            double delta = random.nextBoolean() ? 0 : random.nextDouble();
+            String message = lhs + ", " + rhs;
+            assertEquals(OpenTimeOracle.compare(lhs, rhs), lhs.compareTo(rhs), "compareTo " + message);
+            assertEquals(OpenTimeOracle.equals(lhs, rhs), lhs.equals(rhs), "equals " + message);
+            assertEquals(OpenTimeOracle.almostEqual(lhs, rhs, 0), lhs.almostEqual(rhs), "almostEqual " + message);
+            assertEquals(OpenTimeOracle.almostEqual(lhs, rhs, delta), lhs.almostEqual(rhs, delta),
+                    "almostEqual " + message + ", " + delta);
+            assertEquals(OpenTimeOracle.isInvalidTime(lhs), lhs.isInvalidTime(), "isInvalidTime " + lhs);
+        }
+    }
+
+    @Test
+    public void testNullArguments() {
+        RationalTime time = new RationalTime(1, 24);
+        assertThrows(NullPointerException.class, () -> time.add(null));
+        assertThrows(NullPointerException.class, () -> time.subtract(null));
+        assertThrows(NullPointerException.class, () -> time.rescaledTo(null));
+        assertThrows(NullPointerException.class, () -> time.almostEqual(null));
+        assertThrows(NullPointerException.class, () -> time.compareTo(null));
+        assertThrows(NullPointerException.class, () -> RationalTime.durationFromStartEndTime(time, null));
+        assertFalse(time.equals((Object) null));
+    }
+}
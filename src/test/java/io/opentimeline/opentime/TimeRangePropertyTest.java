@@ -0,0 +1,219 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline.opentime;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that the Java TimeRange agrees with opentime for random ranges.
+ * Related ranges (adjacent, nested, sharing a start or an end, off by less than epsilon)
+ * are generated on purpose since that is where the predicates differ.
+ */
+public class TimeRangePropertyTest {
+
+    private static final int ITERATIONS = 20000;
+
+    private static final double[] RATES = {
+            1, 24, 25, 30, 48, 60, 23.976, 29.97, 24000.0 / 1001, 30000.0 / 1001, 48000, 192000};
+
+    private final Random random = new Random(0x7157a4e5L);
+
+    private double randomRate() {
+        return RATES[random.nextInt(RATES.length)];
+    }
+
+    private double randomValue(int scale) {
+        switch (random.nextInt(4)) {
+            case 0:
+                return random.nextInt(scale);
+            case 1:
+                return random.nextInt(scale) + random.nextInt(4) * 0.25;
+            case 2:
+                return random.nextDouble() * scale;
+            default:
+                return random.nextInt(2 * scale) - scale;
+        }
+    }
+
+    private RationalTime randomTime() {
+        return new RationalTime(randomValue(1000), randomRate());
+    }
+
+    private TimeRange randomRange() {
+        RationalTime startTime = randomTime();
+        double duration = random.nextInt(10) == 0 ? 0 : randomValue(200);
+        double rate = random.nextBoolean() ? startTime.getRate() : randomRate();
+        return new TimeRange(startTime, new RationalTime(duration, rate));
+    }
+
+    private RationalTime nudge(RationalTime time) {
+        double seconds = (random.nextDouble() - 0.5) * 4 * TimeRange.DEFAULT_EPSILON_S;
+        return time.add(RationalTime.fromSeconds(seconds));
+    }
+
+    private TimeRange relatedRange(TimeRange range) {
+        RationalTime start = range.getStartTime();
+        RationalTime end = range.endTimeExclusive();
+        switch (random.nextInt(8)) {
+            case 0:
+                return new TimeRange(end, randomRange().getDuration());
+            case 1:
+                return new TimeRange(start, randomRange().getDuration());
+            case 2:
+                return TimeRange.rangeFromStartEndTime(randomTime(), end);
+            case 3:
+                return new TimeRange(start.rescaledTo(randomRate()), range.getDuration().rescaledTo(randomRate()));
+            case 4:
+                return TimeRange.rangeFromStartEndTime(nudge(start), nudge(end));
+            case 5:
+                return range.clamped(randomRange());
+            case 6:
+                return TimeRange.rangeFromStartEndTime(nudge(end), randomTime());
+            default:
+                return randomRange();
+        }
+    }
+
+    private RationalTime relatedTime(TimeRange range) {
+        switch (random.nextInt(5)) {
+            case 0:
+                return range.getStartTime();
+            case 1:
+                return range.endTimeExclusive();
+            case 2:
+                return nudge(range.getStartTime());
+            case 3:
+                return nudge(range.endTimeExclusive());
+            default:
+                return randomTime();
+        }
+    }
+
+    private double randomEpsilon() {
+        switch (random.nextInt(3)) {
+            case 0:
+                return TimeRange.DEFAULT_EPSILON_S;
+            case 1:
+                return 0;
+            default:
+                return random.nextDouble() / 24;
+        }
+    }
+
+    private static void assertSameTime(RationalTime expected, RationalTime actual, String message) {
+        assertEquals(Double.doubleToLongBits(expected.getValue()), Double.doubleToLongBits(actual.getValue()),
+                () -> message + ": expected " + expected + " but was " + actual);
+        assertEquals(Double.doubleToLongBits(expected.getRate()), Double.doubleToLongBits(actual.getRate()),
+                () -> message + ": expected " + expected + " but was " + actual);
+    }
+
+    private static void assertSameRange(TimeRange expected, TimeRange actual, String message) {
+        assertSameTime(expected.getStartTime(), actual.getStartTime(), message + " startTime");
+        assertSameTime(expected.getDuration(), actual.getDuration(), message + " duration");
+    }
+
+    @Test
+    public void testDefaultEpsilon() {
+        assertEquals(OpenTimeOracle.defaultEpsilon(), TimeRange.DEFAULT_EPSILON_S);
+    }
+
+    @Test
+    public void testDerivedTimesAndRanges() {
+        for (int i = 0; i < ITERATIONS; i++) {
+            TimeRange range = randomRange();
+            TimeRange other = relatedRange(range);
+            RationalTime time = relatedTime(range);
+            String message = range + ", " + other + ", " + time;
+            assertSameTime(OpenTimeOracle.endTimeInclusive(range), range.endTimeInclusive(),
+                    "endTimeInclusive " + message);
+            assertSameTime(OpenTimeOracle.endTimeExclusive(range), range.endTimeExclusive(),
+                    "endTimeExclusive " + message);
+            assertSameRange(OpenTimeOracle.durationExtendedBy(range, time), range.durationExtendedBy(time),
+                    "durationExtendedBy " + message);
+            assertSameRange(OpenTimeOracle.extendedBy(range, other), range.extendedBy(other),
+                    "extendedBy " + message);
+            assertSameTime(OpenTimeOracle.clampedTime(range, time), range.clamped(time),
+                    "clamped " + message);
+            assertSameRange(OpenTimeOracle.clampedRange(range, other), range.clamped(other),
+                    "clamped " + message);
+            assertSameRange(OpenTimeOracle.rangeFromStartEndTime(range.getStartTime(), time),
+                    TimeRange.rangeFromStartEndTime(range.getStartTime(), time),
+                    "rangeFromStartEndTime " + message);
+        }
+    }
+
+    @Test
+    public void testPredicates() {
+        for (int i = 0; i < ITERATIONS; i++) {
+            TimeRange range = randomRange();
+            TimeRange other = relatedRange(range);
+            RationalTime time = relatedTime(range);
+            double epsilon = randomEpsilon();
+            String message = range + ", " + other + ", " + time + ", " + epsilon;
+            double defaultEpsilon = TimeRange.DEFAULT_EPSILON_S;
+
+            assertEquals(OpenTimeOracle.containsTime(range, time), range.contains(time), "contains " + message);
+            assertEquals(OpenTimeOracle.containsRange(range, other, defaultEpsilon), range.contains(other),
+                    "contains " + message);
+            assertEquals(OpenTimeOracle.containsRange(range, other, epsilon), range.contains(other, epsilon),
+                    "contains " + message);
+            assertEquals(OpenTimeOracle.overlapsTime(range, time), range.overlaps(time), "overlaps " + message);
+            assertEquals(OpenTimeOracle.overlapsRange(range, other, defaultEpsilon), range.overlaps(other),
+                    "overlaps " + message);
+            assertEquals(OpenTimeOracle.overlapsRange(range, other, epsilon), range.overlaps(other, epsilon),
+                    "overlaps " + message);
+            assertEquals(OpenTimeOracle.beforeRange(range, other, defaultEpsilon), range.before(other),
+                    "before " + message);
+            assertEquals(OpenTimeOracle.beforeRange(range, other, epsilon), range.before(other, epsilon),
+                    "before " + message);
+            assertEquals(OpenTimeOracle.beforeTime(range, time, defaultEpsilon), range.before(time),
+                    "before " + message);
+            assertEquals(OpenTimeOracle.beforeTime(range, time, epsilon), range.before(time, epsilon),
+                    "before " + message);
+            assertEquals(OpenTimeOracle.meets(range, other, defaultEpsilon), range.meets(other),
+                    "meets " + message);
+            assertEquals(OpenTimeOracle.meets(range, other, epsilon), range.meets(other, epsilon),
+                    "meets " + message);
+            assertEquals(OpenTimeOracle.beginsRange(range, other, defaultEpsilon), range.begins(other),
+                    "begins " + message);
+            assertEquals(OpenTimeOracle.beginsRange(range, other, epsilon), range.begins(other, epsilon),
+                    "begins " + message);
+            assertEquals(OpenTimeOracle.beginsTime(range, time, defaultEpsilon), range.begins(time),
+                    "begins " + message);
+            assertEquals(OpenTimeOracle.beginsTime(range, time, epsilon), range.begins(time, epsilon),
+                    "begins " + message);
+            assertEquals(OpenTimeOracle.finishesRange(range, other, defaultEpsilon), range.finishes(other),
+                    "finishes " + message);
+            assertEquals(OpenTimeOracle.finishesRange(range, other, epsilon), range.finishes(other, epsilon),
+                    "finishes " + message);
+            assertEquals(OpenTimeOracle.finishesTime(range, time, defaultEpsilon), range.finishes(time),
+                    "finishes " + message);
+            assertEquals(OpenTimeOracle.finishesTime(range, time, epsilon), range.finishes(time, epsilon),
+                    "finishes " + message);
+            assertEquals(OpenTimeOracle.intersects(range, other, defaultEpsilon), range.intersects(other),
+                    "intersects " + message);
+            assertEquals(OpenTimeOracle.intersects(range, other, epsilon), range.intersects(other, epsilon),
+                    "intersects " + message);
+            assertEquals(OpenTimeOracle.rangeEquals(range, other), range.equals(other), "equals " + message);
+            assertEquals(OpenTimeOracle.rangeNotEquals(range, other), range.notEquals(other),
+                    "notEquals " + message);
+        }
+    }
+
+    @Test
+    public void testAlgebraicProperties() {
+        for (int i = 0; i < ITERATIONS; i++) {
+            TimeRange range = randomRange();
+            TimeRange other = relatedRange(range);
+            assertEquals(range.intersects(other), other.intersects(range), range + ", " + other);
+            assertEquals(range.equals(other), other.equals(range), range + ", " + other);
+            assertNotEquals(range.equals(other), range.notEquals(other), range + ", " + other);
+            assertEquals(range.extendedBy(other), other.extendedBy(range), range + ", " + other);
+        }
+    }
+}